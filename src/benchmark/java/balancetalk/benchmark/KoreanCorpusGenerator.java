@@ -0,0 +1,239 @@
+package balancetalk.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 검색 벤치마크용 한국어 톡픽/밸런스게임 데이터를 만든다.
+ *
+ * <p>같은 시드와 규모로 만들면 항상 같은 데이터가 만들어진다. 단어는 앞쪽일수록 자주 뽑히도록(지프 분포에 가깝게) 골라
+ * 실제 서비스처럼 인기 있는 주제가 많이 등장하게 한다. 밸런스게임 세트는 톡픽의 1/10개이며, 세트마다 게임 10개, 게임마다 선택지 2개를 만든다.
+ */
+@Slf4j
+public class KoreanCorpusGenerator {
+
+    static final String[] SUBJECTS = {
+            "짜장면", "짬뽕", "치킨", "피자", "떡볶이", "라면", "삼겹살", "초밥", "햄버거", "마라탕",
+            "여름", "겨울", "바다", "산", "고양이", "강아지", "아침형 인간", "저녁형 인간", "재택근무", "출근",
+            "연애", "결혼", "친구", "직장 동료", "첫사랑", "전 애인", "여행", "캠핑", "호캉스", "집콕",
+            "민트초코", "반민초", "탕수육 부먹", "탕수육 찍먹", "아이폰", "갤럭시", "넷플릭스", "유튜브", "게임", "독서",
+            "헬스", "필라테스", "러닝", "수영", "카페", "편의점", "택시", "지하철", "월급", "연봉",
+            "통장 잔고", "주말 출근", "야근", "칼퇴", "로또", "복권", "부먹", "찍먹", "노래방", "PC방"
+    };
+    private static final String[] TITLE_TEMPLATES = {
+            "%s vs %s",
+            "%s랑 %s 중에 하나만 고른다면?",
+            "평생 %s만 vs 평생 %s만",
+            "%s 좋아하는 사람 vs %s 좋아하는 사람",
+            "솔직히 %s보다 %s 아님?"
+    };
+    private static final String[] SENTENCE_TEMPLATES = {
+            "요즘 %s 때문에 고민이 많아요.",
+            "친구랑 %s 얘기를 하다가 싸웠어요.",
+            "저는 원래 %s 쪽이었는데 생각이 바뀌었어요.",
+            "%s 없이는 못 살 것 같아요.",
+            "다들 %s 어떻게 생각하세요?",
+            "회사에서 %s 얘기가 나왔는데 의견이 반반이에요.",
+            "%s는 정말 호불호가 갈리는 것 같아요."
+    };
+    private static final String[] MAIN_TAGS = {"인기", "음식", "연애", "일상", "취향"};
+    private static final String[] SUB_TAGS = {"화제의 중심", "음식 취향", "연애 고민", "직장 생활", "여행", "취미", "인생 선택"};
+    private static final int BATCH_SIZE = 5_000;
+    private static final int GAME_SET_RATIO = 10;
+    private static final int GAMES_PER_SET = 10;
+    private static final long MEMBER_ID = 1L;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+
+    public KoreanCorpusGenerator(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+    }
+
+    public void generate(int talkPickCount) {
+        truncate();
+        insertMember();
+        insertMainTags();
+        insertTalkPicks(talkPickCount);
+        insertGameSets(Math.max(1, talkPickCount / GAME_SET_RATIO));
+        createFullTextIndexes();
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        for (String table : List.of("game_option", "game", "game_set", "main_tag", "talk_pick", "member")) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + table);
+        }
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+    }
+
+    private void insertMember() {
+        Timestamp now = Timestamp.valueOf(START);
+        jdbcTemplate.update("INSERT INTO member (id, nickname, email, password, role, signup_type, created_at, "
+                + "last_modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                MEMBER_ID, "벤치마크", "bench@pick-o.com", "password", "USER", "STANDARD", now, now);
+    }
+
+    private void insertMainTags() {
+        Timestamp now = Timestamp.valueOf(START);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < MAIN_TAGS.length; i++) {
+            rows.add(new Object[]{i + 1, MAIN_TAGS[i], now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO main_tag (id, name, created_at, last_modified_at) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private void insertTalkPicks(int count) {
+        String sql = "INSERT INTO talk_pick (id, member_id, title, content, option_a, option_b, "
+                + "summary_first_line, summary_second_line, summary_third_line, summary_status, views, bookmarks, "
+                + "votes_a, votes_b, hot_score, is_edited, view_status, created_at, last_modified_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= count; id++) {
+            String optionA = pickSubject();
+            String optionB = pickOtherSubject(optionA);
+            String content = content(optionA, optionB);
+            boolean summarized = content.length() >= 200 && random.nextBoolean();
+            Timestamp createdAt = createdAt(id, count);
+            rows.add(new Object[]{
+                    id, MEMBER_ID, title(optionA, optionB), content, truncate(optionA, 30), truncate(optionB, 30),
+                    summarized ? sentence(optionA) : null,
+                    summarized ? sentence(optionB) : null,
+                    summarized ? "%s vs %s, 여러분의 선택은?".formatted(optionA, optionB) : null,
+                    summarized ? "SUCCESS" : "NOT_REQUIRED",
+                    views(), random.nextInt(50), random.nextInt(500), random.nextInt(500), 0.0, false, "NORMAL",
+                    createdAt, createdAt});
+            flushIfFull(sql, rows, id, count, "talk_pick");
+        }
+    }
+
+    private void insertGameSets(int count) {
+        String gameSetSql = "INSERT INTO game_set (id, member_id, main_tag_id, title, sub_tag, views, bookmarks, "
+                + "created_at, last_modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String gameSql = "INSERT INTO game (id, game_set_id, description, created_at, last_modified_at) "
+                + "VALUES (?, ?, ?, ?, ?)";
+        String optionSql = "INSERT INTO game_option (id, game_id, name, description, option_type, votes_count) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        List<Object[]> gameSets = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> games = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> options = new ArrayList<>(BATCH_SIZE);
+
+        long gameId = 0;
+        long optionId = 0;
+        for (int id = 1; id <= count; id++) {
+            Timestamp createdAt = createdAt(id, count);
+            String subject = pickSubject();
+            gameSets.add(new Object[]{id, MEMBER_ID, 1 + random.nextInt(MAIN_TAGS.length),
+                    truncate("%s 밸런스게임 모음".formatted(subject), 50), SUB_TAGS[random.nextInt(SUB_TAGS.length)],
+                    views(), random.nextInt(50), createdAt, createdAt});
+
+            for (int g = 0; g < GAMES_PER_SET; g++) {
+                gameId++;
+                String optionA = pickSubject();
+                String optionB = pickOtherSubject(optionA);
+                games.add(new Object[]{gameId, id, truncate(title(optionA, optionB), 100), createdAt, createdAt});
+                options.add(new Object[]{++optionId, gameId, truncate(optionA, 30), truncate(sentence(optionA), 50),
+                        "A", random.nextInt(100)});
+                options.add(new Object[]{++optionId, gameId, truncate(optionB, 30), truncate(sentence(optionB), 50),
+                        "B", random.nextInt(100)});
+            }
+
+            flushIfFull(gameSetSql, gameSets, id, count, "game_set");
+            flushIfFull(gameSql, games, id, count, null);
+            flushIfFull(optionSql, options, id, count, null);
+        }
+    }
+
+    private void flushIfFull(String sql, List<Object[]> rows, int current, int total, String progressTable) {
+        if (rows.size() < BATCH_SIZE && current < total) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+        rows.clear();
+        if (progressTable != null) {
+            log.info("Inserted {} / {} rows into {}", current, total, progressTable);
+        }
+    }
+
+    /**
+     * 검색 쿼리가 사용하는 FULLTEXT 인덱스를 만든다. 운영 DB와 같이 한국어를 위해 ngram 파서를 사용한다.
+     */
+    private void createFullTextIndexes() {
+        createFullTextIndex("talk_pick", "ft_talk_pick", "title, summary_first_line, summary_second_line, "
+                + "summary_third_line, content, option_a, option_b");
+        createFullTextIndex("game_set", "ft_game_set_title", "title");
+        createFullTextIndex("game_set", "ft_game_set_sub_tag", "sub_tag");
+        createFullTextIndex("game", "ft_game_description", "description");
+        createFullTextIndex("game_option", "ft_game_option_name", "name");
+        createFullTextIndex("game_option", "ft_game_option_description", "description");
+    }
+
+    private void createFullTextIndex(String table, String indexName, String columns) {
+        Integer exists = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+        if (exists != null && exists > 0) {
+            return;
+        }
+        log.info("Creating FULLTEXT index {} on {}", indexName, table);
+        jdbcTemplate.execute("CREATE FULLTEXT INDEX %s ON %s (%s) WITH PARSER ngram"
+                .formatted(indexName, table, columns));
+    }
+
+    /**
+     * 앞쪽 단어일수록 자주 뽑는다.
+     */
+    String pickSubject() {
+        int index = (int) (Math.pow(random.nextDouble(), 2.5) * SUBJECTS.length);
+        return SUBJECTS[Math.min(index, SUBJECTS.length - 1)];
+    }
+
+    private String pickOtherSubject(String subject) {
+        String other = pickSubject();
+        while (other.equals(subject)) {
+            other = SUBJECTS[random.nextInt(SUBJECTS.length)];
+        }
+        return other;
+    }
+
+    private String title(String optionA, String optionB) {
+        String template = TITLE_TEMPLATES[random.nextInt(TITLE_TEMPLATES.length)];
+        return truncate(template.formatted(optionA, optionB), 50);
+    }
+
+    private String content(String optionA, String optionB) {
+        StringBuilder content = new StringBuilder();
+        int sentences = 3 + random.nextInt(8);
+        for (int i = 0; i < sentences; i++) {
+            String subject = random.nextInt(3) == 0 ? pickSubject() : (i % 2 == 0 ? optionA : optionB);
+            content.append(sentence(subject)).append(' ');
+        }
+        return truncate(content.toString().trim(), 2000);
+    }
+
+    private String sentence(String subject) {
+        return SENTENCE_TEMPLATES[random.nextInt(SENTENCE_TEMPLATES.length)].formatted(subject);
+    }
+
+    private long views() {
+        // 대부분은 조회수가 적고 일부만 많은 롱테일 분포
+        return (long) (Math.pow(random.nextDouble(), 4) * 100_000);
+    }
+
+    private Timestamp createdAt(int index, int total) {
+        long minutes = 60L * 24 * 365 * index / total;
+        return Timestamp.valueOf(START.plusMinutes(minutes));
+    }
+
+    private String truncate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength);
+    }
+}
@@ -0,0 +1,42 @@
+package balancetalk.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 측정 대상의 지연 시간과 읽은 행 수를 모아 백분위수를 계산한다.
+ */
+public class LatencyRecorder {
+
+    private final List<Long> latenciesNanos = new ArrayList<>();
+    private long rowsExamined;
+
+    public void record(long latencyNanos, long rowsExamined) {
+        latenciesNanos.add(latencyNanos);
+        this.rowsExamined += rowsExamined;
+    }
+
+    public void merge(LatencyRecorder other) {
+        latenciesNanos.addAll(other.latenciesNanos);
+        rowsExamined += other.rowsExamined;
+    }
+
+    public int count() {
+        return latenciesNanos.size();
+    }
+
+    public double percentileMillis(double percentile) {
+        if (latenciesNanos.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(latenciesNanos);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    public double averageRowsExamined() {
+        return latenciesNanos.isEmpty() ? 0 : (double) rowsExamined / latenciesNanos.size();
+    }
+}
@@ -0,0 +1,77 @@
+package balancetalk.benchmark;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 필드별 후보 검색으로 바꾸기 전의 밸런스게임 검색 쿼리. 변경 전후 지연 시간을 비교하기 위해 벤치마크에만 남겨 둔다.
+ * 검색 쿼리와 개수 쿼리를 실행하고, 결과 게임마다 선택지 이미지를 한 번씩 조회하던 것도 그대로 재현한다.
+ */
+public class LegacyGameSearch {
+
+    private static final String MATCH_CONDITION = """
+            (gs.sub_tag = ? OR gs.title = ? OR g.description = ? OR go.name = ? OR go.description = ?)
+            OR
+            (gs.sub_tag = ? OR gs.title = ? OR g.description = ? OR go.name = ? OR go.description = ?)
+            OR
+            (MATCH(gs.sub_tag) AGAINST (? IN NATURAL LANGUAGE MODE)
+             OR MATCH(gs.title) AGAINST (? IN NATURAL LANGUAGE MODE)
+             OR MATCH(g.description) AGAINST (? IN NATURAL LANGUAGE MODE)
+             OR MATCH(go.name) AGAINST (? IN NATURAL LANGUAGE MODE)
+             OR MATCH(go.description) AGAINST (? IN NATURAL LANGUAGE MODE))
+            """;
+    private static final String SEARCH_SQL = """
+            SELECT DISTINCT g.id, gs.views AS gs_views, gs.created_at AS gs_created_at
+            FROM game g
+            JOIN game_set gs ON g.game_set_id = gs.id
+            JOIN game_option go ON go.game_id = g.id
+            WHERE
+            """ + MATCH_CONDITION + """
+            ORDER BY
+                CASE WHEN ? = 'views' THEN gs.views END DESC,
+                CASE WHEN ? = 'createdAt' THEN gs.created_at END DESC
+            LIMIT ? OFFSET ?
+            """;
+    private static final String COUNT_SQL = """
+            SELECT COUNT(DISTINCT g.id)
+            FROM game g
+            JOIN game_set gs ON g.game_set_id = gs.id
+            JOIN game_option go ON go.game_id = g.id
+            WHERE
+            """ + MATCH_CONDITION;
+    private static final String OPTION_IMAGES_SQL = """
+            SELECT f.img_url FROM file f
+            WHERE f.resource_id IN (SELECT go.img_id FROM game_option go WHERE go.game_id = ? AND go.img_id IS NOT NULL)
+              AND f.file_type = 'GAME_OPTION'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LegacyGameSearch(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long search(String query, String sort, int page, int size) {
+        String queryWithoutSpaces = query.replaceAll("\\s+", "");
+        Object[] conditionParams = conditionParams(query, queryWithoutSpaces);
+
+        Object[] searchParams = new Object[conditionParams.length + 4];
+        System.arraycopy(conditionParams, 0, searchParams, 0, conditionParams.length);
+        searchParams[conditionParams.length] = sort;
+        searchParams[conditionParams.length + 1] = sort;
+        searchParams[conditionParams.length + 2] = size;
+        searchParams[conditionParams.length + 3] = page * size;
+
+        List<Long> gameIds = jdbcTemplate.query(SEARCH_SQL, (rs, rowNum) -> rs.getLong(1), searchParams);
+        gameIds.forEach(gameId -> jdbcTemplate.queryForList(OPTION_IMAGES_SQL, String.class, gameId));
+        Long total = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, conditionParams);
+        return total == null ? 0 : total;
+    }
+
+    private Object[] conditionParams(String query, String queryWithoutSpaces) {
+        return new Object[]{
+                query, query, query, query, query,
+                queryWithoutSpaces, queryWithoutSpaces, queryWithoutSpaces, queryWithoutSpaces, queryWithoutSpaces,
+                query, query, query, query, query};
+    }
+}
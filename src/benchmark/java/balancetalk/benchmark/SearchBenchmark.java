@@ -0,0 +1,178 @@
+package balancetalk.benchmark;
+
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+import balancetalk.benchmark.SearchQueryMix.QueryType;
+import balancetalk.benchmark.SearchQueryMix.SearchQuery;
+import balancetalk.game.application.SearchGameService;
+import balancetalk.global.search.application.QueryCorrectionService;
+import balancetalk.talkpick.application.SearchTalkPickService;
+import balancetalk.talkpick.application.TalkPickSearchIndex;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 검색어 목록을 톡픽 검색, 밸런스게임 검색, 변경 전 밸런스게임 검색에 차례로 재생하고 지연 시간과 읽은 행 수를 보고한다.
+ *
+ * <p>읽은 행 수는 검색 전후 MySQL 세션의 Handler_read_* 상태 값 차이로 구한다. 같은 세션에서 재야 하므로 커넥션 풀 크기를 1로 둔다.
+ * 검색 결과 캐시의 영향을 받지 않도록 exactCount=true로 호출한다.
+ */
+@Slf4j
+public class SearchBenchmark {
+
+    private static final Pageable TALK_PICK_PAGE = PageRequest.of(0, 4, DESC, "views");
+    private static final Pageable GAME_PAGE = PageRequest.of(0, 9);
+    private static final String GAME_SORT = "views";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchTalkPickService searchTalkPickService;
+    private final SearchGameService searchGameService;
+    private final TalkPickSearchIndex talkPickSearchIndex;
+    private final QueryCorrectionService queryCorrectionService;
+
+    @Value("${benchmark.scale:10k}")
+    private String scale;
+
+    @Value("${benchmark.queries:1000}")
+    private int queryCount;
+
+    @Value("${benchmark.warmup:100}")
+    private int warmupCount;
+
+    @Value("${benchmark.seed:42}")
+    private long seed;
+
+    @Value("${pick-o.search.talk-pick.use-index:false}")
+    private boolean useIndex;
+
+    @Value("${pick-o.search.query-correction.enabled:false}")
+    private boolean useCorrection;
+
+    private long statusOverhead;
+
+    public SearchBenchmark(JdbcTemplate jdbcTemplate,
+                           SearchTalkPickService searchTalkPickService,
+                           SearchGameService searchGameService,
+                           TalkPickSearchIndex talkPickSearchIndex,
+                           QueryCorrectionService queryCorrectionService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchTalkPickService = searchTalkPickService;
+        this.searchGameService = searchGameService;
+        this.talkPickSearchIndex = talkPickSearchIndex;
+        this.queryCorrectionService = queryCorrectionService;
+    }
+
+    public void run() {
+        verifyBenchmarkSchema();
+        int talkPickCount = parseScale(scale);
+        boolean generated = prepareCorpus(talkPickCount);
+        if (useIndex && (generated || !talkPickSearchIndex.isReady())) {
+            talkPickSearchIndex.rebuild();
+        }
+        if (useCorrection) {
+            // 시작 시 만든 사전은 데이터를 만들기 전의 것일 수 있으므로 다시 만든다.
+            queryCorrectionService.rebuild();
+        }
+
+        List<SearchQuery> queries = new SearchQueryMix(seed).generate(warmupCount + queryCount);
+        statusOverhead = calibrateStatusOverhead();
+        LegacyGameSearch legacyGameSearch = new LegacyGameSearch(jdbcTemplate);
+
+        Map<String, Consumer<String>> targets = new LinkedHashMap<>();
+        targets.put(useIndex ? "talk-pick(index)" : "talk-pick",
+                query -> searchTalkPickService.searchTalkPicks(query, TALK_PICK_PAGE, true));
+        targets.put("game", query -> searchGameService.search(query, GAME_PAGE, GAME_SORT, true));
+        targets.put("game(legacy)", query -> legacyGameSearch.search(query, GAME_SORT, 0, GAME_PAGE.getPageSize()));
+
+        log.info("Search benchmark: scale={} ({} talk picks), queries={}, warmup={}, seed={}, correction={}",
+                scale, talkPickCount, queryCount, warmupCount, seed, useCorrection);
+        log.info(String.format(Locale.ROOT, "%-18s %-11s %7s %10s %10s %10s %14s",
+                "target", "query", "count", "p50(ms)", "p95(ms)", "p99(ms)", "rows examined"));
+        targets.forEach((name, search) -> report(name, replay(queries, search)));
+    }
+
+    private void verifyBenchmarkSchema() {
+        String schema = jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+        if (schema == null || !schema.contains("benchmark")) {
+            // 데이터를 지우고 다시 만들기 때문에 벤치마크 전용 스키마에서만 실행한다.
+            throw new IllegalStateException("벤치마크는 이름에 benchmark가 포함된 스키마에서만 실행할 수 있습니다: " + schema);
+        }
+    }
+
+    private boolean prepareCorpus(int talkPickCount) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM talk_pick", Integer.class);
+        if (existing != null && existing == talkPickCount) {
+            log.info("Reusing existing corpus with {} talk picks", existing);
+            return false;
+        }
+        new KoreanCorpusGenerator(jdbcTemplate, seed).generate(talkPickCount);
+        jdbcTemplate.execute("ANALYZE TABLE talk_pick, game_set, game, game_option");
+        return true;
+    }
+
+    private Map<QueryType, LatencyRecorder> replay(List<SearchQuery> queries, Consumer<String> search) {
+        Map<QueryType, LatencyRecorder> recorders = new EnumMap<>(QueryType.class);
+        for (int i = 0; i < queries.size(); i++) {
+            SearchQuery query = queries.get(i);
+            long rowsBefore = handlerReads();
+            long start = System.nanoTime();
+            search.accept(query.text());
+            long latency = System.nanoTime() - start;
+            long rowsExamined = Math.max(0, handlerReads() - rowsBefore - statusOverhead);
+
+            if (i >= warmupCount) {
+                recorders.computeIfAbsent(query.type(), type -> new LatencyRecorder()).record(latency, rowsExamined);
+            }
+        }
+        return recorders;
+    }
+
+    private void report(String target, Map<QueryType, LatencyRecorder> recorders) {
+        LatencyRecorder all = new LatencyRecorder();
+        recorders.forEach((type, recorder) -> {
+            print(target, type.name(), recorder);
+            all.merge(recorder);
+        });
+        print(target, "ALL", all);
+    }
+
+    private void print(String target, String queryType, LatencyRecorder recorder) {
+        log.info(String.format(Locale.ROOT, "%-18s %-11s %7d %10.2f %10.2f %10.2f %14.1f",
+                target, queryType, recorder.count(), recorder.percentileMillis(50), recorder.percentileMillis(95),
+                recorder.percentileMillis(99), recorder.averageRowsExamined()));
+    }
+
+    private long handlerReads() {
+        return jdbcTemplate.query("SHOW SESSION STATUS LIKE 'Handler_read%'",
+                (rs, rowNum) -> rs.getLong("Value")).stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 상태 조회 자체가 올리는 Handler_read 값을 구해 측정값에서 뺀다.
+     */
+    private long calibrateStatusOverhead() {
+        long first = handlerReads();
+        long second = handlerReads();
+        return Math.max(0, second - first);
+    }
+
+    static int parseScale(String scale) {
+        String normalized = scale.trim().toLowerCase(Locale.ROOT);
+        if (normalized.endsWith("m")) {
+            return Integer.parseInt(normalized.substring(0, normalized.length() - 1)) * 1_000_000;
+        }
+        if (normalized.endsWith("k")) {
+            return Integer.parseInt(normalized.substring(0, normalized.length() - 1)) * 1_000;
+        }
+        return Integer.parseInt(normalized);
+    }
+}
@@ -0,0 +1,86 @@
+package balancetalk.benchmark;
+
+import balancetalk.game.application.SearchGameService;
+import balancetalk.global.caffeine.CacheConfig;
+import balancetalk.global.config.EmbeddingConfig;
+import balancetalk.global.config.QuerydslConfig;
+import balancetalk.global.search.SearchResultCache;
+import balancetalk.global.search.application.QueryCorrectionService;
+import balancetalk.global.search.application.TrendingSearchService;
+import balancetalk.talkpick.application.SearchTalkPickService;
+import balancetalk.talkpick.application.TalkPickSearchIndex;
+import balancetalk.talkpick.application.TalkPickSemanticIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 검색 벤치마크 실행기. 메일, S3, OAuth2, OpenAI 같은 외부 서비스 없이 로컬 MySQL과 검색에 필요한 빈만 띄운다.
+ *
+ * <pre>
+ * ./gradlew searchBenchmark -Pscale=100k -Pqueries=2000
+ * ./gradlew searchBenchmark -Pscale=1m -Pindex=true   # 톡픽 검색을 메모리 역색인으로 측정
+ * ./gradlew searchBenchmark -Pcorrection=true         # 검색어 오타/띄어쓰기 교정을 켜고 측정
+ * </pre>
+ * 접속 정보는 application-benchmark.yml 또는 BENCHMARK_DB_URL, BENCHMARK_DB_USERNAME, BENCHMARK_DB_PASSWORD 환경 변수로 지정한다.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class,
+        JdbcTemplateAutoConfiguration.class
+})
+@EntityScan("balancetalk")
+@EnableJpaRepositories("balancetalk")
+@Import({
+        QuerydslConfig.class,
+        CacheConfig.class,
+        EmbeddingConfig.class,
+        SearchResultCache.class,
+        TalkPickSearchIndex.class,
+        TalkPickSemanticIndex.class,
+        QueryCorrectionService.class,
+        TrendingSearchService.class,
+        SearchTalkPickService.class,
+        SearchGameService.class
+})
+public class SearchBenchmarkApplication {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public SearchBenchmark searchBenchmark(JdbcTemplate jdbcTemplate,
+                                           SearchTalkPickService searchTalkPickService,
+                                           SearchGameService searchGameService,
+                                           TalkPickSearchIndex talkPickSearchIndex,
+                                           QueryCorrectionService queryCorrectionService) {
+        return new SearchBenchmark(jdbcTemplate, searchTalkPickService, searchGameService, talkPickSearchIndex,
+                queryCorrectionService);
+    }
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SearchBenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run(args)) {
+            context.getBean(SearchBenchmark.class).run();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package balancetalk.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크에서 재생할 검색어 목록을 만든다. 같은 시드면 항상 같은 순서의 검색어가 만들어진다.
+ *
+ * <p>비율은 짧은 검색어 35%, 띄어쓰기가 섞인 검색어 20%, 여러 단어 검색어 25%, 오타가 섞인 검색어 10%, 결과가 없는 검색어 10%이다.
+ */
+public class SearchQueryMix {
+
+    private static final String[] NO_HIT_SYLLABLES = {"퀭", "뷁", "쒧", "뙇", "흫", "꿻", "짷", "퓽"};
+
+    private final Random random;
+
+    public SearchQueryMix(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public List<SearchQuery> generate(int count) {
+        List<SearchQuery> queries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int bucket = random.nextInt(100);
+            if (bucket < 35) {
+                queries.add(new SearchQuery(QueryType.SHORT, shortQuery()));
+            } else if (bucket < 55) {
+                queries.add(new SearchQuery(QueryType.SPACED, spacedQuery()));
+            } else if (bucket < 80) {
+                queries.add(new SearchQuery(QueryType.MULTI_WORD, multiWordQuery()));
+            } else if (bucket < 90) {
+                queries.add(new SearchQuery(QueryType.TYPO, typoQuery()));
+            } else {
+                queries.add(new SearchQuery(QueryType.NO_HIT, noHitQuery()));
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * 검색어도 인기 주제에 몰리도록 데이터 생성과 같은 분포로 고른다.
+     * 밸런스게임 검색은 공백 제외 2자 이상만 허용하므로 한 글자 주제는 건너뛴다.
+     */
+    private String subject() {
+        String subject;
+        do {
+            int index = (int) (Math.pow(random.nextDouble(), 2.5) * KoreanCorpusGenerator.SUBJECTS.length);
+            subject = KoreanCorpusGenerator.SUBJECTS[Math.min(index, KoreanCorpusGenerator.SUBJECTS.length - 1)];
+        } while (subject.replace(" ", "").length() < 2);
+        return subject;
+    }
+
+    /**
+     * 주제어 하나. 세 글자 이상이면 절반은 입력 중인 것처럼 앞 두세 글자만 쓴다.
+     */
+    private String shortQuery() {
+        String subject = subject().replace(" ", "");
+        if (subject.length() >= 3 && random.nextBoolean()) {
+            return subject.substring(0, 2 + random.nextInt(subject.length() - 2));
+        }
+        return subject;
+    }
+
+    /**
+     * 붙여 써야 하는 주제어 중간에 공백을 넣거나, 띄어 써야 하는 주제어의 공백을 뺀다.
+     */
+    private String spacedQuery() {
+        String subject = subject();
+        if (subject.contains(" ")) {
+            return subject.replace(" ", "");
+        }
+        int at = 1 + random.nextInt(subject.length() - 1);
+        return subject.substring(0, at) + " " + subject.substring(at);
+    }
+
+    private String multiWordQuery() {
+        int words = 2 + random.nextInt(2);
+        List<String> subjects = new ArrayList<>(words);
+        for (int i = 0; i < words; i++) {
+            subjects.add(subject());
+        }
+        return String.join(" ", subjects);
+    }
+
+    /**
+     * 공백을 뺀 주제어에서 한 음절의 모음을 옆 모음으로 바꿔 오타를 만든다. 예) 짜장면 → 짜장몀
+     */
+    private String typoQuery() {
+        String subject = subject().replace(" ", "");
+        List<Integer> syllables = new ArrayList<>();
+        for (int i = 0; i < subject.length(); i++) {
+            if (subject.charAt(i) >= '가' && subject.charAt(i) <= '힣') {
+                syllables.add(i);
+            }
+        }
+        if (syllables.isEmpty()) {
+            return subject;
+        }
+
+        int at = syllables.get(random.nextInt(syllables.size()));
+        int index = subject.charAt(at) - '가';
+        int jungseong = index % (21 * 28) / 28;
+        char typo = (char) (subject.charAt(at) + ((jungseong + 1) % 21 - jungseong) * 28);
+        return subject.substring(0, at) + typo + subject.substring(at + 1);
+    }
+
+    private String noHitQuery() {
+        StringBuilder query = new StringBuilder();
+        int length = 2 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            query.append(NO_HIT_SYLLABLES[random.nextInt(NO_HIT_SYLLABLES.length)]);
+        }
+        return query.toString();
+    }
+
+    public enum QueryType {
+        SHORT,
+        SPACED,
+        MULTI_WORD,
+        TYPO,
+        NO_HIT
+    }
+
+    public record SearchQuery(QueryType type, String text) {
+    }
+}
@@ -8,6 +8,7 @@ import static balancetalk.global.notification.domain.NotificationStandard.FOURTH
 import static balancetalk.global.notification.domain.NotificationStandard.SECOND_STANDARD_OF_NOTIFICATION;
 import static balancetalk.global.notification.domain.NotificationStandard.THIRD_STANDARD_OF_NOTIFICATION;
 import static balancetalk.global.notification.domain.NotificationTitleCategory.WRITTEN_GAME;
+import static balancetalk.global.pagination.CountShape.GAME_BOOKMARKS_OF_MEMBER;
 
 import balancetalk.bookmark.domain.GameBookmark;
 import balancetalk.bookmark.domain.BookmarkGenerator;
@@ -18,6 +19,8 @@ import balancetalk.game.domain.GameReader;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
 import balancetalk.global.notification.application.NotificationService;
+import balancetalk.global.pagination.TotalCountService;
+import balancetalk.member.application.MemberInteractionIndex;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
 import balancetalk.member.dto.ApiMember;
@@ -38,17 +41,19 @@ public class BookmarkGameService {
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
     private final VoteRepository voteRepository;
+    private final MemberInteractionIndex memberInteractionIndex;
+    private final TotalCountService totalCountService;
 
     public void createBookmark(final Long gameSetId, Long gameId, final ApiMember apiMember) {
         GameSet gameSet = gameReader.findGameSetById(gameSetId);
         Member member = apiMember.toMember(memberRepository);
 
-        if (member.isMyGameSet(gameSet)) {
+        if (memberInteractionIndex.isWriterOfGameSet(member.getId(), gameSetId)) {
             throw new BalanceTalkException(ErrorCode.CANNOT_BOOKMARK_MY_RESOURCE);
         }
 
         // 밸런스게임 세트, 게임 아이디가 모두 일치한다면 예외 처리
-        if (member.hasBookmarked(gameSet, gameId)) {
+        if (memberInteractionIndex.hasBookmarkedGame(member.getId(), gameSetId, gameId)) {
             throw new BalanceTalkException(ErrorCode.ALREADY_BOOKMARKED);
         }
 
@@ -58,10 +63,10 @@ public class BookmarkGameService {
         }
 
         // 해당 멤버가 가진 GameSet 북마크 중, resourceId가 gameSetId와 일치하는 북마크가 있다면
-        member.getGameBookmarkOf(gameSet)
+        memberInteractionIndex.getGameBookmark(member.getId(), gameSetId)
                 .ifPresentOrElse(
                         bookmark -> {
-                            increaseBookmarkCountForActivation(bookmark, gameSet);
+                            increaseBookmarkCountForActivation(bookmark, gameSet, member);
                             bookmark.activate();
                             bookmark.setIsEndGameSet(false); // 밸런스게임 세트 종료 표시 해제
                             bookmark.updateGameId(gameId); //gameId도 업데이트
@@ -69,13 +74,15 @@ public class BookmarkGameService {
                         () -> { // resourceId가 gameSetId와 일치하는 북마크가 없다면 새로 생성
                             gameBookmarkRepository.save(bookmarkGenerator.generate(gameSet, gameId, member));
                             gameSet.increaseBookmarks();
+                            totalCountService.increase(GAME_BOOKMARKS_OF_MEMBER, member.getId());
                             sendBookmarkGameNotification(gameSet);
                         });
     }
 
-    private void increaseBookmarkCountForActivation(GameBookmark bookmark, GameSet gameSet) {
+    private void increaseBookmarkCountForActivation(GameBookmark bookmark, GameSet gameSet, Member member) {
         if (!bookmark.isActive()) {
             gameSet.increaseBookmarks();
+            totalCountService.increase(GAME_BOOKMARKS_OF_MEMBER, member.getId());
         }
     }
 
@@ -83,7 +90,7 @@ public class BookmarkGameService {
         GameSet gameSet = gameReader.findGameSetById(gameSetId);
         Member member = apiMember.toMember(memberRepository);
 
-        if (member.isMyGameSet(gameSet)) {
+        if (memberInteractionIndex.isWriterOfGameSet(member.getId(), gameSetId)) {
             throw new BalanceTalkException(ErrorCode.CANNOT_BOOKMARK_MY_RESOURCE);
         }
 
@@ -91,10 +98,10 @@ public class BookmarkGameService {
         long gameId = getFirstGameIdOrThrow(gameSet);
 
         // 해당 멤버가 가진 GameSet 북마크 중, resourceId가 gameSetId와 일치하는 북마크가 있다면
-        member.getGameBookmarkOf(gameSet)
+        memberInteractionIndex.getGameBookmark(member.getId(), gameSetId)
                 .ifPresentOrElse(
                         bookmark -> {
-                            increaseBookmarkCountForActivation(bookmark, gameSet);
+                            increaseBookmarkCountForActivation(bookmark, gameSet, member);
                             bookmark.activate();
                             bookmark.setIsEndGameSet(true); // 밸런스게임 세트 종료 표시
                             voteRepository.updateVotesAsInactive(member.getId(), gameSet);
@@ -103,6 +110,7 @@ public class BookmarkGameService {
                         () -> { // resourceId가 gameSetId와 일치하는 북마크가 없다면 새로 생성
                             gameBookmarkRepository.save(bookmarkGenerator.generate(gameSet, gameId, member));
                             gameSet.increaseBookmarks();
+                            totalCountService.increase(GAME_BOOKMARKS_OF_MEMBER, member.getId());
                             sendBookmarkGameNotification(gameSet);
                         });
     }
@@ -118,7 +126,7 @@ public class BookmarkGameService {
         GameSet gameSet = gameReader.findGameSetById(gameSetId);
         Member member = apiMember.toMember(memberRepository);
 
-        GameBookmark bookmark = member.getGameBookmarkOf(gameSet)
+        GameBookmark bookmark = memberInteractionIndex.getGameBookmark(member.getId(), gameSetId)
                 .orElseThrow(() -> new BalanceTalkException(ErrorCode.NOT_FOUND_BOOKMARK));
 
         if (!bookmark.isActive()) {
@@ -127,6 +135,7 @@ public class BookmarkGameService {
         bookmark.deactivate();
         bookmark.setIsEndGameSet(false);
         gameSet.decreaseBookmarks();
+        totalCountService.decrease(GAME_BOOKMARKS_OF_MEMBER, member.getId());
         sendBookmarkGameNotification(gameSet);
     }
 
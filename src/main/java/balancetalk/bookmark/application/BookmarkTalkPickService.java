@@ -5,12 +5,17 @@ import balancetalk.bookmark.domain.BookmarkGenerator;
 import balancetalk.bookmark.domain.TalkPickBookmarkRepository;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.notification.application.NotificationService;
+import balancetalk.global.pagination.TotalCountService;
+import balancetalk.member.application.MemberInteractionIndex;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
 import balancetalk.member.dto.ApiMember;
+import balancetalk.talkpick.application.HotScoreBuffer;
+import balancetalk.talkpick.domain.HotScoreEvent;
 import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.TalkPickReader;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +29,7 @@ import static balancetalk.global.notification.domain.NotificationStandard.FOURTH
 import static balancetalk.global.notification.domain.NotificationStandard.SECOND_STANDARD_OF_NOTIFICATION;
 import static balancetalk.global.notification.domain.NotificationStandard.THIRD_STANDARD_OF_NOTIFICATION;
 import static balancetalk.global.notification.domain.NotificationTitleCategory.WRITTEN_TALK_PICK;
+import static balancetalk.global.pagination.CountShape.TALK_PICK_BOOKMARKS_OF_MEMBER;
 
 @Service
 @RequiredArgsConstructor
@@ -34,23 +40,30 @@ public class BookmarkTalkPickService {
     private final BookmarkGenerator bookmarkGenerator;
     private final TalkPickBookmarkRepository talkPickBookmarkRepository;
     private final NotificationService notificationService;
+    private final MemberInteractionIndex memberInteractionIndex;
+    private final TotalCountService totalCountService;
+    private final HotScoreBuffer hotScoreBuffer;
 
     @Transactional
     public void createBookmark(final long talkPickId, final ApiMember apiMember) {
         TalkPick talkPick = talkPickReader.readById(talkPickId);
         Member member = apiMember.toMember(memberRepository);
 
-        if (member.isMyTalkPick(talkPick)) {
+        if (memberInteractionIndex.isWriterOfTalkPick(member.getId(), talkPickId)) {
             throw new BalanceTalkException(CANNOT_BOOKMARK_MY_RESOURCE);
         }
-        if (member.hasBookmarked(talkPick)) {
+
+        Optional<TalkPickBookmark> bookmark = memberInteractionIndex.getTalkPickBookmark(member.getId(), talkPickId);
+        if (bookmark.isPresent() && bookmark.get().isActive()) {
             throw new BalanceTalkException(ALREADY_BOOKMARKED);
         }
 
-        member.getTalkPickBookmarkOf(talkPick)
-                .ifPresentOrElse(TalkPickBookmark::activate,
-                        () -> talkPickBookmarkRepository.save(bookmarkGenerator.generate(talkPick, member)));
+        bookmark.ifPresentOrElse(TalkPickBookmark::activate,
+                () -> talkPickBookmarkRepository.save(bookmarkGenerator.generate(talkPick, member)));
         talkPick.increaseBookmarks();
+        memberInteractionIndex.evict(member.getId());
+        totalCountService.increase(TALK_PICK_BOOKMARKS_OF_MEMBER, member.getId());
+        hotScoreBuffer.record(talkPickId, HotScoreEvent.BOOKMARK);
         sendBookmarkTalkPickNotification(talkPick);
     }
 
@@ -59,7 +72,7 @@ public class BookmarkTalkPickService {
         TalkPick talkPick = talkPickReader.readById(talkPickId);
         Member member = apiMember.toMember(memberRepository);
 
-        TalkPickBookmark bookmark = member.getTalkPickBookmarkOf(talkPick)
+        TalkPickBookmark bookmark = memberInteractionIndex.getTalkPickBookmark(member.getId(), talkPickId)
                 .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_BOOKMARK));
 
         if (isNotActivated(bookmark)) {
@@ -68,6 +81,8 @@ public class BookmarkTalkPickService {
 
         bookmark.deactivate();
         talkPick.decreaseBookmarks();
+        memberInteractionIndex.evict(member.getId());
+        totalCountService.decrease(TALK_PICK_BOOKMARKS_OF_MEMBER, member.getId());
     }
 
     private boolean isNotActivated(TalkPickBookmark bookmark) {
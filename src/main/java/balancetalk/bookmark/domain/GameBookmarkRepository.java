@@ -1,8 +1,8 @@
 package balancetalk.bookmark.domain;
 
 import balancetalk.member.domain.Member;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,8 +11,17 @@ import org.springframework.data.repository.query.Param;
 public interface GameBookmarkRepository extends JpaRepository<GameBookmark, Long> {
 
     @Query("SELECT b FROM GameBookmark b WHERE b.member = :member AND b.active = true ORDER BY b.lastModifiedAt DESC")
-    Page<GameBookmark> findActivatedByMemberOrderByDesc(@Param("member") Member member, Pageable pageable);
+    List<GameBookmark> findActivatedByMemberOrderByDesc(@Param("member") Member member, Pageable pageable);
+
+    long countByMemberAndActiveTrue(Member member);
 
     Optional<GameBookmark> findByMemberAndGameSetId(Member member, Long gameSetId);
 
+    Optional<GameBookmark> findByMemberIdAndGameSetId(Long memberId, Long gameSetId);
+
+    boolean existsByMemberIdAndGameSetIdAndGameIdAndActiveTrue(Long memberId, Long gameSetId, Long gameId);
+
+    @Query("SELECT b.gameSet.id FROM GameBookmark b "
+            + "WHERE b.member.id = :memberId AND b.active = true AND b.gameSet.id IN :gameSetIds")
+    List<Long> findActiveGameSetIds(@Param("memberId") Long memberId, @Param("gameSetIds") List<Long> gameSetIds);
 }
@@ -1,7 +1,8 @@
 package balancetalk.bookmark.domain;
 
 import balancetalk.member.domain.Member;
-import org.springframework.data.domain.Page;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -10,5 +11,11 @@ import org.springframework.data.repository.query.Param;
 public interface TalkPickBookmarkRepository extends JpaRepository<TalkPickBookmark, Long> {
 
     @Query("SELECT b FROM TalkPickBookmark b WHERE b.member = :member AND b.active = true ORDER BY b.lastModifiedAt DESC")
-    Page<TalkPickBookmark> findActivatedByMemberOrderByDesc(@Param("member") Member member, Pageable pageable);
+    List<TalkPickBookmark> findActivatedByMemberOrderByDesc(@Param("member") Member member, Pageable pageable);
+
+    long countByMemberAndActiveTrue(Member member);
+
+    Optional<TalkPickBookmark> findByMemberIdAndTalkPickId(Long memberId, Long talkPickId);
+
+    boolean existsByMemberIdAndTalkPickIdAndActiveTrue(Long memberId, Long talkPickId);
 }
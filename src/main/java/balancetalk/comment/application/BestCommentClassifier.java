@@ -0,0 +1,84 @@
+package balancetalk.comment.application;
+
+import balancetalk.comment.domain.Comment;
+import balancetalk.comment.domain.CommentRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 좋아요 수를 원자적으로 증감하고 톡픽의 베스트 댓글 여부를 함께 갱신한다.
+ *
+ * <p>최상위 댓글은 좋아요 수가 {@link #MIN_LIKES_COUNT_FOR_BEST}개 이상이거나 같은 톡픽에서 가장 많으면 베스트 댓글이다.
+ * 좋아요 수가 바뀌면 바뀐 댓글과, 최대 좋아요 수가 바뀐 경우 이전·새 최대값과 같은 좋아요 수를 가진 댓글만 다시 분류하므로
+ * 톡픽의 댓글 수와 관계없이 (톡픽, 부모, 좋아요 수) 인덱스 범위만 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BestCommentClassifier {
+
+    public static final int MIN_LIKES_COUNT_FOR_BEST = 10;
+
+    private final CommentRepository commentRepository;
+
+    /**
+     * @return 변경 후 좋아요 수
+     */
+    public int addLikesCount(Comment comment, int delta) {
+        if (comment.getParent() != null) {
+            commentRepository.addLikesCount(comment.getId(), delta);
+            return commentRepository.findLikesCountById(comment.getId());
+        }
+
+        Long talkPickId = comment.getTalkPick().getId();
+        int oldMaxLikesCount = commentRepository.findMaxLikesCount(talkPickId);
+        commentRepository.addLikesCount(comment.getId(), delta);
+        int newMaxLikesCount = commentRepository.findMaxLikesCount(talkPickId);
+        commentRepository.updateBest(comment.getId(), MIN_LIKES_COUNT_FOR_BEST, newMaxLikesCount);
+        reclassifyIfMaxChanged(talkPickId, oldMaxLikesCount, newMaxLikesCount);
+        return commentRepository.findLikesCountById(comment.getId());
+    }
+
+    /**
+     * 새 최상위 댓글은 좋아요가 없으므로 아직 좋아요를 받은 댓글이 없을 때만 베스트 댓글이다.
+     */
+    public void classifyCreated(Comment comment) {
+        if (comment.getParent() != null) {
+            return;
+        }
+        int maxLikesCount = commentRepository.findMaxLikesCount(comment.getTalkPick().getId());
+        commentRepository.updateBest(comment.getId(), MIN_LIKES_COUNT_FOR_BEST, maxLikesCount);
+    }
+
+    /**
+     * 최상위 댓글을 삭제해 최대 좋아요 수가 바뀌면 새 최대값을 가진 댓글을 베스트 댓글로 분류한다.
+     */
+    public void deleteAndReclassify(Comment comment) {
+        if (comment.getParent() != null) {
+            commentRepository.deleteById(comment.getId());
+            return;
+        }
+
+        Long talkPickId = comment.getTalkPick().getId();
+        int oldMaxLikesCount = commentRepository.findMaxLikesCount(talkPickId);
+        commentRepository.deleteById(comment.getId());
+        commentRepository.flush();
+        reclassifyIfMaxChanged(talkPickId, oldMaxLikesCount, commentRepository.findMaxLikesCount(talkPickId));
+    }
+
+    /**
+     * 톡픽의 모든 최상위 댓글을 다시 분류한다. 좋아요 수를 바로잡은 톡픽에만 사용한다.
+     */
+    public void reclassifyAll(Long talkPickId) {
+        commentRepository.updateBestOfTalkPick(
+                talkPickId, MIN_LIKES_COUNT_FOR_BEST, commentRepository.findMaxLikesCount(talkPickId));
+    }
+
+    private void reclassifyIfMaxChanged(Long talkPickId, int oldMaxLikesCount, int newMaxLikesCount) {
+        if (oldMaxLikesCount == newMaxLikesCount) {
+            return;
+        }
+        commentRepository.updateBestByLikesCounts(talkPickId, List.of(oldMaxLikesCount, newMaxLikesCount),
+                MIN_LIKES_COUNT_FOR_BEST, newMaxLikesCount);
+    }
+}
@@ -0,0 +1,105 @@
+package balancetalk.comment.application;
+
+import static balancetalk.global.exception.ErrorCode.NOT_FOUND_FILE;
+
+import balancetalk.comment.domain.Comment;
+import balancetalk.file.domain.File;
+import balancetalk.file.domain.repository.FileRepository;
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.like.domain.LikeRepository;
+import balancetalk.like.domain.LikeType;
+import balancetalk.member.domain.Member;
+import balancetalk.member.domain.MemberRepository;
+import balancetalk.member.dto.GuestOrApiMember;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 목록을 응답으로 바꿀 때 필요한 내 좋아요 여부와 작성자 프로필 이미지를 한 번에 조회한다.
+ * 좋아요 수는 댓글에 저장된 값을 사용한다.
+ *
+ * <p>댓글마다 조회하지 않고 목록 전체의 댓글 ID와 작성자 ID를 모아 종류별로 IN 쿼리 한 번씩만 실행하므로,
+ * 목록 크기와 관계없이 쿼리 수가 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentAggregateLoader {
+
+    private final LikeRepository likeRepository;
+    private final MemberRepository memberRepository;
+    private final FileRepository fileRepository;
+
+    public CommentAggregates load(List<Comment> comments, GuestOrApiMember guestOrApiMember) {
+        if (comments.isEmpty()) {
+            return new CommentAggregates(Set.of(), Map.of());
+        }
+
+        List<Long> commentIds = comments.stream()
+                .map(Comment::getId)
+                .toList();
+        return new CommentAggregates(findMyLikedCommentIds(commentIds, guestOrApiMember),
+                findProfileImgUrls(comments));
+    }
+
+    private Set<Long> findMyLikedCommentIds(List<Long> commentIds, GuestOrApiMember guestOrApiMember) {
+        if (guestOrApiMember.isGuest()) {
+            return Set.of();
+        }
+        Long memberId = guestOrApiMember.toMember(memberRepository).getId();
+        return new HashSet<>(likeRepository.findActiveResourceIds(commentIds, memberId, LikeType.COMMENT));
+    }
+
+    private Map<Long, String> findProfileImgUrls(List<Comment> comments) {
+        // 프록시의 ID는 초기화 없이 읽히므로, 작성자를 한 번에 불러와 영속성 컨텍스트에 올린다.
+        List<Long> memberIds = comments.stream()
+                .map(comment -> comment.getMember().getId())
+                .distinct()
+                .toList();
+        Set<Long> profileImgIds = memberRepository.findAllById(memberIds).stream()
+                .map(Member::getProfileImgId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (profileImgIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> imgUrls = fileRepository.findAllById(profileImgIds).stream()
+                .collect(Collectors.toMap(File::getId, File::getImgUrl));
+        if (imgUrls.size() != profileImgIds.size()) {
+            throw new BalanceTalkException(NOT_FOUND_FILE);
+        }
+        return imgUrls;
+    }
+
+    public static class CommentAggregates {
+
+        private final Set<Long> myLikedCommentIds;
+        private final Map<Long, String> profileImgUrls;
+
+        private CommentAggregates(Set<Long> myLikedCommentIds, Map<Long, String> profileImgUrls) {
+            this.myLikedCommentIds = myLikedCommentIds;
+            this.profileImgUrls = profileImgUrls;
+        }
+
+        public int likesCountOf(Comment comment) {
+            return comment.getLikesCount();
+        }
+
+        public boolean isMyLiked(Comment comment) {
+            return myLikedCommentIds.contains(comment.getId());
+        }
+
+        public String profileImgUrlOf(Member member) {
+            if (member.getProfileImgId() == null) {
+                return null;
+            }
+            return profileImgUrls.get(member.getProfileImgId());
+        }
+    }
+}
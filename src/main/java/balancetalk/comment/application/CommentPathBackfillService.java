@@ -0,0 +1,26 @@
+package balancetalk.comment.application;
+
+import balancetalk.comment.domain.Comment;
+import balancetalk.comment.domain.CommentRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CommentPathBackfillService {
+
+    private final CommentRepository commentRepository;
+
+    /**
+     * 경로가 없는 댓글을 ID 순으로 최대 500개 채운다.
+     * @return 이번에 채운 댓글 수, 더 채울 댓글이 없으면 0
+     */
+    @Transactional
+    public int backfillChunk() {
+        List<Comment> comments = commentRepository.findTop500ByPathIsNullOrderByIdAsc();
+        comments.forEach(Comment::assignPath);
+        return comments.size();
+    }
+}
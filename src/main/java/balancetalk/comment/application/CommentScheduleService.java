@@ -0,0 +1,41 @@
+package balancetalk.comment.application;
+
+import balancetalk.global.search.RebuildableSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CommentScheduleService {
+
+    private final LikesCountReconcileService likesCountReconcileService;
+    private final CommentPathBackfillService commentPathBackfillService;
+
+    // 좋아요 수 컬럼을 추가한 뒤 첫 보정 전까지 0으로 남아 베스트 댓글이 잘못 분류되지 않도록 시작 시에도 한 번 보정한다.
+    // 어긋난 댓글만 쓰므로 반복해도 안전하다.
+    @Async("backfillTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLikesCount() {
+        reconcileLikesCount();
+    }
+
+    @Scheduled(cron = "${pick-o.likes-count-reconcile-cron:0 30 4 * * ?}")
+    public void reconcileLikesCount() {
+        RebuildableSnapshot.forEachChunk(likesCountReconcileService::findCommentIds, Long::longValue,
+                likesCountReconcileService::reconcileChunk);
+    }
+
+    // 경로 컬럼을 추가하기 전에 작성된 댓글의 스레드 위치를 채운다. 모두 채워진 뒤에는 조회 한 번으로 끝난다.
+    @Async("backfillTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCommentPaths() {
+        int filled;
+        do {
+            filled = commentPathBackfillService.backfillChunk();
+        } while (filled > 0);
+    }
+}
@@ -1,29 +1,33 @@
 package balancetalk.comment.application;
 
+import balancetalk.comment.application.CommentAggregateLoader.CommentAggregates;
 import balancetalk.comment.domain.Comment;
 import balancetalk.comment.domain.CommentRepository;
 import balancetalk.comment.dto.CommentDto;
 import balancetalk.comment.dto.CommentDto.BestCommentResponse;
+import balancetalk.comment.dto.CommentDto.CommentReplyResponse;
+import balancetalk.comment.dto.CommentDto.CommentThreadResponse;
 import balancetalk.comment.dto.CommentDto.LatestCommentResponse;
-import balancetalk.file.domain.repository.FileRepository;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.pagination.Cursor;
+import balancetalk.global.pagination.CursorSliceResponse;
 import balancetalk.global.notification.application.NotificationService;
-import balancetalk.like.domain.LikeRepository;
-import balancetalk.like.domain.LikeType;
+import balancetalk.global.pagination.TotalCountService;
+import balancetalk.member.application.MemberInteractionIndex;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
 import balancetalk.member.dto.ApiMember;
 import balancetalk.member.dto.GuestOrApiMember;
+import balancetalk.talkpick.application.HotScoreBuffer;
+import balancetalk.talkpick.domain.HotScoreEvent;
 import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.repository.TalkPickRepository;
-import balancetalk.vote.domain.TalkPickVote;
 import balancetalk.vote.domain.VoteOption;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,20 +47,25 @@ import static balancetalk.global.notification.domain.NotificationStandard.SECOND
 import static balancetalk.global.notification.domain.NotificationStandard.THIRD_STANDARD_OF_NOTIFICATION;
 import static balancetalk.global.notification.domain.NotificationTitleCategory.OTHERS_TALK_PICK;
 import static balancetalk.global.notification.domain.NotificationTitleCategory.WRITTEN_TALK_PICK;
+import static balancetalk.global.pagination.CountShape.TALK_PICK_COMMENTS_OF_MEMBER;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CommentService {
 
-    private static final int MIN_COUNT_FOR_BEST_COMMENT = 10;
-
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final TalkPickRepository talkPickRepository;
-    private final LikeRepository likeRepository;
-    private final FileRepository fileRepository;
+    private final CommentAggregateLoader commentAggregateLoader;
+    private final BestCommentClassifier bestCommentClassifier;
     private final NotificationService notificationService;
+    private final MemberInteractionIndex memberInteractionIndex;
+    private final TotalCountService totalCountService;
+    private final HotScoreBuffer hotScoreBuffer;
+
+    // 한 댓글에 미리 보여줄 답글 수의 상한, 더 보려면 답글 목록을 조회한다.
+    private static final int MAX_REPLY_PREVIEW_SIZE = 10;
 
     @Value("${comments.max-depth}")
     private int maxDepth;
@@ -67,26 +76,35 @@ public class CommentService {
         Member member = apiMember.toMember(memberRepository);
         TalkPick talkPick = validateTalkPickId(talkPickId);
 
-        if (member.cannotWriteComment(talkPick)) {
+        Optional<VoteOption> votedOption = memberInteractionIndex
+                .getVoteOptionOnTalkPickUncached(member.getId(), talkPickId);
+        if (cannotWriteComment(member, talkPick, votedOption)) {
             throw new BalanceTalkException(NOT_FOUND_VOTE);
         }
 
-        VoteOption option = getVoteOption(member, talkPick);
+        VoteOption option = getVoteOption(member, talkPick, votedOption);
 
         Comment comment = createCommentRequest.toEntity(member, talkPick, option);
         commentRepository.save(comment);
+        comment.assignPath();
+        bestCommentClassifier.classifyCreated(comment);
+        totalCountService.evict(TALK_PICK_COMMENTS_OF_MEMBER, member.getId());
+        hotScoreBuffer.record(talkPickId, HotScoreEvent.COMMENT);
         sendCommentNotification(talkPick);
     }
 
-    private VoteOption getVoteOption(Member member, TalkPick talkPick) {
+    private VoteOption getVoteOption(Member member, TalkPick talkPick, Optional<VoteOption> votedOption) {
 
         if (member.equals(talkPick.getMember())) { // 톡픽 작성자는 무조건 null -> 회색 프로필 처리(프론트)
             return null;
         }
 
-        return member.getVoteOnTalkPick(talkPick)
-                .map(TalkPickVote::getVoteOption)
-                .orElse(null);
+        return votedOption.orElse(null);
+    }
+
+    // 작성을 막는 판단이므로 다른 서버에서 바뀐 투표가 반영되지 않는 캐시 대신 DB에서 조회한 투표와 톡픽 작성자를 사용
+    private boolean cannotWriteComment(Member member, TalkPick talkPick, Optional<VoteOption> votedOption) {
+        return votedOption.isEmpty() && !member.equals(talkPick.getMember());
     }
 
     @Transactional
@@ -105,16 +123,19 @@ public class CommentService {
         // 부모 댓글의 depth가 maxDepth를 초과하는 경우 예외 처리 (답글에 답글 불가)
         validateDepth(parentComment);
 
-        if (member.cannotWriteComment(talkPick)) {
+        Optional<VoteOption> votedOption = memberInteractionIndex
+                .getVoteOptionOnTalkPickUncached(member.getId(), talkPickId);
+        if (cannotWriteComment(member, talkPick, votedOption)) {
             throw new BalanceTalkException(NOT_FOUND_VOTE);
         }
 
-        VoteOption option = member.getVoteOnTalkPick(talkPick)
-                .map(TalkPickVote::getVoteOption)
-                .orElse(null);
+        VoteOption option = votedOption.orElse(null);
 
         Comment commentReply = createCommentRequest.toEntity(member, talkPick, parentComment, option);
         commentRepository.save(commentReply);
+        commentReply.assignPath();
+        totalCountService.evict(TALK_PICK_COMMENTS_OF_MEMBER, member.getId());
+        hotScoreBuffer.record(talkPickId, HotScoreEvent.COMMENT);
 
         // 알림 전송
 
@@ -134,14 +155,61 @@ public class CommentService {
     }
 
     @Transactional(readOnly = true)
-    public List<LatestCommentResponse> findAllCommentsWhenMobile(Long talkPickId, GuestOrApiMember guestOrApiMember) {
+    public CursorSliceResponse<LatestCommentResponse> findCommentsByCursor(Long talkPickId, String cursor, int size,
+                                                                           GuestOrApiMember guestOrApiMember) {
+        Cursor.validateSize(size);
         validateTalkPickId(talkPickId);
-        talkPickRepository.findById(talkPickId)
-                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_TALK_PICK));
 
-        List<Comment> comments = commentRepository.findAllByTalkPickIdAndParentIsNullOrderByCreatedAtDesc(talkPickId);
+        CursorSliceResponse<Comment> comments =
+                commentRepository.findCommentsByCursor(talkPickId, Cursor.decode(cursor), size);
 
-        return convertToLatestCommentResponse(comments, guestOrApiMember);
+        CommentAggregates aggregates = commentAggregateLoader.load(comments.getContent(), guestOrApiMember);
+        return comments.map(comment -> mapToLatestCommentResponse(comment, aggregates));
+    }
+
+    /**
+     * 최상위 댓글을 최신순으로 커서 조회하고, 댓글마다 작성순으로 앞선 답글을 replySize개까지 함께 담는다.
+     * 댓글 수와 관계없이 최상위 댓글, 답글, 답글 수를 각각 한 번씩 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<CommentThreadResponse> findCommentThreadsByCursor(Long talkPickId, String cursor,
+                                                                                 int size, int replySize,
+                                                                                 GuestOrApiMember guestOrApiMember) {
+        Cursor.validateSize(size);
+        validateReplyPreviewSize(replySize);
+        validateTalkPickId(talkPickId);
+
+        CursorSliceResponse<Comment> roots =
+                commentRepository.findCommentsByCursor(talkPickId, Cursor.decode(cursor), size);
+        List<Long> rootIds = roots.getContent().stream()
+                .map(Comment::getId)
+                .toList();
+        if (rootIds.isEmpty()) {
+            return new CursorSliceResponse<>(List.of(), null, false);
+        }
+
+        List<Comment> replies = replySize > 0 ? commentRepository.findThreadReplies(rootIds, replySize) : List.of();
+        Map<Long, Integer> replyCounts = new HashMap<>();
+        commentRepository.countRepliesByRootIds(rootIds)
+                .forEach(replyCount -> replyCounts.put(replyCount.getParentId(), (int) replyCount.getCount()));
+
+        List<Comment> comments = new ArrayList<>(roots.getContent());
+        comments.addAll(replies);
+        CommentAggregates aggregates = commentAggregateLoader.load(comments, guestOrApiMember);
+
+        Map<Long, List<CommentReplyResponse>> repliesByRootId = new HashMap<>();
+        for (Comment reply : replies) {
+            repliesByRootId.computeIfAbsent(reply.getRootId(), rootId -> new ArrayList<>())
+                    .add(CommentReplyResponse.fromEntity(reply, reply.getVoteOption(),
+                            aggregates.profileImgUrlOf(reply.getMember()), aggregates.likesCountOf(reply),
+                            aggregates.isMyLiked(reply), replyCounts.getOrDefault(reply.getId(), 0)));
+        }
+
+        return roots.map(root -> new CommentThreadResponse(
+                LatestCommentResponse.fromEntity(root, root.getVoteOption(),
+                        aggregates.profileImgUrlOf(root.getMember()), aggregates.likesCountOf(root),
+                        aggregates.isMyLiked(root), replyCounts.getOrDefault(root.getId(), 0)),
+                repliesByRootId.getOrDefault(root.getId(), List.of())));
     }
 
     @Transactional(readOnly = true)
@@ -165,101 +233,51 @@ public class CommentService {
     // Page<Comment> 처리
     private Page<LatestCommentResponse> convertToLatestCommentPagesResponse(Page<Comment> comments,
                                                                             GuestOrApiMember guestOrApiMember) {
-        return comments.map(comment -> mapToLatestCommentResponse(comment, guestOrApiMember));
+        CommentAggregates aggregates = commentAggregateLoader.load(comments.getContent(), guestOrApiMember);
+        return comments.map(comment -> mapToLatestCommentResponse(comment, aggregates));
     }
 
     // List<Comment> 처리
     private List<LatestCommentResponse> convertToLatestCommentResponse(List<Comment> comments,
                                                                        GuestOrApiMember guestOrApiMember) {
+        CommentAggregates aggregates = commentAggregateLoader.load(comments, guestOrApiMember);
         return comments.stream()
-                .map(comment -> mapToLatestCommentResponse(comment, guestOrApiMember))
+                .map(comment -> mapToLatestCommentResponse(comment, aggregates))
                 .toList();
     }
 
     // 공통 변환 로직
-    private LatestCommentResponse mapToLatestCommentResponse(Comment comment, GuestOrApiMember guestOrApiMember) {
-        int likesCount = likeRepository.countByResourceIdAndLikeType(comment.getId(), LikeType.COMMENT);
-        boolean myLike = isCommentMyLiked(comment.getId(), guestOrApiMember);
-        Member member = comment.getMember();
+    private LatestCommentResponse mapToLatestCommentResponse(Comment comment, CommentAggregates aggregates) {
+        int likesCount = aggregates.likesCountOf(comment);
+        boolean myLike = aggregates.isMyLiked(comment);
         VoteOption option = comment.getVoteOption();
-
-        String imgUrl = (member.getProfileImgId() != null) ? fileRepository.findById(member.getProfileImgId())
-                        .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_FILE))
-                        .getImgUrl() : null;
+        String imgUrl = aggregates.profileImgUrlOf(comment.getMember());
 
         return LatestCommentResponse.fromEntity(comment, option, imgUrl, likesCount, myLike);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<BestCommentResponse> findAllBestComments(Long talkPickId, Pageable pageable,
                                                          GuestOrApiMember guestOrApiMember) {
         validateTalkPickId(talkPickId);
-        TalkPick talkPick = talkPickRepository.findById(talkPickId)
-                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_TALK_PICK));
-
-        List<Comment> allComments = commentRepository.findByTalkPickIdAndParentIsNullOrderByLikesCountDescCreatedAtAsc(
-                talkPickId, LikeType.COMMENT);
-
-        // 최대 좋아요 수 계산
-        int maxLikes = allComments.stream()
-                .mapToInt(comment -> likeRepository.countByResourceIdAndLikeType(comment.getId(), LikeType.COMMENT))
-                .max()
-                .orElse(0);
 
-        List<BestCommentResponse> bestComments = new ArrayList<>();
-        List<BestCommentResponse> otherComments = new ArrayList<>();
+        // 베스트 댓글 여부는 좋아요가 바뀔 때 BestCommentClassifier가 갱신하므로 베스트 댓글부터 최신순으로 바로 페이징
+        Page<Comment> comments = commentRepository.findAllByTalkPickIdOrderByBestFirst(talkPickId, pageable);
+        CommentAggregates aggregates = commentAggregateLoader.load(comments.getContent(), guestOrApiMember);
 
-        for (Comment comment : allComments) {
-            BestCommentResponse response = processFindBestComments(comment, talkPick, guestOrApiMember, maxLikes);
-            if (comment.getIsBest()) {
-                bestComments.add(response);
-            } else {
-                otherComments.add(response);
-            }
-        }
-
-        // 정렬
-        bestComments.sort(Comparator.comparing(BestCommentResponse::getCreatedAt).reversed());
-        otherComments.sort(Comparator.comparing(BestCommentResponse::getCreatedAt).reversed());
-
-        // 결과 병합
-        List<BestCommentResponse> result = new ArrayList<>();
-        result.addAll(bestComments);
-        result.addAll(otherComments);
-
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), result.size());
-        return new PageImpl<>(result.subList(start, end), pageable, result.size());
+        return comments.map(comment -> mapToBestCommentResponse(comment, aggregates));
     }
 
-
-    private BestCommentResponse processFindBestComments(Comment comment, TalkPick talkPick,
-                                                        GuestOrApiMember guestOrApiMember, int maxLikes) {
-        boolean myLike = isCommentMyLiked(comment.getId(), guestOrApiMember);
-        int likeCount = likeRepository.countByResourceIdAndLikeType(comment.getId(), LikeType.COMMENT);
+    private BestCommentResponse mapToBestCommentResponse(Comment comment, CommentAggregates aggregates) {
+        boolean myLike = aggregates.isMyLiked(comment);
+        int likeCount = aggregates.likesCountOf(comment);
         Member member = comment.getMember();
-        VoteOption option = member.getVoteOnTalkPick(talkPick)
-                .isPresent() ? member.getVoteOnTalkPick(talkPick).get().getVoteOption() : null;
-
-        // isBest 여부 설정
-        comment.setIsBest(likeCount >= MIN_COUNT_FOR_BEST_COMMENT || likeCount == maxLikes);
-        String imgUrl = fetchProfileImgUrl(member);
+        VoteOption option = comment.getVoteOption();
+        String imgUrl = aggregates.profileImgUrlOf(member);
 
-        // BestCommentResponse 생성
         return BestCommentResponse.fromEntity(comment, option, imgUrl, likeCount, myLike);
     }
 
-    // 프로필 이미지 URL 조회
-    private String fetchProfileImgUrl(Member member) {
-        if (member.getProfileImgId() == null) {
-            return null;
-        }
-        return fileRepository.findById(member.getProfileImgId())
-                .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_FILE))
-                .getImgUrl();
-    }
-
     public void updateComment(Long commentId, Long talkPickId, String content, ApiMember apiMember) {
         Comment comment = validateCommentByMemberAndTalkPick(commentId, talkPickId, apiMember,
                 FORBIDDEN_COMMENT_MODIFY);
@@ -267,8 +285,10 @@ public class CommentService {
     }
 
     public void deleteComment(Long commentId, Long talkPickId, ApiMember apiMember) {
-        validateCommentByMemberAndTalkPick(commentId, talkPickId, apiMember, FORBIDDEN_COMMENT_DELETE);
-        commentRepository.deleteById(commentId);
+        Comment comment = validateCommentByMemberAndTalkPick(commentId, talkPickId, apiMember,
+                FORBIDDEN_COMMENT_DELETE);
+        bestCommentClassifier.deleteAndReclassify(comment);
+        totalCountService.evict(TALK_PICK_COMMENTS_OF_MEMBER, comment.getMember().getId());
     }
 
     private Comment validateCommentByMemberAndTalkPick(Long commentId, Long talkPickId, ApiMember apiMember,
@@ -288,6 +308,12 @@ public class CommentService {
         return comment;
     }
 
+    private void validateReplyPreviewSize(int replySize) {
+        if (replySize < 0 || replySize > MAX_REPLY_PREVIEW_SIZE) {
+            throw new BalanceTalkException(INVALID_REPLY_PREVIEW_SIZE);
+        }
+    }
+
     private TalkPick validateTalkPickId(Long talkPickId) {
         return talkPickRepository.findById(talkPickId)
                 .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_TALK_PICK));
@@ -298,24 +324,9 @@ public class CommentService {
                 .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_COMMENT));
     }
 
-    private boolean isCommentMyLiked(Long commentId, GuestOrApiMember guestOrApiMember) {
-        if (guestOrApiMember.isGuest()) {
-            return false;
-        }
-
-        Long memberId = guestOrApiMember.toMember(memberRepository).getId();
-
-        if (likeRepository.existsByResourceIdAndMemberId(commentId, memberId)) {
-            return likeRepository.findByResourceIdAndMemberId(commentId, memberId)
-                    .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_LIKE))
-                    .getActive();
-        }
-
-        return false;
-    }
-
     private void validateDepth(Comment parentComment) {
-        int depth = calculateDepth(parentComment);
+        // 경로를 채우기 전에 작성된 댓글만 부모를 따라 올라가 계산한다.
+        int depth = parentComment.hasPath() ? parentComment.getDepth() : calculateDepth(parentComment);
         if (depth >= maxDepth) {
             throw new BalanceTalkException(EXCEED_MAX_DEPTH);
         }
@@ -0,0 +1,75 @@
+package balancetalk.comment.application;
+
+import balancetalk.comment.dto.CommentDto.LatestCommentResponse;
+import balancetalk.global.pagination.Cursor;
+import balancetalk.global.pagination.CursorSliceResponse;
+import balancetalk.member.dto.GuestOrApiMember;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 톡픽의 최상위 댓글 전체를 최신순 JSON 배열로 응답 스트림에 바로 쓴다.
+ *
+ * <p>댓글을 커서로 chunkSize개씩 조회해 청크마다 좋아요와 프로필 이미지를 한 번에 불러오고, 쓴 뒤에는 영속성 컨텍스트를 비운다.
+ * 전체 목록을 메모리에 올리지 않으므로 댓글 수와 관계없이 메모리 사용량이 청크 하나 크기로 일정하다.
+ */
+@Service
+public class CommentStreamService {
+
+    private final CommentService commentService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+
+    public CommentStreamService(CommentService commentService,
+                                ObjectMapper objectMapper,
+                                EntityManager entityManager,
+                                @Value("${pick-o.comment.stream.chunk-size:100}") int chunkSize) {
+        Cursor.validateSize(chunkSize);
+        this.commentService = commentService;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 첫 청크는 요청 스레드에서 조회해, 톡픽이 없으면 응답을 쓰기 시작하기 전에 예외로 알린다.
+     */
+    public StreamingResponseBody streamLatestComments(Long talkPickId, GuestOrApiMember guestOrApiMember) {
+        CursorSliceResponse<LatestCommentResponse> firstChunk =
+                commentService.findCommentsByCursor(talkPickId, null, chunkSize, guestOrApiMember);
+        entityManager.clear();
+        return out -> write(out, firstChunk, talkPickId, guestOrApiMember);
+    }
+
+    private void write(OutputStream out, CursorSliceResponse<LatestCommentResponse> firstChunk, Long talkPickId,
+                       GuestOrApiMember guestOrApiMember) throws IOException {
+        // 응답 스트림은 컨테이너가 닫는다.
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartArray();
+
+        CursorSliceResponse<LatestCommentResponse> chunk = firstChunk;
+        while (true) {
+            for (LatestCommentResponse comment : chunk.getContent()) {
+                generator.writeObject(comment);
+            }
+            generator.flush();
+            if (!chunk.isHasNext()) {
+                break;
+            }
+            chunk = commentService.findCommentsByCursor(talkPickId, chunk.getNextCursor(), chunkSize,
+                    guestOrApiMember);
+            entityManager.clear();
+        }
+
+        generator.writeEndArray();
+        generator.close();
+    }
+}
@@ -0,0 +1,59 @@
+package balancetalk.comment.application;
+
+import balancetalk.comment.domain.Comment;
+import balancetalk.comment.domain.CommentRepository;
+import balancetalk.like.domain.LikeCount;
+import balancetalk.like.domain.LikeRepository;
+import balancetalk.like.domain.LikeType;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikesCountReconcileService {
+
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final BestCommentClassifier bestCommentClassifier;
+
+    /**
+     * lastCommentId 이후의 댓글 ID를 오름차순으로 최대 500개 조회한다.
+     */
+    public List<Long> findCommentIds(long lastCommentId) {
+        return commentRepository.findTop500IdsByIdGreaterThan(lastCommentId);
+    }
+
+    /**
+     * 댓글들에 대해 저장된 좋아요 수와 실제 좋아요 기록을 비교해 어긋난 값을 바로잡고,
+     * 바로잡은 최상위 댓글이 속한 톡픽의 베스트 댓글을 다시 분류한다.
+     * 댓글 행을 먼저 잠근 뒤 세므로, 세는 사이에 반영된 좋아요를 절대값으로 덮어쓰지 않는다.
+     */
+    @Transactional
+    public void reconcileChunk(List<Long> commentIds) {
+        List<Comment> comments = commentRepository.findAllForUpdateByIdInOrderByIdAsc(commentIds);
+        Map<Long, Long> actualLikesCounts = likeRepository.countByResourceIds(commentIds, LikeType.COMMENT).stream()
+                .collect(Collectors.toMap(LikeCount::getResourceId, LikeCount::getCount));
+
+        Set<Long> talkPickIdsToReclassify = new LinkedHashSet<>();
+        for (Comment comment : comments) {
+            int actual = actualLikesCounts.getOrDefault(comment.getId(), 0L).intValue();
+            if (comment.getLikesCount() != actual) {
+                log.warn("Reconcile likes count of Comment ID = {} : {} -> {}",
+                        comment.getId(), comment.getLikesCount(), actual);
+                commentRepository.updateLikesCount(comment.getId(), actual);
+                if (comment.getParent() == null && comment.getTalkPick() != null) {
+                    talkPickIdsToReclassify.add(comment.getTalkPick().getId());
+                }
+            }
+        }
+        talkPickIdsToReclassify.forEach(bestCommentClassifier::reclassifyAll);
+    }
+}
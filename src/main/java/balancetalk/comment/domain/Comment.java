@@ -7,6 +7,7 @@ import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.ViewStatus;
 import balancetalk.vote.domain.VoteOption;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -15,12 +16,15 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -30,14 +34,27 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Builder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(indexes = {
+        @Index(name = "idx_comment_talk_pick_parent_created_at",
+                columnList = "talk_pick_id, parent_id, created_at, id"),
+        @Index(name = "idx_comment_talk_pick_parent_likes_count",
+                columnList = "talk_pick_id, parent_id, likes_count"),
+        @Index(name = "idx_comment_talk_pick_parent_best_created_at",
+                columnList = "talk_pick_id, parent_id, is_best, created_at, id"),
+        @Index(name = "idx_comment_root_path", columnList = "root_id, path")
+})
 public class Comment extends BaseTimeEntity {
 
+    private static final String PATH_DELIMITER = "/";
+    private static final String PATH_SEGMENT_FORMAT = "%019d";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -50,9 +67,16 @@ public class Comment extends BaseTimeEntity {
     @NotNull
     private ViewStatus viewStatus;
 
+    // 베스트 여부와 좋아요 수는 BestCommentClassifier에서 UPDATE 쿼리로 갱신하므로 엔티티 변경 감지 대상에서 제외
     @NotNull
+    @Column(name = "is_best", updatable = false)
     private Boolean isBest;
 
+    @PositiveOrZero
+    @ColumnDefault("0")
+    @Column(name = "likes_count", insertable = false, updatable = false)
+    private int likesCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -65,6 +89,17 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    // 스레드의 최상위 댓글 ID. 최상위 댓글은 자기 자신의 ID
+    @Column(name = "root_id")
+    private Long rootId;
+
+    @ColumnDefault("0")
+    private int depth;
+
+    // 최상위 댓글부터 자신까지의 ID를 같은 길이로 이어 붙인 경로. 경로 순으로 정렬하면 스레드를 깊이 우선, 작성순으로 읽는다.
+    @Column(length = 255)
+    private String path;
+
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
     private List<Comment> replies = new ArrayList<>();
 
@@ -88,8 +123,28 @@ public class Comment extends BaseTimeEntity {
         this.isEdited = true;
     }
 
-    public void setIsBest(boolean isBest) {
-        this.isBest = isBest;
+    /**
+     * ID가 정해진 뒤(저장 직후) 부모의 경로를 이어 받아 스레드 위치를 정한다.
+     * 경로를 채우는 작업이 끝나기 전에 작성된 답글이면, 부모부터 위로 거슬러 올라가며 경로를 먼저 채운다.
+     */
+    public void assignPath() {
+        String segment = String.format(PATH_SEGMENT_FORMAT, id);
+        if (parent == null) {
+            this.rootId = id;
+            this.depth = 0;
+            this.path = segment;
+            return;
+        }
+        if (!parent.hasPath()) {
+            parent.assignPath();
+        }
+        this.rootId = parent.getRootId();
+        this.depth = parent.getDepth() + 1;
+        this.path = parent.getPath() + PATH_DELIMITER + segment;
+    }
+
+    public boolean hasPath() {
+        return path != null;
     }
 
     public void setIsNotifiedForFirstReplyTrue() {
@@ -1,32 +1,97 @@
 package balancetalk.comment.domain;
 
-import balancetalk.like.domain.LikeType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
-    Page<Comment> findAllByTalkPickIdAndParentIsNull(Long talkPickId, Pageable pageable);
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+
+    // 좋아요 수가 기준 이상이거나 톡픽의 최상위 댓글 중 가장 많으면 베스트 댓글
+    String BEST_CASE = "CASE WHEN c.likesCount >= :minLikesCount OR c.likesCount = :maxLikesCount "
+            + "THEN true ELSE false END";
 
-    List<Comment> findAllByTalkPickIdAndParentIsNullOrderByCreatedAtDesc(Long talkPickId);
+    Page<Comment> findAllByTalkPickIdAndParentIsNull(Long talkPickId, Pageable pageable);
 
     @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId " +
             "ORDER BY CASE WHEN c.member.id = :currentMemberId THEN 0 ELSE 1 END, c.createdAt ASC")
     List<Comment> findAllRepliesByParentIdOrderByMemberAndCreatedAt(@Param("parentId") Long parentId,
                                                                @Param("currentMemberId") Long currentMemberId);
-    @Query("SELECT c FROM Comment c LEFT JOIN Like l ON c.id = l.resourceId AND l.likeType = :likeType " +
-            "WHERE c.talkPick.id = :talkPickId AND c.parent IS NULL " +
-            "GROUP BY c " +
-            "ORDER BY COUNT(l) DESC, c.createdAt ASC")
-    List<Comment> findByTalkPickIdAndParentIsNullOrderByLikesCountDescCreatedAtAsc(@Param("talkPickId") Long talkPickId,
-                                                                     @Param("likeType") LikeType likeType);
+
+    @Query(value = "SELECT c FROM Comment c WHERE c.talkPick.id = :talkPickId AND c.parent IS NULL "
+            + "ORDER BY c.isBest DESC, c.createdAt DESC, c.id DESC",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.talkPick.id = :talkPickId AND c.parent IS NULL")
+    Page<Comment> findAllByTalkPickIdOrderByBestFirst(@Param("talkPickId") Long talkPickId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.likesCount = c.likesCount + :delta WHERE c.id = :id")
+    void addLikesCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.likesCount = :likesCount WHERE c.id = :id")
+    void updateLikesCount(@Param("id") Long id, @Param("likesCount") int likesCount);
+
+    @Query("SELECT c.likesCount FROM Comment c WHERE c.id = :id")
+    int findLikesCountById(@Param("id") Long id);
+
+    @Query("SELECT COALESCE(MAX(c.likesCount), 0) FROM Comment c "
+            + "WHERE c.talkPick.id = :talkPickId AND c.parent IS NULL")
+    int findMaxLikesCount(@Param("talkPickId") Long talkPickId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.isBest = " + BEST_CASE + " WHERE c.id = :id")
+    void updateBest(@Param("id") Long id, @Param("minLikesCount") int minLikesCount,
+                    @Param("maxLikesCount") int maxLikesCount);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.isBest = " + BEST_CASE + " "
+            + "WHERE c.talkPick.id = :talkPickId AND c.parent IS NULL AND c.likesCount IN :likesCounts")
+    void updateBestByLikesCounts(@Param("talkPickId") Long talkPickId, @Param("likesCounts") List<Integer> likesCounts,
+                                 @Param("minLikesCount") int minLikesCount,
+                                 @Param("maxLikesCount") int maxLikesCount);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.isBest = " + BEST_CASE + " "
+            + "WHERE c.talkPick.id = :talkPickId AND c.parent IS NULL")
+    void updateBestOfTalkPick(@Param("talkPickId") Long talkPickId, @Param("minLikesCount") int minLikesCount,
+                              @Param("maxLikesCount") int maxLikesCount);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.id > :id ORDER BY c.id ASC LIMIT 500")
+    List<Long> findTop500IdsByIdGreaterThan(@Param("id") Long id);
+
+    // 좋아요 수를 세는 동안 좋아요 반영이 끼어들어 덮어써지지 않도록 댓글 행을 ID 순으로 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Comment> findAllForUpdateByIdInOrderByIdAsc(List<Long> ids);
+
+    // 부모가 먼저 저장되므로 ID 순으로 채우면 항상 부모의 경로가 먼저 정해진다.
+    List<Comment> findTop500ByPathIsNullOrderByIdAsc();
+
+    /**
+     * 최상위 댓글마다 경로 순으로 앞선 답글을 replyLimit개까지 조회한다. (root_id, path) 인덱스 범위만 읽는다.
+     */
+    @Query(value = "SELECT c.* FROM comment c WHERE c.id IN ("
+            + "SELECT t.id FROM (SELECT r.id, ROW_NUMBER() OVER (PARTITION BY r.root_id ORDER BY r.path) AS rn "
+            + "FROM comment r WHERE r.root_id IN (:rootIds) AND r.depth > 0) t "
+            + "WHERE t.rn <= :replyLimit) "
+            + "ORDER BY c.root_id, c.path", nativeQuery = true)
+    List<Comment> findThreadReplies(@Param("rootIds") List<Long> rootIds, @Param("replyLimit") int replyLimit);
+
+    @Query("SELECT c.parent.id AS parentId, COUNT(c) AS count FROM Comment c "
+            + "WHERE c.rootId IN :rootIds AND c.depth > 0 GROUP BY c.parent.id")
+    List<ReplyCount> countRepliesByRootIds(@Param("rootIds") List<Long> rootIds);
 
     @Query("SELECT c FROM Comment c WHERE c.member.id = :memberId AND c.talkPick IS NOT NULL " +
             "AND c.editedAt IN (SELECT MAX(c2.editedAt) FROM Comment c2 WHERE c2.member.id = :memberId GROUP BY c2.talkPick.id) " +
             "ORDER BY c.editedAt DESC")
-    Page<Comment> findAllLatestCommentsByMemberIdAndOrderByDesc(@Param("memberId") Long memberId, Pageable pageable);
+    List<Comment> findAllLatestCommentsByMemberIdAndOrderByDesc(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.member.id = :memberId AND c.talkPick IS NOT NULL " +
+            "AND c.editedAt IN (SELECT MAX(c2.editedAt) FROM Comment c2 WHERE c2.member.id = :memberId GROUP BY c2.talkPick.id)")
+    long countLatestCommentsByMemberId(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,9 @@
+package balancetalk.comment.domain;
+
+import balancetalk.global.pagination.Cursor;
+import balancetalk.global.pagination.CursorSliceResponse;
+
+public interface CommentRepositoryCustom {
+
+    CursorSliceResponse<Comment> findCommentsByCursor(Long talkPickId, Cursor cursor, int size);
+}
@@ -0,0 +1,38 @@
+package balancetalk.comment.domain;
+
+import static balancetalk.comment.domain.QComment.comment;
+import static balancetalk.global.utils.QuerydslUtils.afterCursor;
+import static balancetalk.global.utils.QuerydslUtils.toOrderSpecifiers;
+
+import balancetalk.global.pagination.Cursor;
+import balancetalk.global.pagination.CursorSliceResponse;
+import balancetalk.global.utils.QuerydslUtils.CursorKey;
+import com.querydsl.core.types.Order;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    // 최신순: (createdAt, id) 내림차순
+    private static final List<CursorKey> LATEST_CURSOR_KEYS = List.of(
+            new CursorKey(comment.createdAt, Order.DESC),
+            new CursorKey(comment.id, Order.DESC));
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public CursorSliceResponse<Comment> findCommentsByCursor(Long talkPickId, Cursor cursor, int size) {
+        List<Comment> rows = queryFactory
+                .selectFrom(comment)
+                .where(comment.talkPick.id.eq(talkPickId),
+                        comment.parent.isNull(),
+                        afterCursor(LATEST_CURSOR_KEYS, cursor))
+                .orderBy(toOrderSpecifiers(LATEST_CURSOR_KEYS))
+                .limit(size + 1L)
+                .fetch();
+
+        return CursorSliceResponse.of(rows, size, row -> Cursor.of(row.getCreatedAt(), row.getId()));
+    }
+}
@@ -0,0 +1,8 @@
+package balancetalk.comment.domain;
+
+public interface ReplyCount {
+
+    Long getParentId();
+
+    long getCount();
+}
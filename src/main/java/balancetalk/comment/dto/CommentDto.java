@@ -8,6 +8,7 @@ import balancetalk.vote.domain.VoteOption;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -117,6 +118,12 @@ public class CommentDto {
         private LocalDateTime lastModifiedAt;
 
         public static LatestCommentResponse fromEntity(Comment comment, VoteOption voteOption, String profileImgUrl, int likesCount, boolean myLike) {
+            return fromEntity(comment, voteOption, profileImgUrl, likesCount, myLike,
+                    comment.getReplies() == null ? 0 : comment.getReplies().size());
+        }
+
+        public static LatestCommentResponse fromEntity(Comment comment, VoteOption voteOption, String profileImgUrl,
+                                                       int likesCount, boolean myLike, int replyCount) {
             return LatestCommentResponse.builder()
                     .id(comment.getId())
                     .content(comment.getContent())
@@ -127,7 +134,7 @@ public class CommentDto {
                     .voteOption(voteOption)
                     .likesCount(likesCount)
                     .myLike(myLike)
-                    .replyCount(comment.getReplies() == null ? 0 : comment.getReplies().size())
+                    .replyCount(replyCount)
                     .isEdited(comment.isEdited())
                     .createdAt(comment.getCreatedAt())
                     .lastModifiedAt(comment.getLastModifiedAt())
@@ -264,6 +271,12 @@ public class CommentDto {
         private LocalDateTime lastModifiedAt;
 
         public static CommentReplyResponse fromEntity(Comment comment, VoteOption voteOption, String profileImageUrl, int likesCount, boolean myLike) {
+            return fromEntity(comment, voteOption, profileImageUrl, likesCount, myLike,
+                    comment.getReplies() == null ? 0 : comment.getReplies().size());
+        }
+
+        public static CommentReplyResponse fromEntity(Comment comment, VoteOption voteOption, String profileImageUrl,
+                                                      int likesCount, boolean myLike, int replyCount) {
             return CommentReplyResponse.builder()
                     .id(comment.getId())
                     .content(comment.getContent())
@@ -275,11 +288,24 @@ public class CommentDto {
                     .likesCount(likesCount)
                     .myLike(myLike)
                     .parentId(comment.getParent() == null ? null : comment.getParent().getId())
-                    .replyCount(comment.getReplies() == null ? 0 : comment.getReplies().size())
+                    .replyCount(replyCount)
                     .isEdited(comment.isEdited())
                     .createdAt(comment.getCreatedAt())
                     .lastModifiedAt(comment.getLastModifiedAt())
                     .build();
         }
     }
+
+    @Data
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "답글 미리보기를 포함한 댓글 스레드 조회 응답")
+    public static class CommentThreadResponse {
+
+        @Schema(description = "최상위 댓글")
+        private LatestCommentResponse comment;
+
+        @Schema(description = "작성순으로 앞선 답글 목록 (replySize개까지)")
+        private List<CommentReplyResponse> replies;
+    }
 }
@@ -1,10 +1,13 @@
 package balancetalk.comment.presentation;
 
 import balancetalk.comment.application.CommentService;
+import balancetalk.comment.application.CommentStreamService;
 import balancetalk.comment.dto.CommentDto.BestCommentResponse;
+import balancetalk.comment.dto.CommentDto.CommentThreadResponse;
 import balancetalk.comment.dto.CommentDto.LatestCommentResponse;
 import balancetalk.comment.dto.CommentDto.CreateCommentRequest;
 import balancetalk.comment.dto.CommentDto.UpdateCommentRequest;
+import balancetalk.global.pagination.CursorSliceResponse;
 import balancetalk.global.utils.AuthPrincipal;
 import balancetalk.member.dto.ApiMember;
 import balancetalk.member.dto.GuestOrApiMember;
@@ -18,7 +21,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/talks/{talkPickId}/comments")
@@ -27,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
 
     @PostMapping
     @Operation(summary = "댓글 작성", description = "talkPick-id에 해당하는 게시글에 댓글을 작성한다.")
@@ -52,14 +58,39 @@ public class CommentController {
         return commentService.findAllComments(talkPickId, sortedByCreatedAtDesc, guestOrApiMember);
     }
 
-    @GetMapping("/m")
+    @GetMapping("/cursor")
+    @Operation(summary = "최신 댓글 목록 커서 조회",
+            description = "talkPick-id에 해당하는 게시글의 댓글을 최신순으로 커서 기반 조회한다. 응답의 nextCursor를 다음 요청의 cursor로 전달한다.")
+    public CursorSliceResponse<LatestCommentResponse> findCommentsByCursor(
+            @PathVariable Long talkPickId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthPrincipal GuestOrApiMember guestOrApiMember) {
+        return commentService.findCommentsByCursor(talkPickId, cursor, size, guestOrApiMember);
+    }
+
+    @GetMapping("/threads")
+    @Operation(summary = "답글 미리보기를 포함한 댓글 목록 커서 조회",
+            description = "talkPick-id에 해당하는 게시글의 댓글을 최신순으로 커서 기반 조회하고, "
+                    + "댓글마다 작성순으로 앞선 답글을 replySize개까지 함께 조회한다.")
+    public CursorSliceResponse<CommentThreadResponse> findCommentThreadsByCursor(
+            @PathVariable Long talkPickId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "3") int replySize,
+            @Parameter(hidden = true) @AuthPrincipal GuestOrApiMember guestOrApiMember) {
+        return commentService.findCommentThreadsByCursor(talkPickId, cursor, size, replySize, guestOrApiMember);
+    }
+
+    @GetMapping(value = "/m", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "모바일 - 최신 댓글 목록 조회",
-            description = "talkPick-id에 해당하는 게시글에 있는 모든 댓글을 최신순으로 정렬해 조회한다.")
-    public List<LatestCommentResponse> findAllCommentsByPostIdSortedByCreatedAtMobile(
+            description = "talkPick-id에 해당하는 게시글에 있는 모든 댓글을 최신순으로 정렬해 조회한다. "
+                    + "응답은 LatestCommentResponse 배열이며, 댓글을 나누어 조회하면서 바로 내려준다.")
+    public StreamingResponseBody findAllCommentsByPostIdSortedByCreatedAtMobile(
             @PathVariable Long talkPickId,
             @Parameter(hidden = true) @AuthPrincipal GuestOrApiMember guestOrApiMember) {
 
-        return commentService.findAllCommentsWhenMobile(talkPickId, guestOrApiMember);
+        return commentStreamService.streamLatestComments(talkPickId, guestOrApiMember);
     }
 
     @GetMapping("/best")
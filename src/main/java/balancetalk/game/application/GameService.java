@@ -1,6 +1,7 @@
 package balancetalk.game.application;
 
 import static balancetalk.file.domain.FileType.GAME_OPTION;
+import static balancetalk.global.pagination.CountShape.GAME_SETS_OF_MEMBER;
 
 import balancetalk.bookmark.domain.GameBookmark;
 import balancetalk.file.domain.File;
@@ -10,6 +11,10 @@ import balancetalk.game.domain.Game;
 import balancetalk.game.domain.GameOption;
 import balancetalk.game.domain.GameSet;
 import balancetalk.game.domain.MainTag;
+import balancetalk.game.domain.event.GameSetCreatedEvent;
+import balancetalk.game.domain.event.GameSetDeletedEvent;
+import balancetalk.game.domain.event.GameSetUpdatedEvent;
+import balancetalk.game.domain.event.MainTagCreatedEvent;
 import balancetalk.game.domain.repository.GameSetRepository;
 import balancetalk.game.domain.repository.MainTagRepository;
 import balancetalk.game.dto.GameDto.CreateGameMainTagRequest;
@@ -21,19 +26,22 @@ import balancetalk.game.dto.GameSetDto.GameSetResponse;
 import balancetalk.game.dto.GameSetDto.UpdateGameSetRequest;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.pagination.TotalCountService;
+import balancetalk.global.viewcount.ViewCountBuffer;
+import balancetalk.global.viewcount.ViewTarget;
+import balancetalk.member.application.MemberInteractionIndex;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
 import balancetalk.member.dto.ApiMember;
 import balancetalk.member.dto.GuestOrApiMember;
-import balancetalk.vote.domain.GameVote;
 import balancetalk.vote.domain.VoteOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +55,10 @@ public class GameService {
     private final MainTagRepository mainTagRepository;
     private final FileRepository fileRepository;
     private final FileHandler fileHandler;
+    private final ViewCountBuffer viewCountBuffer;
+    private final MemberInteractionIndex memberInteractionIndex;
+    private final TotalCountService totalCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long createBalanceGameSet(final CreateGameSetRequest request, final ApiMember apiMember) {
@@ -65,6 +77,8 @@ public class GameService {
 
         gameSet.addGames(games);
         GameSet savedGameSet = gameSetRepository.save(gameSet);
+        totalCountService.increase(GAME_SETS_OF_MEMBER, member.getId());
+        eventPublisher.publishEvent(GameSetCreatedEvent.from(savedGameSet));
 
         for (Game game : savedGameSet.getGames()) {
             for (GameOption gameOption : game.getGameOptions()) {
@@ -102,6 +116,7 @@ public class GameService {
         updateGameFiles(newGames, oldGames);
 
         gameSet.updateGameSetRequest(request.getTitle(), mainTag, request.getSubTag(), newGames);
+        eventPublisher.publishEvent(GameSetUpdatedEvent.from(gameSet));
     }
 
     private void updateGameFiles(List<Game> newGames, List<Game> oldGames) {
@@ -151,11 +166,11 @@ public class GameService {
         fileHandler.relocateFile(newFile, oldGameOption.getId(), GAME_OPTION);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public GameSetDetailResponse findBalanceGameSet(final Long gameSetId, final GuestOrApiMember guestOrApiMember) {
         GameSet gameSet = gameSetRepository.findById(gameSetId)
                 .orElseThrow(() -> new BalanceTalkException(ErrorCode.NOT_FOUND_BALANCE_GAME_SET));
-        gameSet.increaseViews();
+        viewCountBuffer.increase(ViewTarget.GAME_SET, gameSetId);
 
         Map<Long, String> gameOptionImgUrls = getGameOptionImgUrls(gameSet); // 게임 id, 이미지 url을 가진 맵을 생성
 
@@ -167,20 +182,15 @@ public class GameService {
                             .toList());
         }
 
-        Member member = guestOrApiMember.toMember(memberRepository);
-        List<Game> games = gameSet.getGames();
+        Long memberId = guestOrApiMember.toMember(memberRepository).getId();
 
-        GameBookmark gameBookmark = member.getGameBookmarkOf(gameSet)
+        GameBookmark gameBookmark = memberInteractionIndex.getGameBookmark(memberId, gameSetId)
                 .orElse(null);
 
-        Map<Long, VoteOption> voteOptionMap = new ConcurrentHashMap<>();
-
         boolean isEndGameSet = (gameBookmark != null) && gameBookmark.getIsEndGameSet();
 
-        for (Game game : games) {
-            Optional<GameVote> myVote = member.getVoteOnGameOption(member, game);
-            myVote.ifPresent(gameVote -> voteOptionMap.put(game.getId(), gameVote.getVoteOption()));
-        }
+        // 세트에 속한 모든 게임의 투표 선택지를 한 번에 조회
+        Map<Long, VoteOption> voteOptionMap = memberInteractionIndex.getVoteOptionsOnGameSet(memberId, gameSetId);
 
         return GameSetDetailResponse.fromEntity(gameSet, gameBookmark, isEndGameSet,
                 gameSet.getGames().stream()
@@ -226,6 +236,8 @@ public class GameService {
         Member member = apiMember.toMember(memberRepository);
         GameSet gameSet = member.getGameSetById(gameSetId);
         gameSetRepository.delete(gameSet);
+        totalCountService.decrease(GAME_SETS_OF_MEMBER, member.getId());
+        eventPublisher.publishEvent(new GameSetDeletedEvent(gameSetId));
         List<Long> gameOptionIds = gameSet.getGameOptionIds();
         deleteFiles(gameOptionIds);
     }
@@ -262,13 +274,18 @@ public class GameService {
     private List<GameSetResponse> gameSetResponses(GuestOrApiMember guestOrApiMember, List<GameSet> gameSets) {
         if (guestOrApiMember.isGuest()) {
             return gameSets.stream()
-                    .map(gameSet -> GameSetResponse.fromEntity(gameSet, null, getFirstGameImages(gameSet)))
+                    .map(gameSet -> GameSetResponse.fromEntity(gameSet, false, getFirstGameImages(gameSet)))
                     .toList();
         }
         Member member = guestOrApiMember.toMember(memberRepository);
+        List<Long> gameSetIds = gameSets.stream()
+                .map(GameSet::getId)
+                .toList();
+        Set<Long> bookmarkedGameSetIds = memberInteractionIndex.getBookmarkedGameSetIds(member.getId(), gameSetIds);
 
         return gameSets.stream()
-                .map(gameSet -> GameSetResponse.fromEntity(gameSet, member, getFirstGameImages(gameSet)))
+                .map(gameSet -> GameSetResponse.fromEntity(gameSet,
+                        bookmarkedGameSetIds.contains(gameSet.getId()), getFirstGameImages(gameSet)))
                 .toList();
     }
 
@@ -305,5 +322,6 @@ public class GameService {
         }
         MainTag mainTag = request.toEntity();
         mainTagRepository.save(mainTag);
+        eventPublisher.publishEvent(new MainTagCreatedEvent(mainTag.getName()));
     }
 }
@@ -0,0 +1,157 @@
+package balancetalk.game.application;
+
+import balancetalk.game.domain.MainTag;
+import balancetalk.game.domain.repository.GameSetRepository;
+import balancetalk.game.domain.repository.GameSetTags;
+import balancetalk.game.domain.repository.MainTagRepository;
+import balancetalk.game.dto.GameSetDto.MainTagFacet;
+import balancetalk.game.dto.GameSetDto.SubTagFacet;
+import balancetalk.game.dto.GameSetDto.TagFacetResponse;
+import balancetalk.global.search.RebuildableSnapshot;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메인 태그별, 서브 태그별 밸런스게임 세트 수를 메모리에 두고 필터 바 렌더링에 사용한다. 조회 시 DB 집계 쿼리를 실행하지 않는다.
+ *
+ * <p>서버 시작 시와 주기적으로 DB에서 다시 만들고, 그 사이의 생성/수정/삭제는 커밋 이후 바로 반영한다.
+ * 수정/삭제 시 이전 태그를 빼야 하므로 세트별 태그를 함께 기억한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameSetFacetService {
+
+    private final GameSetRepository gameSetRepository;
+    private final MainTagRepository mainTagRepository;
+
+    // 집계는 동시 접근에 안전하지 않으므로 읽기도 변경 반영과 같은 잠금 안에서 한다.
+    private final RebuildableSnapshot<FacetCounts> counts = new RebuildableSnapshot<>(new FacetCounts());
+
+    public TagFacetResponse getFacets() {
+        return counts.read(FacetCounts::toResponse);
+    }
+
+    @Async("searchIndexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // 전체 테이블을 읽는 재구성이 스케줄러 스레드를 잡지 않도록 색인 실행기로 넘긴다.
+    @Async("searchIndexTaskExecutor")
+    @Scheduled(fixedDelayString = "${pick-o.game.facet.rebuild-interval-ms:3600000}",
+            initialDelayString = "${pick-o.game.facet.rebuild-interval-ms:3600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 집계를 새로 만들어 교체한다. 이미 재구성 중이면 건너뛴다.
+     */
+    public void rebuild() {
+        if (counts.rebuild(this::load)) {
+            log.info("Rebuilt game set tag facets for {} game sets",
+                    counts.read(current -> current.tagsByGameSetId.size()));
+        }
+    }
+
+    private FacetCounts load() {
+        FacetCounts newCounts = new FacetCounts();
+        mainTagRepository.findAll().stream()
+                .sorted(Comparator.comparing(MainTag::getId))
+                .forEach(mainTag -> newCounts.addMainTag(mainTag.getName()));
+        RebuildableSnapshot.forEachChunk(gameSetRepository::findTop1000TagsByIdGreaterThan, GameSetTags::getId,
+                gameSets -> gameSets.forEach(
+                        tags -> newCounts.put(tags.getId(), new Tags(tags.getMainTag(), tags.getSubTag()))));
+        return newCounts;
+    }
+
+    public void put(Long gameSetId, String mainTag, String subTag) {
+        Tags tags = new Tags(mainTag, subTag);
+        counts.apply(target -> target.put(gameSetId, tags));
+    }
+
+    public void remove(Long gameSetId) {
+        counts.apply(target -> target.remove(gameSetId));
+    }
+
+    public void addMainTag(String name) {
+        counts.apply(target -> target.addMainTag(name));
+    }
+
+    private record Tags(String mainTag, String subTag) {
+
+        private boolean hasSubTag() {
+            return mainTag != null && subTag != null && !subTag.isBlank();
+        }
+    }
+
+    /**
+     * 세트별 태그와 태그별 개수. 동기화는 바깥 서비스가 맡는다.
+     */
+    private static class FacetCounts {
+
+        private final Map<Long, Tags> tagsByGameSetId = new HashMap<>();
+        // 메인 태그 등록 순서를 유지해 필터 바 순서로 사용한다.
+        private final Map<String, Long> mainTagCounts = new LinkedHashMap<>();
+        private final Map<String, Map<String, Long>> subTagCounts = new HashMap<>();
+
+        private void addMainTag(String name) {
+            mainTagCounts.putIfAbsent(name, 0L);
+        }
+
+        private void put(Long gameSetId, Tags tags) {
+            remove(gameSetId);
+            tagsByGameSetId.put(gameSetId, tags);
+            if (tags.mainTag() == null) {
+                return;
+            }
+            mainTagCounts.merge(tags.mainTag(), 1L, Long::sum);
+            if (tags.hasSubTag()) {
+                subTagCounts.computeIfAbsent(tags.mainTag(), mainTag -> new HashMap<>())
+                        .merge(tags.subTag(), 1L, Long::sum);
+            }
+        }
+
+        private void remove(Long gameSetId) {
+            Tags tags = tagsByGameSetId.remove(gameSetId);
+            if (tags == null || tags.mainTag() == null) {
+                return;
+            }
+            mainTagCounts.computeIfPresent(tags.mainTag(), (mainTag, count) -> count - 1);
+            if (tags.hasSubTag()) {
+                Map<String, Long> subTags = subTagCounts.get(tags.mainTag());
+                if (subTags != null) {
+                    subTags.computeIfPresent(tags.subTag(), (subTag, count) -> count > 1 ? count - 1 : null);
+                }
+            }
+        }
+
+        private TagFacetResponse toResponse() {
+            List<MainTagFacet> mainTags = new ArrayList<>(mainTagCounts.size());
+            mainTagCounts.forEach((mainTag, count) -> mainTags.add(
+                    new MainTagFacet(mainTag, count, subTagFacets(subTagCounts.getOrDefault(mainTag, Map.of())))));
+            return new TagFacetResponse(tagsByGameSetId.size(), mainTags);
+        }
+
+        private List<SubTagFacet> subTagFacets(Map<String, Long> subTags) {
+            return subTags.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .map(entry -> new SubTagFacet(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+    }
+}
@@ -10,11 +10,24 @@ import balancetalk.file.domain.repository.FileRepository;
 import balancetalk.game.domain.Game;
 import balancetalk.game.domain.GameOption;
 import balancetalk.game.domain.repository.GameRepository;
+import balancetalk.game.domain.repository.GameSearchCandidate;
 import balancetalk.game.dto.SearchGameResponse;
 import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.search.SearchResultCache;
+import balancetalk.global.search.SearchResultCache.SearchTarget;
+import balancetalk.global.search.application.QueryCorrectionService;
+import balancetalk.global.search.application.QueryCorrectionService.CorrectedSearch;
+import balancetalk.global.search.application.TrendingSearchService;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -27,23 +40,79 @@ public class SearchGameService {
 
     private final GameRepository gameRepository;
     private final FileRepository fileRepository;
+    private final SearchResultCache searchResultCache;
+    private final QueryCorrectionService queryCorrectionService;
+    private final TrendingSearchService trendingSearchService;
 
     private static final int MINIMUM_SEARCH_LENGTH = 2;
     private static final List<String> ALLOWED_SORTS = List.of("views", "createdAt");
+    private static final int OPTION_A_INDEX = 0;
+    private static final int OPTION_B_INDEX = 1;
 
+    @Value("${pick-o.search.max-total-count:1000}")
+    private int maxTotalCount;
 
-    public Page<SearchGameResponse> search(String query, Pageable pageable, String sort) {
+    public Page<SearchGameResponse> search(String rawQuery, Pageable pageable, String sort, boolean exactCount) {
 
-        validateQuery(query);
+        validateQuery(rawQuery);
         validateSort(sort);
+        // 결과가 없을 때만 오타/띄어쓰기를 교정한 검색어로 다시 검색한다.
+        CorrectedSearch<SearchGameResponse> search = queryCorrectionService.searchWithCorrection(rawQuery,
+                query -> searchCached(query, pageable, sort, exactCount));
+        // 다음 페이지 조회는 같은 검색이므로 첫 페이지만 인기 검색어로 센다.
+        if (pageable.getPageNumber() == 0) {
+            trendingSearchService.record(search.query());
+        }
+        return search.result();
+    }
+
+    // 검색 결과와 전체 개수를 함께 캐시하고, exactCount가 true면 캐시를 거치지 않고 다시 검색
+    private Page<SearchGameResponse> searchCached(String query, Pageable pageable, String sort, boolean exactCount) {
+        if (exactCount) {
+            return searchGames(query, pageable, sort);
+        }
+        return searchResultCache.getOrSearch(SearchTarget.GAME, query, pageable, sort,
+                () -> searchGames(query, pageable, sort));
+    }
 
+    /**
+     * 필드별 검색 후보를 모아 게임 단위로 중복을 제거(가장 높은 점수 유지)하고, 정렬 기준 → 점수 → ID 순으로 정렬한 뒤 페이지를 자른다.
+     * 전체 개수는 중복 제거된 후보 수이며 최대 maxTotalCount개까지 센다.
+     * 후보는 필드별로 관련도 상위 maxTotalCount개까지만 가져오므로, 조회수·최신순 정렬은 전체 일치 결과가 아니라
+     * 이 관련도 상위 후보 안에서의 순서다.
+     */
+    private Page<SearchGameResponse> searchGames(String query, Pageable pageable, String sort) {
         String queryWithoutSpaces = removeSpaces(query);
 
-        Page<Game> pageResult = gameRepository.searchAll(query, queryWithoutSpaces, sort, pageable);
+        List<GameSearchCandidate> candidates =
+                gameRepository.findSearchCandidates(query, queryWithoutSpaces, maxTotalCount);
+        List<GameSearchCandidate> ranked = rank(candidates, sort);
 
-        List<SearchGameResponse> responses = convertToResponse(pageResult.getContent());
+        List<Long> pageGameIds = ranked.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(GameSearchCandidate::getGameId)
+                .toList();
 
-        return new PageImpl<>(responses, pageable, pageResult.getTotalElements());
+        return new PageImpl<>(convertToResponse(pageGameIds), pageable, ranked.size());
+    }
+
+    private List<GameSearchCandidate> rank(List<GameSearchCandidate> candidates, String sort) {
+        Map<Long, GameSearchCandidate> bestByGameId = new HashMap<>();
+        for (GameSearchCandidate candidate : candidates) {
+            bestByGameId.merge(candidate.getGameId(), candidate,
+                    (current, other) -> other.getScore() > current.getScore() ? other : current);
+        }
+
+        Comparator<GameSearchCandidate> bySort = "views".equals(sort)
+                ? Comparator.comparing(GameSearchCandidate::getViews)
+                : Comparator.comparing(GameSearchCandidate::getCreatedAt);
+        return bestByGameId.values().stream()
+                .sorted(bySort.reversed()
+                        .thenComparing(Comparator.comparing(GameSearchCandidate::getScore).reversed())
+                        .thenComparing(Comparator.comparing(GameSearchCandidate::getGameId).reversed()))
+                .limit(maxTotalCount)
+                .toList();
     }
 
     private void validateQuery(String query) {
@@ -66,24 +135,48 @@ public class SearchGameService {
         return query.replaceAll("\\s+", ""); // 모든 공백 제거
     }
 
-    private List<SearchGameResponse> convertToResponse(List<Game> games) {
+    /**
+     * 페이지에 포함된 게임과 선택지 이미지를 각각 한 번의 쿼리로 조회해 검색 순서대로 응답을 만든다.
+     */
+    private List<SearchGameResponse> convertToResponse(List<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Game> gamesById = gameRepository.findAllWithGameSetAndOptionsByIdIn(gameIds).stream()
+                .collect(Collectors.toMap(Game::getId, Function.identity()));
+        List<Game> games = gameIds.stream()
+                .map(gamesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, String> imgUrlsByOptionId = findOptionImgUrls(games);
+
         return games.stream()
-                .map(game -> {
-                    List<Long> resourceIds = getResourceIds(game);
-                    List<File> files =
-                            fileRepository.findAllByResourceIdsAndFileType(resourceIds, FileType.GAME_OPTION);
-                    String imgA = files.isEmpty() ? null : game.getImgA(files);
-                    String imgB = files.isEmpty() ? null : game.getImgB(files);
-                    return SearchGameResponse.from(game, imgA, imgB);
-                })
-                .distinct() // 중복 제거
+                .map(game -> SearchGameResponse.from(game,
+                        optionImgUrl(game, OPTION_A_INDEX, imgUrlsByOptionId),
+                        optionImgUrl(game, OPTION_B_INDEX, imgUrlsByOptionId)))
                 .toList();
     }
 
-    private List<Long> getResourceIds(Game game) {
-        return game.getGameOptions().stream()
-                .filter(option -> option.getImgId() != null)
-                .map(GameOption::getImgId)
+    private Map<Long, String> findOptionImgUrls(List<Game> games) {
+        List<Long> optionIds = games.stream()
+                .flatMap(game -> game.getGameOptions().stream())
+                .filter(GameOption::hasImage)
+                .map(GameOption::getId)
                 .toList();
+        if (optionIds.isEmpty()) {
+            return Map.of();
+        }
+        return fileRepository.findAllByResourceIdsAndFileType(optionIds, FileType.GAME_OPTION).stream()
+                .collect(Collectors.toMap(File::getResourceId, File::getImgUrl, (first, second) -> first));
+    }
+
+    // 페이지에는 이미지가 없는 선택지와 게임이 섞여 있으므로, 이미지가 없으면 예외 대신 null로 응답한다.
+    private String optionImgUrl(Game game, int index, Map<Long, String> imgUrlsByOptionId) {
+        List<GameOption> options = game.getGameOptions();
+        if (options.size() <= index) {
+            return null;
+        }
+        return imgUrlsByOptionId.get(options.get(index).getId());
     }
 }
\ No newline at end of file
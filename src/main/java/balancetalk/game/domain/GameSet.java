@@ -56,8 +56,10 @@ public class GameSet extends BaseTimeEntity {
     @JoinColumn(name = "main_tag_id")
     private MainTag mainTag;
 
+    // 조회수는 ViewCountFlushService에서 UPDATE 쿼리로 누적하므로 엔티티 변경 감지 대상에서 제외
     @PositiveOrZero
     @ColumnDefault("0")
+    @Column(updatable = false)
     private long views;
 
     @Size(max = 32)
@@ -72,10 +74,6 @@ public class GameSet extends BaseTimeEntity {
     @Embedded
     private NotificationHistory notificationHistory = new NotificationHistory();
 
-    public void increaseViews() {
-        this.views++;
-    }
-
     public boolean matchesId(long id) {
         return this.id == id;
     }
@@ -0,0 +1,61 @@
+package balancetalk.game.domain.event;
+
+import balancetalk.game.application.GameSetFacetService;
+import balancetalk.global.search.SearchResultCache;
+import balancetalk.global.search.application.QueryCorrectionService;
+import balancetalk.global.search.application.SuggestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 게임 세트와 메인 태그 변경을 자동 완성, 검색어 교정, 태그 집계에 반영한다.
+ * 톡픽 검색 색인과 같은 색인 실행기에서 변경 순서대로 처리하고, 반영한 뒤에 검색 결과 캐시를 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameSetEventHandler {
+
+    private final SearchResultCache searchResultCache;
+    private final SuggestService suggestService;
+    private final QueryCorrectionService queryCorrectionService;
+    private final GameSetFacetService gameSetFacetService;
+
+    @Async("searchIndexTaskExecutor")
+    @TransactionalEventListener
+    public void handleGameSetCreatedEvent(GameSetCreatedEvent event) {
+        indexGameSet(event.getGameSetId(), event.getTitle(), event.getMainTag(), event.getSubTag(),
+                event.getViews());
+    }
+
+    @Async("searchIndexTaskExecutor")
+    @TransactionalEventListener
+    public void handleGameSetUpdatedEvent(GameSetUpdatedEvent event) {
+        indexGameSet(event.getGameSetId(), event.getTitle(), event.getMainTag(), event.getSubTag(),
+                event.getViews());
+    }
+
+    @Async("searchIndexTaskExecutor")
+    @TransactionalEventListener
+    public void handleGameSetDeletedEvent(GameSetDeletedEvent event) {
+        suggestService.removeGameSet(event.getGameSetId());
+        gameSetFacetService.remove(event.getGameSetId());
+        searchResultCache.invalidateAll();
+    }
+
+    @Async("searchIndexTaskExecutor")
+    @TransactionalEventListener
+    public void handleMainTagCreatedEvent(MainTagCreatedEvent event) {
+        suggestService.indexMainTag(event.getName());
+        queryCorrectionService.indexMainTag(event.getName());
+        gameSetFacetService.addMainTag(event.getName());
+    }
+
+    private void indexGameSet(Long gameSetId, String title, String mainTag, String subTag, long views) {
+        suggestService.indexGameSet(gameSetId, title, subTag, views);
+        queryCorrectionService.indexGameSet(title, subTag);
+        gameSetFacetService.put(gameSetId, mainTag, subTag);
+        searchResultCache.invalidateAll();
+    }
+}
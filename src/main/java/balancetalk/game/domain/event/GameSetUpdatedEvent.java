@@ -0,0 +1,25 @@
+package balancetalk.game.domain.event;
+
+import balancetalk.game.domain.GameSet;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameSetUpdatedEvent {
+
+    private Long gameSetId;
+    private String title;
+    private String mainTag;
+    private String subTag;
+    private long views;
+
+    // 커밋 이후에는 영속성 컨텍스트가 닫혀 있을 수 있으므로 색인에 필요한 값을 미리 꺼내 둔다.
+    public static GameSetUpdatedEvent from(GameSet gameSet) {
+        return new GameSetUpdatedEvent(gameSet.getId(), gameSet.getTitle(),
+                gameSet.getMainTag() == null ? null : gameSet.getMainTag().getName(),
+                gameSet.getSubTag(), gameSet.getViews());
+    }
+}
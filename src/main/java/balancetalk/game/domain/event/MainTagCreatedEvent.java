@@ -0,0 +1,13 @@
+package balancetalk.game.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MainTagCreatedEvent {
+
+    private String name;
+}
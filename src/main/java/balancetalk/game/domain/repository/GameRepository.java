@@ -2,8 +2,6 @@ package balancetalk.game.domain.repository;
 
 import balancetalk.game.domain.Game;
 import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,62 +9,85 @@ import org.springframework.data.repository.query.Param;
 public interface GameRepository extends JpaRepository<Game, Long> {
 
 
+    /**
+     * 필드마다 따로 검색해 후보를 모은다. 각 필드 검색은 자신의 FULLTEXT 인덱스만 사용하고 관련도 순으로 최대 limit개까지 찾는다.
+     * 같은 게임이 여러 필드에서 찾아질 수 있으므로 중복 제거와 정렬은 호출하는 쪽에서 한다.
+     * 점수는 필드 가중치(제목 3, 서브 태그/선택지 이름 2, 설명 1)를 곱한 관련도이며, 완전 일치는 1000점이다.
+     */
     @Query(value = """
-         SELECT DISTINCT 
-         g.*,
-         gs.views AS gs_views,
-         gs.created_at AS gs_created_at
-         FROM game g
-         JOIN game_set gs ON g.game_set_id = gs.id
-         JOIN game_option go ON go.game_id = g.id
-         WHERE 
-             -- 완전 일치
-             (gs.sub_tag = :query OR gs.title = :query OR g.description = :query 
-              OR go.name = :query OR go.description = :query)
-             OR
-             -- 공백 제거 쿼리
-             (gs.sub_tag = :queryWithoutSpaces OR gs.title = :queryWithoutSpaces 
-              OR g.description = :queryWithoutSpaces OR go.name = :queryWithoutSpaces 
-              OR go.description = :queryWithoutSpaces)
-             OR
-             -- 자연어 검색
-             (MATCH(gs.sub_tag) AGAINST (:query IN NATURAL LANGUAGE MODE)
-              OR MATCH(gs.title) AGAINST (:query IN NATURAL LANGUAGE MODE)
-              OR MATCH(g.description) AGAINST (:query IN NATURAL LANGUAGE MODE)
-              OR MATCH(go.name) AGAINST (:query IN NATURAL LANGUAGE MODE)
-              OR MATCH(go.description) AGAINST (:query IN NATURAL LANGUAGE MODE))
-         ORDER BY
-             -- sort 파라미터가 'views'면 gs.views DESC,
-             CASE WHEN :sort = 'views' THEN gs.views END DESC,
-             -- sort 파라미터가 'createdAt'이면 gs.created_at DESC
-             CASE WHEN :sort = 'createdAt' THEN gs.created_at END DESC
-         """,
-            countQuery = """
-         SELECT COUNT(DISTINCT g.id)
-         FROM game g
-         JOIN game_set gs ON g.game_set_id = gs.id
-         JOIN game_option go ON go.game_id = g.id
-         WHERE 
-             (gs.sub_tag = :query OR gs.title = :query OR g.description = :query 
-              OR go.name = :query OR go.description = :query)
-             OR
-             (gs.sub_tag = :queryWithoutSpaces OR gs.title = :queryWithoutSpaces 
-              OR g.description = :queryWithoutSpaces OR go.name = :queryWithoutSpaces 
-              OR go.description = :queryWithoutSpaces)
-             OR
-             (MATCH(gs.sub_tag) AGAINST (:query IN NATURAL LANGUAGE MODE)
-              OR MATCH(gs.title) AGAINST (:query IN NATURAL LANGUAGE MODE)
-              OR MATCH(g.description) AGAINST (:query IN NATURAL LANGUAGE MODE)
-              OR MATCH(go.name) AGAINST (:query IN NATURAL LANGUAGE MODE)
-              OR MATCH(go.description) AGAINST (:query IN NATURAL LANGUAGE MODE))
+         (SELECT g.id AS gameId, gs.views AS views, gs.created_at AS createdAt,
+                 MATCH(gs.title) AGAINST (:query IN NATURAL LANGUAGE MODE) * 3 AS score
+          FROM game_set gs
+          JOIN game g ON g.game_set_id = gs.id
+          WHERE MATCH(gs.title) AGAINST (:query IN NATURAL LANGUAGE MODE)
+          ORDER BY score DESC
+          LIMIT :limit)
+         UNION ALL
+         (SELECT g.id, gs.views, gs.created_at,
+                 MATCH(gs.sub_tag) AGAINST (:query IN NATURAL LANGUAGE MODE) * 2 AS score
+          FROM game_set gs
+          JOIN game g ON g.game_set_id = gs.id
+          WHERE MATCH(gs.sub_tag) AGAINST (:query IN NATURAL LANGUAGE MODE)
+          ORDER BY score DESC
+          LIMIT :limit)
+         UNION ALL
+         (SELECT g.id, gs.views, gs.created_at,
+                 MATCH(g.description) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score
+          FROM game g
+          JOIN game_set gs ON g.game_set_id = gs.id
+          WHERE MATCH(g.description) AGAINST (:query IN NATURAL LANGUAGE MODE)
+          ORDER BY score DESC
+          LIMIT :limit)
+         UNION ALL
+         (SELECT go.game_id, gs.views, gs.created_at,
+                 MATCH(go.name) AGAINST (:query IN NATURAL LANGUAGE MODE) * 2 AS score
+          FROM game_option go
+          JOIN game g ON go.game_id = g.id
+          JOIN game_set gs ON g.game_set_id = gs.id
+          WHERE MATCH(go.name) AGAINST (:query IN NATURAL LANGUAGE MODE)
+          ORDER BY score DESC
+          LIMIT :limit)
+         UNION ALL
+         (SELECT go.game_id, gs.views, gs.created_at,
+                 MATCH(go.description) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score
+          FROM game_option go
+          JOIN game g ON go.game_id = g.id
+          JOIN game_set gs ON g.game_set_id = gs.id
+          WHERE MATCH(go.description) AGAINST (:query IN NATURAL LANGUAGE MODE)
+          ORDER BY score DESC
+          LIMIT :limit)
+         UNION ALL
+         -- 완전 일치 (원본 검색어, 공백 제거 검색어)
+         (SELECT g.id, gs.views, gs.created_at, 1000
+          FROM game_set gs
+          JOIN game g ON g.game_set_id = gs.id
+          WHERE gs.title IN (:query, :queryWithoutSpaces) OR gs.sub_tag IN (:query, :queryWithoutSpaces)
+          LIMIT :limit)
+         UNION ALL
+         (SELECT g.id, gs.views, gs.created_at, 1000
+          FROM game g
+          JOIN game_set gs ON g.game_set_id = gs.id
+          WHERE g.description IN (:query, :queryWithoutSpaces)
+          LIMIT :limit)
+         UNION ALL
+         (SELECT go.game_id, gs.views, gs.created_at, 1000
+          FROM game_option go
+          JOIN game g ON go.game_id = g.id
+          JOIN game_set gs ON g.game_set_id = gs.id
+          WHERE go.name IN (:query, :queryWithoutSpaces) OR go.description IN (:query, :queryWithoutSpaces)
+          LIMIT :limit)
          """,
             nativeQuery = true)
-    Page<Game> searchAll(
-            @Param("query") String query,
-            @Param("queryWithoutSpaces") String queryWithoutSpaces,
-            @Param("sort") String sort,
-            Pageable pageable
-    );
+    List<GameSearchCandidate> findSearchCandidates(@Param("query") String query,
+                                                   @Param("queryWithoutSpaces") String queryWithoutSpaces,
+                                                   @Param("limit") int limit);
+
+    @Query("SELECT DISTINCT g FROM Game g "
+            + "JOIN FETCH g.gameSet gs "
+            + "JOIN FETCH gs.mainTag "
+            + "LEFT JOIN FETCH g.gameOptions "
+            + "WHERE g.id IN :ids")
+    List<Game> findAllWithGameSetAndOptionsByIdIn(@Param("ids") List<Long> ids);
 
     @Query("""
     SELECT g FROM Game g
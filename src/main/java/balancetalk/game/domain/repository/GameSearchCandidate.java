@@ -0,0 +1,17 @@
+package balancetalk.game.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 밸런스게임 검색 후보. 필드별 검색 쿼리가 찾은 게임과 정렬에 필요한 값, 검색어와의 관련도 점수를 담는다.
+ */
+public interface GameSearchCandidate {
+
+    Long getGameId();
+
+    Long getViews();
+
+    LocalDateTime getCreatedAt();
+
+    Double getScore();
+}
@@ -2,15 +2,31 @@ package balancetalk.game.domain.repository;
 
 import balancetalk.game.domain.GameSet;
 import java.util.List;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface GameSetRepository extends JpaRepository<GameSet, Long>, GameSetRepositoryCustom {
 
-    Page<GameSet> findAllByMemberIdOrderByEditedAtDesc(Long memberId, Pageable pageable);
+    List<GameSet> findAllByMemberIdOrderByEditedAtDesc(Long memberId, Pageable pageable);
+
+    long countByMemberId(Long memberId);
+
+    boolean existsByIdAndMemberId(Long id, Long memberId);
+
+    @Query("SELECT g FROM GameSet g LEFT JOIN FETCH g.mainTag "
+            + "WHERE g.id > :id "
+            + "ORDER BY g.id ASC "
+            + "LIMIT 500")
+    List<GameSet> findTop500WithMainTagByIdGreaterThan(@Param("id") Long id);
+
+    @Query("SELECT g.id AS id, m.name AS mainTag, g.subTag AS subTag FROM GameSet g LEFT JOIN g.mainTag m "
+            + "WHERE g.id > :id "
+            + "ORDER BY g.id ASC "
+            + "LIMIT 1000")
+    List<GameSetTags> findTop1000TagsByIdGreaterThan(@Param("id") Long id);
 
     @Query("SELECT g FROM GameSet g " +
             "WHERE g.mainTag.name = :name " +
@@ -26,4 +42,8 @@ public interface GameSetRepository extends JpaRepository<GameSet, Long>, GameSet
             + "ORDER BY g.views DESC, "
             + "g.createdAt DESC")
     List<GameSet> findPopularGames(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE GameSet g SET g.views = g.views + :views WHERE g.id IN :ids")
+    void increaseViews(@Param("ids") List<Long> ids, @Param("views") long views);
 }
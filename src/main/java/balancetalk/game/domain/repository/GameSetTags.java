@@ -0,0 +1,13 @@
+package balancetalk.game.domain.repository;
+
+/**
+ * 태그별 개수 집계에 필요한 밸런스게임 세트의 메인 태그 이름과 서브 태그
+ */
+public interface GameSetTags {
+
+    Long getId();
+
+    String getMainTag();
+
+    String getSubTag();
+}
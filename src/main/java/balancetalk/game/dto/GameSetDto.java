@@ -91,7 +91,7 @@ public class GameSetDto {
 
         private boolean isBookmarked;
 
-        public static GameSetResponse fromEntity(GameSet gameSet, Member member, List<String> images) {
+        public static GameSetResponse fromEntity(GameSet gameSet, boolean isBookmarked, List<String> images) {
             return GameSetResponse.builder()
                     .writerId(gameSet.getWriterId())
                     .id(gameSet.getId())
@@ -99,7 +99,7 @@ public class GameSetDto {
                     .mainTag(gameSet.getMainTag().getName())
                     .subTag(gameSet.getSubTag())
                     .images(images)
-                    .isBookmarked(member != null && member.hasBookmarkedGameSet(gameSet))
+                    .isBookmarked(isBookmarked)
                     .build();
         }
     }
@@ -150,4 +150,43 @@ public class GameSetDto {
                     .build();
         }
     }
+
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "밸런스 게임 태그별 개수 응답")
+    public static class TagFacetResponse {
+
+        @Schema(description = "전체 밸런스 게임 세트 수", example = "120")
+        private long totalCount;
+
+        @Schema(description = "메인 태그별 개수 (메인 태그 등록 순)")
+        private List<MainTagFacet> mainTags;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "메인 태그별 밸런스 게임 세트 수")
+    public static class MainTagFacet {
+
+        @Schema(description = "메인 태그", example = "사랑")
+        private String name;
+
+        @Schema(description = "밸런스 게임 세트 수", example = "42")
+        private long count;
+
+        @Schema(description = "메인 태그에 속한 서브 태그별 개수 (개수 내림차순)")
+        private List<SubTagFacet> subTags;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "서브 태그별 밸런스 게임 세트 수")
+    public static class SubTagFacet {
+
+        @Schema(description = "서브 태그", example = "커플지옥")
+        private String name;
+
+        @Schema(description = "밸런스 게임 세트 수", example = "7")
+        private long count;
+    }
 }
@@ -1,9 +1,11 @@
 package balancetalk.game.presentation;
 
 import balancetalk.game.application.GameService;
+import balancetalk.game.application.GameSetFacetService;
 import balancetalk.game.dto.GameSetDto.CreateGameSetRequest;
 import balancetalk.game.dto.GameSetDto.GameSetDetailResponse;
 import balancetalk.game.dto.GameSetDto.GameSetResponse;
+import balancetalk.game.dto.GameSetDto.TagFacetResponse;
 import balancetalk.game.dto.GameSetDto.UpdateGameSetRequest;
 import balancetalk.global.utils.AuthPrincipal;
 import balancetalk.member.dto.ApiMember;
@@ -26,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class GameController {
 
     private final GameService gameService;
+    private final GameSetFacetService gameSetFacetService;
 
     @PostMapping
     @Operation(summary = "밸런스 게임 세트 생성", description = "10개 단위의 밸런스 게임을 가지고 있는 게임 세트를 생성합니다.")
@@ -89,4 +92,11 @@ public class GameController {
         Pageable pageable = PageRequest.of(page, size);
         return gameService.findPopularGames(tagName, pageable, guestOrApiMember);
     }
+
+    @GetMapping("/facets")
+    @Operation(summary = "태그별 밸런스 게임 수 조회",
+            description = "필터 바에 표시할 메인 태그별, 서브 태그별 밸런스 게임 세트 수를 리턴합니다.")
+    public TagFacetResponse findTagFacets() {
+        return gameSetFacetService.getFacets();
+    }
 }
@@ -24,9 +24,10 @@ public class SearchGameController {
     public Page<SearchGameResponse> searchTalkPicks(@RequestParam("query") String query,
                                                     @RequestParam(defaultValue = "0") int page,
                                                     @RequestParam(defaultValue = "9", required = false) int size,
-                                                    @RequestParam(defaultValue = "views") String sort) {
+                                                    @RequestParam(defaultValue = "views") String sort,
+                                                    @RequestParam(defaultValue = "false") boolean exactCount) {
 
         Pageable pageable = PageRequest.of(page, size);
-        return searchGameService.search(query, pageable, sort);
+        return searchGameService.search(query, pageable, sort, exactCount);
     }
 }
\ No newline at end of file
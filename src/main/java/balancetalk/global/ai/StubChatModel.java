@@ -0,0 +1,50 @@
+package balancetalk.global.ai;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+/**
+ * 외부 모델을 호출하지 않고 지연과 실패를 흉내 내는 로컬 모델.
+ *
+ * <p>호출마다 평균 latencyMillis(±50%)만큼 기다린 뒤 failureRate 확률로 실패하고, 나머지는 고정된 3줄 요약 JSON을 돌려준다.
+ * 요약 파이프라인의 속도 제한, 서킷 브레이커, 동시성 조절을 비용 없이 확인하는 데 사용한다.
+ */
+public class StubChatModel implements ChatModel {
+
+    private static final String SUMMARY_JSON = """
+            {"firstLine": "요약 첫 번째 줄입니다.", "secondLine": "요약 두 번째 줄입니다.", "thirdLine": "여러분의 선택은?"}
+            """;
+
+    private final long latencyMillis;
+    private final double failureRate;
+
+    public StubChatModel(long latencyMillis, double failureRate) {
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        sleep(latencyMillis / 2 + random.nextLong(latencyMillis + 1));
+        if (random.nextDouble() < failureRate) {
+            throw new IllegalStateException("Simulated chat model failure");
+        }
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(SUMMARY_JSON))));
+    }
+
+    private void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating chat model latency", e);
+        }
+    }
+}
@@ -6,7 +6,12 @@ import lombok.Getter;
 public enum CacheType {
 
     RefreshToken("refreshToken", 604800000, 10000),
-    TempCode("tempCode", 1800, 10000);
+    TempCode("tempCode", 1800, 10000),
+    TalkPickDetail("talkPickDetail", 600, 10000),
+    MemberInteraction("memberInteraction", 30, 10000),
+    TotalCount("totalCount", 60, 10000),
+    SearchResult("searchResult", 300, 10000),
+    TalkPickSummary("talkPickSummary", 86400, 10000);
 
     private String cacheName;
     private int expiredAfterWrite;
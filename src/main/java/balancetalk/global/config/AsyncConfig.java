@@ -3,6 +3,7 @@ package balancetalk.global.config;
 import balancetalk.global.exception.CustomAsyncUncaughtExceptionHandler;
 import java.util.concurrent.Executor;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -13,20 +14,45 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @Configuration
 public class AsyncConfig implements AsyncConfigurer {
 
+    // 작업 종류별 작업자 수는 JobWorker가 제한하므로 작업을 쌓아 두지 않는다. 처리 중인 작업은 종료 전에 마무리한다.
     @Bean
-    public Executor fileMappingTaskExecutor() {
+    public Executor jobWorkerTaskExecutor(@Value("${pick-o.job.worker-threads:16}") int workerThreads) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(4);
-        executor.setThreadNamePrefix("FileMappingTask - ");
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(0);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setThreadNamePrefix("JobWorker - ");
         executor.initialize();
         return executor;
     }
 
     @Bean
-    public Executor talkPickSummaryTaskExecutor() {
+    public Executor searchIndexTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(6);
-        executor.setThreadNamePrefix("TalkPickSummaryTask - ");
+        executor.setCorePoolSize(1);
+        executor.setThreadNamePrefix("SearchIndexTask - ");
+        executor.initialize();
+        return executor;
+    }
+
+    // 임베딩 색인 변경은 순서대로 반영되어야 하므로 스레드 하나로 처리 (시작 시 재색인이 끝난 뒤 쌓인 변경을 반영)
+    @Bean
+    public Executor semanticIndexTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setThreadNamePrefix("SemanticIndexTask - ");
+        executor.initialize();
+        return executor;
+    }
+
+    // 기존 데이터를 새 컬럼에 채우는 작업은 서버 시작 시 한 번 도는 일회성 작업이므로 스레드 하나로 처리
+    @Bean
+    public Executor backfillTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setThreadNamePrefix("BackfillTask - ");
         executor.initialize();
         return executor;
     }
@@ -0,0 +1,28 @@
+package balancetalk.global.config;
+
+import balancetalk.global.search.embedding.EmbeddingProvider;
+import balancetalk.global.search.embedding.HashingEmbeddingProvider;
+import balancetalk.global.search.embedding.SpringAiEmbeddingProvider;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EmbeddingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "pick-o.search.semantic.embedding-provider", havingValue = "hashing",
+            matchIfMissing = true)
+    public EmbeddingProvider hashingEmbeddingProvider(
+            @Value("${pick-o.search.semantic.hashing-dimensions:256}") int dimensions) {
+        return new HashingEmbeddingProvider(dimensions);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "pick-o.search.semantic.embedding-provider", havingValue = "openai")
+    public EmbeddingProvider springAiEmbeddingProvider(EmbeddingModel embeddingModel) {
+        return new SpringAiEmbeddingProvider(embeddingModel);
+    }
+}
@@ -0,0 +1,43 @@
+package balancetalk.global.config;
+
+import static balancetalk.global.job.JobType.TALK_PICK_FILES_CREATED;
+import static balancetalk.global.job.JobType.TALK_PICK_FILES_DELETED;
+import static balancetalk.global.job.JobType.TALK_PICK_FILES_UPDATED;
+import static balancetalk.global.job.JobType.TALK_PICK_SUMMARY;
+
+import balancetalk.global.job.JobHandler;
+import balancetalk.talkpick.application.TalkPickFileService;
+import balancetalk.talkpick.application.TalkPickSummaryPipeline;
+import balancetalk.talkpick.domain.event.TalkPickCreatedEvent;
+import balancetalk.talkpick.domain.event.TalkPickDeletedEvent;
+import balancetalk.talkpick.domain.event.TalkPickUpdatedEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JobConfig {
+
+    @Bean
+    public JobHandler<TalkPickCreatedEvent> talkPickFilesCreatedJobHandler(TalkPickFileService talkPickFileService) {
+        return JobHandler.of(TALK_PICK_FILES_CREATED, TalkPickCreatedEvent.class, event ->
+                talkPickFileService.handleFilesOnTalkPickCreate(event.getFileIds(), event.getTalkPickId()));
+    }
+
+    @Bean
+    public JobHandler<TalkPickUpdatedEvent> talkPickFilesUpdatedJobHandler(TalkPickFileService talkPickFileService) {
+        return JobHandler.of(TALK_PICK_FILES_UPDATED, TalkPickUpdatedEvent.class, event ->
+                talkPickFileService.handleFilesOnTalkPickUpdate(
+                        event.getNewFileIds(), event.getDeleteFileIds(), event.getTalkPickId()));
+    }
+
+    @Bean
+    public JobHandler<TalkPickDeletedEvent> talkPickFilesDeletedJobHandler(TalkPickFileService talkPickFileService) {
+        return JobHandler.of(TALK_PICK_FILES_DELETED, TalkPickDeletedEvent.class, event ->
+                talkPickFileService.handleFilesOnTalkPickDelete(event.getTalkPickId()));
+    }
+
+    @Bean
+    public JobHandler<Long> talkPickSummaryJobHandler(TalkPickSummaryPipeline talkPickSummaryPipeline) {
+        return JobHandler.of(TALK_PICK_SUMMARY, Long.class, talkPickSummaryPipeline::summarize);
+    }
+}
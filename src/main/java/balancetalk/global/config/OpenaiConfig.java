@@ -1,6 +1,9 @@
 package balancetalk.global.config;
 
+import balancetalk.global.ai.StubChatModel;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,7 +11,16 @@ import org.springframework.context.annotation.Configuration;
 public class OpenaiConfig {
 
     @Bean
+    @ConditionalOnProperty(name = "pick-o.summary.chat-model", havingValue = "openai", matchIfMissing = true)
     public ChatClient chatClient(ChatClient.Builder builder) {
         return builder.build();
     }
+
+    // 요약 파이프라인 부하 테스트용. 지연과 실패율을 설정으로 조절한다.
+    @Bean
+    @ConditionalOnProperty(name = "pick-o.summary.chat-model", havingValue = "stub")
+    public ChatClient stubChatClient(@Value("${pick-o.summary.stub.latency-ms:2000}") long latencyMillis,
+                                     @Value("${pick-o.summary.stub.failure-rate:0.1}") double failureRate) {
+        return ChatClient.builder(new StubChatModel(latencyMillis, failureRate)).build();
+    }
 }
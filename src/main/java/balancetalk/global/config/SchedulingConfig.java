@@ -0,0 +1,22 @@
+package balancetalk.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    // 기본 스케줄러는 스레드가 하나라 오래 걸리는 정합성 보정 작업이 작업 큐 폴링과 조회수 반영을 멈추게 하므로 여러 스레드로 실행한다.
+    // 메모리 색인 재구성은 각 서비스가 전용 실행기로 넘기므로 스케줄러 스레드를 오래 잡지 않는다.
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${pick-o.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.setThreadNamePrefix("Scheduler - ");
+        return scheduler;
+    }
+}
@@ -37,6 +37,9 @@ public enum ErrorCode {
     CANNOT_LOGOUT(BAD_REQUEST, "이미 로그아웃 상태입니다."),
     CACHE_VALUE_COOKIE_MISMATCH(BAD_REQUEST, "쿠키에 저장된 토큰 값과 캐시에 저장된 토큰 값이 일치하지 않습니다."),
     INVALID_BALANCE_GAME_SEARCH_SORT(BAD_REQUEST, "올바르지 않은 밸런스게임 검색 정렬 조건입니다."),
+    INVALID_CURSOR(BAD_REQUEST, "올바르지 않은 커서입니다."),
+    INVALID_CURSOR_SIZE(BAD_REQUEST, "커서 조회 크기는 1 이상 100 이하여야 합니다."),
+    INVALID_REPLY_PREVIEW_SIZE(BAD_REQUEST, "답글 미리보기 개수는 0 이상 10 이하여야 합니다."),
 
     // 401
     MISMATCHED_EMAIL_OR_PASSWORD(UNAUTHORIZED, "이메일 또는 비밀번호가 잘못되었습니다."),
@@ -0,0 +1,109 @@
+package balancetalk.global.job;
+
+import static balancetalk.global.job.JobStatus.DEAD;
+import static balancetalk.global.job.JobStatus.READY;
+
+import balancetalk.global.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커밋 이후 처리해야 하는 부수 작업. 원래 변경과 같은 트랜잭션에서 저장하므로 서버가 내려가도 사라지지 않는다.
+ *
+ * <p>작업자는 작업을 가져갈 때 availableAt을 임대 만료 시각으로 미루고 임대 토큰을 남긴다. 처리에 성공하면 행을 지우고,
+ * 실패하면 재시도 시각을 정하며, 처리 도중 서버가 내려가면 임대가 만료된 뒤 다른 작업자가 다시 가져간다.
+ *
+ * <p>dedupKey가 있는 작업은 같은 키로 대기 중이거나 처리 중인 작업이 하나뿐이다. 처리 중에 같은 키로 다시 추가되면
+ * 새 행을 만들지 않고 rerunRequested를 남겨, 처리를 마친 뒤 지우지 않고 한 번 더 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_job_type_status_available_at", columnList = "type, status, available_at"),
+        @Index(name = "uk_job_dedup_key", columnList = "dedup_key", unique = true)})
+public class Job extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private JobType type;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(length = 36)
+    private String leaseToken;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(length = 100)
+    private String dedupKey;
+
+    private boolean rerunRequested;
+
+    public Job(JobType type, String payload, LocalDateTime availableAt) {
+        this.type = type;
+        this.payload = payload;
+        this.status = READY;
+        this.availableAt = availableAt;
+    }
+
+    public void lease(String leaseToken, LocalDateTime leaseUntil) {
+        this.leaseToken = leaseToken;
+        this.availableAt = leaseUntil;
+        this.attempts++;
+    }
+
+    public boolean isLeasedBy(String leaseToken) {
+        return leaseToken.equals(this.leaseToken);
+    }
+
+    public void retryAt(LocalDateTime availableAt, String error) {
+        this.availableAt = availableAt;
+        this.leaseToken = null;
+        this.lastError = truncate(error);
+    }
+
+    public void die(String error) {
+        this.status = DEAD;
+        this.leaseToken = null;
+        // 포기한 작업이 같은 리소스의 새 작업을 막지 않도록 키를 놓는다.
+        this.dedupKey = null;
+        this.rerunRequested = false;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
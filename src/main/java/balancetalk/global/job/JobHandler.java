@@ -0,0 +1,36 @@
+package balancetalk.global.job;
+
+import java.util.function.Consumer;
+
+/**
+ * 한 종류의 작업을 처리한다. 예외를 던지면 재시도한다.
+ *
+ * <p>작업은 최소 한 번 처리되므로(임대가 만료된 뒤 결과를 반영하기 전에 서버가 내려가면 다시 처리된다) 여러 번 처리해도 결과가 같아야 한다.
+ */
+public interface JobHandler<T> {
+
+    JobType type();
+
+    Class<T> payloadType();
+
+    void handle(T payload);
+
+    static <T> JobHandler<T> of(JobType type, Class<T> payloadType, Consumer<T> action) {
+        return new JobHandler<>() {
+            @Override
+            public JobType type() {
+                return type;
+            }
+
+            @Override
+            public Class<T> payloadType() {
+                return payloadType;
+            }
+
+            @Override
+            public void handle(T payload) {
+                action.accept(payload);
+            }
+        };
+    }
+}
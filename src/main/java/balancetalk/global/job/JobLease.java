@@ -0,0 +1,11 @@
+package balancetalk.global.job;
+
+/**
+ * 작업자가 임대한 작업. 처리 결과는 임대 토큰이 일치할 때만 반영한다.
+ */
+public record JobLease(Long id, JobType type, String payload, int attempts, String leaseToken) {
+
+    static JobLease from(Job job) {
+        return new JobLease(job.getId(), job.getType(), job.getPayload(), job.getAttempts(), job.getLeaseToken());
+    }
+}
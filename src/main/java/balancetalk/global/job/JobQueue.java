@@ -0,0 +1,127 @@
+package balancetalk.global.job;
+
+import static balancetalk.global.job.JobStatus.READY;
+
+import balancetalk.global.resilience.ExponentialBackoff;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB에 저장하는 작업 큐. 작업 추가는 호출한 쪽의 트랜잭션에 참여하므로 원래 변경이 커밋될 때만 작업도 남는다.
+ */
+@Slf4j
+@Service
+public class JobQueue {
+
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final ExponentialBackoff backoff;
+    private final int maxAttempts;
+    private final Duration leaseDuration;
+
+    public JobQueue(JobRepository jobRepository,
+                    ObjectMapper objectMapper,
+                    @Value("${pick-o.job.retry.initial-delay-ms:1000}") long initialRetryDelayMillis,
+                    @Value("${pick-o.job.retry.max-delay-ms:600000}") long maxRetryDelayMillis,
+                    @Value("${pick-o.job.max-attempts:10}") int maxAttempts,
+                    @Value("${pick-o.job.lease-ms:300000}") long leaseMillis) {
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.backoff = new ExponentialBackoff(initialRetryDelayMillis, maxRetryDelayMillis);
+        this.maxAttempts = maxAttempts;
+        this.leaseDuration = Duration.ofMillis(leaseMillis);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(JobType type, Object payload) {
+        jobRepository.save(new Job(type, writePayload(payload), LocalDateTime.now()));
+    }
+
+    /**
+     * 같은 리소스에 대해 대기 중이거나 처리 중인 작업이 하나만 있도록 추가한다.
+     * 처리 중인 작업이 있으면 새 작업을 만들지 않고, 그 작업이 끝난 뒤 한 번 더 처리하게 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueOnce(JobType type, Long resourceId, Object payload) {
+        jobRepository.insertOrRequestRerun(type.name(), writePayload(payload), dedupKeyOf(type, resourceId),
+                LocalDateTime.now());
+    }
+
+    /**
+     * 처리 가능한 작업을 최대 limit개 임대한다. 임대한 작업은 임대가 끝날 때까지 다른 작업자가 가져가지 않는다.
+     */
+    @Transactional
+    public List<JobLease> lease(JobType type, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(leaseDuration);
+        return jobRepository.findLeasable(type, READY, now, PageRequest.of(0, limit)).stream()
+                .map(job -> {
+                    job.lease(UUID.randomUUID().toString(), leaseUntil);
+                    return JobLease.from(job);
+                })
+                .toList();
+    }
+
+    /**
+     * 처리에 성공한 작업을 지운다. 임대가 만료되어 다른 작업자가 가져간 작업이면 지우지 않는다.
+     * 처리 중에 같은 리소스로 다시 추가된 작업은 지우지 않고 바로 다시 처리 대기 상태로 둔다.
+     */
+    @Transactional
+    public boolean complete(JobLease lease) {
+        if (jobRepository.deleteByIdAndLeaseToken(lease.id(), lease.leaseToken()) == 1) {
+            return true;
+        }
+        return jobRepository.requeueRerunRequested(lease.id(), lease.leaseToken(), LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 지수 백오프로 재시도 시각을 정하고, 최대 시도 횟수를 넘기면 더 이상 처리하지 않는다.
+     */
+    @Transactional
+    public void fail(JobLease lease, Exception cause) {
+        jobRepository.findById(lease.id())
+                .filter(job -> job.isLeasedBy(lease.leaseToken()))
+                .ifPresent(job -> {
+                    String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+                    if (job.getAttempts() >= maxAttempts) {
+                        log.error("Job {} ({}) is dead after {} attempts: {}",
+                                job.getId(), job.getType(), job.getAttempts(), error);
+                        job.die(error);
+                        return;
+                    }
+                    job.retryAt(LocalDateTime.now().plus(backoff.delayOf(job.getAttempts())), error);
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public long countReady(JobType type) {
+        return jobRepository.countByTypeAndStatus(type, READY);
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobStats> stats(JobStatus status) {
+        return jobRepository.findStats(status, LocalDateTime.now());
+    }
+
+    private String dedupKeyOf(JobType type, Long resourceId) {
+        return type.name() + ":" + resourceId;
+    }
+
+    private String writePayload(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Fail to serialize job payload", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package balancetalk.global.job;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    /**
+     * 처리 가능한 작업을 잠그며 조회한다. 다른 작업자가 잠근 행은 기다리지 않고 건너뛰므로(SKIP LOCKED) 여러 서버가 동시에 가져가도 겹치지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM Job j "
+            + "WHERE j.type = :type AND j.status = :status AND j.availableAt <= :now "
+            + "ORDER BY j.availableAt ASC, j.id ASC")
+    List<Job> findLeasable(@Param("type") JobType type,
+                           @Param("status") JobStatus status,
+                           @Param("now") LocalDateTime now,
+                           Pageable pageable);
+
+    /**
+     * 같은 dedupKey의 작업이 없으면 추가하고, 있으면 새로 만들지 않는다.
+     * 이미 있는 작업이 처리 중이면 처리 전에 읽은 내용이 오래되었을 수 있으므로 끝난 뒤 다시 처리하도록 표시하고,
+     * 재시도를 기다리는 중이면 바로 처리하도록 앞당긴다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job (type, payload, status, attempts, available_at, dedup_key, rerun_requested, "
+            + "created_at, last_modified_at) "
+            + "VALUES (:type, :payload, 'READY', 0, :now, :dedupKey, false, :now, :now) "
+            + "ON DUPLICATE KEY UPDATE rerun_requested = rerun_requested OR lease_token IS NOT NULL, "
+            + "available_at = IF(lease_token IS NULL, LEAST(available_at, :now), available_at)",
+            nativeQuery = true)
+    void insertOrRequestRerun(@Param("type") String type,
+                              @Param("payload") String payload,
+                              @Param("dedupKey") String dedupKey,
+                              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM Job j WHERE j.id = :id AND j.leaseToken = :leaseToken AND j.rerunRequested = false")
+    int deleteByIdAndLeaseToken(@Param("id") Long id, @Param("leaseToken") String leaseToken);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.leaseToken = NULL, j.availableAt = :now, j.attempts = 0, j.rerunRequested = false "
+            + "WHERE j.id = :id AND j.leaseToken = :leaseToken AND j.rerunRequested = true")
+    int requeueRerunRequested(@Param("id") Long id, @Param("leaseToken") String leaseToken,
+                              @Param("now") LocalDateTime now);
+
+    long countByTypeAndStatus(JobType type, JobStatus status);
+
+    @Query("SELECT j.type AS type, COUNT(j) AS depth, "
+            + "MIN(CASE WHEN j.availableAt <= :now THEN j.availableAt ELSE NULL END) AS oldestDueAt "
+            + "FROM Job j WHERE j.status = :status GROUP BY j.type")
+    List<JobStats> findStats(@Param("status") JobStatus status, @Param("now") LocalDateTime now);
+}
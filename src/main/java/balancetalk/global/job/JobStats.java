@@ -0,0 +1,13 @@
+package balancetalk.global.job;
+
+import java.time.LocalDateTime;
+
+public interface JobStats {
+
+    JobType getType();
+
+    long getDepth();
+
+    // 처리 가능한 작업 중 가장 오래 기다린 작업의 처리 가능 시각. 없으면 null
+    LocalDateTime getOldestDueAt();
+}
@@ -0,0 +1,8 @@
+package balancetalk.global.job;
+
+public enum JobStatus {
+    // 처리 대기 중이거나 처리 중 (처리 중이면 availableAt이 임대 만료 시각)
+    READY,
+    // 최대 시도 횟수를 넘겨 더 이상 처리하지 않음
+    DEAD
+}
@@ -0,0 +1,26 @@
+package balancetalk.global.job;
+
+import lombok.Getter;
+
+/**
+ * 작업 종류와 서버 한 대에서 같은 종류의 작업을 동시에 처리하는 기본 작업자 수.
+ * 작업자 수는 pick-o.job.workers.{key} 설정으로 바꿀 수 있다.
+ */
+@Getter
+public enum JobType {
+
+    TALK_PICK_FILES_CREATED(2),
+    TALK_PICK_FILES_UPDATED(2),
+    TALK_PICK_FILES_DELETED(2),
+    TALK_PICK_SUMMARY(8);
+
+    private final int defaultWorkers;
+
+    JobType(int defaultWorkers) {
+        this.defaultWorkers = defaultWorkers;
+    }
+
+    public String getKey() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
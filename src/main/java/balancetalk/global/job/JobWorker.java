@@ -0,0 +1,175 @@
+package balancetalk.global.job;
+
+import static balancetalk.global.job.JobStatus.DEAD;
+import static balancetalk.global.job.JobStatus.READY;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 종류별 작업자 풀. 주기적으로 비어 있는 작업자 수만큼 작업을 임대해 처리한다.
+ *
+ * <p>작업자 수는 종류별로 pick-o.job.workers.{key} 설정으로 정하며, 처리량은 작업자 수를 늘리거나 서버를 늘려 키운다.
+ * 여러 서버가 같은 테이블에서 임대해도 SKIP LOCKED와 임대 토큰으로 같은 작업을 동시에 처리하지 않는다.
+ */
+@Slf4j
+@Component
+public class JobWorker {
+
+    private final JobQueue jobQueue;
+    private final Executor executor;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Map<JobType, JobHandler<?>> handlers = new EnumMap<>(JobType.class);
+    private final Map<JobType, Semaphore> workers = new EnumMap<>(JobType.class);
+    private final Map<JobType, Counter> completedCounters = new EnumMap<>(JobType.class);
+    private final Map<JobType, Counter> failedCounters = new EnumMap<>(JobType.class);
+    private final Map<JobType, Timer> timers = new EnumMap<>(JobType.class);
+    private final Map<JobType, AtomicLong> depths = new EnumMap<>(JobType.class);
+    private final Map<JobType, AtomicLong> lagSeconds = new EnumMap<>(JobType.class);
+    private final Map<JobType, AtomicLong> deadCounts = new EnumMap<>(JobType.class);
+
+    public JobWorker(JobQueue jobQueue,
+                     List<JobHandler<?>> jobHandlers,
+                     @Qualifier("jobWorkerTaskExecutor") Executor executor,
+                     ObjectMapper objectMapper,
+                     Environment environment,
+                     MeterRegistry meterRegistry,
+                     @Value("${pick-o.job.batch-size:50}") int batchSize) {
+        this.jobQueue = jobQueue;
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        for (JobHandler<?> handler : jobHandlers) {
+            JobType type = handler.type();
+            if (handlers.put(type, handler) != null) {
+                throw new IllegalStateException("Duplicated job handler for " + type);
+            }
+            int workerCount = environment.getProperty(
+                    "pick-o.job.workers." + type.getKey(), Integer.class, type.getDefaultWorkers());
+            workers.put(type, new Semaphore(workerCount));
+            registerMeters(type, meterRegistry);
+        }
+    }
+
+    private void registerMeters(JobType type, MeterRegistry meterRegistry) {
+        String tag = type.getKey();
+        completedCounters.put(type, Counter.builder("pick-o.job.completed")
+                .tag("type", tag)
+                .description("처리에 성공한 작업 수")
+                .register(meterRegistry));
+        failedCounters.put(type, Counter.builder("pick-o.job.failed")
+                .tag("type", tag)
+                .description("처리에 실패해 재시도하거나 포기한 작업 수")
+                .register(meterRegistry));
+        timers.put(type, Timer.builder("pick-o.job.duration")
+                .tag("type", tag)
+                .description("작업 하나를 처리하는 데 걸린 시간")
+                .register(meterRegistry));
+        depths.put(type, new AtomicLong());
+        lagSeconds.put(type, new AtomicLong());
+        deadCounts.put(type, new AtomicLong());
+        Gauge.builder("pick-o.job.depth", depths.get(type), AtomicLong::get)
+                .tag("type", tag)
+                .description("처리를 기다리거나 처리 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("pick-o.job.lag", lagSeconds.get(type), AtomicLong::get)
+                .tag("type", tag)
+                .description("처리 가능한 작업 중 가장 오래 기다린 작업의 대기 시간(초)")
+                .register(meterRegistry);
+        Gauge.builder("pick-o.job.dead", deadCounts.get(type), AtomicLong::get)
+                .tag("type", tag)
+                .description("최대 시도 횟수를 넘겨 처리하지 않는 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${pick-o.job.poll-interval-ms:1000}")
+    public void poll() {
+        handlers.keySet().forEach(this::poll);
+    }
+
+    private void poll(JobType type) {
+        Semaphore available = workers.get(type);
+        int limit = Math.min(available.availablePermits(), batchSize);
+        if (limit == 0) {
+            return;
+        }
+
+        for (JobLease lease : jobQueue.lease(type, limit)) {
+            // 작업자 자리는 이 스레드에서만 차지하므로 임대한 만큼은 항상 남아 있다.
+            available.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(lease);
+                    } finally {
+                        available.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                available.release();
+                log.warn("Job worker pool is full. Job {} will be retried after its lease expires", lease.id());
+            }
+        }
+    }
+
+    private void process(JobLease lease) {
+        Timer.Sample sample = Timer.start();
+        try {
+            handle(handlers.get(lease.type()), lease.payload());
+            jobQueue.complete(lease);
+            completedCounters.get(lease.type()).increment();
+        } catch (Exception e) {
+            log.warn("Fail to process job {} ({}), attempt {}: {}",
+                    lease.id(), lease.type(), lease.attempts(), e.getMessage());
+            failedCounters.get(lease.type()).increment();
+            jobQueue.fail(lease, e);
+        } finally {
+            sample.stop(timers.get(lease.type()));
+        }
+    }
+
+    private <T> void handle(JobHandler<T> handler, String payload) throws Exception {
+        handler.handle(objectMapper.readValue(payload, handler.payloadType()));
+    }
+
+    @Scheduled(fixedDelayString = "${pick-o.job.stats-interval-ms:15000}")
+    public void refreshStats() {
+        LocalDateTime now = LocalDateTime.now();
+        depths.values().forEach(depth -> depth.set(0));
+        lagSeconds.values().forEach(lag -> lag.set(0));
+        deadCounts.values().forEach(dead -> dead.set(0));
+        for (JobStats stats : jobQueue.stats(READY)) {
+            if (!depths.containsKey(stats.getType())) {
+                continue;
+            }
+            depths.get(stats.getType()).set(stats.getDepth());
+            if (stats.getOldestDueAt() != null) {
+                lagSeconds.get(stats.getType()).set(Duration.between(stats.getOldestDueAt(), now).toSeconds());
+            }
+        }
+        for (JobStats stats : jobQueue.stats(DEAD)) {
+            if (deadCounts.containsKey(stats.getType())) {
+                deadCounts.get(stats.getType()).set(stats.getDepth());
+            }
+        }
+    }
+}
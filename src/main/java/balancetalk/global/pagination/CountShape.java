@@ -0,0 +1,15 @@
+package balancetalk.global.pagination;
+
+/**
+ * 전체 개수를 캐시하는 목록 조회의 종류. 같은 종류라도 필터(검색어, 회원 ID 등)가 다르면 별도로 캐시된다.
+ */
+public enum CountShape {
+
+    TALK_PICKS,
+    TALK_PICKS_OF_MEMBER,
+    TALK_PICK_BOOKMARKS_OF_MEMBER,
+    TALK_PICK_VOTES_OF_MEMBER,
+    TALK_PICK_COMMENTS_OF_MEMBER,
+    GAME_SETS_OF_MEMBER,
+    GAME_BOOKMARKS_OF_MEMBER
+}
@@ -0,0 +1,75 @@
+package balancetalk.global.pagination;
+
+import static balancetalk.global.exception.ErrorCode.INVALID_CURSOR;
+import static balancetalk.global.exception.ErrorCode.INVALID_CURSOR_SIZE;
+
+import balancetalk.global.exception.BalanceTalkException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이전 페이지의 마지막 행의 정렬 키 값들을 담은 커서
+ * 클라이언트에는 내부 구조를 알 수 없는 토큰 형태로만 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String DELIMITER = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final List<String> values;
+
+    public static Cursor of(Object... values) {
+        return new Cursor(Arrays.stream(values)
+                .map(String::valueOf)
+                .toList());
+    }
+
+    /**
+     * @return 토큰이 비어 있으면 첫 페이지를 의미하는 null
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            return new Cursor(List.of(decoded.split(Pattern.quote(DELIMITER), -1)));
+        } catch (IllegalArgumentException e) {
+            throw new BalanceTalkException(INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 한 번에 조회할 행 수가 1 이상 MAX_SIZE 이하인지 확인한다.
+     * 0이면 다음 커서를 만들 행이 없고, 상한이 없으면 커서 조회로 나눈 의미가 없어진다.
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BalanceTalkException(INVALID_CURSOR_SIZE);
+        }
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString(String.join(DELIMITER, values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public String get(int index) {
+        return values.get(index);
+    }
+}
@@ -0,0 +1,37 @@
+package balancetalk.global.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Schema(description = "커서 기반 목록 조회 응답")
+@Data
+@AllArgsConstructor
+public class CursorSliceResponse<T> {
+
+    @Schema(description = "조회 결과")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 조회 시 전달할 커서, 다음 페이지가 없으면 null", example = "MTUyfDIwMjQtMDgtMDRUMTA6MDA6MDB8MTc")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    /**
+     * @param rows 요청한 크기보다 1개 더 조회한 결과, 초과분이 있으면 다음 페이지가 존재한다.
+     * @param cursorOf 행에서 다음 페이지 커서를 만드는 함수
+     */
+    public static <T> CursorSliceResponse<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorSliceResponse<>(content, nextCursor, hasNext);
+    }
+
+    public <R> CursorSliceResponse<R> map(Function<T, R> mapper) {
+        return new CursorSliceResponse<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,82 @@
+package balancetalk.global.pagination;
+
+import static balancetalk.global.caffeine.CacheType.TotalCount;
+
+import balancetalk.global.utils.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * 페이지 목록의 전체 개수를 (조회 종류, 필터) 단위로 짧게 캐시한다.
+ * 생성/삭제 시에는 캐시된 값을 증감시키고, 정확한 값이 필요할 때만 COUNT 쿼리를 다시 실행한다.
+ */
+@Service
+public class TotalCountService {
+
+    private final Cache<Object, Object> cache;
+
+    public TotalCountService(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cache = Optional.ofNullable((CaffeineCache) cacheManager.getCache(TotalCount.getCacheName()))
+                .map(CaffeineCache::getNativeCache)
+                .orElseThrow(() -> new IllegalStateException("캐시가 존재하지 않습니다."));
+        Gauge.builder("pick-o.total-count.cache.hit-ratio", cache, c -> c.stats().hitRate())
+                .description("목록 전체 개수 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회한 목록과 캐시된 전체 개수로 페이지를 만든다.
+     * 첫 페이지가 다 차지 않았거나 마지막 페이지인 경우처럼 목록만으로 전체 개수를 알 수 있으면 개수를 구하지 않는다.
+     */
+    public <T> Page<T> getPage(List<T> content, Pageable pageable, CountShape shape, Object filter,
+                               boolean exact, LongSupplier counter) {
+        return PageableExecutionUtils.getPage(content, pageable, () -> getTotal(shape, filter, exact, counter));
+    }
+
+    public long getTotal(CountShape shape, Object filter, boolean exact, LongSupplier counter) {
+        CountKey key = new CountKey(shape, filter);
+        if (exact) {
+            long total = counter.getAsLong();
+            cache.put(key, total);
+            return total;
+        }
+        return (long) cache.get(key, k -> counter.getAsLong());
+    }
+
+    /**
+     * 커밋 이후 캐시된 전체 개수를 1 증가시킨다. 캐시되지 않은 경우 다음 조회 때 다시 센다.
+     */
+    public void increase(CountShape shape, Object filter) {
+        changeAfterCommit(new CountKey(shape, filter), 1);
+    }
+
+    public void decrease(CountShape shape, Object filter) {
+        changeAfterCommit(new CountKey(shape, filter), -1);
+    }
+
+    /**
+     * 증감만으로 맞출 수 없는 변경이 생긴 경우 커밋 이후 캐시된 전체 개수를 버린다.
+     */
+    public void evict(CountShape shape, Object filter) {
+        CountKey key = new CountKey(shape, filter);
+        TransactionUtils.runAfterCommit(() -> cache.invalidate(key));
+    }
+
+    private void changeAfterCommit(CountKey key, long delta) {
+        TransactionUtils.runAfterCommit(() -> cache.asMap()
+                .computeIfPresent(key, (k, total) -> Math.max(0L, (long) total + delta)));
+    }
+
+    private record CountKey(CountShape shape, Object filter) {
+    }
+}
@@ -0,0 +1,67 @@
+package balancetalk.global.resilience;
+
+/**
+ * 응답 시간과 실패에 따라 동시 호출 수 상한을 조절한다. (AIMD)
+ *
+ * <p>응답 시간이 목표 이내로 성공하면 상한을 1/상한씩 올려 상한만큼 성공할 때마다 1이 늘고,
+ * 목표보다 느리면 조금(10%), 실패하면 절반으로 줄인다. 외부 서비스가 느려지기 시작하면 동시 호출을 줄여
+ * 요청이 쌓이는 것을 막고, 회복되면 천천히 다시 늘린다.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SLOW_DECREASE_RATIO = 0.9;
+    private static final double FAILURE_DECREASE_RATIO = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimit(int minLimit, int maxLimit, int initialLimit, long targetLatencyNanos) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 동시 호출 수가 상한보다 작아질 때까지 기다린 뒤 자리를 차지한다.
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= getLimit()) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    public synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    public synchronized void onSuccess(long latencyNanos) {
+        if (latencyNanos <= targetLatencyNanos) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        } else {
+            limit = Math.max(minLimit, limit * SLOW_DECREASE_RATIO);
+        }
+        notifyAll();
+    }
+
+    public synchronized void onFailure() {
+        limit = Math.max(minLimit, limit * FAILURE_DECREASE_RATIO);
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
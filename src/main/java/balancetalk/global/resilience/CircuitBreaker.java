@@ -0,0 +1,129 @@
+package balancetalk.global.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 실패율 기반 서킷 브레이커.
+ *
+ * <p>최근 windowSize번의 호출 중 minimumCalls번 이상 호출했고 실패율이 failureRateThreshold 이상이면 열린다.
+ * 열려 있는 동안은 호출을 바로 거절하고, openDurationMillis가 지나면 반쯤 열린 상태가 되어 한 번만 시험 호출을 허용한다.
+ * 시험 호출이 성공하면 닫고, 실패하면 다시 연다.
+ *
+ * <p>tryAcquire()로 허용받은 호출은 결과에 따라 onSuccess(), onFailure(), onIgnored() 중 하나를 반드시 호출해야 한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationMillis;
+    private final LongSupplier clock;
+
+    // 최근 호출 결과를 담는 원형 버퍼. true는 실패
+    private final boolean[] outcomes;
+    private int position;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(double failureRateThreshold, int minimumCalls, int windowSize, long openDurationMillis) {
+        this(failureRateThreshold, minimumCalls, windowSize, openDurationMillis, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(double failureRateThreshold, int minimumCalls, int windowSize, long openDurationMillis,
+                          LongSupplier clock) {
+        if (minimumCalls < 1 || windowSize < minimumCalls) {
+            throw new IllegalArgumentException("window size must be greater than or equal to minimum calls");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openDurationMillis = openDurationMillis;
+        this.clock = clock;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * @return 호출해도 되면 true, 열려 있어 거절해야 하면 false
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+        }
+        if (probing) {
+            return false;
+        }
+        probing = true;
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (calls >= minimumCalls && (double) failures / calls >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 외부 호출 전에 끝나 상태 판단에 쓸 수 없는 호출. 시험 호출이었다면 다음 시험 호출을 허용한다.
+     */
+    public synchronized void onIgnored() {
+        probing = false;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (calls == outcomes.length) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        probing = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probing = false;
+        position = 0;
+        calls = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,35 @@
+package balancetalk.global.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시도할 때마다 두 배씩 늘어나는 재시도 간격.
+ *
+ * <p>같은 시각에 실패한 작업들이 다음에도 함께 몰리지 않도록 간격의 절반은 무작위로 정한다.
+ */
+public class ExponentialBackoff {
+
+    private static final int MAX_SHIFT = 30;
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+
+    public ExponentialBackoff(long initialDelayMillis, long maxDelayMillis) {
+        if (initialDelayMillis < 1 || maxDelayMillis < initialDelayMillis) {
+            throw new IllegalArgumentException("delays must satisfy 1 <= initial <= max");
+        }
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * @param attempt 지금까지 실패한 횟수 (1부터)
+     */
+    public Duration delayOf(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), MAX_SHIFT);
+        long delay = Math.min(maxDelayMillis, initialDelayMillis << shift);
+        long half = delay / 2;
+        return Duration.ofMillis(delay - half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+}
@@ -0,0 +1,64 @@
+package balancetalk.global.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 속도 제한기.
+ *
+ * <p>초당 refillPerSecond개씩 토큰이 차고 최대 capacity개까지 쌓인다. 쌓인 만큼은 한 번에 보낼 수 있으므로 짧은 몰림은 흡수하고,
+ * 길게 이어지는 몰림은 채워지는 속도로 평탄하게 만든다. 토큰은 요청 시점에 지난 시간만큼 계산해 채운다.
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    public TokenBucket(int capacity, double refillPerSecond, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity must be positive and refill rate must be greater than 0");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰을 하나 꺼낸다.
+     *
+     * @return 꺼냈으면 0, 토큰이 없으면 다음 토큰이 찰 때까지 남은 나노초
+     */
+    public synchronized long tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0L;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
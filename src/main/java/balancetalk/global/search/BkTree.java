@@ -0,0 +1,126 @@
+package balancetalk.global.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레벤슈타인 거리 기반 BK-트리.
+ *
+ * <p>자식 노드를 부모와의 거리별로 나눠 두면 삼각 부등식에 의해 [d - maxDistance, d + maxDistance] 거리의 자식만 내려가면 되므로,
+ * 전체 단어와 거리를 계산하지 않고 가까운 단어를 찾을 수 있다. 같은 키를 다시 추가하면 무시한다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 한다.
+ */
+public class BkTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * @return 새로 추가했으면 true, 같은 키가 이미 있으면 false
+     */
+    public boolean add(String key, T value) {
+        if (root == null) {
+            root = new Node<>(key, value);
+            size++;
+            return true;
+        }
+
+        Node<T> node = root;
+        while (true) {
+            int distance = distance(node.key, key, Integer.MAX_VALUE);
+            if (distance == 0) {
+                return false;
+            }
+            Node<T> child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node<>(key, value));
+                node.maxChildDistance = Math.max(node.maxChildDistance, distance);
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * key와 거리가 maxDistance 이하인 값을 모두 찾는다. 순서는 보장하지 않는다.
+     */
+    public List<Match<T>> search(String key, int maxDistance) {
+        List<Match<T>> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node<T> node = stack.pop();
+            // 거리가 (가장 먼 자식 거리 + maxDistance)를 넘으면 일치하지 않고 내려갈 자식도 없으므로, 그 이상은 계산하지 않는다.
+            int distance = distance(node.key, key, node.maxChildDistance + maxDistance);
+            if (distance <= maxDistance) {
+                matches.add(new Match<>(node.value, distance));
+            }
+            for (Map.Entry<Integer, Node<T>> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    stack.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 두 문자열의 레벤슈타인 거리. limit을 넘는 것이 확실해지면 계산을 멈추고 limit + 1을 돌려준다.
+     */
+    static int distance(String source, String target, int limit) {
+        if (Math.abs(source.length() - target.length()) > limit) {
+            return limit + 1;
+        }
+
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[target.length()];
+    }
+
+    private static class Node<T> {
+
+        private final String key;
+        private final T value;
+        private final Map<Integer, Node<T>> children = new HashMap<>(4);
+        private int maxChildDistance;
+
+        private Node(String key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    public record Match<T>(T value, int distance) {
+    }
+}
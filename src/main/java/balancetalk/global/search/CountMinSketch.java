@@ -0,0 +1,55 @@
+package balancetalk.global.search;
+
+/**
+ * 문자열별 등장 횟수를 고정 크기 메모리로 근사하는 Count-Min Sketch.
+ *
+ * <p>depth개의 해시 함수로 각 행의 한 칸씩을 증가시키고, 조회 시 그중 최솟값을 돌려준다. 충돌 때문에 실제보다 크게 셀 수는 있어도
+ * 작게 세지는 않는다. 오차는 전체 횟수 / width 정도이며 depth가 클수록 그 오차를 넘을 확률이 줄어든다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 한다.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[][] counts;
+
+    public CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counts = new long[depth][width];
+    }
+
+    /**
+     * 등장 횟수를 더하고, 더한 뒤의 추정 횟수를 돌려준다.
+     */
+    public long add(String item, long count) {
+        int hash1 = mix(item.hashCode());
+        int hash2 = mix(hash1 ^ 0x5bd1_e995);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = Math.floorMod(hash1 + row * hash2, width);
+            counts[row][column] += count;
+            estimate = Math.min(estimate, counts[row][column]);
+        }
+        return estimate;
+    }
+
+    public long estimate(String item) {
+        int hash1 = mix(item.hashCode());
+        int hash2 = mix(hash1 ^ 0x5bd1_e995);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[row][Math.floorMod(hash1 + row * hash2, width)]);
+        }
+        return estimate;
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85eb_ca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2_ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
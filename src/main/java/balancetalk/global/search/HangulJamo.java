@@ -0,0 +1,50 @@
+package balancetalk.global.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한글 음절을 자모로 분해한다.
+ *
+ * <p>오타 교정은 자모 단위 편집 거리로 비교해야 "짜장먄"과 "짜장면"처럼 모음 하나만 틀린 경우를 음절 전체가 다른 경우와 구분할 수 있다.
+ * 겹모음(ㅘ)과 겹받침(ㄺ)은 키보드로 입력하는 순서대로 나눠("ㅗㅏ", "ㄹㄱ") 일부만 틀린 경우도 거리 1이 되게 한다.
+ * 한글 음절이 아닌 문자는 그대로 둔다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HangulJamo {
+
+    private static final char SYLLABLE_START = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    public static String decompose(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < SYLLABLE_START || c > SYLLABLE_END) {
+                jamo.append(c);
+                continue;
+            }
+            int index = c - SYLLABLE_START;
+            jamo.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                    .append(JUNGSEONG[index % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT])
+                    .append(JONGSEONG[index % JONGSEONG_COUNT]);
+        }
+        return jamo.toString();
+    }
+}
@@ -0,0 +1,434 @@
+package balancetalk.global.search;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 코사인 유사도 기반 근사 최근접 이웃(ANN) 검색용 HNSW 그래프.
+ *
+ * <p>벡터는 길이 1로 정규화해 float32로 힙 밖(direct buffer)에 연속으로 저장한다. 수십만 개의 벡터를 객체 배열로 두면
+ * GC가 매번 훑어야 하지만, direct buffer는 GC 대상이 아니고 내적 계산 시 메모리를 순서대로 읽는다.
+ * 그래프 간선은 슬롯 번호(int) 배열로 힙에 둔다.
+ *
+ * <p>삭제는 표시만 하고(검색 결과에서 제외) 그래프 탐색에는 계속 사용한다. 삭제된 슬롯이 많아지면 {@link #compact()}로
+ * 살아 있는 벡터만 담은 새 그래프를 만든다. 같은 ID를 다시 추가하면 기존 슬롯을 삭제 표시하고 새 슬롯에 넣는다.
+ */
+public class HnswIndex {
+
+    private static final int DEFAULT_M = 16;
+    private static final int DEFAULT_EF_CONSTRUCTION = 100;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_ENTRY = -1;
+    private static final ThreadLocal<float[]> SCRATCH = ThreadLocal.withInitial(() -> new float[0]);
+
+    private final int dimensions;
+    private final int m;
+    private final int maxNeighborsAtLayer0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FloatBuffer vectors;
+    private long[] ids;
+    private int[][][] neighbors;
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private int slotCount;
+    private int entryPoint = NO_ENTRY;
+    private int maxLevel = -1;
+
+    public HnswIndex(int dimensions) {
+        this(dimensions, DEFAULT_M, DEFAULT_EF_CONSTRUCTION, 42L);
+    }
+
+    public HnswIndex(int dimensions, int m, int efConstruction, long seed) {
+        this.dimensions = dimensions;
+        this.m = m;
+        this.maxNeighborsAtLayer0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new Random(seed);
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * 살아 있는(삭제되지 않은) 벡터 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 슬롯 중 삭제 표시된 슬롯의 비율
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return slotCount == 0 ? 0 : (double) deleted.cardinality() / slotCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return slotsById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 벡터의 복사본. 없으면 null
+     */
+    public float[] vectorOf(long id) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot == null) {
+                return null;
+            }
+            float[] vector = new float[dimensions];
+            vectors.get(slot * dimensions, vector);
+            return vector;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(long id, float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다: " + vector.length);
+        }
+        float[] normalized = normalize(vector);
+        if (normalized == null) {
+            remove(id);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeSlot(id);
+            insert(id, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * query와 코사인 유사도가 높은 순으로 최대 k개를 찾는다. ef가 클수록 정확하지만 느리다.
+     *
+     * @param excludeId 결과에서 뺄 ID (유사 글 찾기에서 자기 자신). 없으면 null
+     */
+    public List<Neighbor> search(float[] query, int k, int ef, Long excludeId) {
+        float[] normalized = normalize(query);
+        if (normalized == null || k <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint == NO_ENTRY) {
+                return List.of();
+            }
+            int current = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                current = greedyClosest(normalized, current, level);
+            }
+            // 삭제/제외 슬롯이 결과 자리를 차지할 수 있으므로 그만큼 넉넉히 찾는다.
+            int candidates = Math.max(ef, k) + (excludeId == null ? 0 : 1);
+            List<Scored> found = searchLayer(normalized, List.of(current), candidates, 0);
+
+            List<Neighbor> result = new ArrayList<>(k);
+            for (Scored scored : found) {
+                long id = ids[scored.slot()];
+                if (deleted.get(scored.slot()) || (excludeId != null && excludeId == id)) {
+                    continue;
+                }
+                result.add(new Neighbor(id, 1 - scored.distance()));
+                if (result.size() == k) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 벡터만으로 새 그래프를 만든다. 원래 그래프는 바뀌지 않는다.
+     */
+    public HnswIndex compact() {
+        HnswIndex compacted = new HnswIndex(dimensions, m, efConstruction, random.nextLong());
+        lock.readLock().lock();
+        try {
+            float[] vector = new float[dimensions];
+            for (Map.Entry<Long, Integer> entry : slotsById.entrySet()) {
+                vectors.get(entry.getValue() * dimensions, vector);
+                compacted.insert(entry.getKey(), vector.clone());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return compacted;
+    }
+
+    private void removeSlot(long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot != null) {
+            deleted.set(slot);
+        }
+    }
+
+    private void insert(long id, float[] vector) {
+        if (slotCount == ids.length) {
+            allocate(grownCapacity());
+        }
+        int slot = slotCount++;
+        vectors.put(slot * dimensions, vector);
+        ids[slot] = id;
+        slotsById.put(id, slot);
+
+        int level = randomLevel();
+        neighbors[slot] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            neighbors[slot][l] = new int[0];
+        }
+
+        if (entryPoint == NO_ENTRY) {
+            entryPoint = slot;
+            maxLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+        List<Integer> entryPoints = List.of(current);
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Scored> found = searchLayer(vector, entryPoints, efConstruction, l);
+            int maxNeighbors = l == 0 ? maxNeighborsAtLayer0 : m;
+            int[] selected = found.stream()
+                    .limit(m)
+                    .mapToInt(Scored::slot)
+                    .toArray();
+            neighbors[slot][l] = selected;
+            for (int neighbor : selected) {
+                connect(neighbor, slot, l, maxNeighbors);
+            }
+            entryPoints = found.stream().map(Scored::slot).toList();
+        }
+
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = slot;
+        }
+    }
+
+    /**
+     * from의 이웃 목록에 to를 추가한다. 최대 개수를 넘으면 from과 가까운 순으로 잘라낸다.
+     */
+    private void connect(int from, int to, int level, int maxNeighbors) {
+        int[] current = neighbors[from][level];
+        int[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[current.length] = to;
+        if (extended.length <= maxNeighbors) {
+            neighbors[from][level] = extended;
+            return;
+        }
+
+        // 정렬 중 거리를 반복 계산하지 않도록 먼저 한 번씩만 계산한다.
+        float[] fromVector = new float[dimensions];
+        vectors.get(from * dimensions, fromVector);
+        Scored[] scored = new Scored[extended.length];
+        for (int i = 0; i < extended.length; i++) {
+            scored[i] = new Scored(extended[i], distance(fromVector, extended[i]));
+        }
+        Arrays.sort(scored, Comparator.comparingDouble(Scored::distance));
+        int[] pruned = new int[maxNeighbors];
+        for (int i = 0; i < maxNeighbors; i++) {
+            pruned[i] = scored[i].slot();
+        }
+        neighbors[from][level] = pruned;
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        double currentDistance = distance(query, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int neighbor : neighbors[current][level]) {
+                double neighborDistance = distance(query, neighbor);
+                if (neighborDistance < currentDistance) {
+                    current = neighbor;
+                    currentDistance = neighborDistance;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 층에서 query와 가까운 슬롯을 최대 ef개 찾아 가까운 순으로 돌려준다.
+     */
+    private List<Scored> searchLayer(float[] query, List<Integer> entryPoints, int ef, int level) {
+        BitSet visited = new BitSet(slotCount);
+        PriorityQueue<Scored> candidates = new PriorityQueue<>(Comparator.comparingDouble(Scored::distance));
+        PriorityQueue<Scored> results = new PriorityQueue<>(Comparator.comparingDouble(Scored::distance).reversed());
+        for (int entry : entryPoints) {
+            if (!visited.get(entry)) {
+                visited.set(entry);
+                Scored scored = new Scored(entry, distance(query, entry));
+                candidates.add(scored);
+                results.add(scored);
+            }
+        }
+        while (results.size() > ef) {
+            results.poll();
+        }
+
+        while (!candidates.isEmpty()) {
+            Scored closest = candidates.poll();
+            if (results.size() >= ef && closest.distance() > results.peek().distance()) {
+                break;
+            }
+            for (int neighbor : neighbors[closest.slot()][level]) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double neighborDistance = distance(query, neighbor);
+                if (results.size() < ef || neighborDistance < results.peek().distance()) {
+                    Scored scored = new Scored(neighbor, neighborDistance);
+                    candidates.add(scored);
+                    results.add(scored);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Scored> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Scored::distance));
+        return sorted;
+    }
+
+    private int randomLevel() {
+        return (int) Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    /**
+     * 코사인 거리(1 - 내적). 힙 밖 벡터를 스레드별 버퍼로 한 번에 복사한 뒤 배열끼리 계산해야 JIT이 루프를 벡터화할 수 있다.
+     */
+    private double distance(float[] query, int slot) {
+        float[] buffer = SCRATCH.get();
+        if (buffer.length < dimensions) {
+            buffer = new float[dimensions];
+            SCRATCH.set(buffer);
+        }
+        vectors.get(slot * dimensions, buffer, 0, dimensions);
+        // 누적 변수를 나눠 덧셈끼리의 의존을 끊는다.
+        float dot0 = 0;
+        float dot1 = 0;
+        float dot2 = 0;
+        float dot3 = 0;
+        int i = 0;
+        for (; i + 3 < dimensions; i += 4) {
+            dot0 += query[i] * buffer[i];
+            dot1 += query[i + 1] * buffer[i + 1];
+            dot2 += query[i + 2] * buffer[i + 2];
+            dot3 += query[i + 3] * buffer[i + 3];
+        }
+        for (; i < dimensions; i++) {
+            dot0 += query[i] * buffer[i];
+        }
+        return 1 - (dot0 + dot1 + dot2 + dot3);
+    }
+
+    // 슬롯을 두 배로 늘리되, 직접 버퍼 하나에 담을 수 있는 최대 슬롯 수를 넘지 않는다.
+    private int grownCapacity() {
+        long maxCapacity = Integer.MAX_VALUE / ((long) dimensions * Float.BYTES);
+        if (ids.length >= maxCapacity) {
+            throw new IllegalStateException("HNSW 색인에 더 이상 벡터를 추가할 수 없습니다: 차원 " + dimensions
+                    + "에서 최대 " + maxCapacity + "개 (직접 버퍼 최대 크기 " + Integer.MAX_VALUE + "바이트)");
+        }
+        return (int) Math.min((long) ids.length * 2, maxCapacity);
+    }
+
+    private void allocate(int capacity) {
+        // 직접 버퍼 크기는 int이므로 long으로 계산해 넘치지 않는지 먼저 확인한다.
+        long bytes = (long) capacity * dimensions * Float.BYTES;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("HNSW 벡터 버퍼 크기가 최대 크기를 넘습니다: 슬롯 " + capacity
+                    + "개 × 차원 " + dimensions + " = " + bytes + "바이트 (최대 " + Integer.MAX_VALUE + "바이트)");
+        }
+        FloatBuffer newVectors = ByteBuffer.allocateDirect((int) bytes)
+                .order(ByteOrder.nativeOrder())
+                .asFloatBuffer();
+        if (vectors != null) {
+            newVectors.put(0, vectors, 0, slotCount * dimensions);
+        }
+        vectors = newVectors;
+        ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+        neighbors = neighbors == null ? new int[capacity][][] : Arrays.copyOf(neighbors, capacity);
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        float[] normalized = new float[vector.length];
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = vector[i] * scale;
+        }
+        return normalized;
+    }
+
+    public record Neighbor(long id, double similarity) {
+    }
+
+    private record Scored(int slot, double distance) {
+    }
+}
@@ -0,0 +1,255 @@
+package balancetalk.global.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 기반 역색인. 필드별 가중치를 곱한 단어 빈도로 문서를 색인하고 BM25로 순위를 매긴다.
+ *
+ * <p>문서를 수정, 삭제하면 기존 문서는 삭제 표시만 해두고, 삭제된 문서가 일정 비율을 넘으면 색인을 압축한다.
+ * 문서 빈도(df)는 압축 전까지 삭제된 문서를 포함한 근사값을 사용한다.
+ */
+public class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final double MIN_MATCH_RATIO = 0.7;
+    private static final double COMPACT_DELETED_RATIO = 0.2;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, Integer> docNumById = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] idByDocNum = new long[INITIAL_CAPACITY];
+    private float[] lengthByDocNum = new float[INITIAL_CAPACITY];
+    private int docCount;
+    private double totalLength;
+
+    public record Field(String text, float boost) {
+    }
+
+    public void put(long id, List<Field> fields) {
+        Map<String, Float> frequencies = new HashMap<>();
+        for (Field field : fields) {
+            for (String term : NGramTokenizer.tokenize(field.text())) {
+                frequencies.merge(term, field.boost(), Float::sum);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (frequencies.isEmpty()) {
+                return;
+            }
+            int docNum = docCount++;
+            ensureCapacity(docCount);
+            float length = 0;
+            for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+                postingsByTerm.computeIfAbsent(entry.getKey(), term -> new Postings())
+                        .add(docNum, entry.getValue());
+                length += entry.getValue();
+            }
+            idByDocNum[docNum] = id;
+            lengthByDocNum[docNum] = length;
+            docNumById.put(id, docNum);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docNumById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SearchHits search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(NGramTokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return SearchHits.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveCount = docNumById.size();
+            if (liveCount == 0) {
+                return SearchHits.empty();
+            }
+            double avgLength = totalLength / liveCount;
+            // 전체 문서 수만큼 배열을 만들지 않고, 검색어가 등장한 문서의 점수만 누적한다.
+            Map<Integer, DocScore> matchedDocs = new HashMap<>();
+
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (liveCount - postings.size + 0.5) / (postings.size + 0.5));
+                for (int i = 0; i < postings.size; i++) {
+                    int docNum = postings.docNums[i];
+                    if (deleted.get(docNum)) {
+                        continue;
+                    }
+                    float tf = postings.frequencies[i];
+                    double norm = K1 * (1 - B + B * lengthByDocNum[docNum] / avgLength);
+                    DocScore docScore = matchedDocs.computeIfAbsent(docNum, DocScore::new);
+                    docScore.score += (float) (idf * tf * (K1 + 1) / (tf + norm));
+                    docScore.matchedTerms++;
+                }
+            }
+
+            return collectTopHits(matchedDocs.values(), (int) Math.ceil(terms.size() * MIN_MATCH_RATIO),
+                    offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SearchHits collectTopHits(Collection<DocScore> matchedDocs, int minMatch, int offset, int limit) {
+        int capacity = offset + limit;
+        // 점수가 낮은 문서부터 꺼내는 힙으로 상위 offset + limit개만 유지
+        PriorityQueue<DocScore> topDocs = new PriorityQueue<>(this::compare);
+        int totalHits = 0;
+        for (DocScore docScore : matchedDocs) {
+            if (docScore.matchedTerms < minMatch) {
+                continue;
+            }
+            totalHits++;
+            topDocs.offer(docScore);
+            if (topDocs.size() > capacity) {
+                topDocs.poll();
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(topDocs.size());
+        while (!topDocs.isEmpty()) {
+            ids.add(idByDocNum[topDocs.poll().docNum]);
+        }
+        Collections.reverse(ids);
+        List<Long> page = offset >= ids.size() ? List.of() : ids.subList(offset, ids.size());
+        return new SearchHits(List.copyOf(page), totalHits);
+    }
+
+    // 점수가 같으면 최근에 작성된(ID가 큰) 문서를 우선
+    private int compare(DocScore a, DocScore b) {
+        int byScore = Float.compare(a.score, b.score);
+        return byScore != 0 ? byScore : Long.compare(idByDocNum[a.docNum], idByDocNum[b.docNum]);
+    }
+
+    private void removeInternal(long id) {
+        Integer docNum = docNumById.remove(id);
+        if (docNum == null) {
+            return;
+        }
+        deleted.set(docNum);
+        totalLength -= lengthByDocNum[docNum];
+        if (deleted.cardinality() > docCount * COMPACT_DELETED_RATIO) {
+            compact();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 게시 목록에서 제거하고 문서 번호를 다시 매긴다.
+     */
+    private void compact() {
+        int[] newDocNums = new int[docCount];
+        int nextDocNum = 0;
+        for (int docNum = 0; docNum < docCount; docNum++) {
+            if (deleted.get(docNum)) {
+                newDocNums[docNum] = -1;
+                continue;
+            }
+            newDocNums[docNum] = nextDocNum;
+            idByDocNum[nextDocNum] = idByDocNum[docNum];
+            lengthByDocNum[nextDocNum] = lengthByDocNum[docNum];
+            docNumById.put(idByDocNum[nextDocNum], nextDocNum);
+            nextDocNum++;
+        }
+
+        postingsByTerm.values().removeIf(postings -> postings.remap(newDocNums) == 0);
+        docCount = nextDocNum;
+        deleted.clear();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= idByDocNum.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, idByDocNum.length * 2);
+        idByDocNum = Arrays.copyOf(idByDocNum, newLength);
+        lengthByDocNum = Arrays.copyOf(lengthByDocNum, newLength);
+    }
+
+    /**
+     * 검색 한 번 동안 문서별로 누적하는 BM25 점수와 일치한 검색어 수
+     */
+    private static class DocScore {
+
+        private final int docNum;
+        private float score;
+        private int matchedTerms;
+
+        DocScore(int docNum) {
+            this.docNum = docNum;
+        }
+    }
+
+    /**
+     * 한 단어가 등장하는 문서 번호와 빈도를 원시 배열로 보관한다. 문서 번호는 항상 오름차순으로 추가된다.
+     */
+    private static class Postings {
+
+        private int[] docNums = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        void add(int docNum, float frequency) {
+            if (size == docNums.length) {
+                docNums = Arrays.copyOf(docNums, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docNums[size] = docNum;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        int remap(int[] newDocNums) {
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                int newDocNum = newDocNums[docNums[i]];
+                if (newDocNum < 0) {
+                    continue;
+                }
+                docNums[newSize] = newDocNum;
+                frequencies[newSize] = frequencies[i];
+                newSize++;
+            }
+            size = newSize;
+            return size;
+        }
+    }
+}
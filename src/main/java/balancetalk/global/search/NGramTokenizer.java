@@ -0,0 +1,57 @@
+package balancetalk.global.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색용 2-gram 토크나이저.
+ * 한국어는 조사, 어미가 붙어 띄어쓰기 단위로는 일치하지 않는 경우가 많으므로 글자 단위 2-gram으로 나눈다.
+ * 한글과 그 외 문자(영문, 숫자 등)가 바뀌는 지점에서는 단어를 끊어 "아이폰15"가 "아이폰", "15"로 나뉘도록 한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class NGramTokenizer {
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean boundary = i == normalized.length()
+                    || !Character.isLetterOrDigit(normalized.charAt(i))
+                    || (start >= 0 && isHangul(normalized.charAt(i)) != isHangul(normalized.charAt(start)));
+            if (boundary && start >= 0) {
+                addNGrams(normalized, start, i, tokens);
+                start = -1;
+            }
+            if (i < normalized.length() && start < 0 && Character.isLetterOrDigit(normalized.charAt(i))) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+    }
+
+    private static void addNGrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,274 @@
+package balancetalk.global.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동 완성용 압축 트라이(radix tree).
+ *
+ * <p>하나의 항목(key)은 여러 검색어(term)로 등록될 수 있고, 검색어로 시작하는 입력이 들어오면 항목의 값(value)을 가중치 순으로 돌려준다.
+ * 각 노드는 하위 트리의 최대 가중치를 들고 있어, 가중치가 높은 노드부터 탐색하면 전체 하위 트리를 훑지 않고도 상위 limit개를 찾을 수 있다.
+ * 검색어는 {@link #normalize(String)}로 정규화한 뒤 저장하고 비교한다.
+ */
+public class PrefixTrie<T> {
+
+    private static final Comparator<Candidate> BY_WEIGHT_DESC = Comparator
+            .comparingLong(Candidate::weight).reversed()
+            .thenComparing(candidate -> candidate.entry() == null);
+
+    private final Node root = new Node("");
+    private final Map<String, Entry<T>> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 항목을 등록한다. 같은 key로 이미 등록된 항목이 있으면 기존 검색어를 모두 지우고 새로 등록한다.
+     */
+    public void put(String key, Collection<String> terms, T value, long weight) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(key);
+            Set<String> normalizedTerms = new HashSet<>();
+            for (String term : terms) {
+                String normalized = normalize(term);
+                if (!normalized.isEmpty()) {
+                    normalizedTerms.add(normalized);
+                }
+            }
+
+            Entry<T> entry = new Entry<>(key, List.copyOf(normalizedTerms), value, weight);
+            entries.put(key, entry);
+            entry.terms().forEach(term -> insert(term, entry));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * prefix로 시작하는 검색어를 가진 항목을 가중치 내림차순으로 최대 limit개 찾는다. 한 항목은 한 번만 포함된다.
+     */
+    public List<T> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node start = findNode(normalized);
+            if (start == null) {
+                return List.of();
+            }
+            return collectTopEntries(start, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return NGramTokenizer.normalize(text).trim().replaceAll("\\s+", " ");
+    }
+
+    private Node findNode(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(position));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                // 입력이 간선 중간에서 끝나도 그 아래 검색어는 모두 입력으로 시작한다.
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    private List<T> collectTopEntries(Node start, int limit) {
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(BY_WEIGHT_DESC);
+        queue.add(new Candidate(start.maxWeight, start, null));
+        Set<String> collectedKeys = new HashSet<>();
+        List<T> result = new ArrayList<>(limit);
+
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.entry() != null) {
+                String key = candidate.entry().key();
+                if (collectedKeys.add(key)) {
+                    result.add(entries.get(key).value());
+                }
+                continue;
+            }
+
+            Node node = candidate.node();
+            for (Entry<?> entry : node.entries.values()) {
+                queue.add(new Candidate(entry.weight(), null, entry));
+            }
+            for (Node child : node.children.values()) {
+                queue.add(new Candidate(child.maxWeight, child, null));
+            }
+        }
+        return result;
+    }
+
+    private void insert(String term, Entry<T> entry) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int position = 0;
+        while (position < term.length()) {
+            Node child = node.children.get(term.charAt(position));
+            if (child == null) {
+                child = new Node(term.substring(position));
+                node.children.put(child.label.charAt(0), child);
+                node = child;
+                path.add(node);
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, term, position);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            node = child;
+            path.add(node);
+            position += common;
+        }
+
+        node.entries.put(entry.key(), entry);
+        updateMaxWeights(path);
+    }
+
+    private Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        middle.maxWeight = child.maxWeight;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private void removeEntry(String key) {
+        Entry<T> entry = entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        entry.terms().forEach(term -> removeTerm(term, key));
+    }
+
+    private void removeTerm(String term, String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int position = 0;
+        while (position < term.length()) {
+            node = node.children.get(term.charAt(position));
+            if (node == null) {
+                return;
+            }
+            path.add(node);
+            position += node.label.length();
+        }
+
+        node.entries.remove(key);
+        for (int i = path.size() - 1; i > 0; i--) {
+            compact(path.get(i - 1), path.get(i));
+        }
+        updateMaxWeights(path);
+    }
+
+    /**
+     * 항목도 자식도 없는 노드는 지우고, 항목 없이 자식이 하나뿐인 노드는 자식과 합친다.
+     */
+    private void compact(Node parent, Node node) {
+        if (!node.entries.isEmpty()) {
+            return;
+        }
+        if (node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+            return;
+        }
+        if (node.children.size() == 1) {
+            Node child = node.children.values().iterator().next();
+            child.label = node.label + child.label;
+            parent.children.put(child.label.charAt(0), child);
+        }
+    }
+
+    private void updateMaxWeights(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            long maxWeight = Long.MIN_VALUE;
+            for (Entry<?> entry : node.entries.values()) {
+                maxWeight = Math.max(maxWeight, entry.weight());
+            }
+            for (Node child : node.children.values()) {
+                maxWeight = Math.max(maxWeight, child.maxWeight);
+            }
+            node.maxWeight = maxWeight;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String text, int offset) {
+        int max = Math.min(label.length(), text.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == text.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static class Node {
+
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Map<String, Entry<?>> entries = new HashMap<>(2);
+        private long maxWeight = Long.MIN_VALUE;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private record Entry<T>(String key, List<String> terms, T value, long weight) {
+    }
+
+    private record Candidate(long weight, Node node, Entry<?> entry) {
+    }
+}
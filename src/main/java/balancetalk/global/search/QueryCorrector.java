@@ -0,0 +1,147 @@
+package balancetalk.global.search;
+
+import balancetalk.global.search.BkTree.Match;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 색인된 단어 사전을 기준으로 검색어의 오타와 띄어쓰기를 교정한다.
+ *
+ * <p>사전에 있는 단어는 건드리지 않는다. 사전에 없는 단어는 먼저 다음 단어와 붙였을 때 사전에 있으면 붙이고("짜장 면" → "짜장면"),
+ * 그래도 없으면 자모 단위 편집 거리가 가장 가까운 사전 단어로 바꾼다("짜장먄" → "짜장면"). 거리가 같으면 자주 등장한 단어를 고른다.
+ * 짧은 단어일수록 한 글자 차이로도 전혀 다른 단어가 되므로 자모 길이에 따라 허용 거리를 줄이고, 한 글자 단어는 교정하지 않는다.
+ */
+public class QueryCorrector {
+
+    private static final int MIN_WORD_LENGTH = 2;
+    private static final int MIN_JAMO_LENGTH_FOR_ONE_EDIT = 4;
+    private static final int MIN_JAMO_LENGTH_FOR_TWO_EDITS = 8;
+
+    private final BkTree<String> tree = new BkTree<>();
+    private final Map<String, Integer> frequencies = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문구에 포함된 단어를 사전에 추가한다. 이미 있는 단어는 등장 횟수만 늘린다.
+     */
+    public void add(String text) {
+        List<String> words = words(text);
+        if (words.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (String word : words) {
+                if (frequencies.merge(word, 1, Integer::sum) == 1) {
+                    tree.add(HangulJamo.decompose(word), word);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return frequencies.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 교정한다. 바꿀 단어가 없으면 입력을 그대로 돌려준다.
+     */
+    public String correct(String query) {
+        String normalized = PrefixTrie.normalize(query);
+        if (normalized.isEmpty()) {
+            return query;
+        }
+
+        lock.readLock().lock();
+        try {
+            String[] tokens = normalized.split(" ");
+            List<String> corrected = new ArrayList<>(tokens.length);
+            boolean changed = false;
+            for (int i = 0; i < tokens.length; i++) {
+                String token = tokens[i];
+                if (isKnown(token)) {
+                    corrected.add(token);
+                    continue;
+                }
+                if (i + 1 < tokens.length && isKnown(token + tokens[i + 1])) {
+                    corrected.add(token + tokens[i + 1]);
+                    changed = true;
+                    i++;
+                    continue;
+                }
+
+                String nearest = nearest(token);
+                changed |= !nearest.equals(token);
+                corrected.add(nearest);
+            }
+            return changed ? String.join(" ", corrected) : query;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isKnown(String token) {
+        return frequencies.containsKey(token);
+    }
+
+    private String nearest(String token) {
+        if (token.length() < MIN_WORD_LENGTH || !isWord(token)) {
+            return token;
+        }
+        String jamo = HangulJamo.decompose(token);
+        int maxDistance = maxDistance(jamo.length());
+        if (maxDistance == 0) {
+            return token;
+        }
+
+        return tree.search(jamo, maxDistance).stream()
+                .min(Comparator.<Match<String>>comparingInt(Match::distance)
+                        .thenComparing(match -> -frequencies.get(match.value()))
+                        .thenComparing(Match::value))
+                .map(Match::value)
+                .orElse(token);
+    }
+
+    private int maxDistance(int jamoLength) {
+        if (jamoLength >= MIN_JAMO_LENGTH_FOR_TWO_EDITS) {
+            return 2;
+        }
+        if (jamoLength >= MIN_JAMO_LENGTH_FOR_ONE_EDIT) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * 정규화한 문구를 문자/숫자가 아닌 문자 기준으로 나눠 두 글자 이상인 단어만 돌려준다.
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : NGramTokenizer.normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() >= MIN_WORD_LENGTH) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static boolean isWord(String token) {
+        return token.chars().allMatch(Character::isLetterOrDigit);
+    }
+}
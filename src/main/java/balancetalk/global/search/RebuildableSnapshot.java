@@ -0,0 +1,95 @@
+package balancetalk.global.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * DB에서 주기적으로 새로 만들고, 그 사이의 변경은 쓰기 시점에 바로 반영하는 메모리 구조(색인, 사전, 집계)를 감싼다.
+ *
+ * <p>재구성 도중 반영된 변경은 기록해 두었다가, 새 구조로 교체하기 직전에 같은 순서로 다시 적용한다. 그래서 재구성이 DB를 읽은 뒤
+ * 반영된 변경도 교체와 함께 사라지지 않는다. 이미 재구성 중이면 새 재구성은 건너뛴다.
+ */
+public class RebuildableSnapshot<T> {
+
+    private volatile T current;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final List<Consumer<T>> changedWhileRebuilding = new ArrayList<>();
+
+    public RebuildableSnapshot(T initial) {
+        this.current = initial;
+    }
+
+    /**
+     * 현재 구조를 돌려준다. 구조 자체가 동시 접근에 안전할 때만 잠금 없이 읽는 데 사용한다.
+     */
+    public T current() {
+        return current;
+    }
+
+    /**
+     * 변경 반영과 같은 잠금 안에서 현재 구조를 읽는다. 동시 접근에 안전하지 않은 구조를 읽을 때 사용한다.
+     */
+    public synchronized <R> R read(Function<T, R> reader) {
+        return reader.apply(current);
+    }
+
+    /**
+     * 현재 구조에 변경을 반영하고, 재구성 중이면 새 구조에도 다시 적용하도록 기록한다.
+     * 변경은 나중에 다시 실행될 수 있으므로 DB 조회 없이 미리 꺼내 둔 값만 사용해야 한다.
+     */
+    public synchronized void apply(Consumer<T> change) {
+        change.accept(current);
+        if (rebuilding.get()) {
+            changedWhileRebuilding.add(change);
+        }
+    }
+
+    /**
+     * loader로 새 구조를 만들어 교체한다.
+     *
+     * @return 교체했으면 true, 이미 재구성 중이라 건너뛰었으면 false
+     */
+    public boolean rebuild(Supplier<T> loader) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            T rebuilt = loader.get();
+            synchronized (this) {
+                changedWhileRebuilding.forEach(change -> change.accept(rebuilt));
+                current = rebuilt;
+            }
+            return true;
+        } finally {
+            synchronized (this) {
+                changedWhileRebuilding.clear();
+                rebuilding.set(false);
+            }
+        }
+    }
+
+    /**
+     * ID 오름차순 키셋 페이지네이션으로 전체 행을 청크씩 읽는다. 빈 청크가 나오면 끝낸다.
+     *
+     * @param findNextChunk 주어진 ID보다 큰 행을 ID 오름차순으로 조회한다. 첫 호출에는 0을 넘긴다.
+     */
+    public static <E> void forEachChunk(LongFunction<List<E>> findNextChunk, ToLongFunction<E> idOf,
+                                        Consumer<List<E>> chunkConsumer) {
+        long lastId = 0L;
+        while (true) {
+            List<E> chunk = findNextChunk.apply(lastId);
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunkConsumer.accept(chunk);
+            lastId = idOf.applyAsLong(chunk.get(chunk.size() - 1));
+        }
+    }
+}
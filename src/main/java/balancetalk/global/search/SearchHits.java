@@ -0,0 +1,13 @@
+package balancetalk.global.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 중 요청한 구간의 문서 ID와 조건에 맞는 전체 문서 수
+ */
+public record SearchHits(List<Long> ids, int totalHits) {
+
+    public static SearchHits empty() {
+        return new SearchHits(List.of(), 0);
+    }
+}
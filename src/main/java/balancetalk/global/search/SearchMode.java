@@ -0,0 +1,9 @@
+package balancetalk.global.search;
+
+/**
+ * 검색 방식. KEYWORD는 검색어가 포함된 글을, SEMANTIC은 임베딩 기준으로 의미가 가까운 글을 찾는다.
+ */
+public enum SearchMode {
+    KEYWORD,
+    SEMANTIC
+}
@@ -0,0 +1,70 @@
+package balancetalk.global.search;
+
+import static balancetalk.global.caffeine.CacheType.SearchResult;
+
+import balancetalk.global.utils.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과를 (검색 대상, 정규화한 검색어, 페이지, 정렬) 단위로 캐시한다.
+ *
+ * <p>캐시 키에 세대(generation) 번호를 포함하고, 검색 대상이 변경되면 세대 번호만 올린다.
+ * 이전 세대의 항목은 다시 조회되지 않으므로 캐시를 훑지 않고도 무효화되며, 만료 시간이나 최대 크기에 의해 제거된다.
+ */
+@Component
+public class SearchResultCache {
+
+    private final Cache<Object, Object> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public SearchResultCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cache = Optional.ofNullable((CaffeineCache) cacheManager.getCache(SearchResult.getCacheName()))
+                .map(CaffeineCache::getNativeCache)
+                .orElseThrow(() -> new IllegalStateException("캐시가 존재하지 않습니다."));
+        Gauge.builder("pick-o.search.result-cache.hit-ratio", cache, c -> c.stats().hitRate())
+                .description("검색 결과 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Page<T> getOrSearch(SearchTarget target, String query, Pageable pageable, String sort,
+                                   Supplier<Page<T>> search) {
+        SearchKey key = new SearchKey(target, normalize(query), pageable.getPageNumber(), pageable.getPageSize(),
+                sort, generation.get());
+        return (Page<T>) cache.get(key, k -> search.get());
+    }
+
+    /**
+     * 세대 번호를 올려 이전에 캐시된 검색 결과를 모두 무효화한다.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+    }
+
+    public void invalidateAllAfterCommit() {
+        TransactionUtils.runAfterCommit(this::invalidateAll);
+    }
+
+    public static String normalize(String query) {
+        return NGramTokenizer.normalize(query).trim().replaceAll("\\s+", " ");
+    }
+
+    public enum SearchTarget {
+        TALK_PICK,
+        TALK_PICK_SEMANTIC,
+        GAME
+    }
+
+    private record SearchKey(SearchTarget target, String query, int page, int size, String sort, long generation) {
+    }
+}
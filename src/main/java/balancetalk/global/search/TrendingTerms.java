@@ -0,0 +1,170 @@
+package balancetalk.global.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 windowCount개 시간 구간(window) 동안 많이 검색된 검색어를 고정 크기 메모리로 추적한다.
+ *
+ * <p>구간은 epoch 기준으로 windowMillis 단위로 정렬되며 원형 배열의 한 칸씩을 쓴다. 각 구간은 Count-Min Sketch와
+ * 상위 topK개 후보 목록을 가진다. 기록할 때는 스케치 갱신(해시 depth번)과 후보 목록 갱신만 하므로 검색어 수와 관계없이 상수 시간이다.
+ * 후보 목록이 가득 찼을 때 새 검색어는 추정 횟수가 후보 중 최솟값보다 클 때만 들어가며, 최솟값은 다시 계산하지 않고
+ * 마지막으로 계산한 값(실제 최솟값 이하)과 먼저 비교해 대부분의 검색어를 바로 걸러낸다. 후보를 교체할 때만 topK개를 훑는다.
+ * 오래된 구간은 그 칸에 새 구간이 기록될 때 비운다.
+ */
+public class TrendingTerms {
+
+    private static final int SKETCH_WIDTH = 2048;
+    private static final int SKETCH_DEPTH = 4;
+
+    private final long windowMillis;
+    private final int topK;
+    private final LongSupplier clock;
+    private final Window[] windows;
+
+    public TrendingTerms(long windowMillis, int windowCount, int topK, LongSupplier clock) {
+        this.windowMillis = windowMillis;
+        this.topK = topK;
+        this.clock = clock;
+        this.windows = new Window[windowCount];
+    }
+
+    public synchronized void record(String term) {
+        windowAt(currentWindowStart()).add(term, 1);
+    }
+
+    /**
+     * 최근 구간 전체에서 많이 검색된 순으로 최대 size개를 돌려준다.
+     * 각 구간의 후보를 모은 뒤, 후보별로 모든 구간의 스케치 추정값을 더해 순위를 매긴다.
+     */
+    public synchronized List<TermCount> top(int size) {
+        List<Window> live = liveWindows();
+        Set<String> candidates = new HashSet<>();
+        live.forEach(window -> candidates.addAll(window.candidates.keySet()));
+
+        List<TermCount> counts = new ArrayList<>(candidates.size());
+        for (String term : candidates) {
+            long count = 0;
+            for (Window window : live) {
+                count += window.sketch.estimate(term);
+            }
+            counts.add(new TermCount(term, count));
+        }
+        counts.sort(Comparator.comparingLong(TermCount::count).reversed().thenComparing(TermCount::term));
+        return counts.size() <= size ? counts : List.copyOf(counts.subList(0, size));
+    }
+
+    /**
+     * 구간 시작 시각이 since 이후인 살아 있는 구간의 후보 목록 사본
+     */
+    public synchronized List<WindowSnapshot> snapshots(long since) {
+        return liveWindows().stream()
+                .filter(window -> window.start >= since)
+                .map(window -> new WindowSnapshot(window.start, Map.copyOf(window.candidates)))
+                .toList();
+    }
+
+    /**
+     * 저장해 둔 구간의 후보 목록을 다시 기록한다. 이미 지난(추적 범위를 벗어난) 구간이면 무시한다.
+     */
+    public synchronized void restore(WindowSnapshot snapshot) {
+        long oldestLiveStart = currentWindowStart() - (windows.length - 1) * windowMillis;
+        if (snapshot.windowStart() < oldestLiveStart || snapshot.windowStart() > currentWindowStart()) {
+            return;
+        }
+        Window window = windowAt(snapshot.windowStart());
+        snapshot.counts().forEach(window::add);
+    }
+
+    public long currentWindowStart() {
+        long now = clock.getAsLong();
+        return now - Math.floorMod(now, windowMillis);
+    }
+
+    private Window windowAt(long windowStart) {
+        int slot = (int) Math.floorMod(windowStart / windowMillis, (long) windows.length);
+        if (windows[slot] == null || windows[slot].start != windowStart) {
+            windows[slot] = new Window(windowStart);
+        }
+        return windows[slot];
+    }
+
+    private List<Window> liveWindows() {
+        long oldestLiveStart = currentWindowStart() - (windows.length - 1) * windowMillis;
+        List<Window> live = new ArrayList<>(windows.length);
+        for (Window window : windows) {
+            if (window != null && window.start >= oldestLiveStart) {
+                live.add(window);
+            }
+        }
+        return live;
+    }
+
+    private class Window {
+
+        private final long start;
+        private final CountMinSketch sketch = new CountMinSketch(SKETCH_WIDTH, SKETCH_DEPTH);
+        private final Map<String, Long> candidates = new HashMap<>();
+        private String minTerm;
+        // 후보 중 최소 추정 횟수의 하한. 후보의 횟수는 늘어나기만 하므로 마지막 계산 값은 항상 실제 최솟값 이하이다.
+        private long minCount;
+        private boolean minStale;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        private void add(String term, long count) {
+            long estimate = sketch.add(term, count);
+            if (candidates.containsKey(term)) {
+                candidates.put(term, estimate);
+                minStale |= term.equals(minTerm);
+                return;
+            }
+            if (candidates.size() < topK) {
+                candidates.put(term, estimate);
+                if (minTerm == null || estimate < minCount) {
+                    minTerm = term;
+                    minCount = estimate;
+                }
+                return;
+            }
+            if (estimate <= minCount) {
+                return;
+            }
+            if (minStale) {
+                refreshMin();
+                if (estimate <= minCount) {
+                    return;
+                }
+            }
+            candidates.remove(minTerm);
+            candidates.put(term, estimate);
+            refreshMin();
+        }
+
+        private void refreshMin() {
+            minTerm = null;
+            minCount = Long.MAX_VALUE;
+            candidates.forEach((candidate, count) -> {
+                if (count < minCount) {
+                    minTerm = candidate;
+                    minCount = count;
+                }
+            });
+            minStale = false;
+        }
+    }
+
+    public record TermCount(String term, long count) {
+    }
+
+    public record WindowSnapshot(long windowStart, Map<String, Long> counts) {
+    }
+}
@@ -0,0 +1,161 @@
+package balancetalk.global.search.application;
+
+import balancetalk.game.domain.GameSet;
+import balancetalk.game.domain.repository.GameSetRepository;
+import balancetalk.game.domain.repository.MainTagRepository;
+import balancetalk.global.search.QueryCorrector;
+import balancetalk.global.search.RebuildableSnapshot;
+import balancetalk.talkpick.domain.TalkPick;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결과가 없는 검색어의 오타와 띄어쓰기를 교정해 다시 검색한다.
+ *
+ * <p>검색은 본문, 요약, 게임 설명 등 사전에 없는 필드도 찾으므로, 사전에 없는 단어라도 결과가 있으면 교정하지 않는다.
+ * 사전은 톡픽 제목/선택지, 밸런스게임 제목/서브 태그, 메인 태그 이름의 단어로 만든다. 서버 시작 시와 주기적으로 DB에서 다시 만들고,
+ * 그 사이 새로 작성된 단어는 쓰기 시점에 추가한다. 삭제된 글의 단어는 다음 재구성 때 빠진다.
+ * 사전이 준비되기 전에는 검색어를 그대로 사용한다.
+ */
+@Slf4j
+@Service
+public class QueryCorrectionService {
+
+    private final TalkPickRepository talkPickRepository;
+    private final GameSetRepository gameSetRepository;
+    private final MainTagRepository mainTagRepository;
+    private final Counter correctedCounter;
+
+    @Value("${pick-o.search.query-correction.enabled:true}")
+    private boolean enabled;
+
+    private final RebuildableSnapshot<QueryCorrector> corrector = new RebuildableSnapshot<>(new QueryCorrector());
+    private volatile boolean ready;
+
+    public QueryCorrectionService(TalkPickRepository talkPickRepository,
+                                  GameSetRepository gameSetRepository,
+                                  MainTagRepository mainTagRepository,
+                                  MeterRegistry meterRegistry) {
+        this.talkPickRepository = talkPickRepository;
+        this.gameSetRepository = gameSetRepository;
+        this.mainTagRepository = mainTagRepository;
+        this.correctedCounter = Counter.builder("pick-o.search.query-correction.corrected")
+                .description("오타/띄어쓰기 교정으로 바뀐 검색어 수")
+                .register(meterRegistry);
+        Gauge.builder("pick-o.search.query-correction.vocabulary-size", this,
+                        service -> service.corrector.current().size())
+                .description("검색어 교정 사전의 단어 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원래 검색어로 먼저 검색하고, 결과가 없을 때만 교정한 검색어로 다시 검색한다.
+     *
+     * @return 결과를 돌려준 검색어와 그 결과
+     */
+    public <T> CorrectedSearch<T> searchWithCorrection(String query, Function<String, Page<T>> search) {
+        Page<T> result = search.apply(query);
+        if (result.getTotalElements() > 0) {
+            return new CorrectedSearch<>(query, result);
+        }
+        String corrected = correct(query);
+        if (corrected.equals(query)) {
+            return new CorrectedSearch<>(query, result);
+        }
+        return new CorrectedSearch<>(corrected, search.apply(corrected));
+    }
+
+    public String correct(String query) {
+        if (!enabled || !ready) {
+            return query;
+        }
+        String corrected = corrector.current().correct(query);
+        if (!corrected.equals(query)) {
+            correctedCounter.increment();
+            log.debug("Corrected search query [{}] -> [{}]", query, corrected);
+        }
+        return corrected;
+    }
+
+    @Async("searchIndexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // 전체 테이블을 읽는 재구성이 스케줄러 스레드를 잡지 않도록 색인 실행기로 넘긴다.
+    @Async("searchIndexTaskExecutor")
+    @Scheduled(fixedDelayString = "${pick-o.search.query-correction.rebuild-interval-ms:1800000}",
+            initialDelayString = "${pick-o.search.query-correction.rebuild-interval-ms:1800000}")
+    public void refresh() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB에서 사전을 새로 만들어 교체한다. 이미 재구성 중이면 건너뛴다.
+     */
+    public void rebuild() {
+        if (corrector.rebuild(this::load)) {
+            ready = true;
+            log.info("Rebuilt search query correction vocabulary with {} words", corrector.current().size());
+        }
+    }
+
+    private QueryCorrector load() {
+        QueryCorrector newCorrector = new QueryCorrector();
+        RebuildableSnapshot.forEachChunk(talkPickRepository::findTop500ByIdGreaterThanOrderByIdAsc, TalkPick::getId,
+                talkPicks -> talkPicks.forEach(talkPick -> textsOf(talkPick).forEach(newCorrector::add)));
+        RebuildableSnapshot.forEachChunk(gameSetRepository::findTop500WithMainTagByIdGreaterThan, GameSet::getId,
+                gameSets -> gameSets.forEach(gameSet -> {
+                    newCorrector.add(gameSet.getTitle());
+                    newCorrector.add(gameSet.getSubTag());
+                }));
+        mainTagRepository.findAll().forEach(mainTag -> newCorrector.add(mainTag.getName()));
+        return newCorrector;
+    }
+
+    /**
+     * 톡픽을 다시 조회해 단어를 사전에 추가한다. 트랜잭션 커밋 이후(이벤트 핸들러)에서 호출한다.
+     */
+    public void indexTalkPick(Long talkPickId) {
+        talkPickRepository.findById(talkPickId)
+                .ifPresent(talkPick -> textsOf(talkPick).forEach(this::add));
+    }
+
+    public void indexGameSet(String title, String subTag) {
+        add(title);
+        add(subTag);
+    }
+
+    public void indexMainTag(String name) {
+        add(name);
+    }
+
+    private void add(String text) {
+        corrector.apply(target -> target.add(text));
+    }
+
+    private List<String> textsOf(TalkPick talkPick) {
+        return Arrays.asList(talkPick.getTitle(), talkPick.getOptionA(), talkPick.getOptionB());
+    }
+
+    public record CorrectedSearch<T>(String query, Page<T> result) {
+    }
+}
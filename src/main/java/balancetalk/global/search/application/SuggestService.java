@@ -0,0 +1,194 @@
+package balancetalk.global.search.application;
+
+import static balancetalk.global.search.dto.SuggestionType.GAME_SET;
+import static balancetalk.global.search.dto.SuggestionType.MAIN_TAG;
+import static balancetalk.global.search.dto.SuggestionType.TALK_PICK;
+
+import balancetalk.game.domain.GameSet;
+import balancetalk.game.domain.MainTag;
+import balancetalk.game.domain.repository.GameSetRepository;
+import balancetalk.game.domain.repository.MainTagRepository;
+import balancetalk.global.search.PrefixTrie;
+import balancetalk.global.search.RebuildableSnapshot;
+import balancetalk.global.search.dto.SuggestDto.SuggestResponse;
+import balancetalk.talkpick.domain.TalkPick;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 톡픽 제목/선택지, 밸런스게임 제목/서브 태그, 메인 태그 이름을 메모리 트라이에 올려두고 검색어 자동 완성을 제공한다.
+ *
+ * <p>자동 완성 요청은 DB에 접근하지 않는다. 트라이는 서버 시작 시와 주기적으로 DB에서 다시 만들고(조회수 가중치 갱신),
+ * 그 사이의 생성/수정/삭제는 쓰기 시점에 바로 반영한다.
+ */
+@Slf4j
+@Service
+public class SuggestService {
+
+    private static final int MAX_SUGGEST_SIZE = 20;
+    // 단어 중간부터 입력해도 찾을 수 있도록 각 단어 시작 위치부터의 문구도 등록 (문구당 최대 개수)
+    private static final int MAX_WORD_STARTS = 5;
+
+    private final TalkPickRepository talkPickRepository;
+    private final GameSetRepository gameSetRepository;
+    private final MainTagRepository mainTagRepository;
+    private final Timer suggestTimer;
+
+    private final RebuildableSnapshot<PrefixTrie<SuggestResponse>> trie = new RebuildableSnapshot<>(new PrefixTrie<>());
+
+    public SuggestService(TalkPickRepository talkPickRepository,
+                          GameSetRepository gameSetRepository,
+                          MainTagRepository mainTagRepository,
+                          MeterRegistry meterRegistry) {
+        this.talkPickRepository = talkPickRepository;
+        this.gameSetRepository = gameSetRepository;
+        this.mainTagRepository = mainTagRepository;
+        this.suggestTimer = Timer.builder("pick-o.search.suggest")
+                .description("검색어 자동 완성에 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("pick-o.search.suggest.size", this, service -> service.trie.current().size())
+                .description("자동 완성 트라이에 등록된 항목 수")
+                .register(meterRegistry);
+    }
+
+    public List<SuggestResponse> suggest(String query, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SUGGEST_SIZE);
+        return suggestTimer.record(() -> trie.current().suggest(query, limit * 2).stream()
+                .filter(distinctText())
+                .limit(limit)
+                .toList());
+    }
+
+    private Predicate<SuggestResponse> distinctText() {
+        Set<String> texts = new HashSet<>();
+        return suggestion -> texts.add(suggestion.getText());
+    }
+
+    @Async("searchIndexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // 전체 테이블을 읽는 재구성이 스케줄러 스레드를 잡지 않도록 색인 실행기로 넘긴다.
+    @Async("searchIndexTaskExecutor")
+    @Scheduled(fixedDelayString = "${pick-o.search.suggest.rebuild-interval-ms:600000}",
+            initialDelayString = "${pick-o.search.suggest.rebuild-interval-ms:600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 트라이를 새로 만들어 교체한다. 이미 재구성 중이면 건너뛴다.
+     */
+    public void rebuild() {
+        if (trie.rebuild(this::load)) {
+            log.info("Rebuilt search suggestion trie with {} entries", trie.current().size());
+        }
+    }
+
+    private PrefixTrie<SuggestResponse> load() {
+        PrefixTrie<SuggestResponse> newTrie = new PrefixTrie<>();
+        RebuildableSnapshot.forEachChunk(talkPickRepository::findTop500ByIdGreaterThanOrderByIdAsc, TalkPick::getId,
+                talkPicks -> talkPicks.forEach(talkPick -> putTalkPick(newTrie, talkPick)));
+
+        Map<String, Long> mainTagViews = new HashMap<>();
+        RebuildableSnapshot.forEachChunk(gameSetRepository::findTop500WithMainTagByIdGreaterThan, GameSet::getId,
+                gameSets -> gameSets.forEach(gameSet -> loadGameSet(newTrie, mainTagViews, gameSet)));
+        for (MainTag mainTag : mainTagRepository.findAll()) {
+            putMainTag(newTrie, mainTag.getName(), mainTagViews.getOrDefault(mainTag.getName(), 0L));
+        }
+        return newTrie;
+    }
+
+    private void loadGameSet(PrefixTrie<SuggestResponse> target, Map<String, Long> mainTagViews, GameSet gameSet) {
+        putGameSet(target, gameSet.getId(), gameSet.getTitle(), gameSet.getSubTag(), gameSet.getViews());
+        if (gameSet.getMainTag() != null) {
+            mainTagViews.merge(gameSet.getMainTag().getName(), gameSet.getViews(), Long::sum);
+        }
+    }
+
+    /**
+     * 톡픽을 다시 조회해 자동 완성에 반영한다. 트랜잭션 커밋 이후(이벤트 핸들러)에서 호출한다.
+     */
+    public void indexTalkPick(Long talkPickId) {
+        talkPickRepository.findById(talkPickId)
+                .ifPresentOrElse(talkPick -> trie.apply(target -> putTalkPick(target, talkPick)),
+                        () -> removeTalkPick(talkPickId));
+    }
+
+    public void removeTalkPick(Long talkPickId) {
+        trie.apply(target -> target.remove(key(TALK_PICK.name(), talkPickId)));
+    }
+
+    public void indexGameSet(Long gameSetId, String title, String subTag, long views) {
+        trie.apply(target -> putGameSet(target, gameSetId, title, subTag, views));
+    }
+
+    public void removeGameSet(Long gameSetId) {
+        trie.apply(target -> target.remove(key(GAME_SET.name(), gameSetId)));
+    }
+
+    public void indexMainTag(String name) {
+        trie.apply(target -> putMainTag(target, name, 0L));
+    }
+
+    private void putTalkPick(PrefixTrie<SuggestResponse> target, TalkPick talkPick) {
+        target.put(key(TALK_PICK.name(), talkPick.getId()),
+                termsOf(talkPick.getTitle(), talkPick.getOptionA(), talkPick.getOptionB()),
+                new SuggestResponse(talkPick.getTitle(), TALK_PICK, talkPick.getId()),
+                talkPick.getViews());
+    }
+
+    private void putGameSet(PrefixTrie<SuggestResponse> target, Long gameSetId, String title, String subTag,
+                            long views) {
+        target.put(key(GAME_SET.name(), gameSetId), termsOf(title, subTag),
+                new SuggestResponse(title, GAME_SET, gameSetId), views);
+    }
+
+    private void putMainTag(PrefixTrie<SuggestResponse> target, String name, long views) {
+        target.put(key(MAIN_TAG.name(), name), termsOf(name), new SuggestResponse(name, MAIN_TAG, null), views);
+    }
+
+    private String key(String type, Object id) {
+        return type + ":" + id;
+    }
+
+    /**
+     * 각 문구 전체와, 두 번째 단어부터 시작하는 부분 문구를 자동 완성 검색어로 만든다.
+     */
+    static List<String> termsOf(String... texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            String normalized = PrefixTrie.normalize(text);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            terms.add(normalized);
+            int wordStarts = 1;
+            int space = normalized.indexOf(' ');
+            while (space >= 0 && wordStarts < MAX_WORD_STARTS) {
+                terms.add(normalized.substring(space + 1));
+                wordStarts++;
+                space = normalized.indexOf(' ', space + 1);
+            }
+        }
+        return List.copyOf(terms);
+    }
+}
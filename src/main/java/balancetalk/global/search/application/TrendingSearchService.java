@@ -0,0 +1,137 @@
+package balancetalk.global.search.application;
+
+import balancetalk.global.search.SearchResultCache;
+import balancetalk.global.search.TrendingTerms;
+import balancetalk.global.search.TrendingTerms.TermCount;
+import balancetalk.global.search.TrendingTerms.WindowSnapshot;
+import balancetalk.global.search.domain.SearchTermSnapshot;
+import balancetalk.global.search.domain.SearchTermSnapshotRepository;
+import balancetalk.global.search.dto.TrendingSearchDto.TrendingSearchResponse;
+import balancetalk.global.utils.TransactionUtils;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 인기 검색어. 검색할 때마다 정규화한 검색어를 메모리의 {@link TrendingTerms}에 기록하고, 최근 구간의 상위 검색어를 돌려준다.
+ *
+ * <p>검색 로그 테이블을 쌓아 집계하지 않는다. 구간별 상위 후보만 주기적으로 DB에 저장해 두었다가 서버 시작 시 다시 불러온다.
+ * 여러 서버가 같은 구간을 저장하므로 각 서버는 마지막 저장 이후 늘어난 횟수만 DB에 더한다.
+ */
+@Slf4j
+@Service
+public class TrendingSearchService {
+
+    private static final int MAX_TERM_LENGTH = 50;
+    private static final int MAX_TRENDING_SIZE = 20;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final SearchTermSnapshotRepository searchTermSnapshotRepository;
+    private final TrendingTerms trendingTerms;
+    private final long windowMillis;
+    private final int windowCount;
+
+    // 마지막으로 저장할 때의 현재 구간. 다음 저장 때 이 구간부터 다시 저장한다.
+    private volatile long lastPersistedWindowStart;
+    // 구간 시작 시각별로 DB에 이미 반영된 검색어별 횟수. 다음 저장 때 이보다 늘어난 만큼만 더한다.
+    private final Map<Long, Map<String, Long>> persistedCounts = new ConcurrentHashMap<>();
+
+    public TrendingSearchService(SearchTermSnapshotRepository searchTermSnapshotRepository,
+                                 @Value("${pick-o.search.trending.window-ms:300000}") long windowMillis,
+                                 @Value("${pick-o.search.trending.window-count:12}") int windowCount,
+                                 @Value("${pick-o.search.trending.top-k:100}") int topK) {
+        this.searchTermSnapshotRepository = searchTermSnapshotRepository;
+        this.windowMillis = windowMillis;
+        this.windowCount = windowCount;
+        this.trendingTerms = new TrendingTerms(windowMillis, windowCount, topK, System::currentTimeMillis);
+    }
+
+    /**
+     * 검색어를 기록한다. 검색 요청 경로에서 호출되므로 스케치와 후보 목록만 갱신한다.
+     */
+    public void record(String query) {
+        String term = SearchResultCache.normalize(query);
+        if (term.isEmpty() || term.length() > MAX_TERM_LENGTH) {
+            return;
+        }
+        trendingTerms.record(term);
+    }
+
+    public List<TrendingSearchResponse> getTrendingSearches(int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_TRENDING_SIZE);
+        List<TermCount> top = trendingTerms.top(limit);
+        return IntStream.range(0, top.size())
+                .mapToObj(i -> new TrendingSearchResponse(i + 1, top.get(i).term()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        LocalDateTime oldest = toDateTime(trendingTerms.currentWindowStart() - (windowCount - 1) * windowMillis);
+        Map<LocalDateTime, Map<String, Long>> windows = new HashMap<>();
+        for (SearchTermSnapshot snapshot : searchTermSnapshotRepository.findAllByWindowStartGreaterThanEqual(oldest)) {
+            windows.computeIfAbsent(snapshot.getWindowStart(), windowStart -> new HashMap<>())
+                    .put(snapshot.getTerm(), snapshot.getSearchCount());
+        }
+        windows.forEach((windowStart, counts) -> {
+            trendingTerms.restore(new WindowSnapshot(toEpochMillis(windowStart), counts));
+            persistedCounts.put(toEpochMillis(windowStart), counts);
+        });
+        lastPersistedWindowStart = trendingTerms.currentWindowStart();
+        log.info("Restored {} trending search windows", windows.size());
+    }
+
+    /**
+     * 마지막 저장 이후 바뀐 구간(직전 저장 시점의 구간부터 현재 구간까지)의 후보별로 늘어난 횟수를 DB에 더하고,
+     * 추적 범위를 벗어난 구간은 지운다. 반영한 횟수는 커밋된 뒤에 기록해 롤백되면 다음 저장 때 다시 더한다.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${pick-o.search.trending.persist-interval-ms:60000}",
+            initialDelayString = "${pick-o.search.trending.persist-interval-ms:60000}")
+    public void persist() {
+        long currentWindowStart = trendingTerms.currentWindowStart();
+        long oldestLiveStart = currentWindowStart - (windowCount - 1) * windowMillis;
+        List<WindowSnapshot> snapshots = trendingTerms.snapshots(lastPersistedWindowStart);
+
+        for (WindowSnapshot snapshot : snapshots) {
+            LocalDateTime windowStart = toDateTime(snapshot.windowStart());
+            Map<String, Long> persisted = persistedCounts.getOrDefault(snapshot.windowStart(), Map.of());
+            snapshot.counts().forEach((term, count) -> {
+                long increased = count - persisted.getOrDefault(term, 0L);
+                if (increased > 0) {
+                    searchTermSnapshotRepository.addSearchCount(windowStart, term, increased);
+                }
+            });
+        }
+        searchTermSnapshotRepository.deleteAllByWindowStartBefore(toDateTime(oldestLiveStart));
+
+        TransactionUtils.runAfterCommit(() -> {
+            // 후보에서 밀려난 검색어도 다시 후보가 될 때 이미 더한 횟수를 또 더하지 않도록 기록을 남겨 둔다.
+            snapshots.forEach(snapshot -> persistedCounts
+                    .computeIfAbsent(snapshot.windowStart(), windowStart -> new HashMap<>())
+                    .putAll(snapshot.counts()));
+            persistedCounts.keySet().removeIf(windowStart -> windowStart < oldestLiveStart);
+            lastPersistedWindowStart = currentWindowStart;
+        });
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,41 @@
+package balancetalk.global.search.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 검색어 집계 구간별 상위 검색어와 추정 검색 횟수. 서버가 재시작되어도 최근 인기 검색어를 이어서 집계하기 위해 저장한다.
+ * 여러 서버가 같은 구간과 검색어에 각자 늘어난 횟수를 더하므로 (구간, 검색어)는 하나의 행으로 유지한다.
+ */
+@Entity
+@Builder
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "uk_search_term_snapshot_window_start_term", columnList = "window_start, term",
+        unique = true))
+public class SearchTermSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime windowStart;
+
+    @Column(nullable = false, length = 100)
+    private String term;
+
+    private long searchCount;
+}
@@ -0,0 +1,29 @@
+package balancetalk.global.search.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SearchTermSnapshotRepository extends JpaRepository<SearchTermSnapshot, Long> {
+
+    List<SearchTermSnapshot> findAllByWindowStartGreaterThanEqual(LocalDateTime windowStart);
+
+    /**
+     * 구간과 검색어의 행이 없으면 추가하고, 있으면 다른 서버가 더한 횟수를 덮어쓰지 않도록 늘어난 횟수만 더한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO search_term_snapshot (window_start, term, search_count) "
+            + "VALUES (:windowStart, :term, :count) "
+            + "ON DUPLICATE KEY UPDATE search_count = search_count + :count",
+            nativeQuery = true)
+    void addSearchCount(@Param("windowStart") LocalDateTime windowStart,
+                        @Param("term") String term,
+                        @Param("count") long count);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM SearchTermSnapshot s WHERE s.windowStart < :windowStart")
+    void deleteAllByWindowStartBefore(@Param("windowStart") LocalDateTime windowStart);
+}
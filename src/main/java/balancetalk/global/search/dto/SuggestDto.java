@@ -0,0 +1,23 @@
+package balancetalk.global.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+public class SuggestDto {
+
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "검색어 자동 완성 응답")
+    public static class SuggestResponse {
+
+        @Schema(description = "자동 완성 문구", example = "짜장면 vs 짬뽕")
+        private String text;
+
+        @Schema(description = "자동 완성 대상 종류", example = "TALK_PICK")
+        private SuggestionType type;
+
+        @Schema(description = "자동 완성 대상 ID (메인 태그는 null)", example = "1")
+        private Long id;
+    }
+}
@@ -0,0 +1,8 @@
+package balancetalk.global.search.dto;
+
+public enum SuggestionType {
+
+    TALK_PICK,
+    GAME_SET,
+    MAIN_TAG
+}
@@ -0,0 +1,20 @@
+package balancetalk.global.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+public class TrendingSearchDto {
+
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "인기 검색어 응답")
+    public static class TrendingSearchResponse {
+
+        @Schema(description = "순위 (1부터 시작)", example = "1")
+        private int rank;
+
+        @Schema(description = "검색어", example = "짜장면")
+        private String term;
+    }
+}
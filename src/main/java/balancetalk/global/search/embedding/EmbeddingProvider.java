@@ -0,0 +1,22 @@
+package balancetalk.global.search.embedding;
+
+import java.util.List;
+
+/**
+ * 문장을 고정 길이 벡터로 바꾸는 임베딩 모델. 의미가 비슷한 문장일수록 코사인 유사도가 높은 벡터를 돌려줘야 한다.
+ *
+ * <p>pick-o.search.semantic.embedding-provider 설정으로 구현을 고른다. 기본값(hashing)은 외부 호출 없이 동작하는
+ * {@link HashingEmbeddingProvider}이고, openai는 Spring AI의 임베딩 모델을 사용한다.
+ */
+public interface EmbeddingProvider {
+
+    int dimensions();
+
+    float[] embed(String text);
+
+    default List<float[]> embedAll(List<String> texts) {
+        return texts.stream()
+                .map(this::embed)
+                .toList();
+    }
+}
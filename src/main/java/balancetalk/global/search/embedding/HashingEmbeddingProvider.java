@@ -0,0 +1,62 @@
+package balancetalk.global.search.embedding;
+
+import balancetalk.global.search.NGramTokenizer;
+
+/**
+ * 외부 모델 없이 동작하는 결정적 임베딩. 단어와 글자 2-gram을 해시해 고정 길이 벡터의 한 칸에 더한다(feature hashing).
+ *
+ * <p>같은 단어/2-gram을 공유할수록 유사도가 높아지는 어휘 기반 근사이므로 동의어는 찾지 못한다. 로컬 개발, 테스트,
+ * 외부 임베딩 API를 쓸 수 없는 환경에서 의미 검색 경로 전체를 동작시키기 위한 대체 구현이다.
+ */
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float NGRAM_WEIGHT = 0.5f;
+
+    private final int dimensions;
+
+    public HashingEmbeddingProvider(int dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        if (text == null || text.isBlank()) {
+            return vector;
+        }
+
+        for (String word : NGramTokenizer.normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                add(vector, "w:" + word, WORD_WEIGHT);
+            }
+        }
+        for (String ngram : NGramTokenizer.tokenize(text)) {
+            add(vector, "g:" + ngram, NGRAM_WEIGHT);
+        }
+        return vector;
+    }
+
+    /**
+     * 해시의 한 비트로 부호를 정해 서로 다른 특성이 같은 칸에 모여도 기댓값이 0이 되게 한다.
+     */
+    private void add(float[] vector, String feature, float weight) {
+        int hash = mix(feature.hashCode());
+        int index = Math.floorMod(hash, dimensions);
+        vector[index] += (hash & 0x8000_0000) == 0 ? weight : -weight;
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85eb_ca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2_ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
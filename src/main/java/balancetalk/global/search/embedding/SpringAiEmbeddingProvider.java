@@ -0,0 +1,29 @@
+package balancetalk.global.search.embedding;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+/**
+ * Spring AI 임베딩 모델(OpenAI 등)을 사용하는 구현. 여러 문장은 한 번의 요청으로 보낸다.
+ */
+@RequiredArgsConstructor
+public class SpringAiEmbeddingProvider implements EmbeddingProvider {
+
+    private final EmbeddingModel embeddingModel;
+
+    @Override
+    public int dimensions() {
+        return embeddingModel.dimensions();
+    }
+
+    @Override
+    public float[] embed(String text) {
+        return embeddingModel.embed(text);
+    }
+
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        return embeddingModel.embed(texts);
+    }
+}
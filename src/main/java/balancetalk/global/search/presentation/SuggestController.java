@@ -0,0 +1,26 @@
+package balancetalk.global.search.presentation;
+
+import balancetalk.global.search.application.SuggestService;
+import balancetalk.global.search.dto.SuggestDto.SuggestResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "search", description = "검색 API")
+public class SuggestController {
+
+    private final SuggestService suggestService;
+
+    @Operation(summary = "검색어 자동 완성", description = "입력한 검색어로 시작하는 톡픽, 밸런스게임, 메인 태그를 조회수 순으로 추천합니다.")
+    @GetMapping("/search/suggest")
+    public List<SuggestResponse> suggest(@RequestParam("query") String query,
+                                         @RequestParam(defaultValue = "10") int size) {
+        return suggestService.suggest(query, size);
+    }
+}
@@ -0,0 +1,25 @@
+package balancetalk.global.search.presentation;
+
+import balancetalk.global.search.application.TrendingSearchService;
+import balancetalk.global.search.dto.TrendingSearchDto.TrendingSearchResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "search", description = "검색 API")
+public class TrendingSearchController {
+
+    private final TrendingSearchService trendingSearchService;
+
+    @Operation(summary = "인기 검색어 조회", description = "최근 1시간 동안 톡픽, 밸런스게임 검색에서 많이 검색된 검색어를 순위대로 조회합니다.")
+    @GetMapping("/search/trending")
+    public List<TrendingSearchResponse> getTrendingSearches(@RequestParam(defaultValue = "10") int size) {
+        return trendingSearchService.getTrendingSearches(size);
+    }
+}
@@ -2,10 +2,16 @@ package balancetalk.global.utils;
 
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.pagination.Cursor;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.Expressions;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Sort;
@@ -54,4 +60,97 @@ public class QuerydslUtils {
         Path<Boolean> fieldPath = Expressions.path(Boolean.class, path, fieldName);
         return new OrderSpecifier<>(direction, fieldPath);
     }
+
+    /**
+     * 커서 기반 조회에 사용할 정렬 키 목록을 반환한다.
+     * 정렬 가능한 속성은 {@link #getOrderSpecifiers}와 같고, 마지막에 id를 붙여 정렬 순서를 유일하게 만든다.
+     * 동점 정렬 키도 같은 방향으로 정렬해 (views, created_at, id) 인덱스를 한 방향으로 읽을 수 있게 한다.
+     */
+    public static List<CursorKey> getCursorKeys(Path<?> path, Sort sort) {
+        if (sort == null || sort.isEmpty()) {
+            throw new BalanceTalkException(ErrorCode.SORT_REQUIRED);
+        }
+
+        Sort.Order order = sort.iterator().next();
+        Order direction = order.getDirection().isAscending() ? Order.ASC : Order.DESC;
+        if (path.equals(talkPick)) {
+            switch (order.getProperty()) {
+                case "views" -> {
+                    return List.of(
+                            new CursorKey(talkPick.views, direction),
+                            new CursorKey(talkPick.createdAt, direction),
+                            new CursorKey(talkPick.id, direction));
+                }
+                case "createdAt" -> {
+                    return List.of(
+                            new CursorKey(talkPick.createdAt, direction),
+                            new CursorKey(talkPick.id, direction));
+                }
+            }
+        }
+
+        throw new BalanceTalkException(ErrorCode.FAIL_SORT);
+    }
+
+    public static OrderSpecifier<?>[] toOrderSpecifiers(List<CursorKey> cursorKeys) {
+        return cursorKeys.stream()
+                .map(CursorKey::toOrderSpecifier)
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * 커서 이후의 행만 조회하는 조건을 만든다.
+     * (a, b, c) 순으로 정렬할 때 a > x OR (a = x AND b > y) OR (a = x AND b = y AND c > z) 형태이며,
+     * 정렬 키에 인덱스가 있으면 OFFSET 없이 바로 해당 위치부터 읽는다.
+     */
+    public static BooleanExpression afterCursor(List<CursorKey> cursorKeys, Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.size() != cursorKeys.size()) {
+            throw new BalanceTalkException(ErrorCode.INVALID_CURSOR);
+        }
+
+        BooleanExpression predicate = null;
+        BooleanExpression equalsSoFar = null;
+        for (int i = 0; i < cursorKeys.size(); i++) {
+            CursorKey cursorKey = cursorKeys.get(i);
+            Object value = cursorKey.parse(cursor.get(i));
+
+            BooleanExpression after = cursorKey.after(value);
+            BooleanExpression branch = equalsSoFar == null ? after : equalsSoFar.and(after);
+            predicate = predicate == null ? branch : predicate.or(branch);
+
+            BooleanExpression equals = Expressions.booleanOperation(
+                    Ops.EQ, cursorKey.expression(), Expressions.constant(value));
+            equalsSoFar = equalsSoFar == null ? equals : equalsSoFar.and(equals);
+        }
+        return predicate;
+    }
+
+    public record CursorKey(ComparableExpressionBase<?> expression, Order direction) {
+
+        private OrderSpecifier<?> toOrderSpecifier() {
+            return new OrderSpecifier(direction, expression);
+        }
+
+        private BooleanExpression after(Object value) {
+            Ops operator = direction == Order.ASC ? Ops.GT : Ops.LT;
+            return Expressions.booleanOperation(operator, expression, Expressions.constant(value));
+        }
+
+        private Object parse(String value) {
+            try {
+                if (Long.class.equals(expression.getType())) {
+                    return Long.valueOf(value);
+                }
+                if (LocalDateTime.class.equals(expression.getType())) {
+                    return LocalDateTime.parse(value);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new BalanceTalkException(ErrorCode.INVALID_CURSOR);
+            }
+            throw new BalanceTalkException(ErrorCode.INVALID_CURSOR);
+        }
+    }
 }
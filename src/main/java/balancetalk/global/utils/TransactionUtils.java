@@ -0,0 +1,62 @@
+package balancetalk.global.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionUtils {
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋된 이후에, 없으면 즉시 실행한다.
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 롤백된 이후에 실행한다. 트랜잭션이 없으면 롤백될 일도 없으므로 실행하지 않는다.
+     */
+    public static void runAfterRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋이든 롤백이든 끝난 이후에, 없으면 즉시 실행한다.
+     */
+    public static void runAfterCompletion(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package balancetalk.global.viewcount;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상세 조회 시 발생하는 조회수 증가분을 메모리에 누적해두는 버퍼.
+ * 누적된 값은 {@link ViewCountFlushService}가 주기적으로 DB에 일괄 반영한다.
+ */
+@Component
+public class ViewCountBuffer {
+
+    private final Map<ViewTarget, ConcurrentHashMap<Long, LongAdder>> buffers = new EnumMap<>(ViewTarget.class);
+
+    public ViewCountBuffer() {
+        for (ViewTarget target : ViewTarget.values()) {
+            buffers.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increase(ViewTarget target, Long resourceId) {
+        buffers.get(target)
+                .computeIfAbsent(resourceId, id -> new LongAdder())
+                .increment();
+    }
+
+    public long getPendingViews(ViewTarget target, Long resourceId) {
+        LongAdder adder = buffers.get(target).get(resourceId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    public long getPendingCount() {
+        return buffers.values().stream()
+                .mapToLong(buffer -> buffer.values().stream().mapToLong(LongAdder::sum).sum())
+                .sum();
+    }
+
+    /**
+     * 누적된 조회수 증가분을 꺼내고 0으로 초기화한다.
+     * 직전 주기 동안 조회가 없었던 항목은 버퍼에서 제거해 메모리 사용량을 제한한다.
+     */
+    public Map<Long, Long> drain(ViewTarget target) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(target);
+        Map<Long, Long> drained = new HashMap<>();
+
+        buffer.forEach((resourceId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                drained.put(resourceId, views);
+                return;
+            }
+            evictIdle(buffer, resourceId, adder, drained);
+        });
+
+        return drained;
+    }
+
+    /**
+     * DB 반영에 실패한 증가분을 다시 누적해 다음 주기에 함께 반영한다.
+     */
+    public void restore(ViewTarget target, Map<Long, Long> views) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(target);
+        views.forEach((resourceId, count) -> buffer.computeIfAbsent(resourceId, id -> new LongAdder()).add(count));
+    }
+
+    private void evictIdle(ConcurrentHashMap<Long, LongAdder> buffer, Long resourceId, LongAdder adder,
+                           Map<Long, Long> drained) {
+        if (!buffer.remove(resourceId, adder)) {
+            return;
+        }
+        // 제거 직전에 들어온 증가분은 유실되지 않도록 이번 주기에 함께 반영
+        long lateViews = adder.sumThenReset();
+        if (lateViews > 0) {
+            drained.merge(resourceId, lateViews, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package balancetalk.global.viewcount;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final ViewCountFlushService viewCountFlushService;
+
+    // 조회수가 DB에 반영되기까지의 최대 지연 시간
+    @Scheduled(fixedDelayString = "${pick-o.views.max-staleness-ms:3000}")
+    public void flushViews() {
+        viewCountFlushService.flush();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushViewsOnShutdown() {
+        viewCountFlushService.flush();
+    }
+}
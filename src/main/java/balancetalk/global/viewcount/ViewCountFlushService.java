@@ -0,0 +1,85 @@
+package balancetalk.global.viewcount;
+
+import static balancetalk.global.viewcount.ViewTarget.GAME_SET;
+import static balancetalk.global.viewcount.ViewTarget.TALK_PICK;
+
+import balancetalk.game.domain.repository.GameSetRepository;
+import balancetalk.global.utils.TransactionUtils;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+public class ViewCountFlushService {
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final TalkPickRepository talkPickRepository;
+    private final GameSetRepository gameSetRepository;
+    private final Timer flushTimer;
+    private final Counter flushedViewsCounter;
+
+    public ViewCountFlushService(ViewCountBuffer viewCountBuffer,
+                                 TalkPickRepository talkPickRepository,
+                                 GameSetRepository gameSetRepository,
+                                 MeterRegistry meterRegistry) {
+        this.viewCountBuffer = viewCountBuffer;
+        this.talkPickRepository = talkPickRepository;
+        this.gameSetRepository = gameSetRepository;
+        this.flushTimer = Timer.builder("pick-o.views.flush")
+                .description("조회수 버퍼를 DB에 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.flushedViewsCounter = Counter.builder("pick-o.views.flushed")
+                .description("DB에 반영된 조회수 증가분")
+                .register(meterRegistry);
+        Gauge.builder("pick-o.views.pending", viewCountBuffer, ViewCountBuffer::getPendingCount)
+                .description("아직 DB에 반영되지 않은 조회수 증가분")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버퍼에서 꺼낸 증가분은 UPDATE나 커밋이 실패해 롤백되면 버퍼에 되돌려 다음 주기에 다시 반영한다.
+     */
+    @Transactional
+    public void flush() {
+        Map<Long, Long> talkPickViews = viewCountBuffer.drain(TALK_PICK);
+        Map<Long, Long> gameSetViews = viewCountBuffer.drain(GAME_SET);
+        TransactionUtils.runAfterRollback(() -> {
+            log.warn("Fail to flush views. Restore {} talk picks and {} game sets to the buffer",
+                    talkPickViews.size(), gameSetViews.size());
+            viewCountBuffer.restore(TALK_PICK, talkPickViews);
+            viewCountBuffer.restore(GAME_SET, gameSetViews);
+        });
+
+        flushTimer.record(() -> {
+            flushTarget(talkPickViews, talkPickRepository::increaseViews);
+            flushTarget(gameSetViews, gameSetRepository::increaseViews);
+        });
+    }
+
+    private void flushTarget(Map<Long, Long> pendingViews, BiConsumer<List<Long>, Long> updater) {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        // 증가분이 같은 자원끼리 묶어 UPDATE 횟수를 줄인다.
+        Map<Long, List<Long>> idsByViews = new HashMap<>();
+        pendingViews.forEach((resourceId, views) ->
+                idsByViews.computeIfAbsent(views, key -> new ArrayList<>()).add(resourceId));
+        idsByViews.forEach((views, resourceIds) -> updater.accept(resourceIds, views));
+
+        long flushedViews = pendingViews.values().stream().mapToLong(Long::longValue).sum();
+        TransactionUtils.runAfterCommit(() -> flushedViewsCounter.increment(flushedViews));
+        log.debug("Flushed {} views of {} resources", flushedViews, pendingViews.size());
+    }
+}
@@ -0,0 +1,5 @@
+package balancetalk.global.viewcount;
+
+public enum ViewTarget {
+    TALK_PICK, GAME_SET
+}
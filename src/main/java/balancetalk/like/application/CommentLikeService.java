@@ -1,12 +1,12 @@
 package balancetalk.like.application;
 
+import balancetalk.comment.application.BestCommentClassifier;
 import balancetalk.comment.domain.Comment;
 import balancetalk.comment.domain.CommentRepository;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.notification.application.NotificationService;
 import balancetalk.like.domain.Like;
 import balancetalk.like.domain.LikeRepository;
-import balancetalk.like.domain.LikeType;
 import balancetalk.like.dto.LikeDto;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
@@ -44,6 +44,8 @@ public class CommentLikeService {
 
     private final NotificationService notificationService;
 
+    private final BestCommentClassifier bestCommentClassifier;
+
     @Transactional
     public void likeComment(Long commentId, Long talkPickId, ApiMember apiMember) {
         // 톡픽, 댓글, 회원 존재 여부 예외 처리
@@ -69,11 +71,13 @@ public class CommentLikeService {
         if (existingLike.isPresent()) {
             Like commentLike = existingLike.get();
             commentLike.activate();
+            bestCommentClassifier.addLikesCount(comment, 1);
         } else {
             Like commentLike = LikeDto.CreateLikeRequest.toEntity(commentId, member);
             likeRepository.save(commentLike);
+            int likesCount = bestCommentClassifier.addLikesCount(comment, 1);
 
-            sendLikeNotification(comment);
+            sendLikeNotification(comment, likesCount);
 
         }
     }
@@ -95,6 +99,7 @@ public class CommentLikeService {
         }
 
         commentLike.deActive();
+        bestCommentClassifier.addLikesCount(comment, -1);
     }
 
     private void validateTalkPick(Long talkPickId) {
@@ -113,11 +118,7 @@ public class CommentLikeService {
         return comment;
     }
 
-    private void sendLikeNotification(Comment comment) {
-        for (int i = 2; i <= 99; i++) {
-            System.out.println("(" + i + ", 2, 1, 'COMMENT', '2024-08-10 11:00:00.123425', '2024-08-10 11:00:00.123425', b'1'),");
-        }
-        long likeCount = likeRepository.countByResourceIdAndLikeType(comment.getId(), LikeType.COMMENT);
+    private void sendLikeNotification(Comment comment, long likeCount) {
         Member member = comment.getMember();
         TalkPick talkPick = comment.getTalkPick();
         String likeCountKey = "LIKE_" + likeCount;
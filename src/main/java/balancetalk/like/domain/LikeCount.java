@@ -0,0 +1,8 @@
+package balancetalk.like.domain;
+
+public interface LikeCount {
+
+    Long getResourceId();
+
+    long getCount();
+}
@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
@@ -11,6 +12,16 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     boolean existsByResourceIdAndMemberId(Long commentId, Long MemberId);
 
-    @Query("SELECT COUNT(l) FROM Like l WHERE l.resourceId = :commentId AND l.likeType = :likeType AND l.active = true")
-    int countByResourceIdAndLikeType(@Param("commentId") Long commentId, @Param("likeType") LikeType likeType);
+    @Query("SELECT l.resourceId AS resourceId, COUNT(l) AS count FROM Like l "
+            + "WHERE l.resourceId IN :resourceIds AND l.likeType = :likeType AND l.active = true "
+            + "GROUP BY l.resourceId")
+    List<LikeCount> countByResourceIds(@Param("resourceIds") List<Long> resourceIds,
+                                       @Param("likeType") LikeType likeType);
+
+    @Query("SELECT l.resourceId FROM Like l "
+            + "WHERE l.resourceId IN :resourceIds AND l.member.id = :memberId AND l.likeType = :likeType "
+            + "AND l.active = true")
+    List<Long> findActiveResourceIds(@Param("resourceIds") List<Long> resourceIds,
+                                     @Param("memberId") Long memberId,
+                                     @Param("likeType") LikeType likeType);
 }
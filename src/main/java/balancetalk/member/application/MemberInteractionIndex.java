@@ -0,0 +1,184 @@
+package balancetalk.member.application;
+
+import static balancetalk.global.caffeine.CacheType.MemberInteraction;
+
+import balancetalk.bookmark.domain.GameBookmark;
+import balancetalk.bookmark.domain.GameBookmarkRepository;
+import balancetalk.bookmark.domain.TalkPickBookmark;
+import balancetalk.bookmark.domain.TalkPickBookmarkRepository;
+import balancetalk.game.domain.repository.GameSetRepository;
+import balancetalk.global.utils.TransactionUtils;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import balancetalk.vote.domain.GameVote;
+import balancetalk.vote.domain.GameVoteOption;
+import balancetalk.vote.domain.TalkPickVote;
+import balancetalk.vote.domain.TalkPickVoteRepository;
+import balancetalk.vote.domain.VoteOption;
+import balancetalk.vote.domain.VoteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원이 특정 리소스에 투표/북마크/작성했는지를 인덱스를 타는 단건 조회로 판단한다.
+ * Member의 연관 컬렉션을 통째로 불러오지 않으므로 회원의 활동 이력이 많아도 조회 비용이 일정하다.
+ * 자주 반복되는 톡픽 관련 조회 결과는 회원별로 캐시하고, 회원이 투표/북마크를 변경하면 비운다.
+ *
+ * <p>캐시는 서버마다 따로 있어 다른 서버에서 바꾼 내용은 만료(30초)될 때까지 반영되지 않는다.
+ * 그래서 화면 표시와 같은 조회에만 캐시를 쓰고, 중복 투표 검사처럼 쓰기를 막는 판단은 캐시 없이 조회한다.
+ */
+@Service
+public class MemberInteractionIndex {
+
+    private final TalkPickVoteRepository talkPickVoteRepository;
+    private final TalkPickBookmarkRepository talkPickBookmarkRepository;
+    private final TalkPickRepository talkPickRepository;
+    private final VoteRepository gameVoteRepository;
+    private final GameBookmarkRepository gameBookmarkRepository;
+    private final GameSetRepository gameSetRepository;
+    private final Cache<Object, Object> cache;
+
+    public MemberInteractionIndex(TalkPickVoteRepository talkPickVoteRepository,
+                                  TalkPickBookmarkRepository talkPickBookmarkRepository,
+                                  TalkPickRepository talkPickRepository,
+                                  VoteRepository gameVoteRepository,
+                                  GameBookmarkRepository gameBookmarkRepository,
+                                  GameSetRepository gameSetRepository,
+                                  CacheManager cacheManager) {
+        this.talkPickVoteRepository = talkPickVoteRepository;
+        this.talkPickBookmarkRepository = talkPickBookmarkRepository;
+        this.talkPickRepository = talkPickRepository;
+        this.gameVoteRepository = gameVoteRepository;
+        this.gameBookmarkRepository = gameBookmarkRepository;
+        this.gameSetRepository = gameSetRepository;
+        this.cache = Optional.ofNullable((CaffeineCache) cacheManager.getCache(MemberInteraction.getCacheName()))
+                .map(CaffeineCache::getNativeCache)
+                .orElseThrow(() -> new IllegalStateException("캐시가 존재하지 않습니다."));
+    }
+
+    public boolean hasVotedTalkPick(Long memberId, Long talkPickId) {
+        return getVoteOptionOnTalkPick(memberId, talkPickId).isPresent();
+    }
+
+    /**
+     * 다른 서버의 캐시 상태와 관계없이 투표 여부를 DB에서 바로 확인한다.
+     */
+    public boolean hasVotedTalkPickUncached(Long memberId, Long talkPickId) {
+        return getVoteOptionOnTalkPickUncached(memberId, talkPickId).isPresent();
+    }
+
+    /**
+     * 댓글 작성처럼 투표한 선택지를 저장하는 쓰기 작업에서 캐시 없이 DB에서 바로 조회한다.
+     */
+    public Optional<VoteOption> getVoteOptionOnTalkPickUncached(Long memberId, Long talkPickId) {
+        return talkPickVoteRepository.findVoteOptionByMemberIdAndTalkPickId(memberId, talkPickId);
+    }
+
+    public Optional<VoteOption> getVoteOptionOnTalkPick(Long memberId, Long talkPickId) {
+        return interactionsOf(memberId).talkPickVoteOptions.computeIfAbsent(talkPickId,
+                id -> talkPickVoteRepository.findVoteOptionByMemberIdAndTalkPickId(memberId, id));
+    }
+
+    public Optional<TalkPickVote> getVoteOnTalkPick(Long memberId, Long talkPickId) {
+        return talkPickVoteRepository.findByMemberIdAndTalkPickId(memberId, talkPickId);
+    }
+
+    public boolean hasBookmarkedTalkPick(Long memberId, Long talkPickId) {
+        return interactionsOf(memberId).talkPickBookmarks.computeIfAbsent(talkPickId,
+                id -> talkPickBookmarkRepository.existsByMemberIdAndTalkPickIdAndActiveTrue(memberId, id));
+    }
+
+    public Optional<TalkPickBookmark> getTalkPickBookmark(Long memberId, Long talkPickId) {
+        return talkPickBookmarkRepository.findByMemberIdAndTalkPickId(memberId, talkPickId);
+    }
+
+    public boolean isWriterOfTalkPick(Long memberId, Long talkPickId) {
+        return interactionsOf(memberId).writtenTalkPicks.computeIfAbsent(talkPickId,
+                id -> talkPickRepository.existsByIdAndMemberId(id, memberId));
+    }
+
+    public boolean isWriterOfGameSet(Long memberId, Long gameSetId) {
+        return gameSetRepository.existsByIdAndMemberId(gameSetId, memberId);
+    }
+
+    public boolean hasVotedGame(Long memberId, Long gameId) {
+        return gameVoteRepository.existsByMemberIdAndGameId(memberId, gameId);
+    }
+
+    public Optional<GameVote> getVoteOnGame(Long memberId, Long gameId) {
+        return gameVoteRepository.findByMemberIdAndGameId(memberId, gameId);
+    }
+
+    /**
+     * @return 게임 ID를 키로, 회원이 투표한 선택지를 값으로 가지는 맵
+     */
+    public Map<Long, VoteOption> getVoteOptionsOnGameSet(Long memberId, Long gameSetId) {
+        Map<Long, VoteOption> voteOptions = new HashMap<>();
+        for (GameVoteOption vote : gameVoteRepository.findVoteOptionsByMemberIdAndGameSetId(memberId, gameSetId)) {
+            voteOptions.putIfAbsent(vote.getGameId(), vote.getVoteOption());
+        }
+        return voteOptions;
+    }
+
+    public boolean hasBookmarkedGame(Long memberId, Long gameSetId, Long gameId) {
+        return gameBookmarkRepository.existsByMemberIdAndGameSetIdAndGameIdAndActiveTrue(memberId, gameSetId, gameId);
+    }
+
+    public Optional<GameBookmark> getGameBookmark(Long memberId, Long gameSetId) {
+        return gameBookmarkRepository.findByMemberIdAndGameSetId(memberId, gameSetId);
+    }
+
+    public Set<Long> getBookmarkedGameSetIds(Long memberId, List<Long> gameSetIds) {
+        if (gameSetIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(gameBookmarkRepository.findActiveGameSetIds(memberId, gameSetIds));
+    }
+
+    /**
+     * 회원의 투표/북마크가 바뀌었을 때 호출한다.
+     * 트랜잭션 전에 한 번, 커밋이나 롤백으로 끝난 뒤에 한 번 비워서 트랜잭션 중에 읽힌 상태가 캐시에 남지 않도록 한다.
+     */
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+        TransactionUtils.runAfterCompletion(() -> cache.invalidate(memberId));
+    }
+
+    private MemberInteractions interactionsOf(Long memberId) {
+        return (MemberInteractions) cache.get(memberId, id -> new MemberInteractions());
+    }
+
+    private static class MemberInteractions {
+
+        // 한 회원이 세션 동안 조회한 리소스 수가 이보다 많으면 새로 채운다.
+        private static final int MAX_ENTRIES = 1024;
+
+        private final Map<Long, Optional<VoteOption>> talkPickVoteOptions = new BoundedMap<>();
+        private final Map<Long, Boolean> talkPickBookmarks = new BoundedMap<>();
+        private final Map<Long, Boolean> writtenTalkPicks = new BoundedMap<>();
+
+        private static class BoundedMap<V> extends ConcurrentHashMap<Long, V> {
+
+            @Override
+            public V computeIfAbsent(Long key, Function<? super Long, ? extends V> mappingFunction) {
+                V value = get(key);
+                if (value != null) {
+                    return value;
+                }
+                if (size() >= MAX_ENTRIES) {
+                    clear();
+                }
+                return super.computeIfAbsent(key, mappingFunction);
+            }
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package balancetalk.member.application;
 
 import static balancetalk.file.domain.FileType.TALK_PICK;
+import static balancetalk.global.pagination.CountShape.GAME_BOOKMARKS_OF_MEMBER;
+import static balancetalk.global.pagination.CountShape.GAME_SETS_OF_MEMBER;
+import static balancetalk.global.pagination.CountShape.TALK_PICKS_OF_MEMBER;
+import static balancetalk.global.pagination.CountShape.TALK_PICK_BOOKMARKS_OF_MEMBER;
+import static balancetalk.global.pagination.CountShape.TALK_PICK_COMMENTS_OF_MEMBER;
+import static balancetalk.global.pagination.CountShape.TALK_PICK_VOTES_OF_MEMBER;
 
 import balancetalk.bookmark.domain.GameBookmark;
 import balancetalk.bookmark.domain.TalkPickBookmark;
@@ -19,6 +25,7 @@ import balancetalk.game.domain.repository.GameSetRepository;
 import balancetalk.game.dto.GameDto.GameMyPageResponse;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
+import balancetalk.global.pagination.TotalCountService;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
 import balancetalk.member.dto.ApiMember;
@@ -58,11 +65,13 @@ public class MyPageService {
     private final GameRepository gameRepository;
     private final GameSetRepository gameSetRepository;
     private final FileRepository fileRepository;
+    private final TotalCountService totalCountService;
 
     @Transactional(readOnly = true)
-    public Page<TalkPickMyPageResponse> findAllBookmarkedTalkPicks(ApiMember apiMember, Pageable pageable) {
+    public Page<TalkPickMyPageResponse> findAllBookmarkedTalkPicks(ApiMember apiMember, Pageable pageable,
+                                                                   boolean exactCount) {
         Member member = apiMember.toMember(memberRepository);
-        Page<TalkPickBookmark> bookmarks =
+        List<TalkPickBookmark> bookmarks =
                 talkPickBookmarkRepository.findActivatedByMemberOrderByDesc(member, pageable);
 
         List<TalkPickMyPageResponse> responses = bookmarks.stream()
@@ -74,13 +83,15 @@ public class MyPageService {
                 })
                 .toList();
 
-        return new PageImpl<>(responses, pageable, bookmarks.getTotalElements());
+        return totalCountService.getPage(responses, pageable, TALK_PICK_BOOKMARKS_OF_MEMBER, member.getId(),
+                exactCount, () -> talkPickBookmarkRepository.countByMemberAndActiveTrue(member));
     }
 
     @Transactional(readOnly = true)
-    public Page<TalkPickMyPageResponse> findAllVotedTalkPicks(ApiMember apiMember, Pageable pageable) {
+    public Page<TalkPickMyPageResponse> findAllVotedTalkPicks(ApiMember apiMember, Pageable pageable,
+                                                              boolean exactCount) {
         Member member = apiMember.toMember(memberRepository);
-        Page<TalkPickVote> votes = talkPickVoteRepository.findAllByMemberIdAndTalkPickDesc(member.getId(), pageable);
+        List<TalkPickVote> votes = talkPickVoteRepository.findAllByMemberIdAndTalkPickDesc(member.getId(), pageable);
 
         List<TalkPickMyPageResponse> responses = votes.stream()
                 .map(vote -> {
@@ -90,13 +101,15 @@ public class MyPageService {
                 })
                 .toList();
 
-        return new PageImpl<>(responses, pageable, votes.getTotalElements());
+        return totalCountService.getPage(responses, pageable, TALK_PICK_VOTES_OF_MEMBER, member.getId(),
+                exactCount, () -> talkPickVoteRepository.countByMemberIdAndTalkPickIsNotNull(member.getId()));
     }
 
     @Transactional(readOnly = true)
-    public Page<TalkPickMyPageResponse> findAllCommentedTalkPicks(ApiMember apiMember, Pageable pageable) {
+    public Page<TalkPickMyPageResponse> findAllCommentedTalkPicks(ApiMember apiMember, Pageable pageable,
+                                                                  boolean exactCount) {
         Member member = apiMember.toMember(memberRepository);
-        Page<Comment> comments =
+        List<Comment> comments =
                 commentRepository.findAllLatestCommentsByMemberIdAndOrderByDesc(member.getId(), pageable);
 
         List<TalkPickMyPageResponse> responses = comments.stream()
@@ -107,13 +120,15 @@ public class MyPageService {
                 })
                 .toList();
 
-        return new PageImpl<>(responses, pageable, comments.getTotalElements());
+        return totalCountService.getPage(responses, pageable, TALK_PICK_COMMENTS_OF_MEMBER, member.getId(),
+                exactCount, () -> commentRepository.countLatestCommentsByMemberId(member.getId()));
     }
 
     @Transactional(readOnly = true)
-    public Page<TalkPickMyPageResponse> findAllTalkPicksByMember(ApiMember apiMember, Pageable pageable) {
+    public Page<TalkPickMyPageResponse> findAllTalkPicksByMember(ApiMember apiMember, Pageable pageable,
+                                                                 boolean exactCount) {
         Member member = apiMember.toMember(memberRepository);
-        Page<TalkPick> talkPicks = talkPickRepository.findAllByMemberOrderByEditedAtDesc(member, pageable);
+        List<TalkPick> talkPicks = talkPickRepository.findAllByMemberOrderByEditedAtDesc(member, pageable);
 
         List<TalkPickMyPageResponse> responses = talkPicks.stream()
                 .map(talkPick -> {
@@ -123,13 +138,15 @@ public class MyPageService {
                 })
                 .toList();
 
-        return new PageImpl<>(responses, pageable, talkPicks.getTotalElements());
+        return totalCountService.getPage(responses, pageable, TALK_PICKS_OF_MEMBER, member.getId(),
+                exactCount, () -> talkPickRepository.countByMember(member));
     }
 
     @Transactional(readOnly = true)
-    public Page<GameMyPageResponse> findAllBookmarkedGames(ApiMember apiMember, Pageable pageable) {
+    public Page<GameMyPageResponse> findAllBookmarkedGames(ApiMember apiMember, Pageable pageable,
+                                                           boolean exactCount) {
         Member member = apiMember.toMember(memberRepository);
-        Page<GameBookmark> bookmarks = gameBookmarkRepository.findActivatedByMemberOrderByDesc(member, pageable);
+        List<GameBookmark> bookmarks = gameBookmarkRepository.findActivatedByMemberOrderByDesc(member, pageable);
 
         List<GameMyPageResponse> responses = bookmarks.stream()
                 .map(bookmark -> {
@@ -140,7 +157,8 @@ public class MyPageService {
                 })
                 .toList();
 
-        return new PageImpl<>(responses, pageable, bookmarks.getTotalElements());
+        return totalCountService.getPage(responses, pageable, GAME_BOOKMARKS_OF_MEMBER, member.getId(),
+                exactCount, () -> gameBookmarkRepository.countByMemberAndActiveTrue(member));
     }
 
     private List<Long> getResourceIds(Game game) {
@@ -181,9 +199,10 @@ public class MyPageService {
     }
 
     @Transactional(readOnly = true)
-    public Page<GameMyPageResponse> findAllGamesByMember(ApiMember apiMember, Pageable pageable) {
+    public Page<GameMyPageResponse> findAllGamesByMember(ApiMember apiMember, Pageable pageable,
+                                                         boolean exactCount) {
         Member member = apiMember.toMember(memberRepository);
-        Page<GameSet> gameSets = gameSetRepository.findAllByMemberIdOrderByEditedAtDesc(member.getId(), pageable);
+        List<GameSet> gameSets = gameSetRepository.findAllByMemberIdOrderByEditedAtDesc(member.getId(), pageable);
 
         List<GameMyPageResponse> responses = gameSets.stream()
                 .map(gameSet -> {
@@ -194,7 +213,8 @@ public class MyPageService {
                 })
                 .toList();
 
-        return new PageImpl<>(responses, pageable, gameSets.getTotalElements());
+        return totalCountService.getPage(responses, pageable, GAME_SETS_OF_MEMBER, member.getId(),
+                exactCount, () -> gameSetRepository.countByMemberId(member.getId()));
     }
 
     private GameMyPageResponse createGameMyPageResponse(Game game, GameBookmark gameBookmark, Object source) {
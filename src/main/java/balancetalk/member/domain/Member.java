@@ -4,7 +4,6 @@ import static balancetalk.member.domain.Role.USER;
 
 import balancetalk.bookmark.domain.GameBookmark;
 import balancetalk.bookmark.domain.TalkPickBookmark;
-import balancetalk.game.domain.Game;
 import balancetalk.game.domain.GameSet;
 import balancetalk.game.domain.TempGameSet;
 import balancetalk.global.common.BaseTimeEntity;
@@ -29,7 +28,6 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -107,71 +105,6 @@ public class Member extends BaseTimeEntity {
         this.profileImgId = profileImgId;
     }
 
-    public boolean hasBookmarked(GameSet gameSet, Long gameId) {
-        return this.gameBookmarks.stream()
-                .anyMatch(bookmark -> bookmark.matches(gameSet, gameId) && bookmark.isActive());
-    }
-
-    public boolean hasBookmarked(TalkPick talkPick) {
-        return this.talkPickBookmarks.stream()
-                .anyMatch(bookmark -> bookmark.matches(talkPick) && bookmark.isActive());
-    }
-
-    public boolean hasBookmarkedGameSet(GameSet gameSet) {
-        return this.gameBookmarks.stream()
-                .anyMatch(bookmark -> bookmark.matches(gameSet) && bookmark.isActive());
-    }
-
-    public Optional<TalkPickVote> getVoteOnTalkPick(TalkPick talkPick) {
-        return this.talkPickVotes.stream()
-                .filter(vote -> vote.matchesTalkPick(talkPick))
-                .findAny();
-    }
-
-    public boolean hasVotedTalkPick(TalkPick talkPick) {
-        return talkPickVotes.stream()
-                .anyMatch(vote -> vote.matchesTalkPick(talkPick));
-    }
-
-    public Optional<GameVote> getVoteOnGame(Game game) {
-        return gameVotes.stream()
-                .filter(vote -> vote.getGameOption().getGame().equals(game))
-                .findAny();
-    }
-
-    public Optional<GameVote> getVoteOnGameOption(Member member, Game game) {
-        return member.getGameVotes().stream()
-                .filter(vote -> game.getGameOptions().stream()
-                        .anyMatch(vote::matchesGameOption))
-                .findAny();
-    }
-
-    public boolean hasVotedGame(Game game) {
-        return gameVotes.stream()
-                .anyMatch(vote -> game.getGameOptions().stream()
-                        .anyMatch(vote::matchesGameOption));
-    }
-
-    public boolean isMyTalkPick(TalkPick talkPick) {
-        return talkPicks.contains(talkPick);
-    }
-
-    public boolean isMyGameSet(GameSet gameSet) {
-        return gameSets.contains(gameSet);
-    }
-
-    public Optional<TalkPickBookmark> getTalkPickBookmarkOf(TalkPick talkPick) {
-        return talkPickBookmarks.stream()
-                .filter(bookmark -> bookmark.matches(talkPick))
-                .findFirst();
-    }
-
-    public Optional<GameBookmark> getGameBookmarkOf(GameSet gameSet) {
-        return gameBookmarks.stream()
-                .filter(bookmark -> bookmark.matches(gameSet))
-                .findFirst();
-    }
-
     public TalkPick getTalkPickById(long talkPickId) {
         return talkPicks.stream()
                 .filter(talkPick -> talkPick.matchesId(talkPickId))
@@ -206,14 +139,6 @@ public class Member extends BaseTimeEntity {
         return talkPickBookmarks.size() + gameBookmarks.size();
     }
 
-    public boolean cannotWriteComment(TalkPick talkPick) {
-        return (!this.hasVotedTalkPick(talkPick) && !isWriterOf(talkPick));
-    }
-
-    public boolean isWriterOf(TalkPick talkPick) {
-        return talkPicks.contains(talkPick);
-    }
-
     public boolean isRoleUser() {
         return role == USER;
     }
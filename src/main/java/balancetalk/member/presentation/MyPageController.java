@@ -32,50 +32,55 @@ public class MyPageController {
     @Operation(summary = "북마크한 톡픽 목록 조회", description = "로그인한 회원이 북마크한 톡픽 목록을 조회한다.")
     public Page<TalkPickMyPageResponse> findAllBookmarkedTalkPicks(
             @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "6", required = false) int size,
+            @RequestParam(defaultValue = "false") boolean exactCount,
             @Parameter(hidden = true) @AuthPrincipal ApiMember apiMember) {
 
         Pageable pageable = PageRequest.of(page, size);
-        return myPageService.findAllBookmarkedTalkPicks(apiMember, pageable);
+        return myPageService.findAllBookmarkedTalkPicks(apiMember, pageable, exactCount);
     }
 
     @GetMapping("/talks/votes")
     @Operation(summary = "투표한 톡픽 목록 조회", description = "로그인한 회원이 투표한 톡픽 목록을 조회한다.")
     public Page<TalkPickMyPageResponse> findAllVotedTalkPicks(
             @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "6", required = false) int size,
+            @RequestParam(defaultValue = "false") boolean exactCount,
             @Parameter(hidden = true) @AuthPrincipal ApiMember apiMember) {
 
         Pageable pageable = PageRequest.of(page, size);
-        return myPageService.findAllVotedTalkPicks(apiMember, pageable);
+        return myPageService.findAllVotedTalkPicks(apiMember, pageable, exactCount);
     }
   
     @GetMapping("/talks/comments")
     @Operation(summary = "내가 댓글 단 톡픽 목록 조회", description = "로그인한 회원이 댓글을 단 톡픽 목록을 조회한다.")
     public Page<TalkPickMyPageResponse> findAllCommentedTalkPicks(
             @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "6", required = false) int size,
+            @RequestParam(defaultValue = "false") boolean exactCount,
             @Parameter(hidden = true) @AuthPrincipal ApiMember apiMember) {
 
         Pageable pageable = PageRequest.of(page, size);
-        return myPageService.findAllCommentedTalkPicks(apiMember, pageable);
+        return myPageService.findAllCommentedTalkPicks(apiMember, pageable, exactCount);
     }
 
     @GetMapping("/talks/written")
     @Operation(summary = "내가 작성한 톡픽 목록 조회", description = "로그인한 회원이 작성한 톡픽 목록을 조회한다.")
     public Page<TalkPickMyPageResponse> findAllMyTalkPicks(
             @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "6", required = false) int size,
+            @RequestParam(defaultValue = "false") boolean exactCount,
             @Parameter(hidden = true) @AuthPrincipal ApiMember apiMember) {
 
         Pageable pageable = PageRequest.of(page, size);
-        return myPageService.findAllTalkPicksByMember(apiMember, pageable);
+        return myPageService.findAllTalkPicksByMember(apiMember, pageable, exactCount);
     }
 
     @GetMapping("/game-sets/bookmarks")
     @Operation(summary = "북마크한 밸런스 게임 목록 조회", description = "로그인한 회원이 북마크한 밸런스 게임 목록을 조회한다.")
     public Page<GameMyPageResponse> findAllBookmarkedGames(
             @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "6", required = false) int size,
+            @RequestParam(defaultValue = "false") boolean exactCount,
             @Parameter(hidden = true) @AuthPrincipal ApiMember apiMember) {
 
         Pageable pageable = PageRequest.of(page, size);
-        return myPageService.findAllBookmarkedGames(apiMember, pageable);
+        return myPageService.findAllBookmarkedGames(apiMember, pageable, exactCount);
     }
 
     @GetMapping("/game-sets/votes")
@@ -92,10 +97,11 @@ public class MyPageController {
     @Operation(summary = "내가 작성한 밸런스 게임 목록 조회", description = "로그인한 회원이 작성한 밸런스 게임 목록을 조회한다.")
     public Page<GameMyPageResponse> findAllMyGames(
             @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "6", required = false) int size,
+            @RequestParam(defaultValue = "false") boolean exactCount,
             @Parameter(hidden = true) @AuthPrincipal ApiMember apiMember) {
 
         Pageable pageable = PageRequest.of(page, size);
-        return myPageService.findAllGamesByMember(apiMember, pageable);
+        return myPageService.findAllGamesByMember(apiMember, pageable, exactCount);
     }
 
     @ResponseStatus(HttpStatus.OK)
@@ -0,0 +1,82 @@
+package balancetalk.talkpick.application;
+
+import balancetalk.global.utils.TransactionUtils;
+import balancetalk.talkpick.domain.HotScoreEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 톡픽 활동을 시간 감쇠 인기 점수로 환산해 메모리에 누적해두는 버퍼.
+ * 누적된 값은 {@link HotScoreFlushService}가 주기적으로 DB에 일괄 반영한다.
+ *
+ * <p>활동 하나의 점수는 {@code weight * e^((t - EPOCH) / τ)}이며, 모든 톡픽의 점수가 같은 비율로 감쇠하므로
+ * 과거 점수를 다시 계산하지 않고 새 활동의 점수만 더해도 순위가 유지된다.
+ * 값이 지수적으로 커지지 않도록 점수는 자연로그를 취한 값으로 보관하고 더한다.
+ * 반감기를 바꾸면 기존에 저장된 점수와 단위가 달라지므로 주의해야 한다.
+ */
+@Component
+public class HotScoreBuffer {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final double decayHours;
+    private final ConcurrentHashMap<Long, Double> buffer = new ConcurrentHashMap<>();
+
+    public HotScoreBuffer(@Value("${pick-o.hot-score.half-life-hours:24}") double halfLifeHours) {
+        this.decayHours = halfLifeHours / Math.log(2);
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 이후에 활동을 반영한다.
+     */
+    public void record(Long talkPickId, HotScoreEvent event) {
+        TransactionUtils.runAfterCommit(() -> record(talkPickId, event, LocalDateTime.now()));
+    }
+
+    void record(Long talkPickId, HotScoreEvent event, LocalDateTime occurredAt) {
+        buffer.merge(talkPickId, scoreOf(event, occurredAt), HotScoreBuffer::logSum);
+    }
+
+    public double scoreOf(HotScoreEvent event, LocalDateTime occurredAt) {
+        double hours = Duration.between(EPOCH, occurredAt).toSeconds() / 3600.0;
+        return Math.log(event.getWeight()) + hours / decayHours;
+    }
+
+    /**
+     * 로그 값으로 보관된 두 점수의 합을 로그 값으로 반환한다. ln(e^a + e^b)
+     */
+    public static double logSum(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * 누적된 점수를 꺼내고 버퍼에서 제거한다.
+     */
+    public Map<Long, Double> drain() {
+        Map<Long, Double> drained = new HashMap<>();
+        for (Long talkPickId : buffer.keySet()) {
+            Double score = buffer.remove(talkPickId);
+            if (score != null) {
+                drained.put(talkPickId, score);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * DB 반영에 실패한 점수를 다시 누적해 다음 주기에 함께 반영한다.
+     */
+    public void restore(Map<Long, Double> scores) {
+        scores.forEach((talkPickId, score) -> buffer.merge(talkPickId, score, HotScoreBuffer::logSum));
+    }
+}
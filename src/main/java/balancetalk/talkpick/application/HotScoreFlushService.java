@@ -0,0 +1,52 @@
+package balancetalk.talkpick.application;
+
+import balancetalk.global.utils.TransactionUtils;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+public class HotScoreFlushService {
+
+    private final HotScoreBuffer hotScoreBuffer;
+    private final TalkPickRepository talkPickRepository;
+    private final Timer flushTimer;
+
+    public HotScoreFlushService(HotScoreBuffer hotScoreBuffer,
+                                TalkPickRepository talkPickRepository,
+                                MeterRegistry meterRegistry) {
+        this.hotScoreBuffer = hotScoreBuffer;
+        this.talkPickRepository = talkPickRepository;
+        this.flushTimer = Timer.builder("pick-o.hot-score.flush")
+                .description("인기 점수 버퍼를 DB에 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("pick-o.hot-score.pending", hotScoreBuffer, HotScoreBuffer::getPendingCount)
+                .description("인기 점수가 아직 DB에 반영되지 않은 톡픽 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버퍼에서 꺼낸 점수는 UPDATE나 커밋이 실패해 롤백되면 버퍼에 되돌려 다음 주기에 다시 반영한다.
+     */
+    @Transactional
+    public void flush() {
+        Map<Long, Double> pendingScores = hotScoreBuffer.drain();
+        TransactionUtils.runAfterRollback(() -> {
+            log.warn("Fail to flush hot scores. Restore {} talk picks to the buffer", pendingScores.size());
+            hotScoreBuffer.restore(pendingScores);
+        });
+
+        flushTimer.record(() -> {
+            pendingScores.forEach(talkPickRepository::addHotScore);
+            if (!pendingScores.isEmpty()) {
+                log.debug("Flushed hot scores of {} talk picks", pendingScores.size());
+            }
+        });
+    }
+}
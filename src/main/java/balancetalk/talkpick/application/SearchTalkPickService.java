@@ -1,10 +1,30 @@
 package balancetalk.talkpick.application;
 
+import static balancetalk.file.domain.FileType.TALK_PICK;
+
+import balancetalk.file.domain.File;
+import balancetalk.file.domain.repository.FileRepository;
+import balancetalk.global.search.SearchHits;
+import balancetalk.global.search.SearchMode;
+import balancetalk.global.search.SearchResultCache;
+import balancetalk.global.search.SearchResultCache.SearchTarget;
+import balancetalk.global.search.application.QueryCorrectionService;
+import balancetalk.global.search.application.QueryCorrectionService.CorrectedSearch;
+import balancetalk.global.search.application.TrendingSearchService;
+import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.repository.SearchTalkPickRepository;
 import balancetalk.talkpick.dto.SearchTalkPickResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,8 +32,135 @@ import org.springframework.stereotype.Service;
 public class SearchTalkPickService {
 
     private final SearchTalkPickRepository searchTalkPickRepository;
+    private final SearchResultCache searchResultCache;
+    private final TalkPickSearchIndex talkPickSearchIndex;
+    private final TalkPickSemanticIndex talkPickSemanticIndex;
+    private final QueryCorrectionService queryCorrectionService;
+    private final TrendingSearchService trendingSearchService;
+    private final FileRepository fileRepository;
+
+    // true면 DB FULLTEXT 검색 대신 메모리 역색인으로 검색 (색인이 준비되기 전에는 DB 검색 사용)
+    @Value("${pick-o.search.talk-pick.use-index:false}")
+    private boolean useIndex;
+
+    @Value("${pick-o.search.max-total-count:1000}")
+    private int maxTotalCount;
+
+    // 의미 검색은 유사도 순 상위 결과만 의미가 있으므로 페이지를 넘겨 볼 수 있는 최대 개수를 따로 둔다.
+    @Value("${pick-o.search.semantic.max-results:100}")
+    private int maxSemanticResults;
+
+    /**
+     * 검색하고 결과와 전체 개수를 함께 캐시한다. 결과가 없으면 오타/띄어쓰기를 교정한 검색어로 다시 검색한다.
+     * exactCount가 true면 캐시를 거치지 않고 다시 검색한다.
+     */
+    public Page<SearchTalkPickResponse> searchTalkPicks(String rawQuery, Pageable pageable, boolean exactCount) {
+        return searchTalkPicks(rawQuery, pageable, exactCount, SearchMode.KEYWORD);
+    }
+
+    /**
+     * SEMANTIC이면 의미 검색 색인에서 유사도 순으로 찾는다. 색인이 준비되지 않았으면 KEYWORD 검색을 사용한다.
+     */
+    public Page<SearchTalkPickResponse> searchTalkPicks(String rawQuery, Pageable pageable, boolean exactCount,
+                                                        SearchMode mode) {
+        if (mode == SearchMode.SEMANTIC && talkPickSemanticIndex.isReady()) {
+            recordTrending(rawQuery, pageable);
+            if (exactCount) {
+                return searchSemantic(rawQuery, pageable);
+            }
+            return searchResultCache.getOrSearch(SearchTarget.TALK_PICK_SEMANTIC, rawQuery, pageable, "similarity",
+                    () -> searchSemantic(rawQuery, pageable));
+        }
+
+        CorrectedSearch<SearchTalkPickResponse> search = queryCorrectionService.searchWithCorrection(rawQuery,
+                query -> searchKeyword(query, pageable, exactCount));
+        recordTrending(search.query(), pageable);
+        return search.result();
+    }
+
+    private Page<SearchTalkPickResponse> searchKeyword(String query, Pageable pageable, boolean exactCount) {
+        if (exactCount) {
+            return search(query, pageable);
+        }
+        return searchResultCache.getOrSearch(SearchTarget.TALK_PICK, query, pageable, pageable.getSort().toString(),
+                () -> search(query, pageable));
+    }
+
+    private void recordTrending(String query, Pageable pageable) {
+        // 다음 페이지 조회는 같은 검색이므로 첫 페이지만 인기 검색어로 센다.
+        if (pageable.getPageNumber() == 0) {
+            trendingSearchService.record(query);
+        }
+    }
+
+    /**
+     * 톡픽과 의미가 가까운 다른 톡픽을 유사도 순으로 찾는다. 의미 검색 색인이 준비되지 않았으면 빈 목록을 돌려준다.
+     */
+    public List<SearchTalkPickResponse> findSimilarTalkPicks(Long talkPickId, int size) {
+        if (!talkPickSemanticIndex.isReady()) {
+            return List.of();
+        }
+        int limit = Math.min(Math.max(size, 1), maxSemanticResults);
+        return toResponses(talkPickSemanticIndex.findSimilar(talkPickId, limit));
+    }
+
+    private Page<SearchTalkPickResponse> search(String query, Pageable pageable) {
+        if (useIndex && talkPickSearchIndex.isReady()) {
+            return searchFromIndex(query, pageable);
+        }
+
+        List<SearchTalkPickResponse> talkPicks = searchTalkPickRepository.searchTalkPicks(query, pageable);
+        return PageableExecutionUtils.getPage(talkPicks, pageable,
+                () -> searchTalkPickRepository.countTalkPicks(query, maxTotalCount));
+    }
+
+    /**
+     * 역색인에서 BM25 점수 순으로 톡픽 ID를 찾고, 해당 페이지의 톡픽과 첫 번째 이미지만 ID로 조회한다.
+     */
+    private Page<SearchTalkPickResponse> searchFromIndex(String query, Pageable pageable) {
+        SearchHits hits = talkPickSearchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(toResponses(hits.ids()), pageable, Math.min(hits.totalHits(), maxTotalCount));
+    }
+
+    /**
+     * 의미 검색 결과는 정렬 조건과 관계없이 유사도 순이며, 최대 maxSemanticResults개까지 페이지로 나눈다.
+     */
+    private Page<SearchTalkPickResponse> searchSemantic(String query, Pageable pageable) {
+        if (pageable.getOffset() >= maxSemanticResults) {
+            return new PageImpl<>(List.of(), pageable, maxSemanticResults);
+        }
+        List<Long> ids = talkPickSemanticIndex.search(query, maxSemanticResults);
+        List<Long> pageIds = ids.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(toResponses(pageIds), pageable, ids.size());
+    }
+
+    /**
+     * 톡픽과 첫 번째 이미지를 ID로 한 번씩 조회해 주어진 ID 순서대로 응답을 만든다.
+     */
+    private List<SearchTalkPickResponse> toResponses(List<Long> talkPickIds) {
+        if (talkPickIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TalkPick> talkPicks = searchTalkPickRepository.findAllById(talkPickIds).stream()
+                .collect(Collectors.toMap(TalkPick::getId, Function.identity()));
+        Map<Long, String> firstImgUrls = getFirstImgUrls(talkPickIds);
+
+        return talkPickIds.stream()
+                .map(talkPicks::get)
+                .filter(Objects::nonNull)
+                .map(talkPick -> new SearchTalkPickResponse(talkPick, firstImgUrls.get(talkPick.getId())))
+                .toList();
+    }
 
-    public Page<SearchTalkPickResponse> searchTalkPicks(final String query, Pageable pageable) {
-        return searchTalkPickRepository.searchTalkPicks(query, pageable);
+    private Map<Long, String> getFirstImgUrls(List<Long> talkPickIds) {
+        return fileRepository.findAllByResourceIdsAndFileType(talkPickIds, TALK_PICK).stream()
+                .collect(Collectors.toMap(File::getResourceId, Function.identity(),
+                        (first, second) -> first.getId() < second.getId() ? first : second))
+                .values().stream()
+                .collect(Collectors.toMap(File::getResourceId, File::getImgUrl));
     }
 }
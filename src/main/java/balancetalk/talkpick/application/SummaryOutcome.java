@@ -0,0 +1,14 @@
+package balancetalk.talkpick.application;
+
+public enum SummaryOutcome {
+    // 요약 성공
+    SUMMARIZED,
+    // 본문이 짧아 요약하지 않음
+    NOT_REQUIRED,
+    // 요약 대상 필드가 그대로거나 같은 내용의 요약이 있어 재사용함
+    REUSED,
+    // 모델은 응답했지만 요약 형식이나 길이가 맞지 않음
+    INVALID,
+    // 모델 호출 자체가 실패함 (서킷 브레이커와 동시성 조절에 반영)
+    ERROR
+}
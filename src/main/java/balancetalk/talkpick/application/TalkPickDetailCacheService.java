@@ -0,0 +1,65 @@
+package balancetalk.talkpick.application;
+
+import static balancetalk.file.domain.FileType.MEMBER;
+import static balancetalk.file.domain.FileType.TALK_PICK;
+import static balancetalk.global.caffeine.CacheType.TalkPickDetail;
+import static balancetalk.talkpick.dto.TalkPickDto.TalkPickDetailContent;
+
+import balancetalk.file.domain.repository.FileRepository;
+import balancetalk.global.utils.TransactionUtils;
+import balancetalk.talkpick.domain.TalkPick;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class TalkPickDetailCacheService {
+
+    private final FileRepository fileRepository;
+    private final Cache<Object, Object> cache;
+
+    public TalkPickDetailCacheService(FileRepository fileRepository,
+                                      CacheManager cacheManager,
+                                      MeterRegistry meterRegistry) {
+        this.fileRepository = fileRepository;
+        this.cache = Optional.ofNullable((CaffeineCache) cacheManager.getCache(TalkPickDetail.getCacheName()))
+                .map(CaffeineCache::getNativeCache)
+                .orElseThrow(() -> new IllegalStateException("캐시가 존재하지 않습니다."));
+        Gauge.builder("pick-o.talk-pick.detail-cache.hit-ratio", cache, c -> c.stats().hitRate())
+                .description("톡픽 상세 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    public TalkPickDetailContent getOrLoad(TalkPick talkPick) {
+        return (TalkPickDetailContent) cache.get(talkPick.getId(), talkPickId -> load(talkPick));
+    }
+
+    private TalkPickDetailContent load(TalkPick talkPick) {
+        Long talkPickId = talkPick.getId();
+        List<String> imgUrls = fileRepository.findImgUrlsByResourceIdAndFileType(talkPickId, TALK_PICK);
+        List<Long> fileIds = fileRepository.findIdsByResourceIdAndFileType(talkPickId, TALK_PICK);
+        String writerImgUrl = fileRepository.findImgUrlByResourceIdAndFileType(talkPick.getMemberId(), MEMBER)
+                .orElse(null);
+
+        return TalkPickDetailContent.from(talkPick, writerImgUrl, imgUrls, fileIds);
+    }
+
+    public void evict(Long talkPickId) {
+        cache.invalidate(talkPickId);
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 이후에 캐시를 비운다.
+     * 커밋 전에 비우면 그 사이 다른 요청이 변경 전 내용을 다시 캐시에 올릴 수 있기 때문이다.
+     */
+    public void evictAfterCommit(Long talkPickId) {
+        TransactionUtils.runAfterCommit(() -> evict(talkPickId));
+    }
+}
@@ -7,21 +7,20 @@ import balancetalk.file.domain.FileHandler;
 import balancetalk.file.domain.repository.FileRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 톡픽 파일 재배치와 삭제. 작업 큐에서 호출되며, 실패하면 예외를 그대로 던져 작업 큐가 재시도하게 한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class TalkPickFileService {
 
     private final FileRepository fileRepository;
     private final FileHandler fileHandler;
+    private final TalkPickDetailCacheService talkPickDetailCacheService;
 
-    @Async("fileMappingTaskExecutor")
-    @Retryable(backoff = @Backoff(delay = 1000))
     @Transactional
     public void handleFilesOnTalkPickCreate(List<Long> fileIds, Long talkPickId) {
         if (fileIds == null || fileIds.isEmpty()) {
@@ -33,27 +32,30 @@ public class TalkPickFileService {
     private void relocateFiles(List<Long> fileIds, Long talkPickId) {
         List<File> files = fileRepository.findAllById(fileIds);
         fileHandler.relocateFiles(files, talkPickId, TALK_PICK);
+        // 파일 재배치는 커밋 뒤 작업 큐에서 끝나므로 그 사이 캐시된 이미지 목록을 비운다.
+        talkPickDetailCacheService.evictAfterCommit(talkPickId);
     }
 
-    @Async
-    @Retryable(backoff = @Backoff(delay = 1000))
     @Transactional
     public void handleFilesOnTalkPickUpdate(List<Long> newFileIds, List<Long> deleteFileIds, Long talkPickId) {
         deleteFiles(deleteFileIds);
-        newFileIds.removeIf((deleteFileIds::contains));
+        if (newFileIds == null || newFileIds.isEmpty()) {
+            return;
+        }
+        if (deleteFileIds != null) {
+            newFileIds.removeIf((deleteFileIds::contains));
+        }
         relocateFiles(newFileIds, talkPickId);
     }
 
     private void deleteFiles(List<Long> deleteFileIds) {
-        if (deleteFileIds.isEmpty()) {
+        if (deleteFileIds == null || deleteFileIds.isEmpty()) {
             return;
         }
         List<File> files = fileRepository.findAllById(deleteFileIds);
         fileHandler.deleteFiles(files);
     }
 
-    @Async
-    @Retryable(backoff = @Backoff(delay = 1000))
     @Transactional
     public void handleFilesOnTalkPickDelete(Long talkPickId) {
         if (notExistsFilesBy(talkPickId)) {
@@ -1,6 +1,13 @@
 package balancetalk.talkpick.application;
 
+import balancetalk.global.search.RebuildableSnapshot;
+import balancetalk.vote.application.VotesCountReconcileService;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -8,16 +15,62 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TalkPickScheduleService {
 
-    private final TalkPickSummaryService talkPickSummaryService;
+    private final TalkPickSummaryRetryService talkPickSummaryRetryService;
     private final TodayTalkPickService todayTalkPickService;
+    private final TalkPickService talkPickService;
+    private final HotScoreFlushService hotScoreFlushService;
+    private final VotesCountReconcileService votesCountReconcileService;
 
-//    @Scheduled(cron = "0 30 00 * * ?")
+    // 톡픽마다 다음 재시도 시각이 따로 정해지므로 자주 확인해도 재시도 시각이 된 톡픽만 다시 요약한다.
+    @Scheduled(fixedDelayString = "${pick-o.summary.retry.interval-ms:300000}",
+            initialDelayString = "${pick-o.summary.retry.interval-ms:300000}")
     public void retryFailedSummaries() {
-        talkPickSummaryService.summarizeFailedTalkPick();
+        talkPickSummaryRetryService.retryFailedSummaries();
     }
 
+    @Scheduled(cron = "${pick-o.today-talk-pick-prepare-cron:0 50 23 * * ?}")
+    public void prepareTodayTalkPick() {
+        todayTalkPickService.prepareTodayTalkPick(LocalDate.now().plusDays(1L));
+    }
+
+    // 미리 선정된 목록은 자정 이후 첫 조회 때 교체되며, 선정되지 않은 경우를 대비해 자정에 한 번 더 확인
     @Scheduled(cron = "0 00 00 * * ?")
     public void updateTodayTalkPick() {
-        todayTalkPickService.updateTodayTalkPick();
+        todayTalkPickService.updateTodayTalkPick(LocalDate.now());
+    }
+
+    @Scheduled(fixedDelayString = "${pick-o.best-talk-pick-refresh-interval-ms:60000}")
+    public void refreshBestTalkPicks() {
+        talkPickService.refreshBestTalkPicks();
+    }
+
+    // 인기 점수가 DB에 반영되기까지의 최대 지연 시간
+    @Scheduled(fixedDelayString = "${pick-o.hot-score.flush-interval-ms:10000}")
+    public void flushHotScores() {
+        hotScoreFlushService.flush();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushHotScoresOnShutdown() {
+        hotScoreFlushService.flush();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpSnapshots() {
+        todayTalkPickService.reloadTodayTalkPick(LocalDate.now());
+        talkPickService.refreshBestTalkPicks();
+    }
+
+    // 투표수 컬럼을 추가한 뒤 첫 보정 전까지 0으로 보이지 않도록 시작 시에도 한 번 보정한다. 어긋난 톡픽만 쓰므로 반복해도 안전하다.
+    @Async("backfillTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillVotesCount() {
+        reconcileVotesCount();
+    }
+
+    @Scheduled(cron = "${pick-o.votes-count-reconcile-cron:0 0 4 * * ?}")
+    public void reconcileVotesCount() {
+        RebuildableSnapshot.forEachChunk(votesCountReconcileService::findTalkPickIds, Long::longValue,
+                votesCountReconcileService::reconcileChunk);
     }
 }
@@ -0,0 +1,123 @@
+package balancetalk.talkpick.application;
+
+import balancetalk.global.search.InvertedIndex;
+import balancetalk.global.search.InvertedIndex.Field;
+import balancetalk.global.search.RebuildableSnapshot;
+import balancetalk.global.search.SearchHits;
+import balancetalk.global.utils.TransactionUtils;
+import balancetalk.talkpick.domain.Summary;
+import balancetalk.talkpick.domain.TalkPick;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 톡픽 검색용 메모리 역색인. 서버 시작 시 DB에서 다시 만들고, 이후에는 톡픽 생성/수정/삭제 이벤트로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TalkPickSearchIndex {
+
+    private static final float TITLE_BOOST = 3.0f;
+    private static final float OPTION_BOOST = 2.0f;
+    private static final float SUMMARY_BOOST = 1.5f;
+    private static final float CONTENT_BOOST = 1.0f;
+
+    private final TalkPickRepository talkPickRepository;
+
+    // 역색인 검색을 사용하지 않으면 서버 시작 시 색인을 만들지 않고, 톡픽 변경도 반영하지 않는다.
+    @Value("${pick-o.search.talk-pick.use-index:false}")
+    private boolean enabled;
+
+    private final RebuildableSnapshot<InvertedIndex> index = new RebuildableSnapshot<>(new InvertedIndex());
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public SearchHits search(String query, int offset, int limit) {
+        return index.current().search(query, offset, limit);
+    }
+
+    @Async("searchIndexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        if (index.rebuild(this::load)) {
+            ready = true;
+            log.info("Rebuilt talk pick search index with {} documents", index.current().size());
+        }
+    }
+
+    private InvertedIndex load() {
+        InvertedIndex newIndex = new InvertedIndex();
+        RebuildableSnapshot.forEachChunk(talkPickRepository::findTop500ByIdGreaterThanOrderByIdAsc, TalkPick::getId,
+                talkPicks -> talkPicks.forEach(talkPick -> newIndex.put(talkPick.getId(), toFields(talkPick))));
+        return newIndex;
+    }
+
+    public void index(Long talkPickId) {
+        if (!enabled) {
+            return;
+        }
+        talkPickRepository.findById(talkPickId)
+                .ifPresentOrElse(this::put, () -> delete(talkPickId));
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 이후에 변경된 톡픽 내용을 색인에 반영한다.
+     */
+    public void indexAfterCommit(TalkPick talkPick) {
+        if (!enabled) {
+            return;
+        }
+        TransactionUtils.runAfterCommit(() -> put(talkPick));
+    }
+
+    public void remove(Long talkPickId) {
+        if (!enabled) {
+            return;
+        }
+        delete(talkPickId);
+    }
+
+    // 재색인 도중 반영돼도 새 색인에 다시 적용되도록 필드를 미리 만들어 둔다.
+    private void put(TalkPick talkPick) {
+        Long talkPickId = talkPick.getId();
+        List<Field> fields = toFields(talkPick);
+        index.apply(target -> target.put(talkPickId, fields));
+    }
+
+    private void delete(Long talkPickId) {
+        index.apply(target -> target.remove(talkPickId));
+    }
+
+    private List<Field> toFields(TalkPick talkPick) {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field(talkPick.getTitle(), TITLE_BOOST));
+        fields.add(new Field(talkPick.getOptionA(), OPTION_BOOST));
+        fields.add(new Field(talkPick.getOptionB(), OPTION_BOOST));
+        fields.add(new Field(talkPick.getContent(), CONTENT_BOOST));
+        Summary summary = talkPick.getSummary();
+        if (summary != null) {
+            fields.add(new Field(summary.getFirstLine(), SUMMARY_BOOST));
+            fields.add(new Field(summary.getSecondLine(), SUMMARY_BOOST));
+            fields.add(new Field(summary.getThirdLine(), SUMMARY_BOOST));
+        }
+        return fields;
+    }
+}
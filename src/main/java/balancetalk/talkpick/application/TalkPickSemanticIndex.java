@@ -0,0 +1,179 @@
+package balancetalk.talkpick.application;
+
+import balancetalk.global.search.HnswIndex;
+import balancetalk.global.search.HnswIndex.Neighbor;
+import balancetalk.global.search.RebuildableSnapshot;
+import balancetalk.global.search.embedding.EmbeddingProvider;
+import balancetalk.talkpick.domain.Summary;
+import balancetalk.talkpick.domain.TalkPick;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 톡픽 의미 검색용 임베딩 색인. 톡픽 제목, 선택지, 요약(없으면 본문 앞부분)을 임베딩해 HNSW 그래프에 저장한다.
+ *
+ * <p>임베딩 계산은 톡픽 생성/수정 이벤트에서 전용 스레드로 넘겨 요청 처리 시간에 포함되지 않게 한다. 스레드가 하나이므로
+ * 서버 시작 시 재색인이 끝난 뒤 그 사이 쌓인 변경이 순서대로 반영된다.
+ */
+@Slf4j
+@Component
+public class TalkPickSemanticIndex {
+
+    private static final int MAX_CONTENT_LENGTH = 500;
+    private static final double COMPACT_DELETED_RATIO = 0.2;
+
+    private final TalkPickRepository talkPickRepository;
+    private final EmbeddingProvider embeddingProvider;
+
+    @Value("${pick-o.search.semantic.enabled:false}")
+    private boolean enabled;
+
+    @Value("${pick-o.search.semantic.ef-search:64}")
+    private int efSearch;
+
+    private volatile HnswIndex index;
+    private volatile boolean ready;
+
+    public TalkPickSemanticIndex(TalkPickRepository talkPickRepository,
+                                 EmbeddingProvider embeddingProvider,
+                                 MeterRegistry meterRegistry) {
+        this.talkPickRepository = talkPickRepository;
+        this.embeddingProvider = embeddingProvider;
+        this.index = new HnswIndex(embeddingProvider.dimensions());
+        Gauge.builder("pick-o.search.semantic.size", this, semanticIndex -> semanticIndex.index.size())
+                .description("의미 검색 색인에 저장된 톡픽 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 검색어와 의미가 가까운 톡픽 ID를 유사도 순으로 최대 k개 찾는다.
+     */
+    public List<Long> search(String query, int k) {
+        return toIds(index.search(embeddingProvider.embed(query), k, Math.max(efSearch, k), null));
+    }
+
+    /**
+     * 톡픽과 의미가 가까운 다른 톡픽 ID를 유사도 순으로 최대 k개 찾는다. 색인되지 않은 톡픽이면 빈 목록을 돌려준다.
+     */
+    public List<Long> findSimilar(Long talkPickId, int k) {
+        HnswIndex current = index;
+        float[] vector = current.vectorOf(talkPickId);
+        if (vector == null) {
+            return List.of();
+        }
+        return toIds(current.search(vector, k, Math.max(efSearch, k), talkPickId));
+    }
+
+    @Async("semanticIndexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB의 모든 톡픽을 임베딩해 색인을 새로 만든다. 청크 단위로 임베딩해 외부 모델 호출 횟수를 줄인다.
+     *
+     * <p>재색인과 변경 반영이 같은 단일 스레드에서 순서대로 실행되므로, 재색인 도중의 변경을 따로 기록해 다시 적용하지 않는다.
+     */
+    public void rebuild() {
+        HnswIndex newIndex = new HnswIndex(embeddingProvider.dimensions());
+        RebuildableSnapshot.forEachChunk(talkPickRepository::findTop500ByIdGreaterThanOrderByIdAsc, TalkPick::getId,
+                talkPicks -> indexChunk(newIndex, talkPicks));
+        synchronized (this) {
+            index = newIndex;
+            ready = true;
+        }
+        log.info("Rebuilt talk pick semantic index with {} documents", newIndex.size());
+    }
+
+    private void indexChunk(HnswIndex target, List<TalkPick> talkPicks) {
+        List<float[]> vectors = embeddingProvider.embedAll(talkPicks.stream().map(this::textOf).toList());
+        for (int i = 0; i < talkPicks.size(); i++) {
+            target.put(talkPicks.get(i).getId(), vectors.get(i));
+        }
+    }
+
+    /**
+     * 톡픽을 다시 조회해 임베딩을 갱신한다. 트랜잭션 커밋 이후(이벤트 핸들러)에서 호출한다.
+     */
+    @Async("semanticIndexTaskExecutor")
+    public void index(Long talkPickId) {
+        if (!enabled) {
+            return;
+        }
+        talkPickRepository.findById(talkPickId)
+                .ifPresentOrElse(talkPick -> put(talkPickId, embeddingProvider.embed(textOf(talkPick))),
+                        () -> delete(talkPickId));
+    }
+
+    @Async("semanticIndexTaskExecutor")
+    public void remove(Long talkPickId) {
+        if (enabled) {
+            delete(talkPickId);
+        }
+    }
+
+    // 압축 중에 반영된 변경이 새 그래프로 교체되며 사라지지 않도록 압축과 같은 잠금으로 반영한다.
+    private synchronized void put(Long talkPickId, float[] vector) {
+        index.put(talkPickId, vector);
+    }
+
+    private synchronized void delete(Long talkPickId) {
+        index.remove(talkPickId);
+    }
+
+    /**
+     * 삭제/수정으로 버려진 슬롯이 많아지면 살아 있는 벡터만으로 그래프를 다시 만든다. 임베딩을 다시 계산하지는 않는다.
+     */
+    // 그래프 재구성이 스케줄러 스레드를 잡지 않고, 임베딩 변경과 같은 순서로 처리되도록 의미 색인 실행기로 넘긴다.
+    @Async("semanticIndexTaskExecutor")
+    @Scheduled(fixedDelayString = "${pick-o.search.semantic.compact-interval-ms:3600000}")
+    public synchronized void compactIfNeeded() {
+        if (!isReady() || index.deletedRatio() < COMPACT_DELETED_RATIO) {
+            return;
+        }
+        HnswIndex current = index;
+        index = current.compact();
+        log.info("Compacted talk pick semantic index to {} documents", index.size());
+    }
+
+    private String textOf(TalkPick talkPick) {
+        StringJoiner text = new StringJoiner("\n");
+        text.add(talkPick.getTitle());
+        text.add(talkPick.getOptionA() + " vs " + talkPick.getOptionB());
+        Summary summary = talkPick.getSummary();
+        if (summary != null && summary.getFirstLine() != null) {
+            Stream.of(summary.getFirstLine(), summary.getSecondLine(), summary.getThirdLine())
+                    .filter(Objects::nonNull)
+                    .forEach(text::add);
+        } else if (talkPick.getContent() != null) {
+            String content = talkPick.getContent();
+            text.add(content.length() <= MAX_CONTENT_LENGTH ? content : content.substring(0, MAX_CONTENT_LENGTH));
+        }
+        return text.toString();
+    }
+
+    private List<Long> toIds(List<Neighbor> neighbors) {
+        return neighbors.stream()
+                .map(Neighbor::id)
+                .toList();
+    }
+}
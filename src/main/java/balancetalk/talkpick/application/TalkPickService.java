@@ -1,27 +1,34 @@
 package balancetalk.talkpick.application;
 
-import static balancetalk.file.domain.FileType.MEMBER;
-import static balancetalk.file.domain.FileType.TALK_PICK;
 import static balancetalk.global.exception.ErrorCode.NOT_FOUND_TALK_PICK;
 import static balancetalk.talkpick.dto.TalkPickDto.CreateTalkPickRequest;
+import static balancetalk.talkpick.dto.TalkPickDto.TalkPickDetailContent;
 import static balancetalk.talkpick.dto.TalkPickDto.TalkPickDetailResponse;
 import static balancetalk.talkpick.dto.TalkPickDto.TalkPickResponse;
 import static balancetalk.talkpick.dto.TalkPickDto.UpdateTalkPickRequest;
 
-import balancetalk.file.domain.repository.FileRepository;
+import static balancetalk.global.pagination.CountShape.TALK_PICKS;
+import static balancetalk.global.pagination.CountShape.TALK_PICKS_OF_MEMBER;
+
 import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.pagination.Cursor;
+import balancetalk.global.pagination.CursorSliceResponse;
+import balancetalk.global.pagination.TotalCountService;
+import balancetalk.global.viewcount.ViewCountBuffer;
+import balancetalk.global.viewcount.ViewTarget;
+import balancetalk.member.application.MemberInteractionIndex;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
 import balancetalk.member.dto.ApiMember;
 import balancetalk.member.dto.GuestOrApiMember;
+import balancetalk.talkpick.domain.HotScoreEvent;
 import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.event.TalkPickCreatedEvent;
 import balancetalk.talkpick.domain.event.TalkPickDeletedEvent;
 import balancetalk.talkpick.domain.event.TalkPickUpdatedEvent;
 import balancetalk.talkpick.domain.repository.TalkPickRepository;
-import balancetalk.vote.domain.TalkPickVote;
+import balancetalk.vote.domain.VoteOption;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -33,10 +40,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TalkPickService {
 
+    private static final int MAX_TRENDING_SIZE = 50;
+
     private final MemberRepository memberRepository;
     private final TalkPickRepository talkPickRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final FileRepository fileRepository;
+    private final TalkPickDetailCacheService talkPickDetailCacheService;
+    private final MemberInteractionIndex memberInteractionIndex;
+    private final ViewCountBuffer viewCountBuffer;
+    private final TotalCountService totalCountService;
+    private final TalkPickSnapshotHolder talkPickSnapshotHolder;
+    private final HotScoreBuffer hotScoreBuffer;
 
     @Transactional
     public Long createTalkPick(CreateTalkPickRequest request, ApiMember apiMember) {
@@ -44,49 +58,68 @@ public class TalkPickService {
         TalkPick savedTalkPick = talkPickRepository.save(request.toEntity(member));
         Long savedTalkPickId = savedTalkPick.getId();
 
+        totalCountService.increase(TALK_PICKS, null);
+        hotScoreBuffer.record(savedTalkPickId, HotScoreEvent.CREATE);
+        totalCountService.increase(TALK_PICKS_OF_MEMBER, member.getId());
         eventPublisher.publishEvent(new TalkPickCreatedEvent(savedTalkPickId, request.getFileIds()));
 
         return savedTalkPickId;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public TalkPickDetailResponse findById(Long talkPickId, GuestOrApiMember guestOrApiMember) {
         TalkPick talkPick = talkPickRepository.findById(talkPickId)
                 .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_TALK_PICK));
-        talkPick.increaseViews();
+        viewCountBuffer.increase(ViewTarget.TALK_PICK, talkPickId);
+        hotScoreBuffer.record(talkPickId, HotScoreEvent.VIEW);
 
-        List<String> imgUrls = fileRepository.findImgUrlsByResourceIdAndFileType(talkPickId, TALK_PICK);
-        List<Long> fileIds = fileRepository.findIdsByResourceIdAndFileType(talkPickId, TALK_PICK);
+        // 이미지, 작성자 프로필 등 잘 바뀌지 않는 부분은 캐시에서 가져오고 투표수 등은 엔티티에서 채운다.
+        TalkPickDetailContent content = talkPickDetailCacheService.getOrLoad(talkPick);
+        TalkPickDetailResponse response = createDetailResponse(talkPick, content, guestOrApiMember);
 
-        String writerImgUrl = fileRepository.findImgUrlByResourceIdAndFileType(talkPick.getMemberId(), MEMBER)
-                .orElse(null);
+        // 아직 DB에 반영되지 않은 조회수까지 포함해서 응답
+        response.setViews(talkPick.getViews() + viewCountBuffer.getPendingViews(ViewTarget.TALK_PICK, talkPickId));
+        return response;
+    }
 
+    private TalkPickDetailResponse createDetailResponse(TalkPick talkPick,
+                                                        TalkPickDetailContent content,
+                                                        GuestOrApiMember guestOrApiMember) {
         if (guestOrApiMember.isGuest()) {
-            return TalkPickDetailResponse.from(talkPick, writerImgUrl, imgUrls, fileIds, false, null);
+            return TalkPickDetailResponse.from(content, talkPick, false, null);
         }
 
-        Member member = guestOrApiMember.toMember(memberRepository);
-        boolean hasBookmarked = member.hasBookmarked(talkPick);
-        Optional<TalkPickVote> myVote = member.getVoteOnTalkPick(talkPick);
+        Long memberId = guestOrApiMember.toMember(memberRepository).getId();
+        boolean hasBookmarked = memberInteractionIndex.hasBookmarkedTalkPick(memberId, talkPick.getId());
+        VoteOption myVoteOption = memberInteractionIndex.getVoteOptionOnTalkPick(memberId, talkPick.getId())
+                .orElse(null);
+
+        return TalkPickDetailResponse.from(content, talkPick, hasBookmarked, myVoteOption);
+    }
 
-        if (myVote.isEmpty()) {
-            return TalkPickDetailResponse.from(talkPick, writerImgUrl, imgUrls, fileIds, hasBookmarked, null);
-        }
+    public Page<TalkPickResponse> findPaged(Pageable pageable, boolean exactCount) {
+        List<TalkPickResponse> talkPicks = talkPickRepository.findPagedTalkPicks(pageable);
+        return totalCountService.getPage(talkPicks, pageable, TALK_PICKS, null, exactCount, talkPickRepository::count);
+    }
 
-        return TalkPickDetailResponse.from(talkPick,
-                writerImgUrl,
-                imgUrls,
-                fileIds,
-                hasBookmarked,
-                myVote.get().getVoteOption());
+    public CursorSliceResponse<TalkPickResponse> findByCursor(String cursor, Pageable pageable) {
+        Cursor.validateSize(pageable.getPageSize());
+        return talkPickRepository.findTalkPicksByCursor(Cursor.decode(cursor), pageable);
     }
 
-    public Page<TalkPickResponse> findPaged(Pageable pageable) {
-        return talkPickRepository.findPagedTalkPicks(pageable);
+    public List<TalkPickResponse> findTrendingTalkPicks(int size) {
+        return talkPickRepository.findTrendingTalkPicks(Math.min(Math.max(size, 1), MAX_TRENDING_SIZE));
     }
 
     public List<TalkPickResponse> findBestTalkPicks() {
-        return talkPickRepository.findBestTalkPicks();
+        return talkPickSnapshotHolder.findBestTalkPicks()
+                .orElseGet(this::refreshBestTalkPicks);
+    }
+
+    public List<TalkPickResponse> refreshBestTalkPicks() {
+        List<TalkPickResponse> bestTalkPicks = talkPickRepository.findBestTalkPicks();
+        talkPickSnapshotHolder.replaceBestTalkPicks(bestTalkPicks);
+        return bestTalkPicks;
     }
 
     @Transactional
@@ -104,6 +137,8 @@ public class TalkPickService {
         Member member = apiMember.toMember(memberRepository);
         TalkPick talkPick = member.getTalkPickById(talkPickId);
         talkPickRepository.delete(talkPick);
+        totalCountService.decrease(TALK_PICKS, null);
+        totalCountService.decrease(TALK_PICKS_OF_MEMBER, member.getId());
 
         eventPublisher.publishEvent(new TalkPickDeletedEvent(talkPickId));
     }
@@ -0,0 +1,77 @@
+package balancetalk.talkpick.application;
+
+import static balancetalk.talkpick.dto.TalkPickDto.TalkPickResponse;
+import static balancetalk.talkpick.dto.TodayTalkPickDto.TodayTalkPickResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * 홈 화면에 노출되는 오늘의 톡픽, 베스트 톡픽 목록을 메모리에 보관한다.
+ * 목록은 스케줄러가 미리 만들어 통째로 교체하므로, 조회 시에는 DB에 접근하지 않는다.
+ */
+@Component
+public class TalkPickSnapshotHolder {
+
+    private final AtomicReference<TodaySelection> today = new AtomicReference<>();
+    private final AtomicReference<TodaySelection> next = new AtomicReference<>();
+    private volatile List<TalkPickResponse> bestTalkPicks;
+
+    /**
+     * 해당 날짜의 오늘의 톡픽을 반환한다.
+     * 날짜가 바뀐 뒤 첫 조회라면 미리 만들어 둔 다음 날 목록으로 교체한다.
+     */
+    public Optional<List<TodayTalkPickResponse>> findTodayTalkPicks(LocalDate pickDate) {
+        TodaySelection current = today.get();
+        if (current != null && current.pickDate().equals(pickDate)) {
+            return Optional.of(current.talkPicks());
+        }
+
+        TodaySelection prepared = next.get();
+        if (prepared != null && prepared.pickDate().equals(pickDate)) {
+            today.compareAndSet(current, prepared);
+            return Optional.of(prepared.talkPicks());
+        }
+        return Optional.empty();
+    }
+
+    public void replaceTodayTalkPicks(LocalDate pickDate, List<TodayTalkPickResponse> talkPicks) {
+        today.set(new TodaySelection(pickDate, List.copyOf(talkPicks)));
+    }
+
+    public void prepareNextTalkPicks(LocalDate pickDate, List<TodayTalkPickResponse> talkPicks) {
+        next.set(new TodaySelection(pickDate, List.copyOf(talkPicks)));
+    }
+
+    public Optional<LocalDate> findNextPickDate() {
+        return Optional.ofNullable(next.get()).map(TodaySelection::pickDate);
+    }
+
+    public Optional<List<TalkPickResponse>> findBestTalkPicks() {
+        return Optional.ofNullable(bestTalkPicks);
+    }
+
+    public void replaceBestTalkPicks(List<TalkPickResponse> talkPicks) {
+        bestTalkPicks = List.copyOf(talkPicks);
+    }
+
+    public boolean containsTodayTalkPick(Long talkPickId) {
+        return contains(today.get(), talkPickId) || contains(next.get(), talkPickId);
+    }
+
+    public boolean containsBestTalkPick(Long talkPickId) {
+        List<TalkPickResponse> talkPicks = bestTalkPicks;
+        return talkPicks != null && talkPicks.stream().anyMatch(talkPick -> talkPickId.equals(talkPick.getId()));
+    }
+
+    private boolean contains(TodaySelection selection, Long talkPickId) {
+        return selection != null && selection.talkPicks().stream()
+                .anyMatch(talkPick -> talkPickId.equals(talkPick.getId()));
+    }
+
+    private record TodaySelection(LocalDate pickDate, List<TodayTalkPickResponse> talkPicks) {
+    }
+}
@@ -0,0 +1,57 @@
+package balancetalk.talkpick.application;
+
+import static balancetalk.global.caffeine.CacheType.TalkPickSummary;
+import static balancetalk.talkpick.domain.SummaryStatus.SUCCESS;
+
+import balancetalk.talkpick.domain.Summary;
+import balancetalk.talkpick.domain.TalkPick;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+/**
+ * 요약 지문(제목/선택지/본문 해시)으로 찾는 요약 캐시.
+ *
+ * <p>메모리에 없으면 같은 지문으로 요약에 성공한 톡픽을 DB에서 찾는다. 같은 내용을 다시 올리거나 수정했다가 되돌린 경우
+ * 모델을 호출하지 않고 기존 요약을 재사용할 수 있다.
+ */
+@Service
+public class TalkPickSummaryCache {
+
+    private final TalkPickRepository talkPickRepository;
+    private final Cache<Object, Object> cache;
+
+    public TalkPickSummaryCache(TalkPickRepository talkPickRepository,
+                                CacheManager cacheManager,
+                                MeterRegistry meterRegistry) {
+        this.talkPickRepository = talkPickRepository;
+        this.cache = Optional.ofNullable((CaffeineCache) cacheManager.getCache(TalkPickSummary.getCacheName()))
+                .map(CaffeineCache::getNativeCache)
+                .orElseThrow(() -> new IllegalStateException("캐시가 존재하지 않습니다."));
+        Gauge.builder("pick-o.talk-pick.summary-cache.hit-ratio", cache, c -> c.stats().hitRate())
+                .description("톡픽 요약 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    public Optional<Summary> find(String fingerprint) {
+        Summary cached = (Summary) cache.getIfPresent(fingerprint);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Summary> stored = talkPickRepository
+                .findFirstBySummaryFingerprintAndSummaryStatus(fingerprint, SUCCESS)
+                .map(TalkPick::getSummary);
+        stored.ifPresent(summary -> cache.put(fingerprint, summary));
+        return stored;
+    }
+
+    public void put(Summary summary) {
+        cache.put(summary.getFingerprint(), summary);
+    }
+}
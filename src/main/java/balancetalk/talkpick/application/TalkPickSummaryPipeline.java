@@ -0,0 +1,138 @@
+package balancetalk.talkpick.application;
+
+import balancetalk.global.resilience.AdaptiveConcurrencyLimit;
+import balancetalk.global.resilience.CircuitBreaker;
+import balancetalk.global.resilience.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 톡픽 요약 작업을 모델 호출 속도와 동시 호출 수를 조절하며 처리한다.
+ *
+ * <p>작업 큐의 작업자가 호출하며, 서킷 브레이커 → 토큰 버킷 → 동시성 상한 순서로 통과한 뒤 호출한 스레드에서 요약한다.
+ * 톡픽 작성이 몰려도 모델 호출은 설정한 속도와 동시성을 넘지 않고, 나머지는 작업 큐에서 기다린다.
+ * 서킷이 열려 있으면 모델을 호출하지 않고 바로 실패로 표시해 실패 요약 재시도에 맡긴다.
+ */
+@Slf4j
+@Component
+public class TalkPickSummaryPipeline {
+
+    private final TalkPickSummaryService talkPickSummaryService;
+
+    private final TokenBucket tokenBucket;
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+
+    private final Counter circuitOpenCounter;
+    private final Map<SummaryOutcome, Timer> timers = new EnumMap<>(SummaryOutcome.class);
+
+    public TalkPickSummaryPipeline(
+            TalkPickSummaryService talkPickSummaryService,
+            MeterRegistry meterRegistry,
+            @Value("${pick-o.summary.rate-limit.burst:10}") int burst,
+            @Value("${pick-o.summary.rate-limit.per-second:2}") double permitsPerSecond,
+            @Value("${pick-o.summary.circuit-breaker.failure-rate:0.5}") double failureRate,
+            @Value("${pick-o.summary.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${pick-o.summary.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${pick-o.summary.circuit-breaker.open-duration-ms:30000}") long openDurationMillis,
+            @Value("${pick-o.summary.concurrency.min:1}") int minConcurrency,
+            @Value("${pick-o.summary.concurrency.max:8}") int maxConcurrency,
+            @Value("${pick-o.summary.concurrency.initial:4}") int initialConcurrency,
+            @Value("${pick-o.summary.concurrency.target-latency-ms:10000}") long targetLatencyMillis) {
+        this.talkPickSummaryService = talkPickSummaryService;
+        this.tokenBucket = new TokenBucket(burst, permitsPerSecond);
+        this.circuitBreaker = new CircuitBreaker(failureRate, minimumCalls, windowSize, openDurationMillis);
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(minConcurrency, maxConcurrency, initialConcurrency,
+                TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis));
+
+        this.circuitOpenCounter = Counter.builder("pick-o.summary.rejected")
+                .tag("reason", "circuit-open")
+                .description("모델을 호출하지 않고 실패로 표시한 요약 요청 수")
+                .register(meterRegistry);
+        for (SummaryOutcome outcome : SummaryOutcome.values()) {
+            timers.put(outcome, Timer.builder("pick-o.summary.duration")
+                    .tag("outcome", outcome.name())
+                    .description("톡픽 하나를 요약하는 데 걸린 시간")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("pick-o.summary.in-flight", concurrencyLimit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("요약 중인 톡픽 수")
+                .register(meterRegistry);
+        Gauge.builder("pick-o.summary.concurrency.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit)
+                .description("현재 요약 동시 호출 상한")
+                .register(meterRegistry);
+        Gauge.builder("pick-o.summary.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("요약 서킷 브레이커 상태 (0: 닫힘, 1: 반열림, 2: 열림)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 톡픽을 요약한다. 기존 요약을 재사용할 수 있으면 모델을 호출하지 않고 바로 반영한다.
+     * 모델 호출 실패는 요약 상태로 남겨 실패 요약 재시도에 맡기고, 기다리다 중단된 경우에만 예외를 던져 작업을 다시 처리하게 한다.
+     */
+    public void summarize(Long talkPickId) {
+        if (talkPickSummaryService.trySummarizeWithoutModel(talkPickId)) {
+            return;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            circuitOpenCounter.increment();
+            talkPickSummaryService.markSummaryFailed(talkPickId);
+            return;
+        }
+
+        try {
+            awaitToken();
+            concurrencyLimit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored();
+            throw new IllegalStateException("Interrupted while waiting to summarize TalkPick ID = " + talkPickId, e);
+        }
+        process(talkPickId);
+    }
+
+    private void awaitToken() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tokenBucket.tryAcquire()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void process(Long talkPickId) {
+        long start = System.nanoTime();
+        SummaryOutcome outcome = null;
+        try {
+            outcome = talkPickSummaryService.summarizeTalkPick(talkPickId);
+        } catch (Exception e) {
+            // 삭제된 톡픽 등 모델을 호출하기 전에 끝난 경우
+            log.warn("Skip summary of TalkPick ID = {}: {}", talkPickId, e.getMessage());
+        } finally {
+            record(outcome, System.nanoTime() - start);
+            concurrencyLimit.release();
+        }
+    }
+
+    private void record(SummaryOutcome outcome, long elapsedNanos) {
+        if (outcome == null || outcome == SummaryOutcome.NOT_REQUIRED || outcome == SummaryOutcome.REUSED) {
+            circuitBreaker.onIgnored();
+            return;
+        }
+
+        timers.get(outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (outcome == SummaryOutcome.ERROR) {
+            circuitBreaker.onFailure();
+            concurrencyLimit.onFailure();
+            return;
+        }
+        circuitBreaker.onSuccess();
+        concurrencyLimit.onSuccess(elapsedNanos);
+    }
+}
@@ -0,0 +1,78 @@
+package balancetalk.talkpick.application;
+
+import static balancetalk.global.job.JobType.TALK_PICK_SUMMARY;
+import static balancetalk.talkpick.domain.SummaryStatus.FAIL;
+
+import balancetalk.global.job.JobQueue;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 요약에 실패한 톡픽 중 재시도 시각이 된 것을 요약 작업 큐에 다시 넣는다.
+ *
+ * <p>실패 톡픽을 한 번에 읽지 않고 ID 순으로 chunkSize씩 읽으며, 톡픽마다 별도 트랜잭션으로 선점하면서 요약 작업을 넣는다.
+ * 모델 호출은 작업자와 파이프라인의 속도 제한, 동시성 상한 안에서 병렬로 처리되고, 톡픽마다 각자의 트랜잭션에서 결과를 반영한다.
+ * 대기 중인 요약 작업이 maxPending을 넘게 되면 멈추고 나머지는 다음 실행에 맡기므로, 실패가 많이 쌓여 있어도 작업 큐를 밀어내지 않는다.
+ */
+@Slf4j
+@Service
+public class TalkPickSummaryRetryService {
+
+    private final TalkPickRepository talkPickRepository;
+    private final TalkPickSummaryService talkPickSummaryService;
+    private final JobQueue jobQueue;
+    private final int chunkSize;
+    private final long maxPending;
+    private final int maxAttempts;
+    private final long leaseMillis;
+
+    public TalkPickSummaryRetryService(TalkPickRepository talkPickRepository,
+                                       TalkPickSummaryService talkPickSummaryService,
+                                       JobQueue jobQueue,
+                                       @Value("${pick-o.summary.retry.chunk-size:100}") int chunkSize,
+                                       @Value("${pick-o.summary.retry.max-pending:1000}") long maxPending,
+                                       @Value("${pick-o.summary.retry.max-attempts:8}") int maxAttempts,
+                                       @Value("${pick-o.summary.retry.lease-ms:1800000}") long leaseMillis) {
+        this.talkPickRepository = talkPickRepository;
+        this.talkPickSummaryService = talkPickSummaryService;
+        this.jobQueue = jobQueue;
+        this.chunkSize = chunkSize;
+        this.maxPending = maxPending;
+        this.maxAttempts = maxAttempts;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * @return 작업 큐에 다시 넣은 톡픽 수
+     */
+    public int retryFailedSummaries() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMillis));
+        long lastTalkPickId = 0L;
+        int submitted = 0;
+        while (jobQueue.countReady(TALK_PICK_SUMMARY) + chunkSize <= maxPending) {
+            List<Long> talkPickIds = talkPickRepository.findSummaryRetryIds(
+                    FAIL, maxAttempts, now, lastTalkPickId, PageRequest.of(0, chunkSize));
+            if (talkPickIds.isEmpty()) {
+                break;
+            }
+            for (Long talkPickId : talkPickIds) {
+                if (talkPickSummaryService.claimSummaryRetry(talkPickId, now, leaseUntil)) {
+                    submitted++;
+                }
+            }
+            lastTalkPickId = talkPickIds.get(talkPickIds.size() - 1);
+        }
+
+        if (submitted > 0) {
+            log.info("Resubmitted {} failed talk pick summaries", submitted);
+        }
+        return submitted;
+    }
+}
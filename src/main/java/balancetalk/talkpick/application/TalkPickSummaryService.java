@@ -3,26 +3,33 @@ package balancetalk.talkpick.application;
 import static balancetalk.global.exception.ErrorCode.NOT_FOUND_TALK_PICK;
 import static balancetalk.global.exception.ErrorCode.TALK_PICK_SUMMARY_FAILED;
 import static balancetalk.global.exception.ErrorCode.TALK_PICK_SUMMARY_SIZE_IS_OVER;
+import static balancetalk.global.job.JobType.TALK_PICK_SUMMARY;
 import static balancetalk.talkpick.domain.SummaryStatus.FAIL;
 import static balancetalk.talkpick.domain.SummaryStatus.NOT_REQUIRED;
 import static balancetalk.talkpick.domain.SummaryStatus.SUCCESS;
 
 import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.global.job.JobQueue;
+import balancetalk.global.resilience.ExponentialBackoff;
+import balancetalk.global.search.SearchResultCache;
+import balancetalk.global.utils.TransactionUtils;
 import balancetalk.talkpick.domain.Summary;
 import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.repository.TalkPickRepository;
 import balancetalk.talkpick.dto.fields.BaseTalkPickFields;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.SimpleLoggerAdvisor;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -54,29 +61,106 @@ public class TalkPickSummaryService {
 
     private final ChatClient chatClient;
     private final TalkPickRepository talkPickRepository;
+    private final TalkPickDetailCacheService talkPickDetailCacheService;
+    private final TalkPickSummaryCache talkPickSummaryCache;
+    private final TalkPickSearchIndex talkPickSearchIndex;
+    private final TalkPickSemanticIndex talkPickSemanticIndex;
+    private final SearchResultCache searchResultCache;
+    private final JobQueue jobQueue;
 
-    @Async("talkPickSummaryTaskExecutor")
+    @Value("${pick-o.summary.retry.max-attempts:8}")
+    private int maxRetryAttempts;
+
+    @Value("${pick-o.summary.retry.initial-delay-ms:60000}")
+    private long initialRetryDelayMillis;
+
+    @Value("${pick-o.summary.retry.max-delay-ms:21600000}")
+    private long maxRetryDelayMillis;
+
+    /**
+     * 톡픽을 요약한다. 속도 제한과 동시성 제어는 {@link TalkPickSummaryPipeline}이 맡으므로 직접 호출하지 않고 작업 큐에 넣는다.
+     */
     @Transactional
-    public void summarizeTalkPick(Long talkPickId) {
+    public SummaryOutcome summarizeTalkPick(Long talkPickId) {
         TalkPick talkPick = talkPickRepository.findById(talkPickId)
                 .orElseThrow(() -> new BalanceTalkException(NOT_FOUND_TALK_PICK));
-
-        // 본문 글자수가 너무 짧으면 요약 제공 안함
-        if (talkPick.hasShortContent()) {
-            talkPick.updateSummaryStatus(NOT_REQUIRED);
-            return;
+        // 큐에서 기다리는 사이 같은 내용의 요약이 생겼을 수 있으므로 다시 확인
+        SummaryOutcome outcome = summarizeWithoutModel(talkPick);
+        if (outcome != null) {
+            return outcome;
         }
+        talkPickDetailCacheService.evictAfterCommit(talkPickId);
 
         // 요약 수행
         try {
             summarize(talkPick);
+            return SummaryOutcome.SUMMARIZED;
+        } catch (BalanceTalkException e) {
+            log.warn("Invalid summary of TalkPick ID = {}: {}", talkPickId, e.getMessage());
+            failSummary(talkPick);
+            return SummaryOutcome.INVALID;
         } catch (Exception e) {
             log.error("Fail to summary TalkPick ID = {}", talkPickId);
             log.error("exception message = {} {}", e.getMessage(), e.getStackTrace());
-            talkPick.updateSummaryStatus(FAIL);
+            failSummary(talkPick);
+            return SummaryOutcome.ERROR;
         }
     }
 
+    /**
+     * 모델을 호출하지 않고 끝낼 수 있으면 바로 반영한다. 커밋 이후 이벤트 핸들러에서 호출되므로 새 트랜잭션에서 반영한다.
+     *
+     * @return 모델 호출 없이 끝났으면(삭제됨, 요약 불필요, 요약 재사용) true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean trySummarizeWithoutModel(Long talkPickId) {
+        return talkPickRepository.findById(talkPickId)
+                .map(talkPick -> summarizeWithoutModel(talkPick) != null)
+                .orElse(true);
+    }
+
+    /**
+     * 본문이 짧으면 요약하지 않고, 요약 대상 필드(제목/선택지/본문)가 그대로거나 같은 내용의 요약이 있으면 재사용한다.
+     *
+     * @return 모델 호출이 필요하면 null
+     */
+    private SummaryOutcome summarizeWithoutModel(TalkPick talkPick) {
+        // 본문 글자수가 너무 짧으면 요약 제공 안함
+        if (talkPick.hasShortContent()) {
+            talkPick.updateSummaryStatus(NOT_REQUIRED);
+            talkPickDetailCacheService.evictAfterCommit(talkPick.getId());
+            return SummaryOutcome.NOT_REQUIRED;
+        }
+
+        String fingerprint = talkPick.summaryFingerprint();
+        if (talkPick.hasSummaryOf(fingerprint)) {
+            if (talkPick.getSummaryStatus() != SUCCESS) {
+                talkPick.updateSummaryStatus(SUCCESS);
+                talkPickDetailCacheService.evictAfterCommit(talkPick.getId());
+            }
+            return SummaryOutcome.REUSED;
+        }
+
+        return talkPickSummaryCache.find(fingerprint)
+                .map(cached -> {
+                    applySummary(talkPick, cached.withFingerprint(fingerprint));
+                    return SummaryOutcome.REUSED;
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 파이프라인이 요약을 시도하지 못한 톡픽을 실패로 표시해 재시도 대상에 넣는다.
+     * 커밋 이후 이벤트 핸들러에서도 호출되므로 새 트랜잭션에서 반영한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markSummaryFailed(Long talkPickId) {
+        talkPickRepository.findById(talkPickId).ifPresent(talkPick -> {
+            talkPick.deferSummary(LocalDateTime.now().plus(Duration.ofMillis(initialRetryDelayMillis)));
+            talkPickDetailCacheService.evictAfterCommit(talkPickId);
+        });
+    }
+
     private void summarize(TalkPick talkPick) {
         Summary summary = callPromptForSummary(talkPick);
         if (summary == null) {
@@ -88,9 +172,21 @@ public class TalkPickSummaryService {
             throw new BalanceTalkException(TALK_PICK_SUMMARY_SIZE_IS_OVER);
         }
 
+        Summary fingerprinted = summary.withFingerprint(talkPick.summaryFingerprint());
+        applySummary(talkPick, fingerprinted);
+        talkPickSummaryCache.put(fingerprinted);
+    }
+
+    private void applySummary(TalkPick talkPick, Summary summary) {
         // 톡픽 요약 내용 및 상태 업데이트
         talkPick.updateSummary(summary);
         talkPick.updateSummaryStatus(SUCCESS);
+        talkPickDetailCacheService.evictAfterCommit(talkPick.getId());
+        talkPickSearchIndex.indexAfterCommit(talkPick);
+        // 요약이 생기면 임베딩 문장이 본문에서 요약으로 바뀌므로 다시 임베딩
+        Long talkPickId = talkPick.getId();
+        TransactionUtils.runAfterCommit(() -> talkPickSemanticIndex.index(talkPickId));
+        searchResultCache.invalidateAllAfterCommit();
     }
 
     private Summary callPromptForSummary(TalkPick talkPick) {
@@ -117,17 +213,29 @@ public class TalkPickSummaryService {
                 talkPick.getOptionB());
     }
 
+    /**
+     * 재시도할 톡픽을 선점하고 같은 트랜잭션에서 요약 작업을 넣는다. 선점한 톡픽은 leaseUntil까지 다른 재시도 실행에서 가져가지 않는다.
+     */
     @Transactional
-    public void summarizeFailedTalkPick() {
-        List<TalkPick> summaryFailedTalkPicks = talkPickRepository.findAllBySummaryStatus(FAIL);
-        for (TalkPick summaryFailedTalkPick : summaryFailedTalkPicks) {
-            try {
-                summarize(summaryFailedTalkPick);
-            } catch (Exception e) {
-                log.error("Fail to summary TalkPick ID = {}", summaryFailedTalkPick.getId());
-                log.error("exception message = {} {}", e.getMessage(), e.getStackTrace());
-                summaryFailedTalkPick.updateSummaryStatus(FAIL);
-            }
+    public boolean claimSummaryRetry(Long talkPickId, LocalDateTime now, LocalDateTime leaseUntil) {
+        if (talkPickRepository.claimSummaryRetry(talkPickId, FAIL, now, leaseUntil) != 1) {
+            return false;
+        }
+        jobQueue.enqueueOnce(TALK_PICK_SUMMARY, talkPickId, talkPickId);
+        return true;
+    }
+
+    /**
+     * 실패 횟수를 늘리고 지수 백오프로 다음 재시도 시각을 정한다. 최대 횟수에 도달하면 더 이상 재시도하지 않는다.
+     */
+    private void failSummary(TalkPick talkPick) {
+        int attempts = talkPick.getSummaryAttempts() + 1;
+        if (attempts >= maxRetryAttempts) {
+            log.warn("Give up summarizing TalkPick ID = {} after {} attempts", talkPick.getId(), attempts);
+            talkPick.failSummary(null);
+            return;
         }
+        Duration delay = new ExponentialBackoff(initialRetryDelayMillis, maxRetryDelayMillis).delayOf(attempts);
+        talkPick.failSummary(LocalDateTime.now().plus(delay));
     }
 }
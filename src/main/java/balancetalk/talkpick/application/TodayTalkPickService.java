@@ -21,6 +21,7 @@ public class TodayTalkPickService {
 
     private final TalkPickRepository talkPickRepository;
     private final TodayTalkPickRepository todayTalkPickRepository;
+    private final TalkPickSnapshotHolder talkPickSnapshotHolder;
 
     @Value("${pick-o.candidate-today-talk-pick-count}")
     private int candidateTodayTalkPickCount;
@@ -28,35 +29,88 @@ public class TodayTalkPickService {
     @Value("${pick-o.today-talk-pick-count}")
     private int todayTalkPickCount;
 
+    /**
+     * 다음 날의 오늘의 톡픽을 미리 선정해 두고, 날짜가 바뀌면 바로 교체될 수 있도록 메모리에 올려 둔다.
+     */
     @Transactional
-    public void updateTodayTalkPick() {
-        List<TalkPick> candidateTodayTalkPicks = getCandidateTodayTalkPicks();
+    public void prepareTodayTalkPick(LocalDate pickDate) {
+        talkPickSnapshotHolder.prepareNextTalkPicks(pickDate, selectTodayTalkPick(pickDate));
+    }
+
+    /**
+     * 해당 날짜의 오늘의 톡픽을 메모리에 올린다. 미리 선정된 목록이 없다면 지금 선정한다.
+     */
+    @Transactional
+    public void updateTodayTalkPick(LocalDate pickDate) {
+        talkPickSnapshotHolder.replaceTodayTalkPicks(pickDate, selectTodayTalkPick(pickDate));
+    }
+
+    private List<TodayTalkPickResponse> selectTodayTalkPick(LocalDate pickDate) {
+        List<TodayTalkPickResponse> todayTalkPicks = readTodayTalkPick(pickDate);
+        if (!todayTalkPicks.isEmpty()) {
+            // 이미 선정된 날짜는 다시 선정하지 않는다. (재시작 등으로 스케줄이 다시 실행되는 경우)
+            return todayTalkPicks;
+        }
+        return createTodayTalkPick(pickDate).stream()
+                .map(todayTalkPick -> TodayTalkPickResponse.from(todayTalkPick.getTalkPick()))
+                .toList();
+    }
+
+    private List<TodayTalkPick> createTodayTalkPick(LocalDate pickDate) {
+        List<TalkPick> candidateTodayTalkPicks = getCandidateTodayTalkPicks(pickDate);
         Collections.shuffle(candidateTodayTalkPicks);
-        List<TodayTalkPick> todayTalkPicks = candidateTodayTalkPicks.subList(0, todayTalkPickCount)
+        List<TodayTalkPick> todayTalkPicks = candidateTodayTalkPicks
+                .subList(0, Math.min(todayTalkPickCount, candidateTodayTalkPicks.size()))
                 .stream()
-                .map(TalkPick::toTodayTalkPick)
+                .map(talkPick -> talkPick.toTodayTalkPick(pickDate))
                 .toList();
-        todayTalkPickRepository.saveAll(todayTalkPicks);
+        return todayTalkPickRepository.saveAll(todayTalkPicks);
     }
 
-    private List<TalkPick> getCandidateTodayTalkPicks() {
-        List<TalkPick> yesterdayTalkPicks = getYesterdaySelectedTalkPicks();
+    private List<TalkPick> getCandidateTodayTalkPicks(LocalDate pickDate) {
+        List<TalkPick> yesterdayTalkPicks = getYesterdaySelectedTalkPicks(pickDate);
         return talkPickRepository.findCandidateTodayTalkPicks(candidateTodayTalkPickCount, yesterdayTalkPicks)
                 .stream()
                 .filter(talkPick -> !yesterdayTalkPicks.contains(talkPick))
                 .collect(Collectors.toList());
     }
 
-    private List<TalkPick> getYesterdaySelectedTalkPicks() {
-        return todayTalkPickRepository.findByPickDate(LocalDate.now().minusDays(1L))
+    private List<TalkPick> getYesterdaySelectedTalkPicks(LocalDate pickDate) {
+        return todayTalkPickRepository.findWithTalkPickByPickDate(pickDate.minusDays(1L))
                 .stream()
                 .map(TodayTalkPick::getTalkPick)
                 .toList();
     }
 
-    @Transactional(readOnly = true)
     public List<TodayTalkPickResponse> findTodayTalkPick() {
-        return todayTalkPickRepository.findByPickDate(LocalDate.now())
+        LocalDate today = LocalDate.now();
+        return talkPickSnapshotHolder.findTodayTalkPicks(today)
+                .orElseGet(() -> reloadTodayTalkPick(today));
+    }
+
+    /**
+     * 메모리에 목록이 없는 경우(서버 시작 직후 등) DB에서 다시 읽어 교체한다.
+     */
+    public List<TodayTalkPickResponse> reloadTodayTalkPick(LocalDate pickDate) {
+        List<TodayTalkPickResponse> todayTalkPicks = readTodayTalkPick(pickDate);
+        talkPickSnapshotHolder.replaceTodayTalkPicks(pickDate, todayTalkPicks);
+        return todayTalkPicks;
+    }
+
+    /**
+     * 선정된 톡픽이 수정, 삭제된 경우 메모리에 올라간 목록을 DB에서 다시 읽는다.
+     */
+    public void reloadIfSelected(Long talkPickId) {
+        if (!talkPickSnapshotHolder.containsTodayTalkPick(talkPickId)) {
+            return;
+        }
+        reloadTodayTalkPick(LocalDate.now());
+        talkPickSnapshotHolder.findNextPickDate().ifPresent(pickDate ->
+                talkPickSnapshotHolder.prepareNextTalkPicks(pickDate, readTodayTalkPick(pickDate)));
+    }
+
+    private List<TodayTalkPickResponse> readTodayTalkPick(LocalDate pickDate) {
+        return todayTalkPickRepository.findWithTalkPickByPickDate(pickDate)
                 .stream()
                 .map(todayTalkPick -> TodayTalkPickResponse.from(todayTalkPick.getTalkPick()))
                 .toList();
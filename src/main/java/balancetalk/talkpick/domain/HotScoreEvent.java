@@ -0,0 +1,22 @@
+package balancetalk.talkpick.domain;
+
+import lombok.Getter;
+
+/**
+ * 톡픽 인기 점수에 반영되는 활동과 그 가중치.
+ */
+@Getter
+public enum HotScoreEvent {
+
+    CREATE(10),
+    VIEW(1),
+    VOTE(3),
+    COMMENT(4),
+    BOOKMARK(5);
+
+    private final int weight;
+
+    HotScoreEvent(int weight) {
+        this.weight = weight;
+    }
+}
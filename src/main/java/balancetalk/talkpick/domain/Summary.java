@@ -1,12 +1,22 @@
 package balancetalk.talkpick.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.validation.constraints.Size;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Embeddable
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Summary {
 
     private static final int MAX_SIZE = 120;
@@ -23,7 +33,39 @@ public class Summary {
     @Column(name = "summary_third_line")
     String thirdLine;
 
+    // 요약한 제목/선택지/본문의 해시. 모델이 채우는 값이 아니므로 응답 형식(JSON)에서 제외한다.
+    @JsonIgnore
+    @Column(name = "summary_fingerprint", length = 64)
+    String fingerprint;
+
     public boolean isOverSize() {
         return firstLine.length() > MAX_SIZE || secondLine.length() > MAX_SIZE || thirdLine.length() > MAX_SIZE;
     }
+
+    public boolean isSummaryOf(String fingerprint) {
+        return fingerprint.equals(this.fingerprint);
+    }
+
+    /**
+     * 같은 요약 문장에 지문을 붙인 새 요약. 임베디드 값을 여러 톡픽이 공유하지 않도록 항상 새로 만든다.
+     */
+    public Summary withFingerprint(String fingerprint) {
+        return new Summary(firstLine, secondLine, thirdLine, fingerprint);
+    }
+
+    /**
+     * 요약에 쓰이는 필드의 SHA-256 지문. 필드 경계가 섞이지 않도록 각 필드 앞에 길이를 붙인다.
+     */
+    public static String fingerprintOf(String title, String optionA, String optionB, String content) {
+        StringBuilder input = new StringBuilder();
+        for (String field : new String[]{title, optionA, optionB, content}) {
+            input.append(field.length()).append(':').append(field);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
 }
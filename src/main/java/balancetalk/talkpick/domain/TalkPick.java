@@ -1,5 +1,6 @@
 package balancetalk.talkpick.domain;
 
+import static balancetalk.talkpick.domain.SummaryStatus.FAIL;
 import static balancetalk.talkpick.domain.SummaryStatus.PENDING;
 
 import balancetalk.comment.domain.Comment;
@@ -18,9 +19,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -41,6 +44,13 @@ import org.hibernate.annotations.ColumnDefault;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_talk_pick_views_created_at", columnList = "views, created_at, id"),
+        @Index(name = "idx_talk_pick_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_talk_pick_hot_score", columnList = "hot_score, id"),
+        @Index(name = "idx_talk_pick_summary_fingerprint", columnList = "summary_fingerprint"),
+        @Index(name = "idx_talk_pick_summary_status", columnList = "summary_status, id")
+})
 public class TalkPick extends BaseTimeEntity {
 
     private static final int MIN_CONTENT_LENGTH_FOR_SUMMARY = 200;
@@ -65,6 +75,14 @@ public class TalkPick extends BaseTimeEntity {
     @Builder.Default
     private SummaryStatus summaryStatus = PENDING;
 
+    // 요약 실패 횟수와 다음 재시도 시각. 요약에 성공하거나 요약이 필요 없어지면 초기화한다.
+    @PositiveOrZero
+    @ColumnDefault("0")
+    @Builder.Default
+    private int summaryAttempts = 0;
+
+    private LocalDateTime summaryNextAttemptAt;
+
     @NotBlank
     @Size(max = 2000)
     private String content;
@@ -81,8 +99,10 @@ public class TalkPick extends BaseTimeEntity {
 
     private String sourceUrl;
 
+    // 조회수는 ViewCountFlushService에서 UPDATE 쿼리로 누적하므로 엔티티 변경 감지 대상에서 제외
     @PositiveOrZero
     @ColumnDefault("0")
+    @Column(updatable = false)
     @Builder.Default
     private Long views = 0L;
 
@@ -91,6 +111,22 @@ public class TalkPick extends BaseTimeEntity {
     @Builder.Default
     private Long bookmarks = 0L;
 
+    // 투표수는 VoteTalkPickService에서 UPDATE 쿼리로 원자적으로 증감하므로 엔티티 변경 감지 대상에서 제외
+    @PositiveOrZero
+    @ColumnDefault("0")
+    @Column(name = "votes_a", insertable = false, updatable = false)
+    private long votesA;
+
+    @PositiveOrZero
+    @ColumnDefault("0")
+    @Column(name = "votes_b", insertable = false, updatable = false)
+    private long votesB;
+
+    // 인기 점수는 HotScoreFlushService에서 UPDATE 쿼리로 누적하므로 엔티티 변경 감지 대상에서 제외
+    @ColumnDefault("0")
+    @Column(name = "hot_score", insertable = false, updatable = false)
+    private double hotScore;
+
     private LocalDateTime editedAt;
 
     private boolean isEdited;
@@ -108,14 +144,20 @@ public class TalkPick extends BaseTimeEntity {
     @Embedded
     private NotificationHistory notificationHistory = new NotificationHistory();
 
-    public void increaseViews() {
-        this.views++;
+    public long votesCountOf(VoteOption voteOption) {
+        if (voteOption == VoteOption.A) {
+            return votesA;
+        }
+        return votesB;
     }
 
-    public long votesCountOf(VoteOption voteOption) {
-        return votes.stream()
-                .filter(vote -> vote.isVoteOptionEquals(voteOption))
-                .count();
+    public long getTotalVotesCount() {
+        return votesA + votesB;
+    }
+
+    public void applyVotesCountDelta(long deltaOfA, long deltaOfB) {
+        this.votesA += deltaOfA;
+        this.votesB += deltaOfB;
     }
 
     public String getWriterNickname() {
@@ -163,17 +205,48 @@ public class TalkPick extends BaseTimeEntity {
         return this.notificationHistory;
     }
 
+    public String summaryFingerprint() {
+        return Summary.fingerprintOf(title, optionA, optionB, content);
+    }
+
+    public boolean hasSummaryOf(String fingerprint) {
+        return summary != null && summary.isSummaryOf(fingerprint);
+    }
+
     public boolean hasShortContent() {
         return content.length() < MIN_CONTENT_LENGTH_FOR_SUMMARY;
     }
 
     public void updateSummaryStatus(SummaryStatus summaryStatus) {
         this.summaryStatus = summaryStatus;
+        if (summaryStatus != FAIL) {
+            this.summaryAttempts = 0;
+            this.summaryNextAttemptAt = null;
+        }
+    }
+
+    /**
+     * 요약 실패를 기록한다.
+     *
+     * @param nextAttemptAt 다음 재시도 시각. 더 이상 재시도하지 않으면 null
+     */
+    public void failSummary(LocalDateTime nextAttemptAt) {
+        this.summaryStatus = FAIL;
+        this.summaryAttempts++;
+        this.summaryNextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 요약을 시도하지 못한 경우. 실패 횟수는 늘리지 않고 재시도 시각만 정한다.
+     */
+    public void deferSummary(LocalDateTime nextAttemptAt) {
+        this.summaryStatus = FAIL;
+        this.summaryNextAttemptAt = nextAttemptAt;
     }
 
-    public TodayTalkPick toTodayTalkPick() {
+    public TodayTalkPick toTodayTalkPick(LocalDate pickDate) {
         return TodayTalkPick.builder()
-                .pickDate(LocalDate.now())
+                .pickDate(pickDate)
                 .talkPick(this)
                 .build();
     }
@@ -1,8 +1,24 @@
 package balancetalk.talkpick.domain.event;
 
-import balancetalk.talkpick.application.TalkPickFileService;
-import balancetalk.talkpick.application.TalkPickSummaryService;
+import static balancetalk.global.job.JobType.TALK_PICK_FILES_CREATED;
+import static balancetalk.global.job.JobType.TALK_PICK_FILES_DELETED;
+import static balancetalk.global.job.JobType.TALK_PICK_FILES_UPDATED;
+import static balancetalk.global.job.JobType.TALK_PICK_SUMMARY;
+import static org.springframework.transaction.event.TransactionPhase.BEFORE_COMMIT;
+
+import balancetalk.global.job.JobQueue;
+import balancetalk.global.search.SearchResultCache;
+import balancetalk.global.search.application.QueryCorrectionService;
+import balancetalk.global.search.application.SuggestService;
+import balancetalk.talkpick.application.TalkPickDetailCacheService;
+import balancetalk.talkpick.application.TalkPickSearchIndex;
+import balancetalk.talkpick.application.TalkPickSemanticIndex;
+import balancetalk.talkpick.application.TalkPickService;
+import balancetalk.talkpick.application.TalkPickSnapshotHolder;
+import balancetalk.talkpick.application.TodayTalkPickService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -10,24 +26,99 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class TalkPickEventHandler {
 
-    private final TalkPickSummaryService talkPickSummaryService;
-    private final TalkPickFileService talkPickFileService;
+    private final JobQueue jobQueue;
+    private final TalkPickDetailCacheService talkPickDetailCacheService;
+    private final TodayTalkPickService todayTalkPickService;
+    private final TalkPickService talkPickService;
+    private final TalkPickSnapshotHolder talkPickSnapshotHolder;
+    private final TalkPickSearchIndex talkPickSearchIndex;
+    private final TalkPickSemanticIndex talkPickSemanticIndex;
+    private final SearchResultCache searchResultCache;
+    private final SuggestService suggestService;
+    private final QueryCorrectionService queryCorrectionService;
+
+    /**
+     * 파일 재배치와 요약은 톡픽 변경과 같은 트랜잭션에서 작업 큐에 넣어, 커밋된 변경의 후속 작업이 서버 재시작이나 실패로 사라지지 않게 한다.
+     */
+    @TransactionalEventListener(phase = BEFORE_COMMIT)
+    public void enqueueTalkPickCreatedJobs(TalkPickCreatedEvent event) {
+        if (isNotEmpty(event.getFileIds())) {
+            jobQueue.enqueue(TALK_PICK_FILES_CREATED, event);
+        }
+        jobQueue.enqueueOnce(TALK_PICK_SUMMARY, event.getTalkPickId(), event.getTalkPickId());
+    }
+
+    @TransactionalEventListener(phase = BEFORE_COMMIT)
+    public void enqueueTalkPickUpdatedJobs(TalkPickUpdatedEvent event) {
+        if (isNotEmpty(event.getNewFileIds()) || isNotEmpty(event.getDeleteFileIds())) {
+            jobQueue.enqueue(TALK_PICK_FILES_UPDATED, event);
+        }
+        jobQueue.enqueueOnce(TALK_PICK_SUMMARY, event.getTalkPickId(), event.getTalkPickId());
+    }
+
+    @TransactionalEventListener(phase = BEFORE_COMMIT)
+    public void enqueueTalkPickDeletedJobs(TalkPickDeletedEvent event) {
+        jobQueue.enqueue(TALK_PICK_FILES_DELETED, event);
+    }
 
     @TransactionalEventListener
     public void handleTalkPickCreatedEvent(TalkPickCreatedEvent event) {
-        talkPickFileService.handleFilesOnTalkPickCreate(event.getFileIds(), event.getTalkPickId());
-        talkPickSummaryService.summarizeTalkPick(event.getTalkPickId());
+        talkPickSemanticIndex.index(event.getTalkPickId());
     }
 
     @TransactionalEventListener
     public void handleTalkPickUpdatedEvent(TalkPickUpdatedEvent event) {
-        talkPickFileService.handleFilesOnTalkPickUpdate(
-                event.getNewFileIds(), event.getDeleteFileIds(), event.getTalkPickId());
-        talkPickSummaryService.summarizeTalkPick(event.getTalkPickId());
+        talkPickDetailCacheService.evict(event.getTalkPickId());
+        refreshSnapshotsIfSelected(event.getTalkPickId());
+        talkPickSemanticIndex.index(event.getTalkPickId());
     }
 
     @TransactionalEventListener
     public void handleTalkPickDeletedEvent(TalkPickDeletedEvent event) {
-        talkPickFileService.handleFilesOnTalkPickDelete(event.getTalkPickId());
+        talkPickDetailCacheService.evict(event.getTalkPickId());
+        refreshSnapshotsIfSelected(event.getTalkPickId());
+        talkPickSemanticIndex.remove(event.getTalkPickId());
+    }
+
+    /**
+     * 검색 색인 갱신은 톡픽을 다시 조회하고 색인 잠금을 잡으므로 요청 스레드 대신 색인 실행기에서 변경 순서대로 처리한다.
+     * 검색 결과 캐시는 색인에 반영한 뒤에 비워야 갱신 전 결과가 다시 캐시되지 않는다.
+     */
+    @Async("searchIndexTaskExecutor")
+    @TransactionalEventListener
+    public void indexCreatedTalkPick(TalkPickCreatedEvent event) {
+        indexTalkPick(event.getTalkPickId());
+    }
+
+    @Async("searchIndexTaskExecutor")
+    @TransactionalEventListener
+    public void indexUpdatedTalkPick(TalkPickUpdatedEvent event) {
+        indexTalkPick(event.getTalkPickId());
+    }
+
+    @Async("searchIndexTaskExecutor")
+    @TransactionalEventListener
+    public void removeDeletedTalkPick(TalkPickDeletedEvent event) {
+        talkPickSearchIndex.remove(event.getTalkPickId());
+        suggestService.removeTalkPick(event.getTalkPickId());
+        searchResultCache.invalidateAll();
+    }
+
+    private void indexTalkPick(Long talkPickId) {
+        talkPickSearchIndex.index(talkPickId);
+        suggestService.indexTalkPick(talkPickId);
+        queryCorrectionService.indexTalkPick(talkPickId);
+        searchResultCache.invalidateAll();
+    }
+
+    private boolean isNotEmpty(List<Long> ids) {
+        return ids != null && !ids.isEmpty();
+    }
+
+    private void refreshSnapshotsIfSelected(Long talkPickId) {
+        todayTalkPickService.reloadIfSelected(talkPickId);
+        if (talkPickSnapshotHolder.containsBestTalkPick(talkPickId)) {
+            talkPickService.refreshBestTalkPicks();
+        }
     }
 }
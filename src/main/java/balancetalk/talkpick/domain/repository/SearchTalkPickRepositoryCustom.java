@@ -1,10 +1,12 @@
 package balancetalk.talkpick.domain.repository;
 
 import balancetalk.talkpick.dto.SearchTalkPickResponse;
-import org.springframework.data.domain.Page;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 
 public interface SearchTalkPickRepositoryCustom {
 
-    Page<SearchTalkPickResponse> searchTalkPicks(String query, Pageable pageable);
+    List<SearchTalkPickResponse> searchTalkPicks(String query, Pageable pageable);
+
+    long countTalkPicks(String query, int cap);
 }
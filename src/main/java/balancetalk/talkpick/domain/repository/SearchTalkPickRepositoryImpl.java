@@ -6,12 +6,11 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 import java.util.StringTokenizer;
@@ -24,10 +23,15 @@ import static balancetalk.talkpick.domain.QTalkPick.talkPick;
 @RequiredArgsConstructor
 public class SearchTalkPickRepositoryImpl implements SearchTalkPickRepositoryCustom {
 
+    // match_talk_pick_in_*_mode 함수와 같은 FULLTEXT 인덱스 컬럼
+    private static final String MATCH_COLUMNS = "MATCH(t.title, t.summary_first_line, t.summary_second_line, "
+            + "t.summary_third_line, t.content, t.option_a, t.option_b)";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
-    public Page<SearchTalkPickResponse> searchTalkPicks(String keyword, Pageable pageable) {
+    public List<SearchTalkPickResponse> searchTalkPicks(String keyword, Pageable pageable) {
         int totalSize = pageable.getPageSize();
 
         // 1. 키워드와 완전 일치하는 단어가 포함된 톡픽 조회
@@ -45,10 +49,35 @@ public class SearchTalkPickRepositoryImpl implements SearchTalkPickRepositoryCus
             addUniqueTalkPicksToResult(result, talkPicks);
         }
 
-        // 페이징 처리
-        JPAQuery<Long> countQuery = countQueryForTalkPicks();
+        return result;
+    }
+
+    /**
+     * 검색 결과에 포함되는 톡픽 수를 최대 cap개까지 센다.
+     * 조회와 같은 조건(완전 일치, 공백 제거 후 완전 일치, 자연어 모드)마다 LIMIT을 건 하위 쿼리로 ID를 찾고 UNION으로 중복을 없앤다.
+     * MATCH 조건을 OR로 묶으면 FULLTEXT 인덱스를 쓰지 못해 전체 테이블을 읽으므로, 조건마다 따로 인덱스를 타게 한다.
+     */
+    @Override
+    public long countTalkPicks(String keyword, int cap) {
+        StringBuilder union = new StringBuilder(matchedIds("AGAINST(:exact IN BOOLEAN MODE)"));
+        if (containsSpacing(keyword)) {
+            union.append(" UNION ").append(matchedIds("AGAINST(:exactWithoutSpaces IN BOOLEAN MODE)"));
+        }
+        union.append(" UNION ").append(matchedIds("AGAINST(:keyword)"));
+
+        Query query = entityManager.createNativeQuery(
+                        "SELECT LEAST(COUNT(*), :cap) FROM (" + union + ") matched")
+                .setParameter("exact", addQuotes(keyword))
+                .setParameter("keyword", keyword)
+                .setParameter("cap", cap);
+        if (containsSpacing(keyword)) {
+            query.setParameter("exactWithoutSpaces", addQuotes(ignoreSpacing(keyword)));
+        }
+        return ((Number) query.getSingleResult()).longValue();
+    }
 
-        return PageableExecutionUtils.getPage(result, pageable, countQuery::fetchOne);
+    private String matchedIds(String against) {
+        return "(SELECT t.id FROM talk_pick t WHERE " + MATCH_COLUMNS + " " + against + " LIMIT :cap)";
     }
 
     private List<SearchTalkPickResponse> findByExactMatch(String keyword, Pageable pageable, int limit) {
@@ -127,10 +156,4 @@ public class SearchTalkPickRepositoryImpl implements SearchTalkPickRepositoryCus
                 talkPick.title, talkPick.summary.firstLine, talkPick.summary.secondLine, talkPick.summary.thirdLine,
                 talkPick.content, talkPick.optionA, talkPick.optionB, keyword);
     }
-
-    private JPAQuery<Long> countQueryForTalkPicks() {
-        return queryFactory
-                .select(talkPick.count())
-                .from(talkPick);
-    }
 }
@@ -3,14 +3,86 @@ package balancetalk.talkpick.domain.repository;
 import balancetalk.member.domain.Member;
 import balancetalk.talkpick.domain.SummaryStatus;
 import balancetalk.talkpick.domain.TalkPick;
+import java.time.LocalDateTime;
 import java.util.List;
-import org.springframework.data.domain.Page;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TalkPickRepository extends JpaRepository<TalkPick, Long>, TalkPickRepositoryCustom {
 
-    Page<TalkPick> findAllByMemberOrderByEditedAtDesc(Member member, Pageable pageable);
+    List<TalkPick> findAllByMemberOrderByEditedAtDesc(Member member, Pageable pageable);
 
-    List<TalkPick> findAllBySummaryStatus(SummaryStatus summaryStatus);
+    long countByMember(Member member);
+
+    /**
+     * 재시도 시각이 된 요약 실패 톡픽 ID를 lastId 다음부터 ID 순으로 조회한다.
+     */
+    @Query("SELECT t.id FROM TalkPick t "
+            + "WHERE t.summaryStatus = :status AND t.summaryAttempts < :maxAttempts "
+            + "AND (t.summaryNextAttemptAt IS NULL OR t.summaryNextAttemptAt <= :now) "
+            + "AND t.id > :lastId "
+            + "ORDER BY t.id ASC")
+    List<Long> findSummaryRetryIds(@Param("status") SummaryStatus status,
+                                   @Param("maxAttempts") int maxAttempts,
+                                   @Param("now") LocalDateTime now,
+                                   @Param("lastId") Long lastId,
+                                   Pageable pageable);
+
+    /**
+     * 재시도할 톡픽을 선점한다. 다음 재시도 시각을 leaseUntil로 미뤄 두므로 다른 서버나 다음 실행이 같은 톡픽을 다시 가져가지 않고,
+     * 처리 도중 서버가 내려가면 leaseUntil 이후 다시 재시도 대상이 된다.
+     *
+     * @return 선점했으면 1, 이미 다른 곳에서 가져갔거나 상태가 바뀌었으면 0
+     */
+    @Modifying
+    @Query("UPDATE TalkPick t SET t.summaryNextAttemptAt = :leaseUntil "
+            + "WHERE t.id = :id AND t.summaryStatus = :status "
+            + "AND (t.summaryNextAttemptAt IS NULL OR t.summaryNextAttemptAt <= :now)")
+    int claimSummaryRetry(@Param("id") Long id,
+                          @Param("status") SummaryStatus status,
+                          @Param("now") LocalDateTime now,
+                          @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    Optional<TalkPick> findFirstBySummaryFingerprintAndSummaryStatus(String fingerprint, SummaryStatus summaryStatus);
+
+    boolean existsByIdAndMemberId(Long id, Long memberId);
+
+    @Modifying
+    @Query("UPDATE TalkPick t SET t.views = t.views + :views WHERE t.id IN :ids")
+    void increaseViews(@Param("ids") List<Long> ids, @Param("views") long views);
+
+    @Modifying
+    @Query("UPDATE TalkPick t SET t.votesA = t.votesA + :deltaOfA, t.votesB = t.votesB + :deltaOfB "
+            + "WHERE t.id = :id")
+    void addVotesCount(@Param("id") Long id, @Param("deltaOfA") long deltaOfA, @Param("deltaOfB") long deltaOfB);
+
+    // 톡픽의 실제 투표 기록 수 (UPDATE 문 안에서 별칭 t로 참조한다)
+    String ACTUAL_VOTES_A = "(SELECT COUNT(v) FROM TalkPickVote v WHERE v.talkPick.id = t.id "
+            + "AND v.voteOption = balancetalk.vote.domain.VoteOption.A)";
+    String ACTUAL_VOTES_B = "(SELECT COUNT(v) FROM TalkPickVote v WHERE v.talkPick.id = t.id "
+            + "AND v.voteOption = balancetalk.vote.domain.VoteOption.B)";
+
+    /**
+     * 투표 기록을 세는 것과 투표수를 쓰는 것을 한 문장에서 처리해, 그 사이에 커밋된 투표를 덮어쓰지 않는다.
+     * @return 투표수가 어긋나 바로잡은 톡픽 수
+     */
+    @Modifying
+    @Query("UPDATE TalkPick t SET t.votesA = " + ACTUAL_VOTES_A + ", t.votesB = " + ACTUAL_VOTES_B + " "
+            + "WHERE t.id IN :ids AND (t.votesA <> " + ACTUAL_VOTES_A + " OR t.votesB <> " + ACTUAL_VOTES_B + ")")
+    int reconcileVotesCount(@Param("ids") List<Long> ids);
+
+    @Query("SELECT t.id FROM TalkPick t WHERE t.id > :id ORDER BY t.id ASC LIMIT 500")
+    List<Long> findTop500IdsByIdGreaterThan(@Param("id") Long id);
+
+    List<TalkPick> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    // 로그 값으로 저장된 두 점수의 합: ln(e^a + e^b) = max(a, b) + ln(1 + e^-|a - b|)
+    @Modifying
+    @Query("UPDATE TalkPick t SET t.hotScore = greatest(t.hotScore, :score) "
+            + "+ ln(1 + exp(-abs(t.hotScore - :score))) WHERE t.id = :id")
+    void addHotScore(@Param("id") Long id, @Param("score") double score);
 }
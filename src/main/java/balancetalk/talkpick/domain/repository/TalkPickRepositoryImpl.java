@@ -1,19 +1,24 @@
 package balancetalk.talkpick.domain.repository;
 
+import static balancetalk.global.utils.QuerydslUtils.afterCursor;
+import static balancetalk.global.utils.QuerydslUtils.getCursorKeys;
 import static balancetalk.global.utils.QuerydslUtils.getOrderSpecifiers;
+import static balancetalk.global.utils.QuerydslUtils.toOrderSpecifiers;
 import static balancetalk.talkpick.domain.QTalkPick.talkPick;
 import static balancetalk.talkpick.dto.TalkPickDto.TalkPickResponse;
-import static balancetalk.vote.domain.QTalkPickVote.talkPickVote;
 
+import balancetalk.global.pagination.Cursor;
+import balancetalk.global.pagination.CursorSliceResponse;
+import balancetalk.global.utils.QuerydslUtils.CursorKey;
 import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.dto.QTalkPickDto_TalkPickResponse;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 
 @RequiredArgsConstructor
 public class TalkPickRepositoryImpl implements TalkPickRepositoryCustom {
@@ -24,17 +29,15 @@ public class TalkPickRepositoryImpl implements TalkPickRepositoryCustom {
     public List<TalkPick> findCandidateTodayTalkPicks(int topN, List<TalkPick> yesterdayTalkPicks) {
         return queryFactory
                 .selectFrom(talkPick)
-                .leftJoin(talkPick.votes, talkPickVote)
                 .where(talkPick.notIn(yesterdayTalkPicks))
-                .groupBy(talkPick.id)
-                .orderBy(talkPick.views.desc(), talkPickVote.count().desc(), talkPick.createdAt.desc())
+                .orderBy(talkPick.hotScore.desc(), talkPick.id.desc())
                 .limit(topN)
                 .fetch();
     }
 
     @Override
-    public Page<TalkPickResponse> findPagedTalkPicks(Pageable pageable) {
-        List<TalkPickResponse> content = queryFactory
+    public List<TalkPickResponse> findPagedTalkPicks(Pageable pageable) {
+        return queryFactory
                 .select(new QTalkPickDto_TalkPickResponse(
                         talkPick.id, talkPick.title, talkPick.member.nickname,
                         talkPick.createdAt, talkPick.views, talkPick.bookmarks
@@ -44,12 +47,45 @@ public class TalkPickRepositoryImpl implements TalkPickRepositoryCustom {
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
+    }
+
+    @Override
+    public CursorSliceResponse<TalkPickResponse> findTalkPicksByCursor(Cursor cursor, Pageable pageable) {
+        List<CursorKey> cursorKeys = getCursorKeys(talkPick, pageable.getSort());
+        QTalkPickDto_TalkPickResponse projection = new QTalkPickDto_TalkPickResponse(
+                talkPick.id, talkPick.title, talkPick.member.nickname,
+                talkPick.createdAt, talkPick.views, talkPick.bookmarks
+        );
+
+        // 다음 커서를 만들기 위해 정렬 키 값도 함께 조회
+        List<Expression<?>> selections = new ArrayList<>();
+        selections.add(projection);
+        cursorKeys.forEach(cursorKey -> selections.add(cursorKey.expression()));
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(talkPick.count())
-                .from(talkPick);
+        List<Tuple> rows = queryFactory
+                .select(selections.toArray(Expression[]::new))
+                .from(talkPick)
+                .where(afterCursor(cursorKeys, cursor))
+                .orderBy(toOrderSpecifiers(cursorKeys))
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        return CursorSliceResponse.of(rows, pageable.getPageSize(), row -> Cursor.of(
+                        cursorKeys.stream().map(cursorKey -> row.get(cursorKey.expression())).toArray()))
+                .map(row -> row.get(projection));
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    @Override
+    public List<TalkPickResponse> findTrendingTalkPicks(int size) {
+        return queryFactory
+                .select(new QTalkPickDto_TalkPickResponse(
+                        talkPick.id, talkPick.title, talkPick.member.nickname,
+                        talkPick.createdAt, talkPick.views, talkPick.bookmarks
+                ))
+                .from(talkPick)
+                .orderBy(talkPick.hotScore.desc(), talkPick.id.desc())
+                .limit(size)
+                .fetch();
     }
 
     @Override
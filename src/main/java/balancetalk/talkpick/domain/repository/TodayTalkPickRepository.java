@@ -4,8 +4,13 @@ import balancetalk.talkpick.domain.TodayTalkPick;
 import java.time.LocalDate;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TodayTalkPickRepository extends JpaRepository<TodayTalkPick, Long> {
 
     List<TodayTalkPick> findByPickDate(LocalDate pickDate);
+
+    @Query("SELECT t FROM TodayTalkPick t JOIN FETCH t.talkPick WHERE t.pickDate = :pickDate")
+    List<TodayTalkPick> findWithTalkPickByPickDate(@Param("pickDate") LocalDate pickDate);
 }
@@ -25,6 +25,7 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 
 public class TalkPickDto {
 
@@ -141,13 +142,64 @@ public class TalkPickDto {
         @Schema(description = "수정 여부", example = "true")
         private Boolean isEdited;
 
-        public static TalkPickDetailResponse from(TalkPick entity,
-                                                  String writerProfileImgUrl,
-                                                  List<String> imgUrls,
-                                                  List<Long> fileIds,
+        public static TalkPickDetailResponse from(TalkPickDetailContent content,
+                                                  TalkPick entity,
                                                   boolean myBookmark,
                                                   VoteOption votedOption) {
             return TalkPickDetailResponse.builder()
+                    .id(content.getId())
+                    .baseFields(content.getBaseFields())
+                    .summary(content.getSummary())
+                    .summaryStatus(content.getSummaryStatus())
+                    .imgUrls(content.getImgUrls())
+                    .fileIds(content.getFileIds())
+                    .votesCountOfOptionA(entity.votesCountOf(A))
+                    .votesCountOfOptionB(entity.votesCountOf(B))
+                    .views(entity.getViews())
+                    .bookmarks(entity.getBookmarks())
+                    .myBookmark(myBookmark)
+                    .votedOption(votedOption)
+                    .writer(content.getWriter())
+                    .writerProfileImgUrl(content.getWriterProfileImgUrl())
+                    .createdAt(content.getCreatedAt())
+                    .isEdited(content.getIsEdited())
+                    .build();
+        }
+    }
+
+    /**
+     * 톡픽 상세 조회 응답 중 톡픽이 수정/삭제되거나 요약이 끝나기 전까지 바뀌지 않는 부분
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class TalkPickDetailContent {
+
+        private final long id;
+
+        private final BaseTalkPickFields baseFields;
+
+        private final SummaryResponse summary;
+
+        private final SummaryStatus summaryStatus;
+
+        private final List<String> imgUrls;
+
+        private final List<Long> fileIds;
+
+        private final String writer;
+
+        private final String writerProfileImgUrl;
+
+        private final LocalDate createdAt;
+
+        private final Boolean isEdited;
+
+        public static TalkPickDetailContent from(TalkPick entity,
+                                                 String writerProfileImgUrl,
+                                                 List<String> imgUrls,
+                                                 List<Long> fileIds) {
+            return TalkPickDetailContent.builder()
                     .id(entity.getId())
                     .baseFields(BaseTalkPickFields.builder()
                             .title(entity.getTitle())
@@ -158,14 +210,8 @@ public class TalkPickDto {
                             .build())
                     .summary(new SummaryResponse(entity.getSummary()))
                     .summaryStatus(entity.getSummaryStatus())
-                    .imgUrls(imgUrls)
-                    .fileIds(fileIds)
-                    .votesCountOfOptionA(entity.votesCountOf(A))
-                    .votesCountOfOptionB(entity.votesCountOf(B))
-                    .views(entity.getViews())
-                    .bookmarks(entity.getBookmarks())
-                    .myBookmark(myBookmark)
-                    .votedOption(votedOption)
+                    .imgUrls(List.copyOf(imgUrls))
+                    .fileIds(List.copyOf(fileIds))
                     .writer(entity.getWriterNickname())
                     .writerProfileImgUrl(writerProfileImgUrl)
                     .createdAt(entity.getCreatedAt().toLocalDate())
@@ -1,14 +1,17 @@
 package balancetalk.talkpick.presentation;
 
+import balancetalk.global.search.SearchMode;
 import balancetalk.talkpick.application.SearchTalkPickService;
 import balancetalk.talkpick.dto.SearchTalkPickResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -23,11 +26,22 @@ public class SearchTalkPickController {
 
     private final SearchTalkPickService searchTalkPickService;
 
-    @Operation(summary = "톡픽 검색", description = "키워드를 통해 톡픽을 검색합니다.")
+    @Operation(summary = "톡픽 검색", description = "키워드를 통해 톡픽을 검색합니다. "
+            + "mode가 SEMANTIC이면 의미가 가까운 톡픽을 유사도 순으로 찾습니다(정렬 조건 무시).")
     @GetMapping
     public Page<SearchTalkPickResponse> searchTalkPicks(
             @RequestParam final String query,
-            @PageableDefault(size = 4, sort = "views", direction = DESC) Pageable pageable) {
-        return searchTalkPickService.searchTalkPicks(query, pageable);
+            @PageableDefault(size = 4, sort = "views", direction = DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean exactCount,
+            @RequestParam(defaultValue = "KEYWORD") SearchMode mode) {
+        return searchTalkPickService.searchTalkPicks(query, pageable, exactCount, mode);
+    }
+
+    @Operation(summary = "비슷한 톡픽 조회", description = "톡픽과 의미가 가까운 다른 톡픽을 유사도 순으로 조회합니다.")
+    @GetMapping("/similar/{talkPickId}")
+    public List<SearchTalkPickResponse> findSimilarTalkPicks(
+            @PathVariable final Long talkPickId,
+            @RequestParam(defaultValue = "5") int size) {
+        return searchTalkPickService.findSimilarTalkPicks(talkPickId, size);
     }
 }
@@ -6,6 +6,7 @@ import static balancetalk.talkpick.dto.TalkPickDto.TalkPickResponse;
 import static balancetalk.talkpick.dto.TalkPickDto.UpdateTalkPickRequest;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
+import balancetalk.global.pagination.CursorSliceResponse;
 import balancetalk.global.utils.AuthPrincipal;
 import balancetalk.member.dto.ApiMember;
 import balancetalk.member.dto.GuestOrApiMember;
@@ -26,6 +27,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -51,11 +53,22 @@ public class TalkPickController {
         return talkPickService.findById(talkPickId, guestOrApiMember);
     }
 
-    @Operation(summary = "톡픽 목록 조회", description = "톡픽 목록을 조회합니다.")
+    @Operation(summary = "톡픽 목록 조회", description = "톡픽 목록을 조회합니다. "
+            + "전체 개수는 짧은 시간 캐시된 근사값이며, exactCount가 true면 정확한 값을 다시 셉니다.")
     @GetMapping
     public Page<TalkPickResponse> findPagedTalkPicks(
+            @PageableDefault(size = 20, sort = "createdAt", direction = DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean exactCount) {
+        return talkPickService.findPaged(pageable, exactCount);
+    }
+
+    @Operation(summary = "톡픽 목록 커서 조회", description = "커서 기반으로 톡픽 목록을 조회합니다. "
+            + "응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @GetMapping("/cursor")
+    public CursorSliceResponse<TalkPickResponse> findTalkPicksByCursor(
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 20, sort = "createdAt", direction = DESC) Pageable pageable) {
-        return talkPickService.findPaged(pageable);
+        return talkPickService.findByCursor(cursor, pageable);
     }
 
     @Operation(summary = "톡픽 수정", description = "톡픽을 수정합니다.")
@@ -78,4 +91,10 @@ public class TalkPickController {
     public List<TalkPickResponse> findBestTalkPicks() {
         return talkPickService.findBestTalkPicks();
     }
+
+    @Operation(summary = "급상승 톡픽 조회", description = "최근 조회, 투표, 댓글, 북마크가 많은 순으로 톡픽을 조회합니다.")
+    @GetMapping("/trending")
+    public List<TalkPickResponse> findTrendingTalkPicks(@RequestParam(defaultValue = "10") int size) {
+        return talkPickService.findTrendingTalkPicks(size);
+    }
 }
@@ -16,6 +16,7 @@ import balancetalk.game.domain.GameSet;
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
 import balancetalk.global.notification.application.NotificationService;
+import balancetalk.member.application.MemberInteractionIndex;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
 import balancetalk.member.dto.ApiMember;
@@ -37,13 +38,14 @@ public class VoteGameService {
     private final VoteRepository voteRepository;
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
+    private final MemberInteractionIndex memberInteractionIndex;
 
     public void createVote(Long gameId, VoteRequest request, ApiMember apiMember) {
         Member member = apiMember.toMember(memberRepository);
         Game game = gameReader.findGameById(gameId);
         GameOption gameOption = getGameOption(game, request);
 
-        if (member.hasVotedGame(game)) {
+        if (memberInteractionIndex.hasVotedGame(member.getId(), gameId)) {
             throw new BalanceTalkException(ErrorCode.ALREADY_VOTE);
         }
 
@@ -65,7 +67,7 @@ public class VoteGameService {
     public void updateVote(Long gameId, VoteRequest request, ApiMember apiMember) {
         Game game = gameReader.findGameById(gameId);
         Member member = apiMember.toMember(memberRepository);
-        Optional<GameVote> voteOnGame = member.getVoteOnGame(game);
+        Optional<GameVote> voteOnGame = memberInteractionIndex.getVoteOnGame(member.getId(), gameId);
 
         if (voteOnGame.isEmpty()) {
             throw new BalanceTalkException(ErrorCode.NOT_FOUND_VOTE);
@@ -101,7 +103,7 @@ public class VoteGameService {
         Game game = gameReader.findGameById(gameId);
         Member member = apiMember.toMember(memberRepository);
 
-        Optional<GameVote> voteOnGame = member.getVoteOnGame(game);
+        Optional<GameVote> voteOnGame = memberInteractionIndex.getVoteOnGame(member.getId(), gameId);
 
         if (voteOnGame.isEmpty()) {
             throw new BalanceTalkException(ErrorCode.NOT_FOUND_VOTE);
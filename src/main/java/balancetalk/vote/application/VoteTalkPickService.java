@@ -20,17 +20,23 @@ import static balancetalk.global.notification.domain.NotificationStandard.THIRD_
 import static balancetalk.global.notification.domain.NotificationStandard.THIRD_STANDARD_OF_VOTE_RATIO_3_1_NOTIFICATION;
 import static balancetalk.global.notification.domain.NotificationTitleCategory.MY_PICK;
 import static balancetalk.global.notification.domain.NotificationTitleCategory.WRITTEN_TALK_PICK;
+import static balancetalk.global.pagination.CountShape.TALK_PICK_VOTES_OF_MEMBER;
 import static balancetalk.vote.domain.VoteOption.A;
 import static balancetalk.vote.domain.VoteOption.B;
 
 import balancetalk.global.exception.BalanceTalkException;
 import balancetalk.global.exception.ErrorCode;
 import balancetalk.global.notification.application.NotificationService;
+import balancetalk.global.pagination.TotalCountService;
+import balancetalk.member.application.MemberInteractionIndex;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
 import balancetalk.member.dto.ApiMember;
+import balancetalk.talkpick.application.HotScoreBuffer;
+import balancetalk.talkpick.domain.HotScoreEvent;
 import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.TalkPickReader;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
 import balancetalk.vote.domain.TalkPickVote;
 import balancetalk.vote.domain.TalkPickVoteRepository;
 import balancetalk.vote.domain.VoteOption;
@@ -47,18 +53,26 @@ public class VoteTalkPickService {
 
     private final TalkPickReader talkPickReader;
     private final TalkPickVoteRepository voteRepository;
+    private final TalkPickRepository talkPickRepository;
+    private final MemberInteractionIndex memberInteractionIndex;
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
+    private final TotalCountService totalCountService;
+    private final HotScoreBuffer hotScoreBuffer;
 
     @Transactional
     public void createVote(long talkPickId, VoteRequest request, ApiMember apiMember) {
         TalkPick talkPick = talkPickReader.readById(talkPickId);
         Member member = apiMember.toMember(memberRepository);
-        if (member.hasVotedTalkPick(talkPick)) {
+        if (memberInteractionIndex.hasVotedTalkPickUncached(member.getId(), talkPickId)) {
             throw new BalanceTalkException(ErrorCode.ALREADY_VOTE);
         }
 
         voteRepository.save(request.toEntity(member, talkPick));
+        changeVotesCount(talkPick, request.getVoteOption(), 1);
+        memberInteractionIndex.evict(member.getId());
+        totalCountService.increase(TALK_PICK_VOTES_OF_MEMBER, member.getId());
+        hotScoreBuffer.record(talkPickId, HotScoreEvent.VOTE);
 
         updateCommentsVoteOption(talkPick, member, request.getVoteOption());
 
@@ -77,10 +91,17 @@ public class VoteTalkPickService {
         TalkPick talkPick = talkPickReader.readById(talkPickId);
         Member member = apiMember.toMember(memberRepository);
 
-        TalkPickVote vote = member.getVoteOnTalkPick(talkPick)
+        TalkPickVote vote = memberInteractionIndex.getVoteOnTalkPick(member.getId(), talkPickId)
                 .orElseThrow(() -> new BalanceTalkException(ErrorCode.NOT_FOUND_VOTE));
 
+        VoteOption previousVoteOption = vote.getVoteOption();
+        if (previousVoteOption != request.getVoteOption()) {
+            changeVotesCount(talkPick, previousVoteOption, -1);
+            changeVotesCount(talkPick, request.getVoteOption(), 1);
+        }
+
         vote.updateVoteOption(request.getVoteOption());
+        memberInteractionIndex.evict(member.getId());
         updateCommentsVoteOption(talkPick, member, request.getVoteOption());
 
         sendVoteTalkPickRatioNotification(talkPick);
@@ -91,16 +112,26 @@ public class VoteTalkPickService {
         TalkPick talkPick = talkPickReader.readById(talkPickId);
         Member member = apiMember.toMember(memberRepository);
 
-        TalkPickVote vote = member.getVoteOnTalkPick(talkPick)
+        TalkPickVote vote = memberInteractionIndex.getVoteOnTalkPick(member.getId(), talkPickId)
                 .orElseThrow(() -> new BalanceTalkException(ErrorCode.NOT_FOUND_VOTE));
 
         voteRepository.delete(vote);
+        changeVotesCount(talkPick, vote.getVoteOption(), -1);
+        memberInteractionIndex.evict(member.getId());
+        totalCountService.decrease(TALK_PICK_VOTES_OF_MEMBER, member.getId());
         sendVoteTalkPickRatioNotification(talkPick);
     }
 
+    private void changeVotesCount(TalkPick talkPick, VoteOption voteOption, long delta) {
+        long deltaOfA = voteOption == A ? delta : 0;
+        long deltaOfB = voteOption == B ? delta : 0;
+        talkPickRepository.addVotesCount(talkPick.getId(), deltaOfA, deltaOfB);
+        talkPick.applyVotesCountDelta(deltaOfA, deltaOfB);
+    }
+
     private void sendVoteTalkPickNotification(TalkPick talkPick) {
         Member member = talkPick.getMember();
-        long votedCount = talkPick.getVotes().size();
+        long votedCount = talkPick.getTotalVotesCount();
         String voteCountKey = "VOTE_" + votedCount;
         Map<String, Boolean> notificationHistory = talkPick.getNotificationHistory().mappingNotification();
         String category = WRITTEN_TALK_PICK.getCategory();
@@ -214,10 +245,7 @@ public class VoteTalkPickService {
     }
 
     private List<Member> getMembersWhoVotedForOption(TalkPick talkPick, VoteOption option) {
-        return talkPick.getVotes().stream()
-                .filter(vote -> vote.getVoteOption().equals(option))
-                .map(TalkPickVote::getMember)
-                .toList();
+        return voteRepository.findMembersByTalkPickIdAndVoteOption(talkPick.getId(), option);
     }
 
     private void sendNotificationToMembers(Member member, TalkPick talkPick, String category, String message) {
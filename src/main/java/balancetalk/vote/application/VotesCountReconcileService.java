@@ -0,0 +1,35 @@
+package balancetalk.vote.application;
+
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VotesCountReconcileService {
+
+    private final TalkPickRepository talkPickRepository;
+
+    /**
+     * lastTalkPickId 이후의 톡픽 ID를 오름차순으로 최대 500개 조회한다.
+     */
+    public List<Long> findTalkPickIds(long lastTalkPickId) {
+        return talkPickRepository.findTop500IdsByIdGreaterThan(lastTalkPickId);
+    }
+
+    /**
+     * 톡픽들에 대해 저장된 투표수와 실제 투표 기록을 비교해 어긋난 값을 바로잡는다.
+     */
+    @Transactional
+    public void reconcileChunk(List<Long> talkPickIds) {
+        int reconciled = talkPickRepository.reconcileVotesCount(talkPickIds);
+        if (reconciled > 0) {
+            log.warn("Reconcile votes count of {} TalkPicks in ID [{}, {}]",
+                    reconciled, talkPickIds.get(0), talkPickIds.get(talkPickIds.size() - 1));
+        }
+    }
+}
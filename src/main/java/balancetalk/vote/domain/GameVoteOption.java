@@ -0,0 +1,8 @@
+package balancetalk.vote.domain;
+
+public interface GameVoteOption {
+
+    Long getGameId();
+
+    VoteOption getVoteOption();
+}
@@ -1,14 +1,28 @@
 package balancetalk.vote.domain;
 
-import org.springframework.data.domain.Page;
+import balancetalk.member.domain.Member;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.repository.query.Param;
 
 public interface TalkPickVoteRepository extends JpaRepository<TalkPickVote, Long> {
 
     @Query("SELECT v FROM TalkPickVote v WHERE v.member.id = :memberId AND v.talkPick IS NOT NULL ORDER BY v.lastModifiedAt DESC")
-    Page<TalkPickVote> findAllByMemberIdAndTalkPickDesc(Long memberId, Pageable pageable);
+    List<TalkPickVote> findAllByMemberIdAndTalkPickDesc(Long memberId, Pageable pageable);
+
+    long countByMemberIdAndTalkPickIsNotNull(Long memberId);
+
+    @Query("SELECT v.member FROM TalkPickVote v WHERE v.talkPick.id = :talkPickId AND v.voteOption = :voteOption")
+    List<Member> findMembersByTalkPickIdAndVoteOption(@Param("talkPickId") Long talkPickId,
+                                                      @Param("voteOption") VoteOption voteOption);
+
+    Optional<TalkPickVote> findByMemberIdAndTalkPickId(Long memberId, Long talkPickId);
+
+    @Query("SELECT v.voteOption FROM TalkPickVote v WHERE v.member.id = :memberId AND v.talkPick.id = :talkPickId")
+    Optional<VoteOption> findVoteOptionByMemberIdAndTalkPickId(@Param("memberId") Long memberId,
+                                                               @Param("talkPickId") Long talkPickId);
 }
@@ -38,4 +38,17 @@ public interface VoteRepository extends JpaRepository<GameVote, Long> {
     // 특정 사용자가 특정 게임에 대해 투표한 기록 조회 (비활성화된 투표도 포함)
     @Query("SELECT gv FROM GameVote gv WHERE gv.member.id = :memberId AND gv.gameOption.game.id = :gameId")
     Optional<GameVote> findByMemberIdAndGameId(@Param("memberId") Long memberId, @Param("gameId") Long gameId);
+
+    @Query("SELECT COUNT(gv) > 0 FROM GameVote gv WHERE gv.member.id = :memberId AND gv.gameOption.game.id = :gameId")
+    boolean existsByMemberIdAndGameId(@Param("memberId") Long memberId, @Param("gameId") Long gameId);
+
+    // 밸런스게임 세트에 속한 게임별 투표 선택지를 한 번에 조회 (비활성화된 투표도 포함)
+    @Query("""
+        SELECT gv.gameOption.game.id AS gameId, gv.gameOption.optionType AS voteOption
+        FROM GameVote gv
+        WHERE gv.member.id = :memberId
+          AND gv.gameOption.game.gameSet.id = :gameSetId
+        """)
+    List<GameVoteOption> findVoteOptionsByMemberIdAndGameSetId(@Param("memberId") Long memberId,
+                                                               @Param("gameSetId") Long gameSetId);
 }
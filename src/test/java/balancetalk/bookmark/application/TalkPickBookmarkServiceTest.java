@@ -5,9 +5,12 @@ import balancetalk.bookmark.domain.TalkPickBookmark;
 import balancetalk.bookmark.domain.BookmarkGenerator;
 import balancetalk.bookmark.domain.TalkPickBookmarkRepository;
 import balancetalk.global.notification.domain.NotificationHistory;
+import balancetalk.global.pagination.TotalCountService;
+import balancetalk.member.application.MemberInteractionIndex;
 import balancetalk.member.domain.Member;
 import balancetalk.member.domain.MemberRepository;
 import balancetalk.member.dto.ApiMember;
+import balancetalk.talkpick.application.HotScoreBuffer;
 import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.TalkPickReader;
 import org.assertj.core.api.Assertions;
@@ -19,7 +22,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -42,6 +44,15 @@ class TalkPickBookmarkServiceTest {
     @Mock
     TalkPickBookmarkRepository talkPickBookmarkRepository;
 
+    @Mock
+    MemberInteractionIndex memberInteractionIndex;
+
+    @Mock
+    TotalCountService totalCountService;
+
+    @Mock
+    HotScoreBuffer hotScoreBuffer;
+
     ApiMember apiMember;
 
     @BeforeEach
@@ -84,14 +95,11 @@ class TalkPickBookmarkServiceTest {
                 .active(false)
                 .build();
 
-        Member member = Member.builder()
-                .talkPicks(List.of())
-                .talkPickBookmarks(List.of(talkPickBookmark))
-                .build();
-
+        Member member = Member.builder().build();
 
         when(talkPickReader.readById(any())).thenReturn(talkPick);
         when(memberRepository.findById(any())).thenReturn(Optional.ofNullable(member));
+        when(memberInteractionIndex.getTalkPickBookmark(any(), eq(1L))).thenReturn(Optional.of(talkPickBookmark));
 
         // when
         bookmarkTalkPickService.createBookmark(1L, apiMember);
@@ -110,14 +118,11 @@ class TalkPickBookmarkServiceTest {
                 .active(true)
                 .build();
 
-        Member member = Member.builder()
-                .talkPicks(List.of())
-                .talkPickBookmarks(List.of(talkPickBookmark))
-                .build();
-
+        Member member = Member.builder().build();
 
         when(talkPickReader.readById(any())).thenReturn(talkPick);
         when(memberRepository.findById(any())).thenReturn(Optional.ofNullable(member));
+        when(memberInteractionIndex.getTalkPickBookmark(any(), eq(1L))).thenReturn(Optional.of(talkPickBookmark));
 
         // when
         bookmarkTalkPickService.deleteBookmark(1L, apiMember);
@@ -0,0 +1,96 @@
+package balancetalk.comment.application;
+
+import static balancetalk.comment.application.BestCommentClassifier.MIN_LIKES_COUNT_FOR_BEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.comment.domain.Comment;
+import balancetalk.comment.domain.CommentRepository;
+import balancetalk.talkpick.domain.TalkPick;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BestCommentClassifierTest {
+
+    @InjectMocks
+    BestCommentClassifier bestCommentClassifier;
+
+    @Mock
+    CommentRepository commentRepository;
+
+    TalkPick talkPick = TalkPick.builder().id(1L).build();
+    Comment comment = Comment.builder().id(100L).talkPick(talkPick).build();
+
+    @Test
+    @DisplayName("좋아요로 최대 좋아요 수가 바뀌면 이전·새 최대값을 가진 댓글만 다시 분류한다.")
+    void addLikesCount_Success_ThenReclassifyPreviousAndNewMax() {
+        // given
+        when(commentRepository.findMaxLikesCount(1L)).thenReturn(3, 4);
+        when(commentRepository.findLikesCountById(100L)).thenReturn(4);
+
+        // when
+        int likesCount = bestCommentClassifier.addLikesCount(comment, 1);
+
+        // then
+        assertThat(likesCount).isEqualTo(4);
+        verify(commentRepository).addLikesCount(100L, 1);
+        verify(commentRepository).updateBest(100L, MIN_LIKES_COUNT_FOR_BEST, 4);
+        verify(commentRepository).updateBestByLikesCounts(1L, List.of(3, 4), MIN_LIKES_COUNT_FOR_BEST, 4);
+    }
+
+    @Test
+    @DisplayName("최대 좋아요 수가 그대로면 좋아요가 바뀐 댓글만 다시 분류한다.")
+    void addLikesCount_Success_ThenReclassifyOnlyChangedComment() {
+        // given
+        when(commentRepository.findMaxLikesCount(1L)).thenReturn(12, 12);
+        when(commentRepository.findLikesCountById(100L)).thenReturn(10);
+
+        // when
+        bestCommentClassifier.addLikesCount(comment, 1);
+
+        // then
+        verify(commentRepository).updateBest(100L, MIN_LIKES_COUNT_FOR_BEST, 12);
+        verify(commentRepository, never()).updateBestByLikesCounts(anyLong(), anyList(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("답글은 좋아요 수만 바꾸고 베스트 댓글로 분류하지 않는다.")
+    void addLikesCount_Success_ThenSkipClassifyingReply() {
+        // given
+        Comment reply = Comment.builder().id(101L).talkPick(talkPick).parent(comment).build();
+        when(commentRepository.findLikesCountById(101L)).thenReturn(1);
+
+        // when
+        bestCommentClassifier.addLikesCount(reply, 1);
+
+        // then
+        verify(commentRepository).addLikesCount(101L, 1);
+        verify(commentRepository, never()).findMaxLikesCount(anyLong());
+        verify(commentRepository, never()).updateBest(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("최대 좋아요 수를 가진 댓글을 삭제하면 새 최대값을 가진 댓글을 다시 분류한다.")
+    void deleteAndReclassify_Success() {
+        // given
+        when(commentRepository.findMaxLikesCount(1L)).thenReturn(5, 2);
+
+        // when
+        bestCommentClassifier.deleteAndReclassify(comment);
+
+        // then
+        verify(commentRepository).deleteById(100L);
+        verify(commentRepository).updateBestByLikesCounts(1L, List.of(5, 2), MIN_LIKES_COUNT_FOR_BEST, 2);
+    }
+}
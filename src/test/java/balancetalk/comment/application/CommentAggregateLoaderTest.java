@@ -0,0 +1,86 @@
+package balancetalk.comment.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import balancetalk.comment.application.CommentAggregateLoader.CommentAggregates;
+import balancetalk.comment.domain.Comment;
+import balancetalk.file.domain.File;
+import balancetalk.file.domain.repository.FileRepository;
+import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.like.domain.LikeRepository;
+import balancetalk.like.domain.LikeType;
+import balancetalk.member.domain.Member;
+import balancetalk.member.domain.MemberRepository;
+import balancetalk.member.dto.GuestOrApiMember;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CommentAggregateLoaderTest {
+
+    LikeRepository likeRepository = mock(LikeRepository.class);
+    MemberRepository memberRepository = mock(MemberRepository.class);
+    FileRepository fileRepository = mock(FileRepository.class);
+    CommentAggregateLoader commentAggregateLoader =
+            new CommentAggregateLoader(likeRepository, memberRepository, fileRepository);
+
+    Member writer = Member.builder().id(1L).profileImgId(10L).build();
+    Member viewer = Member.builder().id(2L).build();
+    Comment first = Comment.builder().id(100L).member(writer).likesCount(3).build();
+    Comment second = Comment.builder().id(101L).member(viewer).build();
+
+    @Test
+    @DisplayName("목록의 내 좋아요 여부와 프로필 이미지를 한 번씩 조회해 댓글별로 돌려준다.")
+    void load_Success() {
+        // given
+        List<Long> commentIds = List.of(100L, 101L);
+        when(memberRepository.findById(2L)).thenReturn(Optional.of(viewer));
+        when(likeRepository.findActiveResourceIds(commentIds, 2L, LikeType.COMMENT)).thenReturn(List.of(101L));
+        when(memberRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(writer, viewer));
+        when(fileRepository.findAllById(Set.of(10L)))
+                .thenReturn(List.of(File.builder().id(10L).imgUrl("https://pick-o/profile.png").build()));
+
+        // when
+        CommentAggregates aggregates = commentAggregateLoader.load(List.of(first, second), new GuestOrApiMember(2L));
+
+        // then
+        assertThat(aggregates.likesCountOf(first)).isEqualTo(3);
+        assertThat(aggregates.likesCountOf(second)).isZero();
+        assertThat(aggregates.isMyLiked(first)).isFalse();
+        assertThat(aggregates.isMyLiked(second)).isTrue();
+        assertThat(aggregates.profileImgUrlOf(writer)).isEqualTo("https://pick-o/profile.png");
+        assertThat(aggregates.profileImgUrlOf(viewer)).isNull();
+    }
+
+    @Test
+    @DisplayName("비회원은 내 좋아요를 조회하지 않는다.")
+    void load_Success_ThenSkipMyLikesForGuest() {
+        // given
+        when(memberRepository.findAllById(List.of(2L))).thenReturn(List.of(viewer));
+
+        // when
+        CommentAggregates aggregates = commentAggregateLoader.load(List.of(second), new GuestOrApiMember(-1L));
+
+        // then
+        assertThat(aggregates.isMyLiked(second)).isFalse();
+        verifyNoInteractions(fileRepository);
+    }
+
+    @Test
+    @DisplayName("작성자의 프로필 이미지 파일이 없으면 예외가 발생한다.")
+    void load_Fail_ByNotFoundProfileImage() {
+        // given
+        when(memberRepository.findAllById(List.of(1L))).thenReturn(List.of(writer));
+        when(fileRepository.findAllById(Set.of(10L))).thenReturn(List.of());
+
+        // when, then
+        assertThatThrownBy(() -> commentAggregateLoader.load(List.of(first), new GuestOrApiMember(-1L)))
+                .isInstanceOf(BalanceTalkException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package balancetalk.comment.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.comment.dto.CommentDto.LatestCommentResponse;
+import balancetalk.global.pagination.CursorSliceResponse;
+import balancetalk.member.dto.GuestOrApiMember;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CommentStreamServiceTest {
+
+    static final int CHUNK_SIZE = 2;
+
+    CommentService commentService = mock(CommentService.class);
+    EntityManager entityManager = mock(EntityManager.class);
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    CommentStreamService commentStreamService =
+            new CommentStreamService(commentService, objectMapper, entityManager, CHUNK_SIZE);
+
+    GuestOrApiMember guest = new GuestOrApiMember(-1L);
+
+    @Test
+    @DisplayName("댓글을 커서로 청크씩 조회하며 하나의 JSON 배열로 이어 쓴다.")
+    void streamLatestComments_Success() throws Exception {
+        // given
+        when(commentService.findCommentsByCursor(1L, null, CHUNK_SIZE, guest))
+                .thenReturn(new CursorSliceResponse<>(List.of(comment(3L), comment(2L)), "next", true));
+        when(commentService.findCommentsByCursor(1L, "next", CHUNK_SIZE, guest))
+                .thenReturn(new CursorSliceResponse<>(List.of(comment(1L)), null, false));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        commentStreamService.streamLatestComments(1L, guest).writeTo(out);
+
+        // then
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertThat(body.isArray()).isTrue();
+        assertThat(body.findValuesAsText("id")).containsExactly("3", "2", "1");
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("댓글이 없으면 빈 배열을 쓴다.")
+    void streamLatestComments_Success_ThenEmptyArray() throws Exception {
+        // given
+        when(commentService.findCommentsByCursor(1L, null, CHUNK_SIZE, guest))
+                .thenReturn(new CursorSliceResponse<>(List.of(), null, false));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        commentStreamService.streamLatestComments(1L, guest).writeTo(out);
+
+        // then
+        assertThat(out.toString()).isEqualTo("[]");
+    }
+
+    private LatestCommentResponse comment(Long id) {
+        return LatestCommentResponse.builder()
+                .id(id)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package balancetalk.comment.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CommentTest {
+
+    @Test
+    @DisplayName("최상위 댓글은 자신의 ID로 스레드를 시작한다.")
+    void assignPath_Success_ThenStartThreadWithOwnId() {
+        // given
+        Comment root = Comment.builder().id(12L).build();
+
+        // when
+        root.assignPath();
+
+        // then
+        assertThat(root.getRootId()).isEqualTo(12L);
+        assertThat(root.getDepth()).isZero();
+        assertThat(root.getPath()).isEqualTo("0000000000000000012");
+    }
+
+    @Test
+    @DisplayName("답글은 부모의 경로를 이어 받아 스레드 안에서 작성순으로 정렬된다.")
+    void assignPath_Success_ThenFollowParentPath() {
+        // given
+        Comment root = Comment.builder().id(12L).build();
+        root.assignPath();
+        Comment first = Comment.builder().id(99L).parent(root).build();
+        Comment second = Comment.builder().id(100L).parent(root).build();
+
+        // when
+        first.assignPath();
+        second.assignPath();
+
+        // then
+        assertThat(second.getRootId()).isEqualTo(12L);
+        assertThat(second.getDepth()).isEqualTo(1);
+        assertThat(second.getPath()).isEqualTo("0000000000000000012/0000000000000000100");
+        assertThat(root.getPath()).isLessThan(first.getPath());
+        assertThat(first.getPath()).isLessThan(second.getPath());
+    }
+
+    @Test
+    @DisplayName("경로가 아직 채워지지 않은 부모에 답글을 달면 부모의 경로를 먼저 채운다.")
+    void assignPath_Success_ThenAssignParentPathFirst() {
+        // given
+        Comment root = Comment.builder().id(12L).build();
+        Comment reply = Comment.builder().id(99L).parent(root).build();
+        Comment nested = Comment.builder().id(100L).parent(reply).build();
+
+        // when
+        nested.assignPath();
+
+        // then
+        assertThat(root.getPath()).isEqualTo("0000000000000000012");
+        assertThat(reply.getPath()).isEqualTo("0000000000000000012/0000000000000000099");
+        assertThat(nested.getRootId()).isEqualTo(12L);
+        assertThat(nested.getDepth()).isEqualTo(2);
+        assertThat(nested.getPath()).isEqualTo("0000000000000000012/0000000000000000099/0000000000000000100");
+    }
+}
@@ -0,0 +1,126 @@
+package balancetalk.game.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import balancetalk.game.domain.MainTag;
+import balancetalk.game.domain.repository.GameSetRepository;
+import balancetalk.game.domain.repository.GameSetTags;
+import balancetalk.game.domain.repository.MainTagRepository;
+import balancetalk.game.dto.GameSetDto.MainTagFacet;
+import balancetalk.game.dto.GameSetDto.SubTagFacet;
+import balancetalk.game.dto.GameSetDto.TagFacetResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GameSetFacetServiceTest {
+
+    @InjectMocks
+    GameSetFacetService gameSetFacetService;
+
+    @Mock
+    GameSetRepository gameSetRepository;
+
+    @Mock
+    MainTagRepository mainTagRepository;
+
+    MainTag food = MainTag.builder().id(1L).name("음식").build();
+    MainTag love = MainTag.builder().id(2L).name("연애").build();
+
+    @BeforeEach
+    void setUp() {
+        when(mainTagRepository.findAll()).thenReturn(List.of(love, food));
+        when(gameSetRepository.findTop1000TagsByIdGreaterThan(anyLong())).thenReturn(List.of());
+        when(gameSetRepository.findTop1000TagsByIdGreaterThan(0L)).thenReturn(List.of(
+                new Tags(1L, "음식", "짜장면"),
+                new Tags(2L, "음식", "짜장면"),
+                new Tags(3L, "음식", "치킨"),
+                new Tags(4L, "연애", null)));
+        gameSetFacetService.rebuild();
+    }
+
+    @Test
+    @DisplayName("재구성하면 메인 태그는 등록 순서로, 서브 태그는 개수가 많은 순서로 집계한다.")
+    void rebuild_CountsTags() {
+        // when
+        TagFacetResponse result = gameSetFacetService.getFacets();
+
+        // then
+        assertThat(result.getTotalCount()).isEqualTo(4);
+        assertThat(result.getMainTags()).extracting(MainTagFacet::getName, MainTagFacet::getCount)
+                .containsExactly(tuple("음식", 3L), tuple("연애", 1L));
+        assertThat(result.getMainTags().get(0).getSubTags()).extracting(SubTagFacet::getName, SubTagFacet::getCount)
+                .containsExactly(tuple("짜장면", 2L), tuple("치킨", 1L));
+        assertThat(result.getMainTags().get(1).getSubTags()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게임 세트의 태그를 수정하면 이전 태그의 개수를 빼고 새 태그의 개수를 더한다.")
+    void put_MovesCountToNewTags() {
+        // when
+        gameSetFacetService.put(3L, love.getName(), "첫사랑");
+
+        // then
+        TagFacetResponse result = gameSetFacetService.getFacets();
+        assertThat(result.getTotalCount()).isEqualTo(4);
+        assertThat(result.getMainTags()).extracting(MainTagFacet::getCount).containsExactly(2L, 2L);
+        assertThat(result.getMainTags().get(0).getSubTags()).extracting(SubTagFacet::getName)
+                .containsExactly("짜장면");
+        assertThat(result.getMainTags().get(1).getSubTags()).extracting(SubTagFacet::getName)
+                .containsExactly("첫사랑");
+    }
+
+    @Test
+    @DisplayName("게임 세트를 삭제하면 해당 태그의 개수를 빼고, 0개가 된 서브 태그는 제외한다.")
+    void remove_DecreasesCount() {
+        // when
+        gameSetFacetService.remove(3L);
+        gameSetFacetService.remove(99L);
+
+        // then
+        TagFacetResponse result = gameSetFacetService.getFacets();
+        assertThat(result.getTotalCount()).isEqualTo(3);
+        assertThat(result.getMainTags().get(0).getCount()).isEqualTo(2);
+        assertThat(result.getMainTags().get(0).getSubTags()).extracting(SubTagFacet::getName)
+                .containsExactly("짜장면");
+    }
+
+    @Test
+    @DisplayName("새 메인 태그는 게임 세트가 없어도 0개로 포함한다.")
+    void addMainTag_IncludesEmptyMainTag() {
+        // when
+        gameSetFacetService.addMainTag("스포츠");
+
+        // then
+        assertThat(gameSetFacetService.getFacets().getMainTags())
+                .extracting(MainTagFacet::getName, MainTagFacet::getCount)
+                .containsExactly(tuple("음식", 3L), tuple("연애", 1L), tuple("스포츠", 0L));
+    }
+
+    private record Tags(Long id, String mainTag, String subTag) implements GameSetTags {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getMainTag() {
+            return mainTag;
+        }
+
+        @Override
+        public String getSubTag() {
+            return subTag;
+        }
+    }
+}
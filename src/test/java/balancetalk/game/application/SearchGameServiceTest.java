@@ -0,0 +1,193 @@
+package balancetalk.game.application;
+
+import static balancetalk.file.domain.FileType.GAME_OPTION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.file.domain.File;
+import balancetalk.file.domain.repository.FileRepository;
+import balancetalk.game.domain.Game;
+import balancetalk.game.domain.GameOption;
+import balancetalk.game.domain.GameSet;
+import balancetalk.game.domain.MainTag;
+import balancetalk.game.domain.repository.GameRepository;
+import balancetalk.game.domain.repository.GameSearchCandidate;
+import balancetalk.game.dto.SearchGameResponse;
+import balancetalk.global.search.application.QueryCorrectionService;
+import balancetalk.global.search.application.QueryCorrectionService.CorrectedSearch;
+import balancetalk.global.search.application.TrendingSearchService;
+import balancetalk.member.domain.Member;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SearchGameServiceTest {
+
+    @InjectMocks
+    SearchGameService searchGameService;
+
+    @Mock
+    GameRepository gameRepository;
+
+    @Mock
+    FileRepository fileRepository;
+
+    @Mock
+    QueryCorrectionService queryCorrectionService;
+
+    @Mock
+    TrendingSearchService trendingSearchService;
+
+    LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchGameService, "maxTotalCount", 1000);
+        when(queryCorrectionService.searchWithCorrection(anyString(), any())).thenAnswer(invocation -> {
+            String query = invocation.getArgument(0);
+            Function<String, Page<SearchGameResponse>> search = invocation.getArgument(1);
+            return new CorrectedSearch<>(query, search.apply(query));
+        });
+    }
+
+    private record Candidate(Long gameId, Long views, LocalDateTime createdAt, Double score)
+            implements GameSearchCandidate {
+
+        @Override
+        public Long getGameId() {
+            return gameId;
+        }
+
+        @Override
+        public Long getViews() {
+            return views;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public Double getScore() {
+            return score;
+        }
+    }
+
+    private Game game(Long id, GameOption... options) {
+        GameSet gameSet = mock(GameSet.class);
+        MainTag mainTag = mock(MainTag.class);
+        when(gameSet.getMainTag()).thenReturn(mainTag);
+
+        Game game = mock(Game.class);
+        when(game.getId()).thenReturn(id);
+        when(game.getGameSet()).thenReturn(gameSet);
+        when(game.getGameOptions()).thenReturn(List.of(options));
+        return game;
+    }
+
+    @Test
+    @DisplayName("여러 필드에서 찾은 같은 게임은 한 번만 포함하고, 정렬 기준과 점수 순으로 페이지를 자른다.")
+    void search_Success_ThenMergeCandidatesAndSortByViews() {
+        // given
+        when(gameRepository.findSearchCandidates(anyString(), anyString(), anyInt())).thenReturn(List.of(
+                new Candidate(1L, 10L, now, 3.0),
+                new Candidate(2L, 50L, now, 1.0),
+                new Candidate(1L, 10L, now, 1000.0),
+                new Candidate(3L, 10L, now, 2.0)));
+        Game first = game(2L);
+        Game second = game(1L);
+        when(gameRepository.findAllWithGameSetAndOptionsByIdIn(List.of(2L, 1L))).thenReturn(List.of(second, first));
+
+        // when
+        Page<SearchGameResponse> result = searchGameService.search("짜장 짬뽕", PageRequest.of(0, 2), "views", true);
+
+        // then
+        assertThat(result.getContent()).extracting(SearchGameResponse::getId).containsExactly(2L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("페이지에 포함된 게임의 선택지 이미지를 한 번의 쿼리로 조회한다.")
+    void search_Success_ThenLoadImagesInOneQuery() {
+        // given
+        when(gameRepository.findSearchCandidates(anyString(), anyString(), anyInt())).thenReturn(List.of(
+                new Candidate(1L, 10L, now, 3.0),
+                new Candidate(2L, 5L, now, 3.0)));
+        GameOption firstOption = mock(GameOption.class);
+        when(firstOption.hasImage()).thenReturn(true);
+        when(firstOption.getId()).thenReturn(11L);
+        GameOption secondOption = mock(GameOption.class);
+        when(secondOption.hasImage()).thenReturn(true);
+        when(secondOption.getId()).thenReturn(21L);
+        Game first = game(1L, firstOption);
+        Game second = game(2L, secondOption);
+        when(gameRepository.findAllWithGameSetAndOptionsByIdIn(any())).thenReturn(List.of(first, second));
+
+        // when
+        searchGameService.search("짜장", PageRequest.of(0, 10), "createdAt", true);
+
+        // then
+        verify(fileRepository, times(1)).findAllByResourceIdsAndFileType(List.of(21L, 11L), GAME_OPTION);
+    }
+
+    @Test
+    @DisplayName("이미지가 없는 게임과 선택지 하나에만 이미지가 있는 게임이 섞여 있어도 이미지가 있는 선택지만 채운다.")
+    void search_Success_ThenFillOnlyOptionsWithImage() {
+        // given
+        when(gameRepository.findSearchCandidates(anyString(), anyString(), anyInt())).thenReturn(List.of(
+                new Candidate(1L, 10L, now, 3.0),
+                new Candidate(2L, 5L, now, 3.0)));
+        GameSet gameSet = GameSet.builder()
+                .id(100L)
+                .title("짜장 vs 짬뽕")
+                .member(Member.builder().id(1L).build())
+                .mainTag(MainTag.builder().name("음식").build())
+                .build();
+        Game withOneImage = Game.builder()
+                .id(1L)
+                .gameSet(gameSet)
+                .gameOptions(List.of(
+                        GameOption.builder().id(11L).imgId(111L).build(),
+                        GameOption.builder().id(12L).build()))
+                .build();
+        Game withoutImage = Game.builder()
+                .id(2L)
+                .gameSet(gameSet)
+                .gameOptions(List.of(
+                        GameOption.builder().id(21L).build(),
+                        GameOption.builder().id(22L).build()))
+                .build();
+        when(gameRepository.findAllWithGameSetAndOptionsByIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(withOneImage, withoutImage));
+        when(fileRepository.findAllByResourceIdsAndFileType(List.of(11L), GAME_OPTION)).thenReturn(List.of(
+                File.builder().id(111L).resourceId(11L).imgUrl("https://pick-o/option-a.png").build()));
+
+        // when
+        Page<SearchGameResponse> result = searchGameService.search("짜장", PageRequest.of(0, 10), "createdAt", true);
+
+        // then
+        assertThat(result.getContent()).extracting(SearchGameResponse::getId).containsExactly(2L, 1L);
+        assertThat(result.getContent())
+                .extracting(SearchGameResponse::getOptionAImg, SearchGameResponse::getOptionBImg)
+                .containsExactly(tuple(null, null), tuple("https://pick-o/option-a.png", null));
+    }
+}
@@ -0,0 +1,137 @@
+package balancetalk.global.job;
+
+import static balancetalk.global.job.JobStatus.DEAD;
+import static balancetalk.global.job.JobStatus.READY;
+import static balancetalk.global.job.JobType.TALK_PICK_SUMMARY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JobQueueTest {
+
+    JobRepository jobRepository = mock(JobRepository.class);
+    JobQueue jobQueue = new JobQueue(jobRepository, new ObjectMapper(), 1_000L, 60_000L, 3, 300_000L);
+
+    @Test
+    @DisplayName("작업을 임대하면 시도 횟수가 늘고 임대 토큰이 붙는다.")
+    void lease_Success() {
+        // given
+        Job job = new Job(TALK_PICK_SUMMARY, "1", LocalDateTime.now());
+        when(jobRepository.findLeasable(eq(TALK_PICK_SUMMARY), eq(READY), any(), any(Pageable.class)))
+                .thenReturn(List.of(job));
+
+        // when
+        List<JobLease> leases = jobQueue.lease(TALK_PICK_SUMMARY, 10);
+
+        // then
+        assertThat(leases).hasSize(1);
+        assertThat(leases.get(0).attempts()).isEqualTo(1);
+        assertThat(job.isLeasedBy(leases.get(0).leaseToken())).isTrue();
+        assertThat(job.getAvailableAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 작업은 재시도 시각을 미루고 다시 처리 대기 상태로 둔다.")
+    void fail_Success_ThenRetryLater() {
+        // given
+        Job job = new Job(TALK_PICK_SUMMARY, "1", LocalDateTime.now());
+        job.lease("token", LocalDateTime.now().plusMinutes(5));
+        JobLease lease = new JobLease(1L, TALK_PICK_SUMMARY, "1", 1, "token");
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        // when
+        jobQueue.fail(lease, new IllegalStateException("실패"));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(READY);
+        assertThat(job.isLeasedBy("token")).isFalse();
+        assertThat(job.getLastError()).contains("IllegalStateException");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패한 작업은 더 이상 처리하지 않는다.")
+    void fail_Success_ThenDieAfterMaxAttempts() {
+        // given
+        Job job = new Job(TALK_PICK_SUMMARY, "1", LocalDateTime.now());
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            job.lease("token" + attempt, LocalDateTime.now().plusMinutes(5));
+        }
+        JobLease lease = new JobLease(1L, TALK_PICK_SUMMARY, "1", 3, "token3");
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        // when
+        jobQueue.fail(lease, new IllegalStateException("실패"));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(DEAD);
+    }
+
+    @Test
+    @DisplayName("임대가 만료되어 다른 작업자가 가져간 작업의 실패는 반영하지 않는다.")
+    void fail_Success_ThenIgnoreExpiredLease() {
+        // given
+        Job job = new Job(TALK_PICK_SUMMARY, "1", LocalDateTime.now());
+        job.lease("other", LocalDateTime.now().plusMinutes(5));
+        JobLease lease = new JobLease(1L, TALK_PICK_SUMMARY, "1", 1, "token");
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        // when
+        jobQueue.fail(lease, new IllegalStateException("실패"));
+
+        // then
+        assertThat(job.isLeasedBy("other")).isTrue();
+        assertThat(job.getLastError()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 리소스의 작업은 종류와 리소스 ID로 만든 키로 하나만 추가한다.")
+    void enqueueOnce_Success_ThenDeduplicateByResource() {
+        // when
+        jobQueue.enqueueOnce(TALK_PICK_SUMMARY, 1L, 1L);
+
+        // then
+        verify(jobRepository).insertOrRequestRerun(eq("TALK_PICK_SUMMARY"), eq("1"), eq("TALK_PICK_SUMMARY:1"), any());
+    }
+
+    @Test
+    @DisplayName("처리 중에 다시 요청된 작업은 처리를 마쳐도 지우지 않고 다시 대기시킨다.")
+    void complete_Success_ThenRequeueRerunRequested() {
+        // given
+        JobLease lease = new JobLease(1L, TALK_PICK_SUMMARY, "1", 1, "token");
+        when(jobRepository.deleteByIdAndLeaseToken(1L, "token")).thenReturn(0);
+        when(jobRepository.requeueRerunRequested(eq(1L), eq("token"), any())).thenReturn(1);
+
+        // when
+        boolean completed = jobQueue.complete(lease);
+
+        // then
+        assertThat(completed).isTrue();
+        verify(jobRepository).requeueRerunRequested(eq(1L), eq("token"), any());
+    }
+
+    @Test
+    @DisplayName("더 이상 처리하지 않는 작업은 같은 리소스의 새 작업을 막지 않는다.")
+    void die_Success_ThenReleaseDedupKey() {
+        // given
+        Job job = new Job(TALK_PICK_SUMMARY, "1", LocalDateTime.now());
+        ReflectionTestUtils.setField(job, "dedupKey", "TALK_PICK_SUMMARY:1");
+
+        // when
+        job.die("실패");
+
+        // then
+        assertThat(job.getDedupKey()).isNull();
+    }
+}
@@ -0,0 +1,83 @@
+package balancetalk.global.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import balancetalk.global.exception.BalanceTalkException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 원래 값을 그대로 얻는다.")
+    void decode_Success_ThenSameValues() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 4, 10, 0, 0, 123_000_000);
+        String token = Cursor.of(152L, createdAt, 17L).encode();
+
+        // when
+        Cursor cursor = Cursor.decode(token);
+
+        // then
+        assertThat(cursor.getValues()).containsExactly("152", createdAt.toString(), "17");
+    }
+
+    @Test
+    @DisplayName("커서가 비어 있으면 첫 페이지를 의미하는 null을 반환한다.")
+    void decode_Success_ThenNull_ByBlankToken() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 형식의 커서는 예외가 발생한다.")
+    void decode_Fail_ByInvalidToken() {
+        assertThatThrownBy(() -> Cursor.decode("!!!"))
+                .isInstanceOf(BalanceTalkException.class);
+    }
+
+    @Test
+    @DisplayName("조회 크기가 1 미만이거나 최대 크기를 넘으면 예외가 발생한다.")
+    void validateSize_Fail_ByOutOfRange() {
+        assertThatThrownBy(() -> Cursor.validateSize(0))
+                .isInstanceOf(BalanceTalkException.class);
+        assertThatThrownBy(() -> Cursor.validateSize(Cursor.MAX_SIZE + 1))
+                .isInstanceOf(BalanceTalkException.class);
+    }
+
+    @Test
+    @DisplayName("조회 크기가 1 이상 최대 크기 이하면 통과한다.")
+    void validateSize_Success() {
+        assertThatCode(() -> {
+            Cursor.validateSize(1);
+            Cursor.validateSize(Cursor.MAX_SIZE);
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("요청한 크기보다 많이 조회되면 다음 페이지 커서를 만든다.")
+    void cursorSliceResponse_Success_ThenHasNext() {
+        // when
+        CursorSliceResponse<Long> response = CursorSliceResponse.of(List.of(5L, 4L, 3L), 2, Cursor::of);
+
+        // then
+        assertThat(response.getContent()).containsExactly(5L, 4L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(Cursor.decode(response.getNextCursor()).getValues()).containsExactly("4");
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 다음 페이지 커서가 없다.")
+    void cursorSliceResponse_Success_ThenNoNext() {
+        // when
+        CursorSliceResponse<Long> response = CursorSliceResponse.of(List.of(5L), 2, Cursor::of);
+
+        // then
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+}
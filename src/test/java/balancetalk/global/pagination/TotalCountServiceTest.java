@@ -0,0 +1,117 @@
+package balancetalk.global.pagination;
+
+import static balancetalk.global.pagination.CountShape.TALK_PICKS;
+import static balancetalk.global.pagination.CountShape.TALK_PICKS_OF_MEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import balancetalk.global.caffeine.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+class TotalCountServiceTest {
+
+    TotalCountService totalCountService;
+    AtomicInteger countQueries;
+
+    @BeforeEach
+    void setUp() {
+        SimpleCacheManager cacheManager = (SimpleCacheManager) new CacheConfig().cacheManager();
+        cacheManager.afterPropertiesSet();
+        totalCountService = new TotalCountService(cacheManager, new SimpleMeterRegistry());
+        countQueries = new AtomicInteger();
+    }
+
+    private LongSupplier counter(long total) {
+        return () -> {
+            countQueries.incrementAndGet();
+            return total;
+        };
+    }
+
+    @Test
+    @DisplayName("같은 조회 종류와 필터의 전체 개수는 한 번만 센다.")
+    void getTotal_Success_ThenCountOnlyOnce() {
+        // when
+        long first = totalCountService.getTotal(TALK_PICKS, null, false, counter(10));
+        long second = totalCountService.getTotal(TALK_PICKS, null, false, counter(20));
+
+        // then
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(10);
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("필터가 다르면 전체 개수를 따로 센다.")
+    void getTotal_Success_ThenCountPerFilter() {
+        // when
+        long firstMember = totalCountService.getTotal(TALK_PICKS_OF_MEMBER, 1L, false, counter(3));
+        long secondMember = totalCountService.getTotal(TALK_PICKS_OF_MEMBER, 2L, false, counter(5));
+
+        // then
+        assertThat(firstMember).isEqualTo(3);
+        assertThat(secondMember).isEqualTo(5);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("생성, 삭제 시 캐시된 전체 개수를 증감시킨다.")
+    void increaseAndDecrease_Success_ThenUpdateCachedTotal() {
+        // given
+        totalCountService.getTotal(TALK_PICKS, null, false, counter(10));
+
+        // when
+        totalCountService.increase(TALK_PICKS, null);
+        totalCountService.increase(TALK_PICKS, null);
+        totalCountService.decrease(TALK_PICKS, null);
+
+        // then
+        assertThat(totalCountService.getTotal(TALK_PICKS, null, false, counter(0))).isEqualTo(11);
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("캐시되지 않은 전체 개수는 증감시키지 않고 다음 조회 때 센다.")
+    void increase_Success_ThenIgnoreUncachedTotal() {
+        // when
+        totalCountService.increase(TALK_PICKS, null);
+
+        // then
+        assertThat(totalCountService.getTotal(TALK_PICKS, null, false, counter(7))).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("정확한 개수를 요청하면 캐시를 무시하고 다시 센 값으로 갱신한다.")
+    void getTotal_Success_ThenRecountWhenExact() {
+        // given
+        totalCountService.getTotal(TALK_PICKS, null, false, counter(10));
+
+        // when
+        long exact = totalCountService.getTotal(TALK_PICKS, null, true, counter(12));
+
+        // then
+        assertThat(exact).isEqualTo(12);
+        assertThat(totalCountService.getTotal(TALK_PICKS, null, false, counter(0))).isEqualTo(12);
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 다 차지 않으면 전체 개수를 세지 않는다.")
+    void getPage_Success_ThenSkipCountOnPartialFirstPage() {
+        // when
+        Page<String> page = totalCountService.getPage(List.of("a", "b"), PageRequest.of(0, 10),
+                TALK_PICKS, null, false, counter(100));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(countQueries).hasValue(0);
+    }
+}
@@ -0,0 +1,75 @@
+package balancetalk.global.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TARGET_LATENCY = 1_000L;
+
+    AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(1, 8, 4, TARGET_LATENCY);
+
+    @Test
+    @DisplayName("목표 시간 안에 성공하면 상한만큼 성공할 때마다 상한을 1씩 올리되 최대값을 넘지 않는다.")
+    void onSuccess_ThenIncreaseAdditively() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            concurrencyLimit.onSuccess(TARGET_LATENCY);
+        }
+        int afterFourSuccesses = concurrencyLimit.getLimit();
+        for (int i = 0; i < 1000; i++) {
+            concurrencyLimit.onSuccess(TARGET_LATENCY);
+        }
+
+        // then
+        assertThat(afterFourSuccesses).isEqualTo(4);
+        assertThat(concurrencyLimit.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("실패하면 상한을 절반으로 줄이고, 느리면 조금 줄이되 최소값 아래로 내리지 않는다.")
+    void onFailure_ThenDecreaseMultiplicatively() {
+        // when
+        concurrencyLimit.onFailure();
+        int afterFailure = concurrencyLimit.getLimit();
+        concurrencyLimit.onSuccess(TARGET_LATENCY + 1);
+        int afterSlowSuccess = concurrencyLimit.getLimit();
+        for (int i = 0; i < 10; i++) {
+            concurrencyLimit.onFailure();
+        }
+
+        // then
+        assertThat(afterFailure).isEqualTo(2);
+        assertThat(afterSlowSuccess).isEqualTo(1);
+        assertThat(concurrencyLimit.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 상한에 닿으면 자리가 날 때까지 기다린다.")
+    void acquire_ThenBlockAtLimit() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimit single = new AdaptiveConcurrencyLimit(1, 1, 1, TARGET_LATENCY);
+        single.acquire();
+        Thread waiter = new Thread(() -> {
+            try {
+                single.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        waiter.start();
+        waiter.join(200);
+        boolean blocked = waiter.isAlive();
+        single.release();
+        waiter.join(1000);
+
+        // then
+        assertThat(blocked).isTrue();
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(single.getInFlight()).isEqualTo(1);
+    }
+}
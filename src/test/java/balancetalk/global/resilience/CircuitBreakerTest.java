@@ -0,0 +1,75 @@
+package balancetalk.global.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import balancetalk.global.resilience.CircuitBreaker.State;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    AtomicLong now = new AtomicLong();
+    CircuitBreaker circuitBreaker = new CircuitBreaker(0.5, 4, 10, 1000L, now::get);
+
+    @Test
+    @DisplayName("최소 호출 수를 채우고 실패율이 기준 이상이면 열려 호출을 거절한다.")
+    void onFailure_ThenOpenAboveFailureRate() {
+        // given
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("열린 뒤 대기 시간이 지나면 시험 호출을 하나만 허용하고, 성공하면 닫힌다.")
+    void tryAcquire_ThenSingleProbeAfterOpenDuration() {
+        // given
+        open();
+        now.addAndGet(1000L);
+
+        // when
+        boolean probe = circuitBreaker.tryAcquire();
+        boolean concurrent = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(probe).isTrue();
+        assertThat(concurrent).isFalse();
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열고, 판단할 수 없는 호출이면 다음 시험 호출을 허용한다.")
+    void onFailure_ThenReopenWhenProbeFails() {
+        // given
+        open();
+        now.addAndGet(1000L);
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onIgnored();
+
+        // when
+        boolean nextProbe = circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(nextProbe).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
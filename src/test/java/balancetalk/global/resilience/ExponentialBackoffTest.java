@@ -0,0 +1,35 @@
+package balancetalk.global.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExponentialBackoffTest {
+
+    ExponentialBackoff backoff = new ExponentialBackoff(1000L, 60_000L);
+
+    @Test
+    @DisplayName("실패할 때마다 간격이 두 배로 늘어나고, 절반은 무작위로 정한다.")
+    void delayOf_ThenDoubleWithJitter() {
+        for (int attempt = 1; attempt <= 6; attempt++) {
+            // when
+            Duration delay = backoff.delayOf(attempt);
+
+            // then
+            long expected = 1000L << (attempt - 1);
+            assertThat(delay.toMillis()).isBetween(expected / 2, expected);
+        }
+    }
+
+    @Test
+    @DisplayName("간격은 최대값을 넘지 않고, 시도 횟수가 아주 커도 넘치지 않는다.")
+    void delayOf_ThenCapAtMaxDelay() {
+        // when
+        Duration delay = backoff.delayOf(100);
+
+        // then
+        assertThat(delay.toMillis()).isBetween(30_000L, 60_000L);
+    }
+}
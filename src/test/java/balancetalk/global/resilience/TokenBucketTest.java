@@ -0,0 +1,45 @@
+package balancetalk.global.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    AtomicLong nanos = new AtomicLong();
+    TokenBucket tokenBucket = new TokenBucket(3, 2, nanos::get);
+
+    @Test
+    @DisplayName("쌓인 토큰만큼 한 번에 꺼내고, 다 쓰면 다음 토큰이 찰 때까지 남은 시간을 알려준다.")
+    void tryAcquire_ThenBurstUpToCapacity() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(tokenBucket.tryAcquire()).isZero();
+        }
+        long waitNanos = tokenBucket.tryAcquire();
+
+        // then
+        assertThat(waitNanos).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    @DisplayName("지난 시간만큼 토큰을 채우되 최대 개수를 넘지 않는다.")
+    void tryAcquire_ThenRefillUpToCapacity() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            tokenBucket.tryAcquire();
+        }
+
+        // when
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        long afterHalfSecond = tokenBucket.tryAcquire();
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // then
+        assertThat(afterHalfSecond).isZero();
+        assertThat(tokenBucket.availableTokens()).isEqualTo(3.0);
+    }
+}
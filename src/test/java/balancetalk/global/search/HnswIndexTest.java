@@ -0,0 +1,131 @@
+package balancetalk.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import balancetalk.global.search.HnswIndex.Neighbor;
+import balancetalk.global.search.embedding.HashingEmbeddingProvider;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HnswIndexTest {
+
+    private static final int DIMENSIONS = 32;
+
+    @Test
+    @DisplayName("전체 벡터와 비교한 결과와 대부분 같은 최근접 이웃을 찾는다.")
+    void search_Success_ThenHighRecall() {
+        // given
+        Random random = new Random(7);
+        float[][] vectors = new float[2000][];
+        HnswIndex index = new HnswIndex(DIMENSIONS);
+        for (int id = 0; id < vectors.length; id++) {
+            vectors[id] = randomVector(random);
+            index.put(id, vectors[id]);
+        }
+
+        // when
+        int found = 0;
+        int queries = 50;
+        for (int i = 0; i < queries; i++) {
+            float[] query = randomVector(random);
+            Set<Long> expected = bruteForce(vectors, query, 10);
+            found += (int) index.search(query, 10, 64, null).stream()
+                    .map(Neighbor::id)
+                    .filter(expected::contains)
+                    .count();
+        }
+
+        // then
+        assertThat((double) found / (queries * 10)).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("삭제하거나 제외한 ID는 결과에 포함하지 않고, 압축하면 살아 있는 벡터만 남는다.")
+    void search_Success_ThenSkipRemovedAndExcluded() {
+        // given
+        HnswIndex index = new HnswIndex(DIMENSIONS);
+        Random random = new Random(3);
+        IntStream.range(0, 100).forEach(id -> index.put(id, randomVector(random)));
+        float[] target = index.vectorOf(10L);
+        index.remove(20L);
+        index.put(30L, target);
+
+        // when
+        List<Neighbor> result = index.search(target, 5, 32, 10L);
+        HnswIndex compacted = index.compact();
+
+        // then
+        assertThat(result).extracting(Neighbor::id).doesNotContain(10L, 20L).startsWith(30L);
+        assertThat(index.size()).isEqualTo(99);
+        assertThat(index.deletedRatio()).isGreaterThan(0);
+        assertThat(compacted.size()).isEqualTo(99);
+        assertThat(compacted.deletedRatio()).isZero();
+        assertThat(compacted.contains(20L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("벡터 버퍼 크기가 int 범위를 넘으면 음수로 넘치지 않고 예외가 발생한다.")
+    void create_Fail_ThenBufferTooLarge() {
+        // given
+        int dimensions = 600_000;
+
+        // when, then
+        assertThatThrownBy(() -> new HnswIndex(dimensions))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 크기");
+    }
+
+    @Test
+    @DisplayName("해싱 임베딩은 결정적이며, 단어를 많이 공유하는 문장일수록 유사도가 높다.")
+    void hashingEmbedding_Success() {
+        // given
+        HashingEmbeddingProvider provider = new HashingEmbeddingProvider(256);
+        HnswIndex index = new HnswIndex(provider.dimensions());
+        index.put(1L, provider.embed("짜장면 vs 짬뽕 중국집에서 뭐 먹을래?"));
+        index.put(2L, provider.embed("여름 휴가는 바다 vs 산"));
+        index.put(3L, provider.embed("탕수육은 부먹 vs 찍먹"));
+
+        // when
+        List<Neighbor> result = index.search(provider.embed("중국집 짜장면 짬뽕"), 3, 16, null);
+
+        // then
+        assertThat(provider.embed("짜장면")).isEqualTo(provider.embed("짜장면"));
+        assertThat(result).extracting(Neighbor::id).first().isEqualTo(1L);
+    }
+
+    private float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private Set<Long> bruteForce(float[][] vectors, float[] query, int k) {
+        Set<Long> result = new HashSet<>();
+        IntStream.range(0, vectors.length).boxed()
+                .sorted(Comparator.comparingDouble(id -> -cosine(vectors[id], query)))
+                .limit(k)
+                .forEach(id -> result.add((long) id));
+        return result;
+    }
+
+    private double cosine(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+}
@@ -0,0 +1,65 @@
+package balancetalk.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import balancetalk.global.search.InvertedIndex.Field;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    InvertedIndex invertedIndex;
+
+    @BeforeEach
+    void setUp() {
+        invertedIndex = new InvertedIndex();
+        invertedIndex.put(1L, List.of(new Field("짜장면 vs 짬뽕", 3f), new Field("점심 메뉴 고민입니다", 1f)));
+        invertedIndex.put(2L, List.of(new Field("여름 휴가 계획", 3f), new Field("짜장면은 언제 먹어도 맛있죠", 1f)));
+        invertedIndex.put(3L, List.of(new Field("아이폰15 vs 갤럭시", 3f), new Field("폰 추천해주세요", 1f)));
+    }
+
+    @Test
+    @DisplayName("한글과 그 외 문자가 바뀌는 지점에서 단어를 나누고 2-gram으로 토큰화한다.")
+    void tokenize_Success() {
+        assertThat(NGramTokenizer.tokenize("아이폰15 추천"))
+                .containsExactly("아이", "이폰", "15", "추천");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 단어도 검색되며, 제목에서 일치한 문서가 더 높은 순위를 갖는다.")
+    void search_Success_ThenRankTitleMatchFirst() {
+        // when
+        SearchHits hits = invertedIndex.search("짜장면", 0, 10);
+
+        // then
+        assertThat(hits.ids()).containsExactly(1L, 2L);
+        assertThat(hits.totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청한 구간의 결과만 반환하고 전체 일치 개수를 함께 반환한다.")
+    void search_Success_ThenReturnRequestedPage() {
+        // when
+        SearchHits hits = invertedIndex.search("짜장면", 1, 1);
+
+        // then
+        assertThat(hits.ids()).containsExactly(2L);
+        assertThat(hits.totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("수정, 삭제된 문서는 이전 내용으로 검색되지 않는다.")
+    void putAndRemove_Success_ThenReflectChanges() {
+        // when
+        invertedIndex.put(1L, List.of(new Field("피자 vs 치킨", 3f)));
+        invertedIndex.remove(3L);
+
+        // then
+        assertThat(invertedIndex.search("짜장면", 0, 10).ids()).containsExactly(2L);
+        assertThat(invertedIndex.search("치킨", 0, 10).ids()).containsExactly(1L);
+        assertThat(invertedIndex.search("아이폰", 0, 10).ids()).isEmpty();
+        assertThat(invertedIndex.size()).isEqualTo(2);
+    }
+}
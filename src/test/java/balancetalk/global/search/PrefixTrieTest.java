@@ -0,0 +1,75 @@
+package balancetalk.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrefixTrieTest {
+
+    PrefixTrie<String> trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie<>();
+        trie.put("1", List.of("짜장면 vs 짬뽕", "짬뽕"), "짜장면 vs 짬뽕", 10);
+        trie.put("2", List.of("짜파게티 끓이기"), "짜파게티 끓이기", 50);
+        trie.put("3", List.of("짜장"), "짜장", 30);
+        trie.put("4", List.of("Java vs Kotlin"), "Java vs Kotlin", 5);
+    }
+
+    @Test
+    @DisplayName("입력으로 시작하는 검색어를 가진 항목을 가중치 내림차순으로 찾는다.")
+    void suggest_Success_ThenOrderByWeightDesc() {
+        // when
+        List<String> result = trie.suggest("짜", 10);
+
+        // then
+        assertThat(result).containsExactly("짜파게티 끓이기", "짜장", "짜장면 vs 짬뽕");
+    }
+
+    @Test
+    @DisplayName("입력이 압축된 간선 중간에서 끝나도 찾고, 개수를 제한한다.")
+    void suggest_Success_ThenMatchInsideEdgeWithLimit() {
+        // when
+        List<String> result = trie.suggest("짜장", 1);
+
+        // then
+        assertThat(result).containsExactly("짜장");
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백을 정규화해 비교하고, 여러 검색어로 등록된 항목은 한 번만 포함한다.")
+    void suggest_Success_ThenNormalizeAndDeduplicate() {
+        // when
+        List<String> english = trie.suggest("  JAVA   vs", 10);
+        List<String> secondTerm = trie.suggest("짬", 10);
+
+        // then
+        assertThat(english).containsExactly("Java vs Kotlin");
+        assertThat(secondTerm).containsExactly("짜장면 vs 짬뽕");
+    }
+
+    @Test
+    @DisplayName("같은 key로 다시 등록하면 기존 검색어와 가중치를 대체하고, 삭제하면 더 이상 찾지 않는다.")
+    void putAndRemove_Success_ThenReplaceEntry() {
+        // when
+        trie.put("2", List.of("짜파게티 끓이기"), "짜파게티 끓이기", 1);
+        trie.remove("3");
+
+        // then
+        assertThat(trie.suggest("짜", 10)).containsExactly("짜장면 vs 짬뽕", "짜파게티 끓이기");
+        assertThat(trie.suggest("짜장", 10)).containsExactly("짜장면 vs 짬뽕");
+        assertThat(trie.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일치하는 검색어가 없거나 입력이 비어 있으면 빈 목록을 반환한다.")
+    void suggest_Success_ThenEmpty() {
+        // when, then
+        assertThat(trie.suggest("치킨", 10)).isEmpty();
+        assertThat(trie.suggest("  ", 10)).isEmpty();
+    }
+}
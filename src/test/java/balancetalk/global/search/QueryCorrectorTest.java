@@ -0,0 +1,95 @@
+package balancetalk.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryCorrectorTest {
+
+    QueryCorrector corrector;
+
+    @BeforeEach
+    void setUp() {
+        corrector = new QueryCorrector();
+        corrector.add("짜장면 vs 짬뽕");
+        corrector.add("탕수육 부먹 vs 탕수육 찍먹");
+        corrector.add("아침형 인간 vs 저녁형 인간");
+        corrector.add("여름 바다");
+        corrector.add("바디 프로필");
+        corrector.add("바디 프로필 촬영");
+    }
+
+    @Test
+    @DisplayName("한글 음절을 겹모음, 겹받침까지 나눠 자모로 분해한다.")
+    void decompose_Success() {
+        // when
+        String jamo = HangulJamo.decompose("닭과 Java");
+
+        // then
+        assertThat(jamo).isEqualTo("ㄷㅏㄹㄱㄱㅗㅏ Java");
+    }
+
+    @Test
+    @DisplayName("사전에 없는 단어는 자모 편집 거리가 가장 가까운 단어로 교정한다.")
+    void correct_Success_ThenNearestWordByJamo() {
+        // when
+        String corrected = corrector.correct("짜장먄");
+
+        // then
+        assertThat(corrected).isEqualTo("짜장면");
+    }
+
+    @Test
+    @DisplayName("거리가 같으면 자주 등장한 단어로 교정한다.")
+    void correct_Success_ThenPreferFrequentWord() {
+        // when
+        String corrected = corrector.correct("바두");
+
+        // then
+        assertThat(corrected).isEqualTo("바디");
+    }
+
+    @Test
+    @DisplayName("잘못 띄어 쓴 단어는 붙였을 때 사전에 있으면 붙인다.")
+    void correct_Success_ThenJoinSplitWord() {
+        // when
+        String corrected = corrector.correct("짜장 면 짬뽕");
+
+        // then
+        assertThat(corrected).isEqualTo("짜장면 짬뽕");
+    }
+
+    @Test
+    @DisplayName("사전에 있는 단어와 가까운 단어가 없는 검색어는 그대로 둔다.")
+    void correct_Success_ThenKeepKnownOrUnmatchedQuery() {
+        // when
+        String known = corrector.correct("탕수육 부먹");
+        String unmatched = corrector.correct("뷁뙇");
+        String singleSyllable = corrector.correct("짬");
+
+        // then
+        assertThat(known).isEqualTo("탕수육 부먹");
+        assertThat(unmatched).isEqualTo("뷁뙇");
+        assertThat(singleSyllable).isEqualTo("짬");
+    }
+
+    @Test
+    @DisplayName("BK-트리는 허용 거리 안의 키를 모두 찾는다.")
+    void bkTreeSearch_Success() {
+        // given
+        BkTree<String> tree = new BkTree<>();
+        tree.add("book", "book");
+        tree.add("books", "books");
+        tree.add("cake", "cake");
+        tree.add("boo", "boo");
+        tree.add("cape", "cape");
+
+        // when & then
+        assertThat(tree.search("bool", 1)).extracting(BkTree.Match::value)
+                .containsExactlyInAnyOrder("book", "boo");
+        assertThat(tree.add("book", "book")).isFalse();
+        assertThat(tree.size()).isEqualTo(5);
+    }
+}
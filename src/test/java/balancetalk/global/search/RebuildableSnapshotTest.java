@@ -0,0 +1,80 @@
+package balancetalk.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RebuildableSnapshotTest {
+
+    RebuildableSnapshot<List<String>> snapshot = new RebuildableSnapshot<>(new ArrayList<>(List.of("old")));
+
+    @Test
+    @DisplayName("재구성 도중 반영된 변경은 새 구조로 교체하기 전에 같은 순서로 다시 적용한다.")
+    void rebuild_Success_ThenReplayChangesWhileRebuilding() {
+        // when
+        boolean rebuilt = snapshot.rebuild(() -> {
+            snapshot.apply(target -> target.add("added"));
+            snapshot.apply(target -> target.remove("loaded"));
+            return new ArrayList<>(List.of("loaded"));
+        });
+
+        // then
+        assertThat(rebuilt).isTrue();
+        assertThat(snapshot.current()).containsExactly("added");
+    }
+
+    @Test
+    @DisplayName("이미 재구성 중이면 새 재구성은 건너뛴다.")
+    void rebuild_Success_ThenSkipWhileRebuilding() {
+        // given
+        List<Boolean> nested = new ArrayList<>();
+
+        // when
+        snapshot.rebuild(() -> {
+            nested.add(snapshot.rebuild(() -> new ArrayList<>(List.of("nested"))));
+            return new ArrayList<>(List.of("outer"));
+        });
+
+        // then
+        assertThat(nested).containsExactly(false);
+        assertThat(snapshot.current()).containsExactly("outer");
+    }
+
+    @Test
+    @DisplayName("재구성에 실패하면 기존 구조를 유지하고, 이후 변경은 기록하지 않으며 다시 재구성할 수 있다.")
+    void rebuild_Fail_ThenKeepCurrent() {
+        // when
+        assertThatThrownBy(() -> snapshot.rebuild(() -> {
+            throw new IllegalStateException("DB 오류");
+        })).isInstanceOf(IllegalStateException.class);
+        snapshot.apply(target -> target.add("after"));
+        boolean rebuilt = snapshot.rebuild(() -> new ArrayList<>(List.of("retried")));
+
+        // then
+        assertThat(rebuilt).isTrue();
+        assertThat(snapshot.current()).containsExactly("retried");
+    }
+
+    @Test
+    @DisplayName("마지막 ID를 커서로 빈 청크가 나올 때까지 청크씩 읽는다.")
+    void forEachChunk_Success() {
+        // given
+        List<Long> ids = List.of(1L, 2L, 3L, 4L, 5L);
+        List<Long> cursors = new ArrayList<>();
+        List<List<Long>> chunks = new ArrayList<>();
+
+        // when
+        RebuildableSnapshot.forEachChunk(lastId -> {
+            cursors.add(lastId);
+            return ids.stream().filter(id -> id > lastId).limit(2).toList();
+        }, Long::longValue, chunks::add);
+
+        // then
+        assertThat(cursors).containsExactly(0L, 2L, 4L, 5L);
+        assertThat(chunks).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    }
+}
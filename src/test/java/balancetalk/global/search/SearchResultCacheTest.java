@@ -0,0 +1,90 @@
+package balancetalk.global.search;
+
+import static balancetalk.global.search.SearchResultCache.SearchTarget.GAME;
+import static balancetalk.global.search.SearchResultCache.SearchTarget.TALK_PICK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import balancetalk.global.caffeine.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class SearchResultCacheTest {
+
+    SearchResultCache searchResultCache;
+    AtomicInteger searches;
+
+    @BeforeEach
+    void setUp() {
+        SimpleCacheManager cacheManager = (SimpleCacheManager) new CacheConfig().cacheManager();
+        cacheManager.afterPropertiesSet();
+        searchResultCache = new SearchResultCache(cacheManager, new SimpleMeterRegistry());
+        searches = new AtomicInteger();
+    }
+
+    private Supplier<Page<String>> search(Pageable pageable, long total) {
+        return () -> {
+            searches.incrementAndGet();
+            return new PageImpl<>(List.of("result"), pageable, total);
+        };
+    }
+
+    @Test
+    @DisplayName("대소문자, 공백만 다른 검색어는 같은 검색 결과를 사용한다.")
+    void getOrSearch_Success_ThenSearchOnceForNormalizedQuery() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        searchResultCache.getOrSearch(TALK_PICK, "Pick  O", pageable, "views", search(pageable, 5));
+        Page<String> result = searchResultCache.getOrSearch(TALK_PICK, " pick o ", pageable, "views",
+                search(pageable, 7));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(searches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("검색 대상, 페이지, 정렬 기준이 다르면 따로 검색한다.")
+    void getOrSearch_Success_ThenSearchPerKey() {
+        // given
+        Pageable first = PageRequest.of(0, 10);
+        Pageable second = PageRequest.of(1, 10);
+
+        // when
+        searchResultCache.getOrSearch(TALK_PICK, "픽오", first, "views", search(first, 5));
+        searchResultCache.getOrSearch(GAME, "픽오", first, "views", search(first, 5));
+        searchResultCache.getOrSearch(TALK_PICK, "픽오", second, "views", search(second, 5));
+        searchResultCache.getOrSearch(TALK_PICK, "픽오", first, "createdAt", search(first, 5));
+
+        // then
+        assertThat(searches).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("무효화하면 이전에 캐시된 검색 결과를 사용하지 않는다.")
+    void invalidateAll_Success_ThenSearchAgain() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        searchResultCache.getOrSearch(TALK_PICK, "픽오", pageable, "views", search(pageable, 5));
+
+        // when
+        searchResultCache.invalidateAll();
+        Page<String> result = searchResultCache.getOrSearch(TALK_PICK, "픽오", pageable, "views",
+                search(pageable, 6));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(6);
+        assertThat(searches).hasValue(2);
+    }
+}
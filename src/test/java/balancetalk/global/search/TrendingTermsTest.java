@@ -0,0 +1,85 @@
+package balancetalk.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import balancetalk.global.search.TrendingTerms.TermCount;
+import balancetalk.global.search.TrendingTerms.WindowSnapshot;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrendingTermsTest {
+
+    private static final long WINDOW_MILLIS = 60_000L;
+
+    AtomicLong now = new AtomicLong(1_000_000L * WINDOW_MILLIS);
+    TrendingTerms trendingTerms;
+
+    @BeforeEach
+    void setUp() {
+        trendingTerms = new TrendingTerms(WINDOW_MILLIS, 3, 5, now::get);
+    }
+
+    @Test
+    @DisplayName("후보 수보다 많은 검색어가 들어와도 많이 검색된 검색어를 순서대로 찾는다.")
+    void top_Success_ThenHeavyHittersInOrder() {
+        // given
+        record("짜장면", 50);
+        record("짬뽕", 30);
+        record("탕수육", 20);
+        for (int i = 0; i < 500; i++) {
+            trendingTerms.record("롱테일" + i);
+        }
+
+        // when
+        List<TermCount> result = trendingTerms.top(3);
+
+        // then
+        assertThat(result).extracting(TermCount::term).containsExactly("짜장면", "짬뽕", "탕수육");
+        assertThat(result.get(0).count()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("여러 구간의 횟수를 합치고, 추적 범위를 벗어난 구간은 제외한다.")
+    void top_Success_ThenSlidingWindow() {
+        // given
+        record("짜장면", 10);
+        now.addAndGet(WINDOW_MILLIS);
+        record("짬뽕", 6);
+        record("짜장면", 1);
+
+        // when
+        List<TermCount> withinRange = trendingTerms.top(2);
+        now.addAndGet(2 * WINDOW_MILLIS);
+        List<TermCount> afterFirstWindowExpired = trendingTerms.top(2);
+
+        // then
+        assertThat(withinRange).containsExactly(new TermCount("짜장면", 11), new TermCount("짬뽕", 6));
+        assertThat(afterFirstWindowExpired).containsExactly(new TermCount("짬뽕", 6), new TermCount("짜장면", 1));
+    }
+
+    @Test
+    @DisplayName("저장한 구간 후보를 복원하면 같은 순위를 돌려주고, 범위를 벗어난 구간은 무시한다.")
+    void restore_Success() {
+        // given
+        record("짜장면", 3);
+        List<WindowSnapshot> snapshots = trendingTerms.snapshots(0);
+        TrendingTerms restored = new TrendingTerms(WINDOW_MILLIS, 3, 5, now::get);
+
+        // when
+        snapshots.forEach(restored::restore);
+        restored.restore(new WindowSnapshot(now.get() - 10 * WINDOW_MILLIS, Map.of("짬뽕", 100L)));
+
+        // then
+        assertThat(restored.top(5)).containsExactly(new TermCount("짜장면", 3));
+    }
+
+    private void record(String term, int count) {
+        for (int i = 0; i < count; i++) {
+            trendingTerms.record(term);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package balancetalk.global.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import balancetalk.game.domain.repository.GameSetRepository;
+import balancetalk.game.domain.repository.MainTagRepository;
+import balancetalk.global.search.application.QueryCorrectionService.CorrectedSearch;
+import balancetalk.talkpick.domain.TalkPick;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class QueryCorrectionServiceTest {
+
+    TalkPickRepository talkPickRepository = mock(TalkPickRepository.class);
+    GameSetRepository gameSetRepository = mock(GameSetRepository.class);
+    MainTagRepository mainTagRepository = mock(MainTagRepository.class);
+    QueryCorrectionService queryCorrectionService = new QueryCorrectionService(talkPickRepository,
+            gameSetRepository, mainTagRepository, new SimpleMeterRegistry());
+
+    List<String> searchedQueries = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(queryCorrectionService, "enabled", true);
+        when(talkPickRepository.findTop500ByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(List.of());
+        when(talkPickRepository.findTop500ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(
+                TalkPick.builder().id(1L).title("짜장면 vs 짬뽕").optionA("짜장면").optionB("짬뽕").build()));
+        when(gameSetRepository.findTop500WithMainTagByIdGreaterThan(anyLong())).thenReturn(List.of());
+        when(mainTagRepository.findAll()).thenReturn(List.of());
+        queryCorrectionService.rebuild();
+    }
+
+    @Test
+    @DisplayName("원래 검색어로 결과가 없으면 교정한 검색어로 다시 검색한다.")
+    void searchWithCorrection_Success_ThenRetryCorrectedQuery() {
+        // when
+        CorrectedSearch<String> result = queryCorrectionService.searchWithCorrection("짜장먄",
+                query -> search(query, "짜장면"));
+
+        // then
+        assertThat(result.query()).isEqualTo("짜장면");
+        assertThat(result.result().getContent()).containsExactly("짜장면");
+        assertThat(searchedQueries).containsExactly("짜장먄", "짜장면");
+    }
+
+    @Test
+    @DisplayName("사전에 없는 단어라도 원래 검색어로 결과가 있으면 교정하지 않는다.")
+    void searchWithCorrection_Success_ThenKeepQueryWithHits() {
+        // when
+        CorrectedSearch<String> result = queryCorrectionService.searchWithCorrection("짜장먄",
+                query -> search(query, "짜장먄"));
+
+        // then
+        assertThat(result.query()).isEqualTo("짜장먄");
+        assertThat(searchedQueries).containsExactly("짜장먄");
+    }
+
+    private Page<String> search(String query, String matchingQuery) {
+        searchedQueries.add(query);
+        return new PageImpl<>(query.equals(matchingQuery) ? List.of(query) : List.of());
+    }
+}
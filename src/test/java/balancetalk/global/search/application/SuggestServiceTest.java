@@ -0,0 +1,115 @@
+package balancetalk.global.search.application;
+
+import static balancetalk.global.search.dto.SuggestionType.GAME_SET;
+import static balancetalk.global.search.dto.SuggestionType.MAIN_TAG;
+import static balancetalk.global.search.dto.SuggestionType.TALK_PICK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import balancetalk.game.domain.GameSet;
+import balancetalk.game.domain.MainTag;
+import balancetalk.game.domain.repository.GameSetRepository;
+import balancetalk.game.domain.repository.MainTagRepository;
+import balancetalk.global.search.dto.SuggestDto.SuggestResponse;
+import balancetalk.talkpick.domain.TalkPick;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SuggestServiceTest {
+
+    TalkPickRepository talkPickRepository = mock(TalkPickRepository.class);
+    GameSetRepository gameSetRepository = mock(GameSetRepository.class);
+    MainTagRepository mainTagRepository = mock(MainTagRepository.class);
+    SuggestService suggestService = new SuggestService(talkPickRepository, gameSetRepository, mainTagRepository,
+            new SimpleMeterRegistry());
+
+    MainTag food = MainTag.builder().id(1L).name("짜장 맛집").build();
+    TalkPick talkPick = TalkPick.builder().id(1L).title("짜장면 vs 짬뽕").optionA("짜장면").optionB("짬뽕").views(10L)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(talkPickRepository.findTop500ByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(List.of());
+        when(talkPickRepository.findTop500ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(talkPick));
+        when(gameSetRepository.findTop500WithMainTagByIdGreaterThan(anyLong())).thenReturn(List.of());
+        when(gameSetRepository.findTop500WithMainTagByIdGreaterThan(0L)).thenReturn(List.of(
+                GameSet.builder().id(1L).title("짜장 vs 짬뽕 월드컵").subTag("중식").views(30L).mainTag(food).build(),
+                GameSet.builder().id(2L).title("짜장면 vs 짬뽕").subTag("중식").views(5L).mainTag(food).build()));
+        when(mainTagRepository.findAll()).thenReturn(List.of(food));
+    }
+
+    @Test
+    @DisplayName("재구성하면 톡픽, 게임 세트, 메인 태그를 조회수 순으로 자동 완성하고, 메인 태그는 세트 조회수 합계를 쓴다.")
+    void rebuild_Success_ThenSuggestByViews() {
+        // given
+        suggestService.rebuild();
+
+        // when
+        List<SuggestResponse> result = suggestService.suggest("짜장", 10);
+
+        // then
+        assertThat(result).extracting(SuggestResponse::getText, SuggestResponse::getType, SuggestResponse::getId)
+                .containsExactly(
+                        tuple("짜장 맛집", MAIN_TAG, null),
+                        tuple("짜장 vs 짬뽕 월드컵", GAME_SET, 1L),
+                        tuple("짜장면 vs 짬뽕", TALK_PICK, 1L));
+    }
+
+    @Test
+    @DisplayName("같은 문구는 한 번만 돌려주고, 단어 중간부터 입력해도 찾으며, 개수를 제한한다.")
+    void suggest_Success_ThenDistinctTextWithLimit() {
+        // given
+        suggestService.rebuild();
+
+        // when
+        List<SuggestResponse> result = suggestService.suggest("짬뽕", 10);
+        List<SuggestResponse> limited = suggestService.suggest("짬뽕", 1);
+
+        // then
+        assertThat(result).extracting(SuggestResponse::getText)
+                .containsExactly("짜장 vs 짬뽕 월드컵", "짜장면 vs 짬뽕");
+        assertThat(limited).extracting(SuggestResponse::getType).containsExactly(GAME_SET);
+    }
+
+    @Test
+    @DisplayName("삭제된 톡픽을 다시 색인하면 자동 완성에서 제외한다.")
+    void indexTalkPick_Success_ThenRemoveDeleted() {
+        // given
+        suggestService.rebuild();
+        when(talkPickRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when
+        suggestService.indexTalkPick(1L);
+
+        // then
+        assertThat(suggestService.suggest("짜장면", 10)).extracting(SuggestResponse::getType)
+                .containsExactly(GAME_SET);
+    }
+
+    @Test
+    @DisplayName("재구성 도중 반영된 생성/삭제는 새 트라이로 교체된 뒤에도 유지된다.")
+    void rebuild_Success_ThenKeepChangesWhileRebuilding() {
+        // given
+        MainTag sports = MainTag.builder().id(2L).name("짜릿한 스포츠").build();
+        when(mainTagRepository.findAll()).thenAnswer(invocation -> {
+            suggestService.indexMainTag(sports.getName());
+            suggestService.removeGameSet(1L);
+            return List.of(food);
+        });
+
+        // when
+        suggestService.rebuild();
+
+        // then
+        assertThat(suggestService.suggest("짜", 10)).extracting(SuggestResponse::getText)
+                .containsExactly("짜장 맛집", "짜장면 vs 짬뽕", "짜릿한 스포츠");
+    }
+}
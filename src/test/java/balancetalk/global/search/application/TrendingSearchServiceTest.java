@@ -0,0 +1,57 @@
+package balancetalk.global.search.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import balancetalk.global.search.domain.SearchTermSnapshotRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrendingSearchServiceTest {
+
+    // 테스트 도중 구간이 바뀌지 않도록 구간을 길게 잡는다.
+    static final long WINDOW_MILLIS = 1_000_000_000_000L;
+
+    SearchTermSnapshotRepository searchTermSnapshotRepository = mock(SearchTermSnapshotRepository.class);
+    TrendingSearchService trendingSearchService = new TrendingSearchService(searchTermSnapshotRepository,
+            WINDOW_MILLIS, 3, 10);
+
+    @Test
+    @DisplayName("저장할 때마다 마지막 저장 이후 늘어난 검색 횟수만 DB에 더한다.")
+    void persist_Success_ThenAddOnlyIncreasedCount() {
+        // given
+        trendingSearchService.record("짜장면");
+        trendingSearchService.record("짜장면");
+        trendingSearchService.persist();
+        verify(searchTermSnapshotRepository).addSearchCount(any(), eq("짜장면"), eq(2L));
+        clearInvocations(searchTermSnapshotRepository);
+
+        // when
+        trendingSearchService.record("짜장면");
+        trendingSearchService.persist();
+
+        // then
+        verify(searchTermSnapshotRepository).addSearchCount(any(), eq("짜장면"), eq(1L));
+    }
+
+    @Test
+    @DisplayName("마지막 저장 이후 검색이 없으면 DB에 더하지 않는다.")
+    void persist_Success_ThenSkipUnchangedTerms() {
+        // given
+        trendingSearchService.record("짬뽕");
+        trendingSearchService.persist();
+        clearInvocations(searchTermSnapshotRepository);
+
+        // when
+        trendingSearchService.persist();
+
+        // then
+        verify(searchTermSnapshotRepository, never()).addSearchCount(any(), anyString(), anyLong());
+    }
+}
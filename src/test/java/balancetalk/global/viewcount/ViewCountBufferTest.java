@@ -0,0 +1,62 @@
+package balancetalk.global.viewcount;
+
+import static balancetalk.global.viewcount.ViewTarget.GAME_SET;
+import static balancetalk.global.viewcount.ViewTarget.TALK_PICK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ViewCountBufferTest {
+
+    ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+
+    @Test
+    @DisplayName("누적된 조회수를 꺼내면 자원별 증가분이 반환되고 버퍼는 초기화된다.")
+    void drain_Success() {
+        // given
+        viewCountBuffer.increase(TALK_PICK, 1L);
+        viewCountBuffer.increase(TALK_PICK, 1L);
+        viewCountBuffer.increase(TALK_PICK, 2L);
+        viewCountBuffer.increase(GAME_SET, 1L);
+
+        // when
+        Map<Long, Long> result = viewCountBuffer.drain(TALK_PICK);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L));
+        assertThat(viewCountBuffer.getPendingViews(TALK_PICK, 1L)).isZero();
+        assertThat(viewCountBuffer.getPendingViews(GAME_SET, 1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("조회가 없던 자원은 다음 주기에 버퍼에서 제거된다.")
+    void drain_EvictIdleResource() {
+        // given
+        viewCountBuffer.increase(TALK_PICK, 1L);
+        viewCountBuffer.drain(TALK_PICK);
+
+        // when
+        Map<Long, Long> result = viewCountBuffer.drain(TALK_PICK);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(viewCountBuffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패해 되돌린 증가분은 그 사이 들어온 조회수와 합쳐 다음에 꺼낸다.")
+    void restore_Success_ThenDrainWithNewViews() {
+        // given
+        viewCountBuffer.increase(TALK_PICK, 1L);
+        Map<Long, Long> failed = viewCountBuffer.drain(TALK_PICK);
+        viewCountBuffer.increase(TALK_PICK, 1L);
+
+        // when
+        viewCountBuffer.restore(TALK_PICK, failed);
+
+        // then
+        assertThat(viewCountBuffer.drain(TALK_PICK)).containsExactlyEntriesOf(Map.of(1L, 2L));
+    }
+}
@@ -0,0 +1,106 @@
+package balancetalk.member.application;
+
+import static balancetalk.vote.domain.VoteOption.A;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.bookmark.domain.GameBookmarkRepository;
+import balancetalk.bookmark.domain.TalkPickBookmarkRepository;
+import balancetalk.game.domain.repository.GameSetRepository;
+import balancetalk.global.caffeine.CacheConfig;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import balancetalk.vote.domain.GameVoteOption;
+import balancetalk.vote.domain.TalkPickVoteRepository;
+import balancetalk.vote.domain.VoteOption;
+import balancetalk.vote.domain.VoteRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleCacheManager;
+
+class MemberInteractionIndexTest {
+
+    TalkPickVoteRepository talkPickVoteRepository;
+    VoteRepository gameVoteRepository;
+    MemberInteractionIndex memberInteractionIndex;
+
+    @BeforeEach
+    void setUp() {
+        SimpleCacheManager cacheManager = (SimpleCacheManager) new CacheConfig().cacheManager();
+        cacheManager.afterPropertiesSet();
+        talkPickVoteRepository = mock(TalkPickVoteRepository.class);
+        gameVoteRepository = mock(VoteRepository.class);
+        memberInteractionIndex = new MemberInteractionIndex(talkPickVoteRepository,
+                mock(TalkPickBookmarkRepository.class),
+                mock(TalkPickRepository.class),
+                gameVoteRepository,
+                mock(GameBookmarkRepository.class),
+                mock(GameSetRepository.class),
+                cacheManager);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 같은 톡픽의 투표 여부를 다시 확인하면 캐시된 결과를 사용한다.")
+    void getVoteOptionOnTalkPick_Success_ThenQueryOnlyOnce() {
+        // given
+        when(talkPickVoteRepository.findVoteOptionByMemberIdAndTalkPickId(1L, 10L)).thenReturn(Optional.of(A));
+
+        // when
+        Optional<VoteOption> first = memberInteractionIndex.getVoteOptionOnTalkPick(1L, 10L);
+        boolean hasVoted = memberInteractionIndex.hasVotedTalkPick(1L, 10L);
+
+        // then
+        assertThat(first).contains(A);
+        assertThat(hasVoted).isTrue();
+        verify(talkPickVoteRepository, times(1)).findVoteOptionByMemberIdAndTalkPickId(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("회원의 캐시를 비우면 투표 여부를 다시 조회한다.")
+    void evict_Success_ThenQueryAgain() {
+        // given
+        when(talkPickVoteRepository.findVoteOptionByMemberIdAndTalkPickId(1L, 10L)).thenReturn(Optional.empty());
+        memberInteractionIndex.hasVotedTalkPick(1L, 10L);
+
+        // when
+        memberInteractionIndex.evict(1L);
+        memberInteractionIndex.hasVotedTalkPick(1L, 10L);
+
+        // then
+        verify(talkPickVoteRepository, times(2)).findVoteOptionByMemberIdAndTalkPickId(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("중복 투표 검사는 캐시된 결과가 있어도 DB에서 다시 확인한다.")
+    void hasVotedTalkPickUncached_Success_ThenIgnoreCache() {
+        // given
+        when(talkPickVoteRepository.findVoteOptionByMemberIdAndTalkPickId(1L, 10L))
+                .thenReturn(Optional.empty(), Optional.of(A));
+        memberInteractionIndex.hasVotedTalkPick(1L, 10L);
+
+        // when
+        boolean hasVoted = memberInteractionIndex.hasVotedTalkPickUncached(1L, 10L);
+
+        // then
+        assertThat(hasVoted).isTrue();
+        verify(talkPickVoteRepository, times(2)).findVoteOptionByMemberIdAndTalkPickId(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("밸런스게임 세트의 게임별 투표 선택지를 한 번의 조회로 가져온다.")
+    void getVoteOptionsOnGameSet_Success() {
+        // given
+        GameVoteOption vote = mock(GameVoteOption.class);
+        when(vote.getGameId()).thenReturn(3L);
+        when(vote.getVoteOption()).thenReturn(A);
+        when(gameVoteRepository.findVoteOptionsByMemberIdAndGameSetId(1L, 2L)).thenReturn(List.of(vote));
+
+        // when, then
+        assertThat(memberInteractionIndex.getVoteOptionsOnGameSet(1L, 2L)).containsEntry(3L, A).hasSize(1);
+    }
+}
@@ -0,0 +1,89 @@
+package balancetalk.talkpick.application;
+
+import static balancetalk.talkpick.domain.HotScoreEvent.BOOKMARK;
+import static balancetalk.talkpick.domain.HotScoreEvent.VIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HotScoreBufferTest {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 1, 12, 0);
+
+    HotScoreBuffer hotScoreBuffer;
+
+    @BeforeEach
+    void setUp() {
+        hotScoreBuffer = new HotScoreBuffer(24);
+    }
+
+    @Test
+    @DisplayName("반감기가 지난 활동의 점수는 같은 활동의 절반이다.")
+    void scoreOf_Success_ThenHalvedAfterHalfLife() {
+        // when
+        double before = hotScoreBuffer.scoreOf(VIEW, NOW.minusHours(24));
+        double now = hotScoreBuffer.scoreOf(VIEW, NOW);
+
+        // then
+        assertThat(Math.exp(before - now)).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("같은 톡픽의 활동은 로그 값의 합으로 누적된다.")
+    void record_Success_ThenMergeScores() {
+        // given
+        hotScoreBuffer.record(1L, VIEW, NOW);
+        hotScoreBuffer.record(1L, BOOKMARK, NOW);
+
+        // when
+        Map<Long, Double> drained = hotScoreBuffer.drain();
+
+        // then
+        double expected = hotScoreBuffer.scoreOf(VIEW, NOW) + Math.log(1 + BOOKMARK.getWeight());
+        assertThat(drained.get(1L)).isCloseTo(expected, within(1e-9));
+        assertThat(hotScoreBuffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("최근 활동이 적더라도 오래된 활동이 많은 톡픽보다 점수가 높을 수 있다.")
+    void record_Success_ThenRecentActivityRanksHigher() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            hotScoreBuffer.record(1L, VIEW, NOW.minusDays(7));
+        }
+        hotScoreBuffer.record(2L, VIEW, NOW);
+
+        // when
+        Map<Long, Double> drained = hotScoreBuffer.drain();
+
+        // then
+        assertThat(drained.get(2L)).isGreaterThan(drained.get(1L));
+    }
+
+    @Test
+    @DisplayName("반영에 실패해 되돌린 점수는 그 사이 새로 누적된 점수와 합쳐진다.")
+    void restore_Success_ThenMergeWithNewScores() {
+        // given
+        hotScoreBuffer.record(1L, VIEW, NOW);
+        Map<Long, Double> failed = hotScoreBuffer.drain();
+        hotScoreBuffer.record(1L, BOOKMARK, NOW);
+
+        // when
+        hotScoreBuffer.restore(failed);
+
+        // then
+        double expected = hotScoreBuffer.scoreOf(VIEW, NOW) + Math.log(1 + BOOKMARK.getWeight());
+        assertThat(hotScoreBuffer.drain().get(1L)).isCloseTo(expected, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("로그 값의 합은 원래 값의 합과 같다.")
+    void logSum_Success() {
+        assertThat(Math.exp(HotScoreBuffer.logSum(Math.log(3), Math.log(5)))).isCloseTo(8, within(1e-9));
+    }
+}
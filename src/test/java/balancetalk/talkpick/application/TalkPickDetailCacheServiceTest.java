@@ -0,0 +1,76 @@
+package balancetalk.talkpick.application;
+
+import static balancetalk.file.domain.FileType.MEMBER;
+import static balancetalk.file.domain.FileType.TALK_PICK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.file.domain.repository.FileRepository;
+import balancetalk.global.caffeine.CacheConfig;
+import balancetalk.talkpick.domain.Summary;
+import balancetalk.talkpick.domain.TalkPick;
+import balancetalk.talkpick.dto.TalkPickDto.TalkPickDetailContent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleCacheManager;
+
+class TalkPickDetailCacheServiceTest {
+
+    FileRepository fileRepository;
+    TalkPickDetailCacheService talkPickDetailCacheService;
+    TalkPick talkPick;
+
+    @BeforeEach
+    void setUp() {
+        SimpleCacheManager cacheManager = (SimpleCacheManager) new CacheConfig().cacheManager();
+        cacheManager.afterPropertiesSet();
+        fileRepository = mock(FileRepository.class);
+        talkPickDetailCacheService =
+                new TalkPickDetailCacheService(fileRepository, cacheManager, new SimpleMeterRegistry());
+
+        talkPick = mock(TalkPick.class);
+        when(talkPick.getId()).thenReturn(1L);
+        when(talkPick.getMemberId()).thenReturn(2L);
+        when(talkPick.getSummary()).thenReturn(new Summary());
+        when(talkPick.getCreatedAt()).thenReturn(LocalDateTime.now());
+        when(fileRepository.findImgUrlsByResourceIdAndFileType(1L, TALK_PICK)).thenReturn(List.of("img.png"));
+        when(fileRepository.findIdsByResourceIdAndFileType(1L, TALK_PICK)).thenReturn(List.of(3L));
+        when(fileRepository.findImgUrlByResourceIdAndFileType(2L, MEMBER))
+                .thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("같은 톡픽을 다시 조회하면 파일 정보를 다시 조회하지 않고 캐시된 내용을 사용한다.")
+    void getOrLoad_Success_ThenLoadOnlyOnce() {
+        // when
+        TalkPickDetailContent first = talkPickDetailCacheService.getOrLoad(talkPick);
+        TalkPickDetailContent second = talkPickDetailCacheService.getOrLoad(talkPick);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getImgUrls()).containsExactly("img.png");
+        verify(fileRepository, times(1)).findImgUrlsByResourceIdAndFileType(1L, TALK_PICK);
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 다음 조회 시 내용을 다시 불러온다.")
+    void evict_Success_ThenReload() {
+        // given
+        talkPickDetailCacheService.getOrLoad(talkPick);
+
+        // when
+        talkPickDetailCacheService.evict(1L);
+        talkPickDetailCacheService.getOrLoad(talkPick);
+
+        // then
+        verify(fileRepository, times(2)).findImgUrlsByResourceIdAndFileType(1L, TALK_PICK);
+    }
+}
@@ -1,6 +1,5 @@
 package balancetalk.talkpick.application;
 
-import static balancetalk.file.domain.FileType.TALK_PICK;
 import static balancetalk.vote.domain.VoteOption.A;
 import static balancetalk.vote.domain.VoteOption.B;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -8,12 +7,14 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import balancetalk.file.domain.repository.FileRepository;
+import balancetalk.global.viewcount.ViewCountBuffer;
+import balancetalk.global.viewcount.ViewTarget;
 import balancetalk.member.domain.Member;
 import balancetalk.member.dto.GuestOrApiMember;
 import balancetalk.talkpick.domain.Summary;
 import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import balancetalk.talkpick.dto.TalkPickDto.TalkPickDetailContent;
 import balancetalk.talkpick.dto.TalkPickDto.TalkPickDetailResponse;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,7 +37,13 @@ class TalkPickServiceTest {
     TalkPickRepository talkPickRepository;
 
     @Mock
-    FileRepository fileRepository;
+    TalkPickDetailCacheService talkPickDetailCacheService;
+
+    @Mock
+    ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    HotScoreBuffer hotScoreBuffer;
 
     TalkPick talkPick;
     GuestOrApiMember guestOrApiMember;
@@ -63,19 +70,36 @@ class TalkPickServiceTest {
     }
 
     @Test
-    @DisplayName("톡픽을 조회하면 해당 톡픽의 조회수가 1 증가한다.")
+    @DisplayName("톡픽을 조회하면 조회수 버퍼에 해당 톡픽의 조회수가 1 누적된다.")
     void findById_Success_ThenIncreaseViews() {
         // given
         when(talkPickRepository.findById(1L)).thenReturn(Optional.ofNullable(talkPick));
         when(guestOrApiMember.isGuest()).thenReturn(true);
-        when(fileRepository.findImgUrlsByResourceIdAndFileType(1L, TALK_PICK)).thenReturn(List.of());
-        when(fileRepository.findIdsByResourceIdAndFileType(1L, TALK_PICK)).thenReturn(List.of());
+        when(talkPickDetailCacheService.getOrLoad(talkPick))
+                .thenAnswer(invocation -> TalkPickDetailContent.from(talkPick, null, List.of(), List.of()));
 
         // when
         talkPickService.findById(1L, guestOrApiMember);
 
         // then
-        verify(talkPick).increaseViews();
+        verify(viewCountBuffer).increase(ViewTarget.TALK_PICK, 1L);
+    }
+
+    @Test
+    @DisplayName("톡픽 조회 응답의 조회수에는 아직 DB에 반영되지 않은 조회수가 포함된다.")
+    void findById_Success_ThenViewsIncludePendingViews() {
+        // given
+        when(talkPickRepository.findById(1L)).thenReturn(Optional.ofNullable(talkPick));
+        when(guestOrApiMember.isGuest()).thenReturn(true);
+        when(talkPickDetailCacheService.getOrLoad(talkPick))
+                .thenAnswer(invocation -> TalkPickDetailContent.from(talkPick, null, List.of(), List.of()));
+        when(viewCountBuffer.getPendingViews(ViewTarget.TALK_PICK, 1L)).thenReturn(3L);
+
+        // when
+        TalkPickDetailResponse result = talkPickService.findById(1L, guestOrApiMember);
+
+        // then
+        assertThat(result.getViews()).isEqualTo(155L);
     }
 
     @Test
@@ -84,8 +108,8 @@ class TalkPickServiceTest {
         // given
         when(talkPickRepository.findById(1L)).thenReturn(Optional.ofNullable(talkPick));
         when(guestOrApiMember.isGuest()).thenReturn(true);
-        when(fileRepository.findImgUrlsByResourceIdAndFileType(1L, TALK_PICK)).thenReturn(List.of());
-        when(fileRepository.findIdsByResourceIdAndFileType(1L, TALK_PICK)).thenReturn(List.of());
+        when(talkPickDetailCacheService.getOrLoad(talkPick))
+                .thenAnswer(invocation -> TalkPickDetailContent.from(talkPick, null, List.of(), List.of()));
 
         // when
         TalkPickDetailResponse result = talkPickService.findById(1L, guestOrApiMember);
@@ -100,8 +124,8 @@ class TalkPickServiceTest {
         // given
         when(talkPickRepository.findById(1L)).thenReturn(Optional.ofNullable(talkPick));
         when(guestOrApiMember.isGuest()).thenReturn(true);
-        when(fileRepository.findImgUrlsByResourceIdAndFileType(1L, TALK_PICK)).thenReturn(List.of());
-        when(fileRepository.findIdsByResourceIdAndFileType(1L, TALK_PICK)).thenReturn(List.of());
+        when(talkPickDetailCacheService.getOrLoad(talkPick))
+                .thenAnswer(invocation -> TalkPickDetailContent.from(talkPick, null, List.of(), List.of()));
 
         // when
         TalkPickDetailResponse result = talkPickService.findById(1L, guestOrApiMember);
@@ -0,0 +1,63 @@
+package balancetalk.talkpick.application;
+
+import static balancetalk.talkpick.dto.TodayTalkPickDto.TodayTalkPickResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TalkPickSnapshotHolderTest {
+
+    static final LocalDate TODAY = LocalDate.of(2024, 10, 1);
+    static final LocalDate TOMORROW = TODAY.plusDays(1L);
+
+    TalkPickSnapshotHolder talkPickSnapshotHolder;
+
+    @BeforeEach
+    void setUp() {
+        talkPickSnapshotHolder = new TalkPickSnapshotHolder();
+    }
+
+    private TodayTalkPickResponse todayTalkPick(long id) {
+        return TodayTalkPickResponse.builder().id(id).title("톡픽 " + id).build();
+    }
+
+    @Test
+    @DisplayName("올라간 목록이 없으면 오늘의 톡픽을 찾지 못한다.")
+    void findTodayTalkPicks_Fail_ByEmptySnapshot() {
+        assertThat(talkPickSnapshotHolder.findTodayTalkPicks(TODAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 미리 만들어 둔 다음 날 목록으로 교체한다.")
+    void findTodayTalkPicks_Success_ThenSwapToPreparedSelection() {
+        // given
+        talkPickSnapshotHolder.replaceTodayTalkPicks(TODAY, List.of(todayTalkPick(1L)));
+        talkPickSnapshotHolder.prepareNextTalkPicks(TOMORROW, List.of(todayTalkPick(2L)));
+
+        // when
+        List<TodayTalkPickResponse> today = talkPickSnapshotHolder.findTodayTalkPicks(TODAY).orElseThrow();
+        List<TodayTalkPickResponse> tomorrow = talkPickSnapshotHolder.findTodayTalkPicks(TOMORROW).orElseThrow();
+
+        // then
+        assertThat(today).extracting(TodayTalkPickResponse::getId).containsExactly(1L);
+        assertThat(tomorrow).extracting(TodayTalkPickResponse::getId).containsExactly(2L);
+        assertThat(talkPickSnapshotHolder.findTodayTalkPicks(TODAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오늘 목록이나 미리 만든 다음 날 목록에 포함된 톡픽인지 확인할 수 있다.")
+    void containsTodayTalkPick_Success() {
+        // given
+        talkPickSnapshotHolder.replaceTodayTalkPicks(TODAY, List.of(todayTalkPick(1L)));
+        talkPickSnapshotHolder.prepareNextTalkPicks(TOMORROW, List.of(todayTalkPick(2L)));
+
+        // when, then
+        assertThat(talkPickSnapshotHolder.containsTodayTalkPick(1L)).isTrue();
+        assertThat(talkPickSnapshotHolder.containsTodayTalkPick(2L)).isTrue();
+        assertThat(talkPickSnapshotHolder.containsTodayTalkPick(3L)).isFalse();
+    }
+}
@@ -0,0 +1,73 @@
+package balancetalk.talkpick.application;
+
+import static balancetalk.global.job.JobType.TALK_PICK_SUMMARY;
+import static balancetalk.talkpick.domain.SummaryStatus.FAIL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.job.JobQueue;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+class TalkPickSummaryRetryServiceTest {
+
+    TalkPickRepository talkPickRepository = mock(TalkPickRepository.class);
+    TalkPickSummaryService talkPickSummaryService = mock(TalkPickSummaryService.class);
+    JobQueue jobQueue = mock(JobQueue.class);
+    TalkPickSummaryRetryService talkPickSummaryRetryService;
+
+    @BeforeEach
+    void setUp() {
+        talkPickSummaryRetryService = new TalkPickSummaryRetryService(
+                talkPickRepository, talkPickSummaryService, jobQueue, 2, 10L, 8, 60_000L);
+        when(talkPickSummaryService.claimSummaryRetry(any(), any(), any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("재시도 대상을 chunk 단위로 끝까지 읽어 선점한 톡픽만 다시 넣은 것으로 센다.")
+    void retryFailedSummaries_Success_ThenClaimInChunks() {
+        // given
+        when(jobQueue.countReady(TALK_PICK_SUMMARY)).thenReturn(0L);
+        when(talkPickRepository.findSummaryRetryIds(eq(FAIL), eq(8), any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(talkPickRepository.findSummaryRetryIds(eq(FAIL), eq(8), any(), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(3L));
+        when(talkPickRepository.findSummaryRetryIds(eq(FAIL), eq(8), any(), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(talkPickSummaryService.claimSummaryRetry(eq(2L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(false);
+
+        // when
+        int result = talkPickSummaryRetryService.retryFailedSummaries();
+
+        // then
+        assertThat(result).isEqualTo(2);
+        verify(talkPickSummaryService).claimSummaryRetry(eq(1L), any(), any());
+        verify(talkPickSummaryService).claimSummaryRetry(eq(2L), any(), any());
+        verify(talkPickSummaryService).claimSummaryRetry(eq(3L), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 요약 작업에 한 chunk를 더하면 상한을 넘을 때는 다음 실행으로 미룬다.")
+    void retryFailedSummaries_Success_ThenStopWhenTooManyPending() {
+        // given
+        when(jobQueue.countReady(TALK_PICK_SUMMARY)).thenReturn(9L);
+
+        // when
+        int result = talkPickSummaryRetryService.retryFailedSummaries();
+
+        // then
+        assertThat(result).isZero();
+        verify(talkPickRepository, never()).findSummaryRetryIds(any(), any(Integer.class), any(), any(), any());
+    }
+}
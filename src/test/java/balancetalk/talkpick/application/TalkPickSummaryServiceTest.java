@@ -0,0 +1,115 @@
+package balancetalk.talkpick.application;
+
+import static balancetalk.talkpick.domain.SummaryStatus.PENDING;
+import static balancetalk.talkpick.domain.SummaryStatus.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import balancetalk.global.search.SearchResultCache;
+import balancetalk.talkpick.domain.Summary;
+import balancetalk.talkpick.domain.TalkPick;
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+
+@ExtendWith(MockitoExtension.class)
+class TalkPickSummaryServiceTest {
+
+    private static final String CONTENT = "본문".repeat(100);
+
+    @InjectMocks
+    TalkPickSummaryService talkPickSummaryService;
+
+    @Mock
+    ChatClient chatClient;
+
+    @Mock
+    TalkPickRepository talkPickRepository;
+
+    @Mock
+    TalkPickDetailCacheService talkPickDetailCacheService;
+
+    @Mock
+    TalkPickSummaryCache talkPickSummaryCache;
+
+    @Mock
+    TalkPickSearchIndex talkPickSearchIndex;
+
+    @Mock
+    TalkPickSemanticIndex talkPickSemanticIndex;
+
+    @Mock
+    SearchResultCache searchResultCache;
+
+    @Test
+    @DisplayName("요약 대상 필드가 바뀌지 않았으면 모델을 호출하지 않고 기존 요약을 유지한다.")
+    void trySummarizeWithoutModel_Success_ThenKeepSummaryWhenUnchanged() {
+        // given
+        Summary summary = new Summary().withFingerprint(Summary.fingerprintOf("제목", "A", "B", CONTENT));
+        TalkPick talkPick = talkPick(CONTENT, summary);
+        when(talkPickRepository.findById(1L)).thenReturn(Optional.of(talkPick));
+
+        // when
+        boolean result = talkPickSummaryService.trySummarizeWithoutModel(1L);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(talkPick.getSummary()).isSameAs(summary);
+        verifyNoInteractions(chatClient, talkPickSummaryCache);
+    }
+
+    @Test
+    @DisplayName("바뀐 내용과 같은 내용의 요약이 캐시에 있으면 모델을 호출하지 않고 재사용한다.")
+    void trySummarizeWithoutModel_Success_ThenReuseCachedSummary() {
+        // given
+        String fingerprint = Summary.fingerprintOf("제목", "A", "B", CONTENT + "수정");
+        TalkPick talkPick = talkPick(CONTENT + "수정", new Summary().withFingerprint("이전 지문"));
+        when(talkPickRepository.findById(1L)).thenReturn(Optional.of(talkPick));
+        when(talkPickSummaryCache.find(fingerprint))
+                .thenReturn(Optional.of(new Summary().withFingerprint(fingerprint)));
+
+        // when
+        boolean result = talkPickSummaryService.trySummarizeWithoutModel(1L);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(talkPick.hasSummaryOf(fingerprint)).isTrue();
+        assertThat(talkPick.getSummaryStatus()).isEqualTo(SUCCESS);
+        verifyNoInteractions(chatClient);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 요약이 없으면 모델 호출이 필요하다고 알려준다.")
+    void trySummarizeWithoutModel_Fail_ThenNeedModelCall() {
+        // given
+        TalkPick talkPick = talkPick(CONTENT, null);
+        when(talkPickRepository.findById(1L)).thenReturn(Optional.of(talkPick));
+        when(talkPickSummaryCache.find(talkPick.summaryFingerprint())).thenReturn(Optional.empty());
+
+        // when
+        boolean result = talkPickSummaryService.trySummarizeWithoutModel(1L);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(talkPick.getSummaryStatus()).isEqualTo(PENDING);
+    }
+
+    private TalkPick talkPick(String content, Summary summary) {
+        return TalkPick.builder()
+                .id(1L)
+                .title("제목")
+                .optionA("A")
+                .optionB("B")
+                .content(content)
+                .summary(summary)
+                .summaryStatus(summary == null ? PENDING : SUCCESS)
+                .build();
+    }
+}
@@ -5,12 +5,11 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.when;
 
 import balancetalk.global.exception.BalanceTalkException;
+import balancetalk.member.application.MemberInteractionIndex;
 import balancetalk.member.domain.Member;
 import balancetalk.member.dto.ApiMember;
 import balancetalk.talkpick.domain.TalkPick;
 import balancetalk.talkpick.domain.TalkPickReader;
-import balancetalk.vote.domain.TalkPickVote;
-import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,16 +29,19 @@ class VoteTalkPickServiceTest {
     @Mock
     ApiMember apiMember;
 
+    @Mock
+    MemberInteractionIndex memberInteractionIndex;
+
     @Test
     @DisplayName("회원이 이미 투표한 톡픽일 경우 투표 생성은 실패한다.")
     void createVote_Fail_ByAlreadyVote() {
         // given
         TalkPick talkPick = TalkPick.builder().id(1L).build();
-        TalkPickVote vote = TalkPickVote.builder().talkPick(talkPick).build();
-        Member member = Member.builder().talkPickVotes(List.of(vote)).build();
+        Member member = Member.builder().id(2L).build();
 
         when(talkPickReader.readById(any())).thenReturn(talkPick);
         when(apiMember.toMember(any())).thenReturn(member);
+        when(memberInteractionIndex.hasVotedTalkPickUncached(2L, 1L)).thenReturn(true);
 
         // when, then
         assertThatThrownBy(() -> voteTalkPickService.createVote(1L, any(), apiMember))
@@ -51,7 +53,7 @@ class VoteTalkPickServiceTest {
     void updateVote_Fail_ByNotFoundVote() {
         // given
         TalkPick talkPick = TalkPick.builder().id(1L).build();
-        Member member = Member.builder().talkPickVotes(List.of()).build();
+        Member member = Member.builder().id(2L).build();
 
         when(talkPickReader.readById(any())).thenReturn(talkPick);
         when(apiMember.toMember(any())).thenReturn(member);
@@ -66,7 +68,7 @@ class VoteTalkPickServiceTest {
     void deleteVote_Fail_ByNotFoundVote() {
         // given
         TalkPick talkPick = TalkPick.builder().id(1L).build();
-        Member member = Member.builder().talkPickVotes(List.of()).build();
+        Member member = Member.builder().id(2L).build();
 
         when(talkPickReader.readById(any())).thenReturn(talkPick);
         when(apiMember.toMember(any())).thenReturn(member);
@@ -0,0 +1,50 @@
+package balancetalk.vote.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import balancetalk.talkpick.domain.repository.TalkPickRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VotesCountReconcileServiceTest {
+
+    @InjectMocks
+    VotesCountReconcileService votesCountReconcileService;
+
+    @Mock
+    TalkPickRepository talkPickRepository;
+
+    @Test
+    @DisplayName("확인한 톡픽들의 투표수를 실제 투표 기록으로 한 번에 바로잡는다.")
+    void reconcileChunk_Success() {
+        // given
+        when(talkPickRepository.reconcileVotesCount(List.of(1L, 2L))).thenReturn(1);
+
+        // when
+        votesCountReconcileService.reconcileChunk(List.of(1L, 2L));
+
+        // then
+        verify(talkPickRepository).reconcileVotesCount(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("마지막으로 확인한 톡픽 ID 이후의 톡픽 ID만 조회한다.")
+    void findTalkPickIds_Success() {
+        // given
+        when(talkPickRepository.findTop500IdsByIdGreaterThan(10L)).thenReturn(List.of(11L, 12L));
+
+        // when
+        List<Long> talkPickIds = votesCountReconcileService.findTalkPickIds(10L);
+
+        // then
+        assertThat(talkPickIds).containsExactly(11L, 12L);
+    }
+}